@@ -72,6 +72,7 @@ export default class Session {
     this.forceNewClientSession = false;
     this.remoteUrl = 'json';
     this.unloadUrl = 'unload';
+    this.pushUrl = 'json-push';
     this.modelAdapterRegistry = {};
     this.ajaxCalls = [];
     this.asyncEvents = [];
@@ -82,6 +83,8 @@ export default class Session {
     this.requestTimeoutPoll = 75000; // ms, depends on polling interval, will therefore be initialized on startup
     this.requestTimeoutPing = 5000; // ms
     this.backgroundJobPollingSupport = new BackgroundJobPollingSupport(true);
+    this.backgroundJobPushEnabled = false; // enabled by the server on startup, see _processStartupResponse()
+    this._backgroundJobEventSource = null;
     this.reconnector = new Reconnector(this);
     this.processingEvents = false;
 
@@ -386,6 +389,7 @@ export default class Session {
    * @param data.startupData
    * @param data.startupData.clientSession
    * @param data.startupData.pollingInterval
+   * @param data.startupData.backgroundPushEnabled
    * @param data.error
    * @param data.sessionTerminated
    */
@@ -431,6 +435,9 @@ export default class Session {
     // Init request timeout for poller
     this.requestTimeoutPoll = (data.startupData.pollingInterval + 15) * 1000;
 
+    // Receive background job results through a server-sent events stream if supported by the server and the browser
+    this.backgroundJobPushEnabled = !!data.startupData.backgroundPushEnabled && !!window.EventSource;
+
     // Register UI session
     this.modelAdapterRegistry[this.uiSessionId] = this; // TODO [7.0] cgu: maybe better separate session object from event processing, create ClientSession.js?. If yes, desktop should not have rootadapter as parent, see 406
 
@@ -510,6 +517,7 @@ export default class Session {
   }
 
   _sendUnloadRequest() {
+    this._closeBackgroundJobEventSource();
     let request = this._newRequest({
       unload: true,
       showBusyIndicator: false
@@ -849,6 +857,10 @@ export default class Session {
    * a model job is done and no request initiated by a user is running.
    */
   _pollForBackgroundJobs() {
+    if (this.backgroundJobPushEnabled) {
+      this._openBackgroundJobEventSource();
+      return;
+    }
     this.backgroundJobPollingSupport.setRunning();
 
     let request = this._newRequest({
@@ -869,43 +881,8 @@ export default class Session {
     // --- Helper methods ---
 
     function onAjaxDone(data) {
-      if (data.error) {
-        // Don't schedule a new polling request, when an error occurs
-        // when the next user-initiated request succeeds, we re-enable polling
-        // otherwise the polling would ping the server to death in case of an error
-        $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
-        this.backgroundJobPollingSupport.setFailed();
-        if (this.areRequestsPending()) {
-          // Add response to queue, handle later by _performUserAjaxRequest()
-          this.responseQueue.add(data);
-        } else {
-          // No user request pending, handle immediately
-          this.responseQueue.process(data);
-        }
-      } else if (data.sessionTerminated) {
-        $.log.info('Session terminated, stopped polling for background jobs');
-        this.backgroundJobPollingSupport.setStopped();
-        // If were are not yet logged out, redirect to the logout URL (the session that initiated the
-        // session invalidation will receive a dedicated logout event, redirect is handled there).
-        if (!this.loggedOut && data.redirectUrl) {
-          this.logout(data.redirectUrl);
-        }
-      } else {
-        try {
-          // No need to change backgroundJobPollingSupport state, it should still be RUNNING
-          if (this.areRequestsPending()) {
-            // Add response to queue, handle later by _performUserAjaxRequest()
-            this.responseQueue.add(data);
-          } else {
-            // No user request pending, handle immediately
-            this.responseQueue.process(data);
-            this.layoutValidator.validate();
-          }
-          setTimeout(this._pollForBackgroundJobs.bind(this));
-        } catch (error) {
-          this.backgroundJobPollingSupport.setFailed();
-          throw error;
-        }
+      if (this._processBackgroundJobsResponse(data)) {
+        setTimeout(this._pollForBackgroundJobs.bind(this));
       }
     }
 
@@ -915,6 +892,91 @@ export default class Session {
     }
   }
 
+  /**
+   * Receives the results of jobs running in the background through a server-sent events stream. The server
+   * pushes a response whenever a model job is done and no request initiated by a user is running. The browser
+   * re-opens the stream automatically when the server closes it. If the stream cannot be opened, the session
+   * falls back to polling (see _pollForBackgroundJobs).
+   */
+  _openBackgroundJobEventSource() {
+    this._closeBackgroundJobEventSource();
+    this.backgroundJobPollingSupport.setRunning();
+
+    let url = new URL(this.pushUrl).addParameter('uiSessionId', this.uiSessionId).toString();
+    let eventSource = new EventSource(url);
+    this._backgroundJobEventSource = eventSource;
+
+    eventSource.onmessage = event => {
+      if (!this._processBackgroundJobsResponse(JSON.parse(event.data))) {
+        this._closeBackgroundJobEventSource();
+      }
+    };
+    eventSource.onerror = () => {
+      if (eventSource.readyState !== EventSource.CLOSED) {
+        return; // the browser reconnects automatically
+      }
+      $.log.warn('Background job push stream failed. Falling back to polling');
+      this._closeBackgroundJobEventSource();
+      this.backgroundJobPushEnabled = false;
+      this._pollForBackgroundJobs();
+    };
+  }
+
+  _closeBackgroundJobEventSource() {
+    if (this._backgroundJobEventSource) {
+      this._backgroundJobEventSource.close();
+      this._backgroundJobEventSource = null;
+    }
+  }
+
+  /**
+   * Processes a response of a background jobs poll request or of the background job push stream.
+   *
+   * @returns {boolean} true if more background job responses should be requested, false otherwise
+   */
+  _processBackgroundJobsResponse(data) {
+    if (data.error) {
+      // Don't schedule a new polling request, when an error occurs
+      // when the next user-initiated request succeeds, we re-enable polling
+      // otherwise the polling would ping the server to death in case of an error
+      $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
+      this.backgroundJobPollingSupport.setFailed();
+      if (this.areRequestsPending()) {
+        // Add response to queue, handle later by _performUserAjaxRequest()
+        this.responseQueue.add(data);
+      } else {
+        // No user request pending, handle immediately
+        this.responseQueue.process(data);
+      }
+      return false;
+    }
+    if (data.sessionTerminated) {
+      $.log.info('Session terminated, stopped polling for background jobs');
+      this.backgroundJobPollingSupport.setStopped();
+      // If were are not yet logged out, redirect to the logout URL (the session that initiated the
+      // session invalidation will receive a dedicated logout event, redirect is handled there).
+      if (!this.loggedOut && data.redirectUrl) {
+        this.logout(data.redirectUrl);
+      }
+      return false;
+    }
+    try {
+      // No need to change backgroundJobPollingSupport state, it should still be RUNNING
+      if (this.areRequestsPending()) {
+        // Add response to queue, handle later by _performUserAjaxRequest()
+        this.responseQueue.add(data);
+      } else {
+        // No user request pending, handle immediately
+        this.responseQueue.process(data);
+        this.layoutValidator.validate();
+      }
+      return true;
+    } catch (error) {
+      this.backgroundJobPollingSupport.setFailed();
+      throw error;
+    }
+  }
+
   /**
    * Do NOT call this method directly, always use the response queue:
    *
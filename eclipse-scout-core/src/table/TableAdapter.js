@@ -16,6 +16,7 @@ export default class TableAdapter extends ModelAdapter {
   constructor() {
     super();
     this._addRemoteProperties(['contextColumn']);
+    this._rowsRequested = false;
   }
 
   _initProperties(model) {
@@ -347,6 +348,27 @@ export default class TableAdapter extends ModelAdapter {
     this._send('reload', data);
   }
 
+  /**
+   * If the server only sent a part of the rows (see Java ITable#getRowPageSize), the next rows are requested as soon as
+   * the last loaded row is rendered.
+   */
+  _requestRowsIfNecessary() {
+    let table = this.widget;
+    if (this._rowsRequested || !table.totalRowCount || table.rows.length >= table.totalRowCount) {
+      return;
+    }
+    if (table.viewRangeRendered.to < table.visibleRows.length) {
+      return;
+    }
+    this._rowsRequested = true;
+    this._send('rowsRequested');
+  }
+
+  _syncTotalRowCount(totalRowCount) {
+    this.widget.setProperty('totalRowCount', totalRowCount);
+    this._rowsRequested = false;
+  }
+
   _onWidgetExportToClipboard(event) {
     this._send('clipboardExport');
     event.preventDefault();
@@ -405,6 +427,7 @@ export default class TableAdapter extends ModelAdapter {
   _onRowsInserted(rows) {
     this.widget.insertRows(rows);
     this._rebuildingTable = false;
+    this._rowsRequested = false;
   }
 
   _onRowsDeleted(rowIds) {
@@ -668,12 +691,22 @@ export default class TableAdapter extends ModelAdapter {
         // In a JS only app the flag 'uiSortPossible' is never set and thus defaults to true. Additionally we check if each column can install
         // its comparator used to sort. If installation failed for some reason, sorting is not possible. In a remote app the server sets the
         // 'uiSortPossible' flag, which decides if the column must be sorted by the server or can be sorted by the client.
+        // If not all rows are loaded (row paging), the server has to sort the rows.
         let uiSortPossible = scout.nvl(this.uiSortPossible, true);
-        return uiSortPossible && this._isSortingPossibleOrig(sortColumns);
+        let allRowsLoaded = !this.totalRowCount || this.rows.length >= this.totalRowCount;
+        return uiSortPossible && allRowsLoaded && this._isSortingPossibleOrig(sortColumns);
       }
       return this._isSortingPossibleOrig(sortColumns);
     }, true);
 
+    // _renderViewport
+    objects.replacePrototypeFunction(Table, '_renderViewport', function() {
+      this._renderViewportOrig();
+      if (this.modelAdapter) {
+        this.modelAdapter._requestRowsIfNecessary();
+      }
+    }, true);
+
     // sort
     objects.replacePrototypeFunction(Table, 'sort', function(column, direction, multiSort, remove) {
       if (this.modelAdapter && column.guiOnly) {
@@ -566,6 +566,75 @@ describe('Session', () => {
     });
   });
 
+  describe('background job push', () => {
+    let originalEventSource;
+
+    class FakeEventSource {
+      constructor(url) {
+        this.url = url;
+        this.readyState = FakeEventSource.OPEN;
+        FakeEventSource.instances.push(this);
+      }
+
+      close() {
+        this.readyState = FakeEventSource.CLOSED;
+      }
+    }
+
+    FakeEventSource.OPEN = 1;
+    FakeEventSource.CLOSED = 2;
+
+    beforeEach(() => {
+      originalEventSource = window.EventSource;
+      window.EventSource = FakeEventSource;
+      FakeEventSource.instances = [];
+    });
+
+    afterEach(() => {
+      window.EventSource = originalEventSource;
+    });
+
+    it('receives background job results through the push stream instead of polling', () => {
+      let session = createSession();
+      session.backgroundJobPollingSupport.enabled = true;
+      session.backgroundJobPushEnabled = true;
+      spyOn(session, '_processSuccessResponse').and.callThrough();
+
+      session._resumeBackgroundJobPolling();
+      jasmine.clock().tick(0);
+      expect(jasmine.Ajax.requests.count()).toBe(0);
+      expect(FakeEventSource.instances.length).toBe(1);
+      expect(FakeEventSource.instances[0].url).toContain('json-push');
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.RUNNING);
+
+      FakeEventSource.instances[0].onmessage({data: '{"events": []}'});
+      expect(session._processSuccessResponse).toHaveBeenCalled();
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.RUNNING);
+
+      FakeEventSource.instances[0].onmessage({data: '{"sessionTerminated": true}'});
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.STOPPED);
+      expect(FakeEventSource.instances[0].readyState).toBe(FakeEventSource.CLOSED);
+    });
+
+    it('falls back to polling if the push stream cannot be opened', () => {
+      let session = createSession();
+      session.backgroundJobPollingSupport.enabled = true;
+      session.backgroundJobPushEnabled = true;
+
+      session._resumeBackgroundJobPolling();
+      jasmine.clock().tick(0);
+      expect(FakeEventSource.instances.length).toBe(1);
+
+      let eventSource = FakeEventSource.instances[0];
+      eventSource.readyState = FakeEventSource.CLOSED;
+      eventSource.onerror();
+      jasmine.clock().tick(0);
+      expect(session.backgroundJobPushEnabled).toBe(false);
+      expect(jasmine.Ajax.requests.count()).toBe(1); // ?poll request
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.RUNNING);
+    });
+  });
+
   describe('init', () => {
 
     it('sends startup parameter', () => {
@@ -8,7 +8,7 @@
  * Contributors:
  *     BSI Business Systems Integration AG - initial API and implementation
  */
-import {RemoteEvent} from '../../src/index';
+import {Range, RemoteEvent} from '../../src/index';
 import {LocaleSpecHelper, TableSpecHelper} from '../../src/testing/index';
 
 /* global removePopups */
@@ -684,4 +684,69 @@ describe('TableAdapter', () => {
 
   });
 
+  describe('row paging', () => {
+
+    function createTable(rowCount, totalRowCount) {
+      let model = helper.createModelFixture(2, rowCount);
+      model.totalRowCount = totalRowCount;
+      let adapter = helper.createTableAdapter(model);
+      return adapter.createWidget(model, session.desktop);
+    }
+
+    it('requests the next rows when the last loaded row is rendered', () => {
+      let table = createTable(5, 10);
+      table.render();
+
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(mostRecentJsonRequest()).toContainEvents(new RemoteEvent(table.id, 'rowsRequested'));
+    });
+
+    it('does not request rows while the last loaded row is not rendered', () => {
+      let table = createTable(5, 10);
+      table.viewRangeRendered = new Range(0, 4);
+      table.modelAdapter._requestRowsIfNecessary();
+
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(0);
+    });
+
+    it('does not request rows if all rows are loaded', () => {
+      let table = createTable(5, 5);
+      table.render();
+
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(0);
+    });
+
+    it('requests rows only once until the requested rows are inserted', () => {
+      let table = createTable(5, 10);
+      let adapter = table.modelAdapter;
+      table.viewRangeRendered = new Range(0, 5);
+      adapter._requestRowsIfNecessary();
+      adapter._requestRowsIfNecessary();
+
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(mostRecentJsonRequest()).toContainEventTypesExactly(['rowsRequested']);
+
+      adapter._onRowsInserted([helper.createModelRow(null, helper.createModelCells(2))]);
+      table.viewRangeRendered = new Range(0, 6);
+      adapter._requestRowsIfNecessary();
+
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(2);
+      expect(mostRecentJsonRequest()).toContainEventTypesExactly(['rowsRequested']);
+    });
+
+    it('disables client side sorting until all rows are loaded', () => {
+      let table = createTable(5, 10);
+      expect(table._isSortingPossible([table.columns[0]])).toBe(false);
+
+      table.modelAdapter._syncTotalRowCount(5);
+      expect(table._isSortingPossible([table.columns[0]])).toBe(true);
+    });
+
+  });
+
 });
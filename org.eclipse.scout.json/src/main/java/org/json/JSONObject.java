@@ -709,6 +709,13 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Used by {@link JSONStreamWriter} to iterate over the name/value pairs without copying them.
+   */
+  Set<Entry<String, Object>> entrySet() {
+    return m_nameValuePairs.entrySet();
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.object();
     for (Entry<String, Object> entry : m_nameValuePairs.entrySet()) {
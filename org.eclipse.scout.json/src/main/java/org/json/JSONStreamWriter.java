@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map.Entry;
+
+/**
+ * Encodes a {@link JSONObject} or {@link JSONArray} as compact UTF-8 JSON directly into an {@link OutputStream}.
+ * <p>
+ * The produced bytes are identical to {@code value.toString().getBytes(StandardCharsets.UTF_8)}, but neither the
+ * intermediate {@link String} nor the intermediate byte array is created. Characters are encoded into a fixed size
+ * buffer which is handed to the output stream whenever it is full. The buffer is reused for all subsequent
+ * {@code write} calls of the same instance.
+ * <p>
+ * Instances of this class are not thread safe.
+ *
+ * @since 11
+ */
+public class JSONStreamWriter {
+
+  public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  /**
+   * Longest UTF-8 sequence or escape sequence ({@code \\u001f}) written in one step.
+   */
+  private static final int MAX_SEQUENCE_LENGTH = 6;
+
+  private static final byte[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+  private static final byte[] NULL_BYTES = {'n', 'u', 'l', 'l'};
+  private static final byte[] TRUE_BYTES = {'t', 'r', 'u', 'e'};
+  private static final byte[] FALSE_BYTES = {'f', 'a', 'l', 's', 'e'};
+
+  private final byte[] m_buffer;
+  private int m_position;
+  private long m_bytesWritten;
+  private OutputStream m_out;
+
+  public JSONStreamWriter() {
+    this(DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * @param bufferSize
+   *          size of the internal buffer in bytes, at least 32.
+   */
+  public JSONStreamWriter(int bufferSize) {
+    if (bufferSize < 32) {
+      throw new IllegalArgumentException("bufferSize must be at least 32");
+    }
+    m_buffer = new byte[bufferSize];
+  }
+
+  /**
+   * Writes the given object to the given output stream. The output stream is neither flushed nor closed.
+   *
+   * @return the number of bytes written
+   * @throws JSONException
+   *           if the object contains {@link Double#isNaN() NaNs} or {@link Double#isInfinite() infinities}. Nothing
+   *           is written to the output stream in that case.
+   */
+  public long write(JSONObject object, OutputStream out) throws IOException {
+    return write((Object) object, out);
+  }
+
+  /**
+   * Writes the given array to the given output stream. The output stream is neither flushed nor closed.
+   *
+   * @return the number of bytes written
+   * @throws JSONException
+   *           if the array contains {@link Double#isNaN() NaNs} or {@link Double#isInfinite() infinities}. Nothing
+   *           is written to the output stream in that case.
+   */
+  public long write(JSONArray array, OutputStream out) throws IOException {
+    return write((Object) array, out);
+  }
+
+  protected long write(Object value, OutputStream out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("out must not be null");
+    }
+    // validated upfront so that an invalid value does not leave a truncated document in the output stream
+    checkNumbers(value);
+    m_out = out;
+    m_position = 0;
+    m_bytesWritten = 0;
+    try {
+      value(value);
+      flushBuffer();
+      return m_bytesWritten;
+    }
+    finally {
+      m_out = null;
+      m_position = 0;
+    }
+  }
+
+  static void checkNumbers(Object value) {
+    if (value instanceof JSONObject) {
+      for (Entry<String, Object> entry : ((JSONObject) value).entrySet()) {
+        checkNumbers(entry.getValue());
+      }
+    }
+    else if (value instanceof JSONArray) {
+      JSONArray array = (JSONArray) value;
+      for (int i = 0, length = array.length(); i < length; i++) {
+        checkNumbers(array.opt(i));
+      }
+    }
+    else if (value instanceof Number) {
+      JSON.checkDouble(((Number) value).doubleValue());
+    }
+  }
+
+  void object(JSONObject object) throws IOException {
+    writeByte('{');
+    boolean first = true;
+    for (Entry<String, Object> entry : object.entrySet()) {
+      if (!first) {
+        writeByte(',');
+      }
+      first = false;
+      string(entry.getKey());
+      writeByte(':');
+      value(entry.getValue());
+    }
+    writeByte('}');
+  }
+
+  void array(JSONArray array) throws IOException {
+    writeByte('[');
+    for (int i = 0, length = array.length(); i < length; i++) {
+      if (i > 0) {
+        writeByte(',');
+      }
+      value(array.opt(i));
+    }
+    writeByte(']');
+  }
+
+  /**
+   * Same semantics as {@link JSONStringer#value(Object)}.
+   */
+  void value(Object value) throws IOException {
+    if (value instanceof JSONObject) {
+      object((JSONObject) value);
+    }
+    else if (value instanceof JSONArray) {
+      array((JSONArray) value);
+    }
+    else if (value == null || value == JSONObject.NULL) {
+      writeBytes(NULL_BYTES);
+    }
+    else if (value instanceof Boolean) {
+      writeBytes(((Boolean) value).booleanValue() ? TRUE_BYTES : FALSE_BYTES);
+    }
+    else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      // integral numbers are encoded without creating a string (same result as JSONObject.numberToString)
+      number(((Number) value).longValue());
+    }
+    else if (value instanceof Number) {
+      ascii(JSONObject.numberToString((Number) value));
+    }
+    else {
+      string(value.toString());
+    }
+  }
+
+  private void number(long value) throws IOException {
+    if (value == Long.MIN_VALUE) {
+      ascii(Long.toString(value));
+      return;
+    }
+    if (value < 0) {
+      writeByte('-');
+      value = -value;
+    }
+    ensureCapacity(19); // max. number of digits of a positive long
+    int digits = 1;
+    for (long v = value / 10; v > 0; v /= 10) {
+      digits++;
+    }
+    int pos = m_position + digits;
+    m_position = pos;
+    do {
+      m_buffer[--pos] = (byte) ('0' + (value % 10));
+      value /= 10;
+    }
+    while (value > 0);
+  }
+
+  /**
+   * Same escaping as {@link JSONStringer}, encoded as UTF-8. Unpaired surrogates are replaced by {@code '?'} like
+   * {@link String#getBytes(java.nio.charset.Charset)} does.
+   */
+  private void string(String value) throws IOException {
+    writeByte('"');
+    for (int i = 0, length = value.length(); i < length; i++) {
+      if (m_buffer.length - m_position < MAX_SEQUENCE_LENGTH) {
+        flushBuffer();
+      }
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+        case '\\':
+        case '/':
+          m_buffer[m_position++] = '\\';
+          m_buffer[m_position++] = (byte) c;
+          break;
+        case '\t':
+          escape('t');
+          break;
+        case '\b':
+          escape('b');
+          break;
+        case '\n':
+          escape('n');
+          break;
+        case '\r':
+          escape('r');
+          break;
+        case '\f':
+          escape('f');
+          break;
+        default:
+          if (c <= 0x1F) {
+            m_buffer[m_position++] = '\\';
+            m_buffer[m_position++] = 'u';
+            m_buffer[m_position++] = '0';
+            m_buffer[m_position++] = '0';
+            m_buffer[m_position++] = HEX_DIGITS[c >> 4];
+            m_buffer[m_position++] = HEX_DIGITS[c & 0xF];
+          }
+          else if (c < 0x80) {
+            m_buffer[m_position++] = (byte) c;
+          }
+          else if (c < 0x800) {
+            m_buffer[m_position++] = (byte) (0xC0 | (c >> 6));
+            m_buffer[m_position++] = (byte) (0x80 | (c & 0x3F));
+          }
+          else if (Character.isSurrogate(c)) {
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+              int codePoint = Character.toCodePoint(c, value.charAt(++i));
+              m_buffer[m_position++] = (byte) (0xF0 | (codePoint >> 18));
+              m_buffer[m_position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+              m_buffer[m_position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+              m_buffer[m_position++] = (byte) (0x80 | (codePoint & 0x3F));
+            }
+            else {
+              m_buffer[m_position++] = '?';
+            }
+          }
+          else {
+            m_buffer[m_position++] = (byte) (0xE0 | (c >> 12));
+            m_buffer[m_position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            m_buffer[m_position++] = (byte) (0x80 | (c & 0x3F));
+          }
+          break;
+      }
+    }
+    writeByte('"');
+  }
+
+  private void escape(char c) {
+    m_buffer[m_position++] = '\\';
+    m_buffer[m_position++] = (byte) c;
+  }
+
+  /**
+   * Writes a string known to contain only ASCII characters (e.g. a number).
+   */
+  private void ascii(String s) throws IOException {
+    for (int i = 0, length = s.length(); i < length; i++) {
+      writeByte(s.charAt(i));
+    }
+  }
+
+  private void writeByte(char c) throws IOException {
+    if (m_position == m_buffer.length) {
+      flushBuffer();
+    }
+    m_buffer[m_position++] = (byte) c;
+  }
+
+  private void writeBytes(byte[] bytes) throws IOException {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, m_buffer, m_position, bytes.length);
+    m_position += bytes.length;
+  }
+
+  /**
+   * Makes sure the buffer has room for at least {@code length} bytes. {@code length} must not exceed 32.
+   */
+  private void ensureCapacity(int length) throws IOException {
+    if (m_buffer.length - m_position < length) {
+      flushBuffer();
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    if (m_position > 0) {
+      m_out.write(m_buffer, 0, m_position);
+      m_bytesWritten += m_position;
+      m_position = 0;
+    }
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.sun.management.ThreadMXBean;
+
+public class JSONStreamWriterTest {
+
+  @Test
+  public void testEmpty() throws IOException {
+    assertSameAsToString(new JSONObject());
+    assertSameAsToString(new JSONArray());
+  }
+
+  @Test
+  public void testLiterals() throws IOException {
+    JSONObject object = new JSONObject();
+    object.put("null", JSONObject.NULL);
+    object.put("true", true);
+    object.put("false", false);
+    object.put("int", 42);
+    object.put("negativeInt", -42);
+    object.put("zero", 0);
+    object.put("maxLong", Long.MAX_VALUE);
+    object.put("minLong", Long.MIN_VALUE);
+    object.put("double", 3.25d);
+    object.put("integralDouble", 5.0d);
+    object.put("negativeZero", -0d);
+    object.put("smallDouble", 1.0E-10d);
+    object.put("bigDecimal", new BigDecimal("12345678901234567890.123456789"));
+    object.put("bigInteger", new BigInteger("123456789012345678901234567890"));
+    object.put("string", "text");
+    object.put("object", new StringBuilder("toString"));
+    assertSameAsToString(object);
+  }
+
+  @Test
+  public void testEscaping() throws IOException {
+    JSONArray array = new JSONArray();
+    array.put("quote \" backslash \\ slash /");
+    array.put("tab\t backspace\b newline\n return\r formfeed\f");
+    array.put("control \u0000 \u0001 \u001f");
+    array.put("umlaut \u00e4\u00f6\u00fc, euro \u20ac, cjk \u4e2d\u6587");
+    array.put("emoji \ud83d\ude00 and \ud83d\udc4d");
+    array.put("unpaired \ud83d surrogate \ude00 end \ud83d");
+    assertSameAsToString(array);
+  }
+
+  @Test
+  public void testNested() throws IOException {
+    JSONObject root = new JSONObject();
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 100; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", "row-" + i);
+      row.put("cells", new JSONArray(Arrays.asList("\u00e4" + i, i, i / 3d, JSONObject.NULL, new JSONObject())));
+      rows.put(row);
+    }
+    root.put("rows", rows);
+    root.put("empty", new JSONArray());
+    assertSameAsToString(root);
+  }
+
+  @Test
+  public void testSmallBufferCrossesAllBoundaries() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 200; i++) {
+      sb.append("a\u00e4\u20ac\ud83d\ude00\n\"");
+    }
+    JSONObject object = new JSONObject();
+    object.put("text", sb.toString());
+    object.put("number", Long.MAX_VALUE);
+    object.put("decimal", new BigDecimal("1234567890123456789012345678901234567890.5"));
+    for (int size = 32; size < 48; size++) {
+      assertEquals(toUtf8(object), toStreamed(object, new JSONStreamWriter(size)));
+    }
+  }
+
+  @Test
+  public void testWriterIsReusable() throws IOException {
+    JSONStreamWriter writer = new JSONStreamWriter(64);
+    JSONObject first = new JSONObject().put("a", "first value which exceeds the buffer size of the writer");
+    JSONArray second = new JSONArray().put(1).put("2");
+    assertEquals(toUtf8(first), toStreamed(first, writer));
+    assertEquals(toUtf8(second), toStreamed(second, writer));
+  }
+
+  @Test
+  public void testReturnsNumberOfBytesWritten() throws IOException {
+    JSONObject object = new JSONObject().put("k", "\u20ac");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long count = new JSONStreamWriter().write(object, out);
+    assertEquals(out.size(), count);
+    assertEquals(toUtf8(object).length(), count);
+  }
+
+  @Test
+  public void testInvalidBufferSize() {
+    try {
+      new JSONStreamWriter(8);
+      fail();
+    }
+    catch (IllegalArgumentException expected) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testInvalidNumberWritesNothing() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      sb.append("value which exceeds the buffer size of the writer ");
+    }
+    JSONObject object = new JSONObject().put("a", sb.toString()).put("b", new JSONArray().put((Object) Double.valueOf(Double.NaN)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      new JSONStreamWriter(64).write(object, out);
+      fail();
+    }
+    catch (JSONException expected) {
+      // expected
+    }
+    assertEquals(0, out.size());
+  }
+
+  /**
+   * Measures the bytes allocated by the current thread to encode a large response (only on JVMs supporting thread
+   * allocation measurement). The streaming writer must not allocate intermediate copies of the whole response.
+   */
+  @Test
+  public void testAllocationPerResponse() throws IOException {
+    List<ThreadMXBean> threadBeans = ManagementFactory.getPlatformMXBeans(ThreadMXBean.class);
+    assumeTrue("thread allocation measurement is not supported", !threadBeans.isEmpty() && threadBeans.get(0).isThreadAllocatedMemoryEnabled());
+    ThreadMXBean threadBean = threadBeans.get(0);
+    long threadId = Thread.currentThread().getId();
+
+    JSONObject response = createLargeResponse();
+    OutputStream sink = new OutputStream() {
+      @Override
+      public void write(int b) {
+        // discard
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) {
+        // discard
+      }
+    };
+    JSONStreamWriter writer = new JSONStreamWriter();
+
+    // warm up
+    for (int i = 0; i < 10; i++) {
+      sink.write(response.toString().getBytes(StandardCharsets.UTF_8));
+      writer.write(response, sink);
+    }
+
+    int iterations = 10;
+    long toStringAllocation = 0;
+    long streamingAllocation = 0;
+    long length = 0;
+    for (int i = 0; i < iterations; i++) {
+      long t0 = threadBean.getThreadAllocatedBytes(threadId);
+      byte[] bytes = response.toString().getBytes(StandardCharsets.UTF_8);
+      sink.write(bytes);
+      toStringAllocation += threadBean.getThreadAllocatedBytes(threadId) - t0;
+      length = bytes.length;
+
+      t0 = threadBean.getThreadAllocatedBytes(threadId);
+      writer.write(response, sink);
+      streamingAllocation += threadBean.getThreadAllocatedBytes(threadId) - t0;
+    }
+    toStringAllocation /= iterations;
+    streamingAllocation /= iterations;
+
+    assertTrue("toString allocated " + toStringAllocation + " bytes", toStringAllocation > length);
+    // toString() allocates the string builder (including its growth copies), the string and the byte array. Streaming
+    // only allocates what the values themselves need while being encoded (e.g. iterators and formatted doubles).
+    assertTrue("streaming allocated " + streamingAllocation + " bytes, toString " + toStringAllocation + " bytes", streamingAllocation < toStringAllocation / 2);
+  }
+
+  protected JSONObject createLargeResponse() {
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 5000; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", "row" + i);
+      row.put("cells", new JSONArray(Arrays.asList("Cell text " + i, "Gr\u00fcezi", i, i * 1.5d, true)));
+      rows.put(row);
+    }
+    return new JSONObject().put("adapterData", new JSONObject().put("table", new JSONObject().put("rows", rows)));
+  }
+
+  protected void assertSameAsToString(Object value) throws IOException {
+    assertEquals(toUtf8(value), value instanceof JSONObject
+        ? toStreamed((JSONObject) value, new JSONStreamWriter())
+        : toStreamed((JSONArray) value, new JSONStreamWriter()));
+  }
+
+  protected static String toUtf8(Object value) {
+    return new String(value.toString().getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+  }
+
+  protected static String toStreamed(JSONObject value, JSONStreamWriter writer) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.write(value, out);
+    return new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+  }
+
+  protected static String toStreamed(JSONArray value, JSONStreamWriter writer) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.write(value, out);
+    return new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+  }
+}
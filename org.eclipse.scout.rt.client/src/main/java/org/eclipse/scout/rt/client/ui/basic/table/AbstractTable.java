@@ -684,6 +684,22 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     return false;
   }
 
+  /**
+   * Configures the number of rows which are transferred to the UI at once. If the value is greater than 0, the UI
+   * initially only receives the first rows and requests further rows when the user scrolls to the end of the table.
+   * This reduces the response size and rendering time of tables with many rows. Hierarchical tables always transfer all
+   * rows.
+   * <p>
+   * Subclasses can override this method. Default is <code>0</code> (all rows are transferred at once).
+   *
+   * @since 11
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(300)
+  protected int getConfiguredRowPageSize() {
+    return 0;
+  }
+
   /**
    * <p>
    * Called after a drag operation was executed on one or several table rows.
@@ -1074,6 +1090,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     setSummaryCellBuilder(createSummaryCellBuilder());
     setCompactHandler(createCompactHandler());
     setCompact(getConfiguredCompact());
+    setRowPageSize(getConfiguredRowPageSize());
 
     // add Convenience observer for drag & drop callbacks, event history and ui sort possible check
     addTableListener(new TableAdapter() {
@@ -5356,6 +5373,16 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     propertySupport.setPropertyInt(PROP_MAX_ROW_COUNT, maxRowCount);
   }
 
+  @Override
+  public int getRowPageSize() {
+    return propertySupport.getPropertyInt(PROP_ROW_PAGE_SIZE);
+  }
+
+  @Override
+  public void setRowPageSize(int rowPageSize) {
+    propertySupport.setPropertyInt(PROP_ROW_PAGE_SIZE, rowPageSize);
+  }
+
   @Override
   public TriState isTruncatedCellTooltipEnabled() {
     return (TriState) propertySupport.getProperty(PROP_TRUNCATED_CELL_TOOLTIP_ENABLED);
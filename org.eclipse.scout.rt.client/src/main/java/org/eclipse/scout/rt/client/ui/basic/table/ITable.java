@@ -273,6 +273,13 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   String PROP_CLIENT_UI_PREFERENCES_ENABLED = "clientUiPreferencesEnabled";
 
+  /**
+   * type int
+   *
+   * @since 11
+   */
+  String PROP_ROW_PAGE_SIZE = "rowPageSize";
+
   /**
    * Alternative loading style. Adds a decent loading animation at the top of the table. To enable it, add this css
    * class and then activate the loading using {@link #setLoading(boolean)}.
@@ -1295,6 +1302,21 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   void setMaxRowCount(int maxRowCount);
 
+  /**
+   * Number of rows which are transferred to the UI at once. If the value is greater than 0, the UI initially only
+   * receives the first rows of the table and requests further rows when the user scrolls to the end of the table.
+   * <code>0</code> means all rows are transferred at once.
+   *
+   * @since 11
+   */
+  int getRowPageSize();
+
+  /**
+   * @see #getRowPageSize()
+   * @since 11
+   */
+  void setRowPageSize(int rowPageSize);
+
   /**
    * @since 9.0
    */
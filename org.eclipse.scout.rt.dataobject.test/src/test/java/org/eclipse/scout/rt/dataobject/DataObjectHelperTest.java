@@ -15,7 +15,11 @@ import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -63,6 +67,9 @@ public class DataObjectHelperTest {
     when(m_dataObjectMapperMock.readValue(Mockito.any(String.class), Mockito.any(Class.class))).thenReturn(DESERIALIZED_DO_ENTITY_VALUE);
     when(m_dataObjectMapperMock.readValueRaw(Mockito.any(String.class))).thenReturn(DESERIALIZED_DO_ENTITY_VALUE_RAW);
     when(m_dataObjectMapperMock.writeValue(Mockito.any(Object.class))).thenReturn(SERIALIZED_DO_ENTITY_VALUE);
+    when(m_dataObjectMapperMock.readValue(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt(), Mockito.any(Class.class))).thenReturn(DESERIALIZED_DO_ENTITY_VALUE);
+    when(m_dataObjectMapperMock.readValueRaw(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt())).thenReturn(DESERIALIZED_DO_ENTITY_VALUE_RAW);
+    when(m_dataObjectMapperMock.writeValueAsBytes(Mockito.any(Object.class))).thenReturn(SERIALIZED_DO_ENTITY_VALUE.getBytes(StandardCharsets.UTF_8));
     m_dataObjectMapperMockRegistration = Platform.get().getBeanManager().registerBean(new BeanMetaData(IDataObjectMapper.class, m_dataObjectMapperMock).withApplicationScoped(true));
 
     m_helper = BEANS.get(DataObjectHelper.class);
@@ -157,8 +164,49 @@ public class DataObjectHelperTest {
   @Test
   public void testClone() {
     assertNull(m_helper.clone(null));
-    DoEntity clone = m_helper.clone(BEANS.get(DoEntity.class));
-    assertSame(DESERIALIZED_DO_ENTITY_VALUE, clone);
+    DoEntity empty = BEANS.get(DoEntity.class);
+    DoEntity emptyClone = m_helper.clone(empty);
+    assertNotSame(empty, emptyClone);
+    assertEquals(empty, emptyClone);
+
+    m_entity.put("bytes", new byte[]{1, 2, 3});
+    m_entity.put("set", new HashSet<>(Arrays.asList("a", "b")));
+    m_entity.put("map", Collections.singletonMap("key", m_subEntity));
+    m_entity.putList("list", Arrays.asList(m_subEntity, null, TEST_DATE));
+    IDoEntity clone = m_helper.clone(m_entity);
+    assertNotSame(m_entity, clone);
+    assertEquals(m_entity.allNodes().keySet(), clone.allNodes().keySet());
+    assertEquals(m_subEntity, clone.get("entity"));
+    assertNotSame(m_subEntity, clone.get("entity"));
+    assertEquals(TEST_DATE, clone.get("date"));
+    assertNotSame(TEST_DATE, clone.get("date"));
+    assertSame(TEST_UUID, clone.get("uuid"));
+    assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) clone.get("bytes"));
+    assertEquals(m_entity.get("set"), clone.get("set"));
+    assertEquals(m_entity.get("map"), clone.get("map"));
+    assertTrue(clone.getNode("list") instanceof DoList);
+    assertEquals(m_entity.getList("list"), clone.getList("list"));
+    assertNotSame(m_subEntity, clone.getList("list").get(0));
+
+    // modifying the clone does not affect the original
+    ((IDoEntity) clone.get("entity")).put("name", "modified");
+    assertEquals("subEntity", m_subEntity.get("name"));
+
+    SimpleFixtureDo fixture = BEANS.get(SimpleFixtureDo.class).withId(TEST_UUID).withName1("name").withCreateDate(TEST_DATE);
+    SimpleFixtureDo fixtureClone = m_helper.clone(fixture);
+    assertEquals(fixture, fixtureClone);
+    assertNotSame(fixture, fixtureClone);
+  }
+
+  @Test
+  public void testCloneNotCopyableValue() {
+    // values of unknown types are cloned using serialization and deserialization
+    DoEntity entity = BEANS.get(DoEntity.class);
+    entity.put("value", new StringBuilder("foo"));
+    assertSame(DESERIALIZED_DO_ENTITY_VALUE, m_helper.clone(entity));
+
+    m_subEntity.put("value", new Object());
+    assertSame(DESERIALIZED_DO_ENTITY_VALUE, m_helper.clone(m_entity));
   }
 
   @Test
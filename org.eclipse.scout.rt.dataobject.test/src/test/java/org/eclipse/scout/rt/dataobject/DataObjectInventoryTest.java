@@ -11,7 +11,10 @@
 package org.eclipse.scout.rt.dataobject;
 
 import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 
@@ -164,6 +167,33 @@ public class DataObjectInventoryTest {
     assertEquals("otherEntitiesMap", attributesDescription.get("otherEntitiesMap").getName());
   }
 
+  @Test
+  public void testGetAttributeOrdinals() {
+    Map<String, Integer> ordinals = m_inventory.getAttributeOrdinals(EntityFixtureDo.class);
+    assertEquals(m_inventory.getAttributesDescription(EntityFixtureDo.class).keySet(), ordinals.keySet());
+    assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3, 4)), new HashSet<>(ordinals.values()));
+    assertSame(ordinals, m_inventory.getAttributeOrdinals(EntityFixtureDo.class));
+    assertTrue(m_inventory.getAttributeOrdinals(DoEntity.class).isEmpty());
+  }
+
+  @Test
+  public void testGetAttributeLayout() {
+    assertNotNull(m_inventory.getAttributeLayout(EntityFixtureDo.class));
+    assertSame(m_inventory.getAttributeLayout(EntityFixtureDo.class), m_inventory.getAttributeLayout(EntityFixtureDo.class));
+    assertNull(m_inventory.getAttributeLayout(DoEntity.class));
+  }
+
+  @Test
+  public void testGetAttributeLayoutWithoutOrdinals() {
+    DataObjectInventory inventory = new DataObjectInventory() {
+      @Override
+      protected Map<String, Integer> createAttributeOrdinals(Class<? extends IDoEntity> entityClass) {
+        return Collections.emptyMap();
+      }
+    };
+    assertNull(inventory.getAttributeLayout(EntityFixtureDo.class));
+  }
+
   @Test(expected = AssertionException.class)
   public void testRegisterDuplicateTypeName() {
     m_inventory.registerClassByTypeName(EntityFixtureDo.class);
@@ -30,6 +30,8 @@ import java.util.function.Function;
 import org.eclipse.scout.rt.dataobject.fixture.EntityFixtureDo;
 import org.eclipse.scout.rt.dataobject.fixture.OtherEntityFixtureDo;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform;
+import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.date.DateUtility;
@@ -42,6 +44,20 @@ public class DoEntityTest {
 
   protected static final Date TEST_DATE = DateUtility.parse("2017-11-30 17:29:12.583", IValueFormatConstants.DEFAULT_DATE_PATTERN);
 
+  @Test
+  public void testTypedEntityWithoutPlatform() {
+    IPlatform platform = Platform.peek();
+    Platform.set(null);
+    try {
+      EntityFixtureDo entity = new EntityFixtureDo().withId("foo");
+      assertEquals("foo", entity.getId());
+      assertEquals(CollectionUtility.arrayList("id"), new ArrayList<>(entity.allNodes().keySet()));
+    }
+    finally {
+      Platform.set(platform);
+    }
+  }
+
   @Test
   public void testPutGetHasAttribute() {
     DoEntity entity = BEANS.get(DoEntity.class);
@@ -15,6 +15,7 @@ import static org.junit.Assert.*;
 import java.util.UUID;
 
 import org.eclipse.scout.rt.dataobject.fixture.FixtureLongId;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureStringId;
 import org.eclipse.scout.rt.dataobject.fixture.FixtureUuId;
 import org.eclipse.scout.rt.dataobject.id.IId;
 import org.eclipse.scout.rt.dataobject.id.IIds;
@@ -50,6 +51,15 @@ public class IdExternalFormatterTest {
     assertEquals(id, id);
   }
 
+  @Test
+  public void testFromExternalForm_InvalidFormat() {
+    IdExternalFormatter formatter = BEANS.get(IdExternalFormatter.class);
+    assertNull(formatter.fromExternalForm(null));
+    assertThrows(IllegalArgumentException.class, () -> formatter.fromExternalForm("scout.FixtureUuId"));
+    assertThrows(IllegalArgumentException.class, () -> formatter.fromExternalForm("scout.FixtureUuId:"));
+    assertThrows(IllegalArgumentException.class, () -> formatter.fromExternalForm("scout.FixtureUuId::" + TEST_UUID));
+  }
+
   @Test(expected = ProcessingException.class)
   public void testFromExternalForm_UnknownType() {
     IId<?> id = BEANS.get(IdExternalFormatter.class).fromExternalForm("DoesNotExist:" + TEST_UUID.toString());
@@ -63,6 +73,14 @@ public class IdExternalFormatterTest {
     assertEquals(id1, id2);
   }
 
+  @Test
+  public void testFromExternalFormLenient_InvalidFormat() {
+    IdExternalFormatter formatter = BEANS.get(IdExternalFormatter.class);
+    assertNull(formatter.fromExternalFormLenient(null));
+    assertNull(formatter.fromExternalFormLenient("scout.FixtureUuId"));
+    assertEquals(FixtureStringId.of("foo:bar"), formatter.fromExternalFormLenient("scout.FixtureStringId:foo:bar"));
+  }
+
   @Test
   public void testFromExternalFormLenient_UnknownType() {
     IId<?> id = BEANS.get(IdExternalFormatter.class).fromExternalFormLenient("DoesNotExist:" + TEST_UUID.toString());
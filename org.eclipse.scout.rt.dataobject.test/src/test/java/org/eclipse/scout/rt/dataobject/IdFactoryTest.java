@@ -10,10 +10,12 @@
  */
 package org.eclipse.scout.rt.dataobject;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 import java.util.UUID;
 
+import org.eclipse.scout.rt.dataobject.DataObjectConfigProperties.IdCacheSizeProperty;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureLongId;
 import org.eclipse.scout.rt.dataobject.fixture.FixtureStringId;
 import org.eclipse.scout.rt.dataobject.fixture.FixtureUuId;
 import org.eclipse.scout.rt.dataobject.fixture.FixtureUuIdWithCustomFromString;
@@ -21,7 +23,9 @@ import org.eclipse.scout.rt.dataobject.id.AbstractId;
 import org.eclipse.scout.rt.dataobject.id.AbstractUuId;
 import org.eclipse.scout.rt.dataobject.id.IdFactory;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -111,6 +115,41 @@ public class IdFactoryTest {
     assertEquals(str, id.unwrap());
   }
 
+  @Test
+  public void testCreateInternalWrongValueType() {
+    Assert.assertThrows(PlatformException.class, () -> BEANS.get(IdFactory.class).createInternal(FixtureUuId.class, "not a UUID"));
+  }
+
+  @Test
+  public void testIdCache() {
+    assertNotSame(BEANS.get(IdFactory.class).createInternal(FixtureStringId.class, "foo"), BEANS.get(IdFactory.class).createInternal(FixtureStringId.class, "foo"));
+
+    IBean<?> property = BEANS.get(BeanTestingHelper.class).mockConfigProperty(IdCacheSizeProperty.class, 2);
+    try {
+      IdFactory factory = new IdFactory();
+      FixtureStringId id = factory.createInternal(FixtureStringId.class, "foo");
+      assertSame(id, factory.createInternal(FixtureStringId.class, "foo"));
+      assertSame(id, factory.createFromString(FixtureStringId.class, "foo"));
+
+      UUID uuid = UUID.randomUUID();
+      FixtureUuId uuId = factory.createInternal(FixtureUuId.class, uuid);
+      assertSame(uuId, factory.createInternal(FixtureUuId.class, uuid));
+      assertEquals(uuId, factory.createFromString(FixtureUuId.class, uuid.toString()));
+
+      // cache is cleared if its size is exceeded
+      factory.createInternal(FixtureStringId.class, "bar");
+      factory.createInternal(FixtureStringId.class, "baz");
+      assertNotSame(id, factory.createInternal(FixtureStringId.class, "foo"));
+      assertEquals(id, factory.createInternal(FixtureStringId.class, "foo"));
+
+      // only string and uuid ids are cached
+      assertNotSame(factory.createInternal(FixtureLongId.class, 42L), factory.createInternal(FixtureLongId.class, 42L));
+    }
+    finally {
+      BEANS.get(BeanTestingHelper.class).unregisterBean(property);
+    }
+  }
+
   @Test(expected = PlatformException.class)
   public void testCreateInvalidType4() {
     BEANS.get(IdFactory.class).createFromString(IllegalUuId4.class, "123456789");
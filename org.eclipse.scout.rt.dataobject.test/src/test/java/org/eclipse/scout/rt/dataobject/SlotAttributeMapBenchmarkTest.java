@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.scout.rt.dataobject.fixture.EntityFixtureDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the heap used by typed entities backed by a {@link SlotAttributeMap} with the heap used by raw entities. The
+ * measured sizes depend on the JVM and its garbage collector and are only logged.
+ *
+ * @since 11
+ */
+@Ignore("Benchmark, run manually")
+public class SlotAttributeMapBenchmarkTest {
+  private static final Logger LOG = LoggerFactory.getLogger(SlotAttributeMapBenchmarkTest.class);
+
+  @Test
+  public void testHeapFootprint() {
+    int count = 50_000;
+    long slotBytes = measureHeap(() -> {
+      List<Object> entities = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        entities.add(BEANS.get(EntityFixtureDo.class).withId("id").withOtherEntity(null).withOtherEntitiesList(null).withOtherEntitiesMap(null));
+      }
+      return entities;
+    });
+    long mapBytes = measureHeap(() -> {
+      List<Object> entities = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        DoEntity entity = BEANS.get(DoEntity.class);
+        entity.put("id", "id");
+        entity.put("otherEntity", null);
+        entity.put("otherEntitiesList", null);
+        entity.put("otherEntitiesMap", null);
+        entities.add(entity);
+      }
+      return entities;
+    });
+    LOG.info("Heap footprint of {} entities with 4 attributes: slot storage {} bytes/entity, map storage {} bytes/entity", count, slotBytes / count, mapBytes / count);
+  }
+
+  protected long measureHeap(Supplier<Object> allocator) {
+    Runtime runtime = Runtime.getRuntime();
+    System.gc();
+    long before = runtime.totalMemory() - runtime.freeMemory();
+    Object retained = allocator.get();
+    System.gc();
+    long after = runtime.totalMemory() - runtime.freeMemory();
+    assertNotNull(retained);
+    return Math.max(0, after - before);
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.scout.rt.dataobject.fixture.EntityFixtureDo;
+import org.eclipse.scout.rt.dataobject.fixture.OtherEntityFixtureDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link SlotAttributeMap} comparing its behavior with a {@link LinkedHashMap}.
+ */
+public class SlotAttributeMapTest {
+
+  private SlotAttributeMap.Layout m_layout;
+  private SlotAttributeMap m_map;
+  private Map<String, DoNode<?>> m_expected;
+
+  @Before
+  public void before() {
+    Map<String, Integer> ordinals = new HashMap<>();
+    ordinals.put("a", 0);
+    ordinals.put("b", 1);
+    ordinals.put("c", 2);
+    m_layout = new SlotAttributeMap.Layout(ordinals);
+    m_map = new SlotAttributeMap(m_layout);
+    m_expected = new LinkedHashMap<>();
+  }
+
+  @Test
+  public void testPutGetRemove() {
+    assertTrue(m_map.isEmpty());
+    assertNull(m_map.get("a"));
+    assertNull(m_map.get(null));
+    assertFalse(m_map.containsKey("x"));
+
+    put("c", "valueC");
+    put("x", "valueX");
+    put("a", "valueA");
+    put("y", "valueY");
+    assertMap();
+    assertTrue(m_map.containsKey("x"));
+    assertFalse(m_map.containsKey("b"));
+
+    // replacing a node keeps the insertion order
+    put("c", "valueC2");
+    put("x", "valueX2");
+    assertMap();
+
+    assertEquals(m_expected.remove("x"), m_map.remove("x"));
+    assertEquals(m_expected.remove("c"), m_map.remove("c"));
+    assertNull(m_map.remove("b"));
+    assertNull(m_map.remove("z"));
+    assertMap();
+
+    put("x", "valueX3");
+    put("b", "valueB");
+    put("c", "valueC3");
+    assertMap();
+
+    m_map.clear();
+    m_expected.clear();
+    assertMap();
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    put("a", "valueA");
+    put("x", "valueX");
+    put("b", "valueB");
+    put("y", "valueY");
+    put("c", "valueC");
+
+    m_map.values().removeIf(node -> "valueX".equals(node.get()) || "valueB".equals(node.get()));
+    m_expected.values().removeIf(node -> "valueX".equals(node.get()) || "valueB".equals(node.get()));
+    assertMap();
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public void testConcurrentModification() {
+    put("a", "valueA");
+    put("b", "valueB");
+    Iterator<Entry<String, DoNode<?>>> it = m_map.entrySet().iterator();
+    it.next();
+    m_map.put("x", DoValue.of("valueX"));
+    it.next();
+  }
+
+  @Test
+  public void testTypedEntity() {
+    EntityFixtureDo entity = BEANS.get(EntityFixtureDo.class)
+        .withOtherEntities(BEANS.get(OtherEntityFixtureDo.class))
+        .withId("id");
+    entity.put("undeclared", 42);
+    entity.withOtherEntity(BEANS.get(OtherEntityFixtureDo.class));
+
+    DoEntity rawEntity = BEANS.get(DoEntity.class);
+    rawEntity.putList("otherEntities", entity.getOtherEntities());
+    rawEntity.put("id", "id");
+    rawEntity.put("undeclared", 42);
+    rawEntity.put("otherEntity", entity.getOtherEntity());
+
+    assertEquals(new ArrayList<>(rawEntity.allNodes().keySet()), new ArrayList<>(entity.allNodes().keySet()));
+    assertEquals(rawEntity.allNodes(), entity.allNodes());
+    assertEquals(rawEntity.allNodes().hashCode(), entity.allNodes().hashCode());
+    assertEquals(rawEntity.all(), entity.all());
+
+    assertTrue(entity.remove("id"));
+    assertFalse(entity.has("id"));
+    assertNull(entity.getId());
+    assertEquals(42, entity.get("undeclared"));
+  }
+
+  protected void put(String key, String value) {
+    DoValue<String> node = DoValue.of(value);
+    node.setAttributeName(key);
+    assertEquals(m_expected.put(key, node), m_map.put(key, node));
+  }
+
+  protected void assertMap() {
+    assertEquals(m_expected.size(), m_map.size());
+    assertEquals(new ArrayList<>(m_expected.keySet()), new ArrayList<>(m_map.keySet()));
+    assertEquals(new ArrayList<>(m_expected.values()), new ArrayList<>(m_map.values()));
+    assertEquals(m_expected, m_map);
+    assertEquals(m_map, m_expected);
+    assertEquals(m_expected.hashCode(), m_map.hashCode());
+    for (String key : m_expected.keySet()) {
+      assertSame(m_expected.get(key), m_map.get(key));
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import org.eclipse.scout.rt.dataobject.id.AbstractStringId;
+import org.eclipse.scout.rt.dataobject.id.AbstractUuId;
+import org.eclipse.scout.rt.dataobject.id.IdFactory;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
+
+/**
+ * @since 11
+ */
+public final class DataObjectConfigProperties {
+
+  private DataObjectConfigProperties() {
+  }
+
+  public static class IdCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.dataobject.idCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum number of %s and %s instances per id type which are interned by the %s. Ids created for the same value share the same instance "
+          + "as long as they are cached. A cache which exceeds its size is cleared. The default value is 0 (no caching).",
+          AbstractStringId.class.getSimpleName(), AbstractUuId.class.getSimpleName(), IdFactory.class.getSimpleName());
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 0;
+    }
+  }
+}
@@ -10,12 +10,24 @@
  */
 package org.eclipse.scout.rt.dataobject;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
+import org.eclipse.scout.rt.dataobject.id.IId;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.util.Assertions;
@@ -29,6 +41,18 @@ import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 @ApplicationScoped
 public class DataObjectHelper {
 
+  /**
+   * Value types which are immutable and therefore shared between an object and its clone.
+   */
+  protected static final Set<Class<?>> IMMUTABLE_VALUE_TYPES = new HashSet<>(Arrays.asList(
+      String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+      BigInteger.class, BigDecimal.class, Locale.class, UUID.class));
+
+  /**
+   * Marker returned by {@link #copyValue(Object)} for values which cannot be copied directly.
+   */
+  protected static final Object NOT_COPYABLE = new Object();
+
   protected IDataObjectMapper getDataObjectMapper() {
     return BEANS.get(IDataObjectMapper.class);
   }
@@ -112,10 +136,13 @@ public class DataObjectHelper {
   }
 
   /**
-   * Clones the given object using data object serialization and deserialization.
+   * Clones the given object by copying its attribute nodes, lists and values directly. The object tree is neither
+   * serialized nor deserialized unless it contains values which cannot be copied directly (see
+   * {@link #copyValue(Object)}). In this case the object is cloned using data object serialization and
+   * deserialization.
    *
-   * @see IDataObjectMapper#writeValue(Object)
-   * @see IDataObjectMapper#readValue(String, Class)
+   * @see IDataObjectMapper#writeValueAsBytes(Object)
+   * @see IDataObjectMapper#readValue(byte[], int, int, Class)
    */
   public <T extends IDoEntity> T clone(T value) {
     if (value == null) {
@@ -123,9 +150,13 @@ public class DataObjectHelper {
     }
     @SuppressWarnings("unchecked")
     Class<T> valueType = (Class<T>) value.getClass();
+    Object copy = copyValue(value);
+    if (copy != NOT_COPYABLE) {
+      return valueType.cast(copy);
+    }
     IDataObjectMapper mapper = getDataObjectMapper();
-    String clone = mapper.writeValue(value);
-    return mapper.readValue(clone, valueType);
+    byte[] clone = mapper.writeValueAsBytes(value);
+    return mapper.readValue(clone, 0, clone.length, valueType);
   }
 
   /**
@@ -133,16 +164,104 @@ public class DataObjectHelper {
    * <p>
    * Result is a generic {@link IDoEntity} object tree ignoring any available type attributes.
    *
-   * @see IDataObjectMapper#writeValue(Object)
-   * @see IDataObjectMapper#readValueRaw(String)
+   * @see IDataObjectMapper#writeValueAsBytes(Object)
+   * @see IDataObjectMapper#readValueRaw(byte[], int, int)
    */
   public IDoEntity cloneRaw(IDoEntity value) {
     if (value == null) {
       return null;
     }
     IDataObjectMapper mapper = getDataObjectMapper();
-    String clone = mapper.writeValue(value);
-    return (IDoEntity) mapper.readValueRaw(clone);
+    byte[] clone = mapper.writeValueAsBytes(value);
+    return (IDoEntity) mapper.readValueRaw(clone, 0, clone.length);
+  }
+
+  /**
+   * Deep copy of a value of a data object tree used by {@link #clone(IDoEntity)}. Entities are instantiated as Scout
+   * beans of the same class, lists, sets, maps, dates and byte arrays are copied and {@link #isImmutableValue(Object)
+   * immutable values} are shared.
+   *
+   * @return the copy or {@link #NOT_COPYABLE} if the value (or any value it contains) is not supported
+   * @since 11
+   */
+  protected Object copyValue(Object value) {
+    if (value == null || isImmutableValue(value)) {
+      return value;
+    }
+    if (value instanceof DoEntity) {
+      return copyEntity((DoEntity) value);
+    }
+    if (value.getClass() == Date.class) {
+      return new Date(((Date) value).getTime());
+    }
+    if (value instanceof byte[]) {
+      return ((byte[]) value).clone();
+    }
+    if (value instanceof List) {
+      return copyItems((List<?>) value, new ArrayList<>(((List<?>) value).size()));
+    }
+    if (value instanceof Set) {
+      return copyItems((Set<?>) value, new LinkedHashSet<>());
+    }
+    if (value instanceof Map) {
+      return copyMap((Map<?, ?>) value);
+    }
+    return NOT_COPYABLE;
+  }
+
+  /**
+   * @return {@code true} if the value may be shared between a data object and its clone
+   * @since 11
+   */
+  protected boolean isImmutableValue(Object value) {
+    return IMMUTABLE_VALUE_TYPES.contains(value.getClass())
+        || value instanceof Enum
+        || value instanceof IId;
+  }
+
+  protected Object copyEntity(DoEntity entity) {
+    if (!BEANS.getBeanManager().isBean(entity.getClass())) {
+      return NOT_COPYABLE;
+    }
+    DoEntity copy = BEANS.get(entity.getClass());
+    for (Entry<String, DoNode<?>> entry : entity.allNodes().entrySet()) {
+      DoNode<?> node = entry.getValue();
+      Object value = copyValue(node.get());
+      if (value == NOT_COPYABLE) {
+        return NOT_COPYABLE;
+      }
+      if (node instanceof DoList) {
+        copy.putList(entry.getKey(), (List<?>) value);
+      }
+      else {
+        copy.put(entry.getKey(), value);
+      }
+    }
+    return copy;
+  }
+
+  protected Object copyItems(Collection<?> items, Collection<Object> copy) {
+    for (Object item : items) {
+      Object itemCopy = copyValue(item);
+      if (itemCopy == NOT_COPYABLE) {
+        return NOT_COPYABLE;
+      }
+      copy.add(itemCopy);
+    }
+    return copy;
+  }
+
+  protected Object copyMap(Map<?, ?> map) {
+    Map<Object, Object> copy = new LinkedHashMap<>();
+    for (Entry<?, ?> entry : map.entrySet()) {
+      Object key = entry.getKey();
+      Object value = copyValue(entry.getValue());
+      if ((key != null && !isImmutableValue(key)) || value == NOT_COPYABLE) {
+        return NOT_COPYABLE;
+      }
+      copy.put(key, value);
+    }
+    return copy;
   }
 
   /**
@@ -62,6 +62,12 @@ public class DataObjectInventory {
   /** Map of {@link IDoEntity} class to its attributes map */
   private final Map<Class<? extends IDoEntity>, Map<String, DataObjectAttributeDescriptor>> m_classAttributeMap = new ConcurrentHashMap<>();
 
+  /** Map of {@link IDoEntity} class to the ordinals of its attributes */
+  private final Map<Class<? extends IDoEntity>, Map<String, Integer>> m_classAttributeOrdinals = new ConcurrentHashMap<>();
+
+  /** Map of {@link IDoEntity} class to the slot layout of its attributes */
+  private final Map<Class<? extends IDoEntity>, SlotAttributeMap.Layout> m_classAttributeLayouts = new ConcurrentHashMap<>();
+
   @PostConstruct
   protected void init() {
     ClassInventory.get()
@@ -158,6 +164,28 @@ public class DataObjectInventory {
     return Collections.unmodifiableMap(m_classAttributeMap.get(entityClass));
   }
 
+  /**
+   * Attribute ordinals are used by {@link DoEntity} to store the attribute nodes of typed entities in a slot array
+   * instead of a map. Override {@link #createAttributeOrdinals(Class)} to return an empty map to disable the slot
+   * storage.
+   *
+   * @return Map with the ordinals ({@code 0} to {@code size - 1}) of all declared attributes of the specified
+   *         {@code entityClass}, empty if the class declares no attributes
+   * @since 11
+   */
+  public Map<String, Integer> getAttributeOrdinals(Class<? extends IDoEntity> entityClass) {
+    return m_classAttributeOrdinals.computeIfAbsent(entityClass, this::createAttributeOrdinals);
+  }
+
+  /**
+   * @return Slot layout of the {@link #getAttributeOrdinals(Class)} of the specified {@code entityClass} or
+   *         {@code null} if the class declares no attributes
+   */
+  SlotAttributeMap.Layout getAttributeLayout(Class<? extends IDoEntity> entityClass) {
+    SlotAttributeMap.Layout layout = m_classAttributeLayouts.computeIfAbsent(entityClass, c -> new SlotAttributeMap.Layout(getAttributeOrdinals(c)));
+    return layout.isEmpty() ? null : layout;
+  }
+
   /* **************************************************************************
    * HELPER METHODS
    * *************************************************************************/
@@ -239,6 +267,17 @@ public class DataObjectInventory {
     return attributes;
   }
 
+  /**
+   * @since 11
+   */
+  protected Map<String, Integer> createAttributeOrdinals(Class<? extends IDoEntity> entityClass) {
+    Map<String, Integer> ordinals = new HashMap<>();
+    for (String attributeName : getAttributesDescription(entityClass).keySet()) {
+      ordinals.put(attributeName, ordinals.size());
+    }
+    return Collections.unmodifiableMap(ordinals);
+  }
+
   protected void addAttribute(Map<String, DataObjectAttributeDescriptor> attributes, ParameterizedType type, Method accessor) {
     String name = resolveAttributeName(accessor);
     Optional<String> formatPattern = resolveAttributeFormat(accessor);
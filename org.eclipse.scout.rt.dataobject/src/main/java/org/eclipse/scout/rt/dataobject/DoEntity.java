@@ -19,6 +19,9 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.StreamUtility;
 
@@ -45,7 +48,34 @@ import org.eclipse.scout.rt.platform.util.StreamUtility;
  */
 public class DoEntity implements IDoEntity {
 
-  private final Map<String, DoNode<?>> m_attributes = new LinkedHashMap<>();
+  private final Map<String, DoNode<?>> m_attributes = createAttributesMap();
+
+  /**
+   * Typed entities store the nodes of their declared attributes in a slot array (see {@link SlotAttributeMap}), raw
+   * entities and entities created while no platform is running use a {@link LinkedHashMap}. Both have the same
+   * iteration order.
+   */
+  private Map<String, DoNode<?>> createAttributesMap() {
+    if (getClass() != DoEntity.class) {
+      DataObjectInventory inventory = currentInventory();
+      SlotAttributeMap.Layout layout = inventory != null ? inventory.getAttributeLayout(getClass()) : null;
+      if (layout != null) {
+        return new SlotAttributeMap(layout);
+      }
+    }
+    return new LinkedHashMap<>();
+  }
+
+  /**
+   * @return {@link DataObjectInventory} of the running platform or {@code null} if no platform is running
+   */
+  private static DataObjectInventory currentInventory() {
+    IPlatform platform = Platform.peek();
+    if (platform == null || (platform.getState() != State.BeanManagerValid && platform.getState() != State.PlatformStarted)) {
+      return null;
+    }
+    return BEANS.opt(DataObjectInventory.class);
+  }
 
   /**
    * @return Node of attribute {@code attributeName} or {@code null}, if attribute is not available.
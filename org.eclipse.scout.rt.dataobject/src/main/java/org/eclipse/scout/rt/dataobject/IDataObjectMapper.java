@@ -10,6 +10,8 @@
  */
 package org.eclipse.scout.rt.dataobject;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 
@@ -47,6 +49,32 @@ public interface IDataObjectMapper {
    */
   IDataObject readValueRaw(String value);
 
+  /**
+   * Deserialize {@code length} bytes of UTF-8 encoded JSON starting at {@code offset} into a data object without
+   * creating an intermediate string.
+   *
+   * @since 11
+   */
+  default <T> T readValue(byte[] bytes, int offset, int length, Class<T> valueType) {
+    if (bytes == null) {
+      return null;
+    }
+    return readValue(new ByteArrayInputStream(bytes, offset, length), valueType);
+  }
+
+  /**
+   * Deserialize {@code length} bytes of UTF-8 encoded JSON starting at {@code offset} into a generic
+   * {@link IDataObject} object tree ignoring any available type attributes.
+   *
+   * @since 11
+   */
+  default IDataObject readValueRaw(byte[] bytes, int offset, int length) {
+    if (bytes == null) {
+      return null;
+    }
+    return readValueRaw(new ByteArrayInputStream(bytes, offset, length));
+  }
+
   /**
    * Serializes a data object into the given output stream.
    */
@@ -56,4 +84,18 @@ public interface IDataObjectMapper {
    * Serializes a data object into its string representation.
    */
   String writeValue(Object value);
+
+  /**
+   * Serializes a data object into its UTF-8 encoded JSON representation without creating an intermediate string.
+   *
+   * @since 11
+   */
+  default byte[] writeValueAsBytes(Object value) {
+    if (value == null) {
+      return null;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writeValue(out, value);
+    return out.toByteArray();
+  }
 }
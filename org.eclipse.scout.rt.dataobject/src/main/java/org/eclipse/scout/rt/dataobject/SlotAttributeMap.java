@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact attribute map of a typed {@link DoEntity}.
+ * <p>
+ * The nodes of declared attributes are stored in a slot array indexed by the attribute ordinals of the entity class
+ * (see {@link DataObjectInventory#getAttributeOrdinals(Class)}). Attributes which are not declared by the entity class
+ * are stored in an additional {@link LinkedHashMap} which is only created if required. The insertion order of all
+ * attributes is recorded in an int array, therefore iteration order, equality and hash code are the same as of a
+ * {@link LinkedHashMap} with the same content.
+ * <p>
+ * Compared to a {@link LinkedHashMap} no entry object is allocated per attribute. {@code null} nodes are not
+ * supported.
+ *
+ * @since 11
+ */
+final class SlotAttributeMap extends AbstractMap<String, DoNode<?>> {
+
+  /**
+   * Marker in {@link #m_order} for an attribute stored in {@link #m_undeclared}.
+   */
+  private static final int UNDECLARED = -1;
+  private static final int[] EMPTY_ORDER = new int[0];
+
+  private final Layout m_layout;
+  private DoNode<?>[] m_slots;
+  private int[] m_order = EMPTY_ORDER;
+  private int m_size;
+  private Map<String, DoNode<?>> m_undeclared;
+  private int m_modCount;
+
+  SlotAttributeMap(Layout layout) {
+    m_layout = layout;
+  }
+
+  @Override
+  public int size() {
+    return m_size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public DoNode<?> get(Object key) {
+    Integer ordinal = m_layout.m_ordinals.get(key);
+    if (ordinal != null) {
+      return m_slots != null ? m_slots[ordinal] : null;
+    }
+    return m_undeclared != null ? m_undeclared.get(key) : null;
+  }
+
+  @Override
+  public DoNode<?> put(String key, DoNode<?> node) {
+    if (node == null) {
+      throw new IllegalArgumentException("null nodes are not supported");
+    }
+    Integer ordinal = m_layout.m_ordinals.get(key);
+    if (ordinal != null) {
+      if (m_slots == null) {
+        m_slots = new DoNode<?>[m_layout.m_names.length];
+      }
+      DoNode<?> previous = m_slots[ordinal];
+      m_slots[ordinal] = node;
+      if (previous == null) {
+        appendOrder(ordinal);
+      }
+      return previous;
+    }
+    if (m_undeclared == null) {
+      m_undeclared = new LinkedHashMap<>();
+    }
+    DoNode<?> previous = m_undeclared.put(key, node);
+    if (previous == null) {
+      appendOrder(UNDECLARED);
+    }
+    return previous;
+  }
+
+  @Override
+  public DoNode<?> remove(Object key) {
+    Integer ordinal = m_layout.m_ordinals.get(key);
+    if (ordinal != null) {
+      if (m_slots == null || m_slots[ordinal] == null) {
+        return null;
+      }
+      DoNode<?> previous = m_slots[ordinal];
+      m_slots[ordinal] = null;
+      removeOrder(indexOfOrder(ordinal, 0));
+      return previous;
+    }
+    if (m_undeclared == null || !m_undeclared.containsKey(key)) {
+      return null;
+    }
+    // position of the key within the undeclared attributes corresponds to the position of the marker
+    int undeclaredIndex = 0;
+    for (String undeclaredKey : m_undeclared.keySet()) {
+      if (undeclaredKey.equals(key)) {
+        break;
+      }
+      undeclaredIndex++;
+    }
+    removeOrder(indexOfOrder(UNDECLARED, undeclaredIndex));
+    return m_undeclared.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    m_slots = null;
+    m_order = EMPTY_ORDER;
+    m_size = 0;
+    m_undeclared = null;
+    m_modCount++;
+  }
+
+  @Override
+  public Set<Entry<String, DoNode<?>>> entrySet() {
+    return new P_EntrySet();
+  }
+
+  private void appendOrder(int ordinal) {
+    if (m_size == m_order.length) {
+      m_order = Arrays.copyOf(m_order, Math.max(4, m_size + (m_size >> 1)));
+    }
+    m_order[m_size++] = ordinal;
+    m_modCount++;
+  }
+
+  /**
+   * @return index within {@link #m_order} of the {@code skip + 1}-th occurrence of {@code ordinal}
+   */
+  private int indexOfOrder(int ordinal, int skip) {
+    int remaining = skip;
+    for (int i = 0; i < m_size; i++) {
+      if (m_order[i] == ordinal && remaining-- == 0) {
+        return i;
+      }
+    }
+    throw new IllegalStateException("attribute order is inconsistent");
+  }
+
+  private void removeOrder(int index) {
+    System.arraycopy(m_order, index + 1, m_order, index, m_size - index - 1);
+    m_size--;
+    m_modCount++;
+  }
+
+  /**
+   * Attribute ordinals and names of an entity class shared by all its instances.
+   */
+  static final class Layout {
+    private final Map<String, Integer> m_ordinals;
+    private final String[] m_names;
+
+    /**
+     * @param ordinals
+     *          attribute ordinals from {@code 0} to {@code ordinals.size() - 1}
+     */
+    Layout(Map<String, Integer> ordinals) {
+      m_ordinals = ordinals;
+      m_names = new String[ordinals.size()];
+      for (Entry<String, Integer> entry : ordinals.entrySet()) {
+        m_names[entry.getValue()] = entry.getKey();
+      }
+    }
+
+    boolean isEmpty() {
+      return m_names.length == 0;
+    }
+  }
+
+  private class P_EntrySet extends AbstractSet<Entry<String, DoNode<?>>> {
+
+    @Override
+    public Iterator<Entry<String, DoNode<?>>> iterator() {
+      return new P_EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return m_size;
+    }
+  }
+
+  private class P_EntryIterator implements Iterator<Entry<String, DoNode<?>>> {
+    private final Iterator<Entry<String, DoNode<?>>> m_undeclaredIterator = m_undeclared != null ? m_undeclared.entrySet().iterator() : null;
+    private int m_expectedModCount = m_modCount;
+    private int m_cursor;
+    private int m_lastReturned = -1;
+
+    @Override
+    public boolean hasNext() {
+      return m_cursor < m_size;
+    }
+
+    @Override
+    public Entry<String, DoNode<?>> next() {
+      checkForComodification();
+      if (m_cursor >= m_size) {
+        throw new NoSuchElementException();
+      }
+      m_lastReturned = m_cursor;
+      int ordinal = m_order[m_cursor++];
+      if (ordinal == UNDECLARED) {
+        Entry<String, DoNode<?>> entry = m_undeclaredIterator.next();
+        return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+      }
+      return new SimpleImmutableEntry<>(m_layout.m_names[ordinal], m_slots[ordinal]);
+    }
+
+    @Override
+    public void remove() {
+      if (m_lastReturned < 0) {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+      int ordinal = m_order[m_lastReturned];
+      if (ordinal == UNDECLARED) {
+        m_undeclaredIterator.remove();
+      }
+      else {
+        m_slots[ordinal] = null;
+      }
+      removeOrder(m_lastReturned);
+      m_cursor = m_lastReturned;
+      m_lastReturned = -1;
+      m_expectedModCount = m_modCount;
+    }
+
+    private void checkForComodification() {
+      if (m_modCount != m_expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+}
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.dataobject.id;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.PostConstruct;
 
@@ -35,6 +36,10 @@ public class IdExternalFormatter {
 
   protected final Map<String, Class<? extends IId<?>>> m_nameToClassMap = new HashMap<>();
   protected final Map<Class<? extends IId<?>>, String> m_classToNameMap = new HashMap<>();
+  /**
+   * Cache of the prefix <code>"[type-name]:"</code> of the external form by id class
+   */
+  protected final Map<Class<?>, String> m_classToPrefixMap = new ConcurrentHashMap<>();
 
   @PostConstruct
   protected void createClassCache() {
@@ -71,11 +76,12 @@ public class IdExternalFormatter {
    * </ul>
    */
   public <ID extends IId<?>> String toExternalForm(ID id) {
-    StringBuilder sb = new StringBuilder();
-    sb.append(Assertions.assertNotNull(getTypeName(id), "Missing @{} in class {}", IdTypeName.class.getSimpleName(), id.getClass().getName()));
-    sb.append(":");
-    sb.append(id.unwrapAsString());
-    return sb.toString();
+    String prefix = m_classToPrefixMap.get(id.getClass());
+    if (prefix == null) {
+      prefix = Assertions.assertNotNull(getTypeName(id), "Missing @{} in class {}", IdTypeName.class.getSimpleName(), id.getClass().getName()) + ":";
+      m_classToPrefixMap.put(id.getClass(), prefix);
+    }
+    return prefix.concat(id.unwrapAsString());
   }
 
   /**
@@ -90,16 +96,17 @@ public class IdExternalFormatter {
     if (externalForm == null) {
       return null;
     }
-    String[] tmp = externalForm.split(":");
-    if (tmp.length != 2) {
+    // exactly one separator followed by a non-empty raw id
+    int separator = externalForm.indexOf(':');
+    if (separator < 0 || separator == externalForm.length() - 1 || externalForm.indexOf(':', separator + 1) >= 0) {
       throw new IllegalArgumentException("externalForm '" + externalForm + "' is invalid");
     }
-    String typeName = tmp[0];
+    String typeName = externalForm.substring(0, separator);
     Class<? extends IId<?>> idClass = m_nameToClassMap.get(typeName);
     if (idClass == null) {
       throw new ProcessingException("No class found for type name '{}'", typeName);
     }
-    return m_idFactory.get().createFromString(idClass, tmp[1]);
+    return m_idFactory.get().createFromString(idClass, externalForm.substring(separator + 1));
   }
 
   /**
@@ -110,16 +117,15 @@ public class IdExternalFormatter {
     if (externalForm == null) {
       return null;
     }
-    String[] tmp = externalForm.split(":", 2);
-    if (tmp.length != 2) {
+    int separator = externalForm.indexOf(':');
+    if (separator < 0) {
       return null;
     }
-    String typeName = tmp[0];
-    Class<? extends IId<?>> idClass = m_nameToClassMap.get(typeName);
+    Class<? extends IId<?>> idClass = m_nameToClassMap.get(externalForm.substring(0, separator));
     if (idClass == null) {
       return null;
     }
-    return m_idFactory.get().createFromString(idClass, tmp[1]);
+    return m_idFactory.get().createFromString(idClass, externalForm.substring(separator + 1));
   }
 
   /**
@@ -10,14 +10,20 @@
  */
 package org.eclipse.scout.rt.dataobject.id;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
+import org.eclipse.scout.rt.dataobject.DataObjectConfigProperties.IdCacheSizeProperty;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
 import org.eclipse.scout.rt.platform.util.Assertions;
@@ -25,12 +31,34 @@ import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 
 /**
  * Factory for instances of {@link IId}.
+ * <p>
+ * The <code>of(...)</code> methods of the id classes are invoked using {@link MethodHandle}s which are resolved once
+ * per id class. Instances of {@link AbstractStringId} and {@link AbstractUuId} are optionally interned (see
+ * {@link IdCacheSizeProperty}).
  */
 @ApplicationScoped
 public class IdFactory {
 
-  protected final ConcurrentMap<Class<? extends IId<?>>, Method> m_ofMethodsByIdType = new ConcurrentHashMap<>();
-  protected final ConcurrentMap<Class<? extends IId<?>>, Method> m_ofMethodsByString = new ConcurrentHashMap<>();
+  private static final MethodType CREATE_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  /**
+   * Handles of type <code>(Object)Object</code> invoking <code>of(value)</code>
+   */
+  protected final ConcurrentMap<Class<? extends IId<?>>, MethodHandle> m_ofMethodsByIdType = new ConcurrentHashMap<>();
+  /**
+   * Handles of type <code>(Object)Object</code> invoking <code>of(String)</code>
+   */
+  protected final ConcurrentMap<Class<? extends IId<?>>, MethodHandle> m_ofMethodsByString = new ConcurrentHashMap<>();
+  /**
+   * Interned ids by id class and the value they were created of, {@code null} if disabled
+   */
+  protected final ConcurrentMap<Class<? extends IId<?>>, ConcurrentMap<Object, IId<?>>> m_idCache;
+  protected final int m_idCacheSize;
+
+  public IdFactory() {
+    m_idCacheSize = CONFIG.getPropertyValue(IdCacheSizeProperty.class);
+    m_idCache = m_idCacheSize > 0 ? new ConcurrentHashMap<>() : null;
+  }
 
   /**
    * Creates a new wrapped {@link IId} by calling the <code>of(value)</code> method of the given id class.
@@ -43,15 +71,7 @@ public class IdFactory {
    *           if an exception occurred while creating the id
    */
   public <ID extends IId<?>> ID createInternal(Class<ID> idClass, Object value) {
-    try {
-      Method createMethod = m_ofMethodsByIdType.computeIfAbsent(idClass, this::findOfByTypeMethod);
-      return idClass.cast(createMethod.invoke(null, value));
-    }
-    catch (Exception e) {
-      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
-          .withContextInfo("idClass", idClass.getName())
-          .withContextInfo("value", value);
-    }
+    return create(idClass, value, m_ofMethodsByIdType, this::findOfByTypeMethod);
   }
 
   /**
@@ -63,14 +83,65 @@ public class IdFactory {
    *           if an exception occurred while creating the id
    */
   public <ID extends IId<?>> ID createFromString(Class<ID> idClass, String string) {
+    return create(idClass, string, m_ofMethodsByString, this::findOfByStringMethod);
+  }
+
+  protected <ID extends IId<?>> ID create(Class<ID> idClass, Object value, ConcurrentMap<Class<? extends IId<?>>, MethodHandle> createMethods, Function<Class<? extends IId<?>>, Method> methodLookup) {
+    ConcurrentMap<Object, IId<?>> cache = value != null ? getIdCache(idClass) : null;
+    if (cache != null) {
+      IId<?> id = cache.get(value);
+      if (id != null) {
+        return idClass.cast(id);
+      }
+    }
+    ID id;
     try {
-      Method createMethod = m_ofMethodsByString.computeIfAbsent(idClass, this::findOfByStringMethod);
-      return idClass.cast(createMethod.invoke(null, string));
+      MethodHandle createMethod = createMethods.computeIfAbsent(idClass, c -> toMethodHandle(methodLookup.apply(c)));
+      id = idClass.cast((Object) createMethod.invokeExact(value));
+    }
+    catch (Error e) {
+      throw e;
     }
-    catch (Exception e) {
-      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+    catch (Throwable t) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(t)
           .withContextInfo("idClass", idClass.getName())
-          .withContextInfo("string", string);
+          .withContextInfo("value", value);
+    }
+    if (cache != null && id != null) {
+      if (cache.size() >= m_idCacheSize) {
+        cache.clear();
+      }
+      cache.put(value, id);
+    }
+    return id;
+  }
+
+  /**
+   * @return the cache of interned ids of the given id class or {@code null} if ids of this class are not cached
+   */
+  protected ConcurrentMap<Object, IId<?>> getIdCache(Class<? extends IId<?>> idClass) {
+    if (m_idCache == null || !isCacheable(idClass)) {
+      return null;
+    }
+    return m_idCache.computeIfAbsent(idClass, c -> new ConcurrentHashMap<>());
+  }
+
+  /**
+   * @return {@code true} if instances of the given id class are immutable values which may be shared
+   */
+  protected boolean isCacheable(Class<? extends IId<?>> idClass) {
+    return AbstractStringId.class.isAssignableFrom(idClass) || AbstractUuId.class.isAssignableFrom(idClass);
+  }
+
+  /**
+   * @return a handle of type <code>(Object)Object</code> invoking the given static method
+   */
+  protected MethodHandle toMethodHandle(Method method) {
+    try {
+      return MethodHandles.publicLookup().unreflect(method).asType(CREATE_METHOD_TYPE);
+    }
+    catch (IllegalAccessException e) {
+      throw new PlatformException("Cannot access method {}", method, e);
     }
   }
 
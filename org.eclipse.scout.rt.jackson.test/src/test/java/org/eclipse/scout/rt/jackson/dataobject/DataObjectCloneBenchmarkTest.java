@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.DataObjectHelper;
+import org.eclipse.scout.rt.dataobject.testing.TestingDataObjectHelper;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.Platform;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares cloning a data object by writing and reading JSON strings, JSON bytes and by {@link DataObjectHelper#clone}.
+ * The timings are only logged because they depend on the machine.
+ *
+ * @since 11
+ */
+@Ignore("Benchmark, run manually")
+public class DataObjectCloneBenchmarkTest {
+  private static final Logger LOG = LoggerFactory.getLogger(DataObjectCloneBenchmarkTest.class);
+
+  protected IBean<TestingDataObjectHelper> m_testDataObjectHelperRegistrationBackup;
+  protected JacksonDataObjectMapper m_mapper;
+
+  @Before
+  public void before() {
+    m_testDataObjectHelperRegistrationBackup = Platform.get().getBeanManager().getBean(TestingDataObjectHelper.class);
+    Platform.get().getBeanManager().unregisterBean(m_testDataObjectHelperRegistrationBackup);
+    m_mapper = BEANS.get(JacksonDataObjectMapper.class);
+  }
+
+  @After
+  public void after() {
+    Platform.get().getBeanManager().registerBean(new BeanMetaData(m_testDataObjectHelperRegistrationBackup));
+  }
+
+  @Test
+  public void testClone() {
+    TestComplexEntityDo testDo = BEANS.get(TestComplexEntityDo.class)
+        .withId("4d2abc01-afc0-49f2-9eee-a99878d49728")
+        .withStringAttribute("foo")
+        .withIntegerAttribute(42)
+        .withBigDecimalAttribute(new BigDecimal("1.23456789"))
+        .withDateAttribute(new Date(123456789))
+        .withStringListAttribute(Arrays.asList("a", "b", "c"))
+        .withItemAttribute(BEANS.get(TestItemDo.class).withId("item").withStringAttribute("bar"))
+        .withItemsAttribute(Arrays.asList(BEANS.get(TestItemDo.class).withId("item1"), BEANS.get(TestItemDo.class).withId("item2")));
+    DataObjectHelper helper = BEANS.get(DataObjectHelper.class);
+
+    int rounds = 2000;
+    long stringNanos = 0;
+    long bytesNanos = 0;
+    long copyNanos = 0;
+    for (int i = 0; i < rounds; i++) {
+      long t0 = System.nanoTime();
+      TestComplexEntityDo stringClone = m_mapper.readValue(m_mapper.writeValue(testDo), TestComplexEntityDo.class);
+      long t1 = System.nanoTime();
+      byte[] bytes = m_mapper.writeValueAsBytes(testDo);
+      TestComplexEntityDo bytesClone = m_mapper.readValue(bytes, 0, bytes.length, TestComplexEntityDo.class);
+      long t2 = System.nanoTime();
+      TestComplexEntityDo copy = helper.clone(testDo);
+      long t3 = System.nanoTime();
+      assertEquals(stringClone, bytesClone);
+      assertEquals(stringClone, copy);
+      stringNanos += t1 - t0;
+      bytesNanos += t2 - t1;
+      copyNanos += t3 - t2;
+    }
+    LOG.info("Clone of {} in {} rounds: JSON string {} ms, JSON bytes {} ms, direct copy {} ms", testDo.getClass().getSimpleName(), rounds,
+        TimeUnit.NANOSECONDS.toMillis(stringNanos), TimeUnit.NANOSECONDS.toMillis(bytesNanos), TimeUnit.NANOSECONDS.toMillis(copyNanos));
+  }
+}
@@ -18,6 +18,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -27,12 +28,14 @@ import java.util.UUID;
 import org.eclipse.scout.rt.dataobject.DataObjectHelper;
 import org.eclipse.scout.rt.dataobject.DoEntity;
 import org.eclipse.scout.rt.dataobject.DoEntityHolder;
+import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
 import org.eclipse.scout.rt.dataobject.testing.TestingDataObjectHelper;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.ITestBaseEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCustomImplementedEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithInterface1Do;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
 import org.eclipse.scout.rt.jackson.testing.DataObjectSerializationTestHelper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
@@ -117,6 +120,32 @@ public class JacksonDataObjectMapperTest {
     assertArrayEquals(expected.toByteArray(), actual.toByteArray());
   }
 
+  @Test
+  public void testReadWriteValueAsBytes() {
+    assertNull(m_mapper.writeValueAsBytes(null));
+    assertNull(m_mapper.readValue((byte[]) null, 0, 0, Object.class));
+    assertNull(m_mapper.readValueRaw((byte[]) null, 0, 0));
+
+    DoEntity entity = BEANS.get(DoEntity.class);
+    entity.put("foo", "b\u00e4r");
+    entity.put("baz", 42);
+    byte[] json = m_mapper.writeValueAsBytes(entity);
+    assertArrayEquals(m_mapper.writeValue(entity).getBytes(StandardCharsets.UTF_8), json);
+
+    // read from a slice of a larger buffer
+    byte[] buffer = new byte[json.length + 10];
+    System.arraycopy(json, 0, buffer, 5, json.length);
+    assertEquals(entity, m_mapper.readValue(buffer, 5, json.length, DoEntity.class));
+    IDataObject raw = m_mapper.readValueRaw(buffer, 5, json.length);
+    assertEquals(entity, raw);
+  }
+
+  @Test(expected = PlatformException.class)
+  public void testReadValueAsBytesException() {
+    byte[] json = "{\"foo\" : 1}".getBytes(StandardCharsets.UTF_8);
+    m_mapper.readValue(json, 0, json.length, BigDecimal.class);
+  }
+
   @Test(expected = PlatformException.class)
   public void testWriteValueException() {
     m_mapper.writeValue(new Object());
@@ -180,6 +209,36 @@ public class JacksonDataObjectMapperTest {
     assertEqualsWithComparisonFailure(testDo, holderClone.getValue());
   }
 
+  @Test
+  public void testDataObjectHelperCloneComplexDoEntity() {
+    TestComplexEntityDo testDo = createComplexEntity();
+    TestComplexEntityDo clone = BEANS.get(DataObjectHelper.class).clone(testDo);
+    assertNotSame(testDo, clone);
+    assertNotSame(testDo.getItemAttribute(), clone.getItemAttribute());
+    assertNotSame(testDo.getDateAttribute(), clone.getDateAttribute());
+    // the direct copy is equal to a copy created by serialization and deserialization
+    assertEqualsWithComparisonFailure(m_mapper.readValue(m_mapper.writeValue(testDo), TestComplexEntityDo.class), clone);
+  }
+
+  protected TestComplexEntityDo createComplexEntity() {
+    TestComplexEntityDo testDo = BEANS.get(TestComplexEntityDo.class);
+    testDo.id().set("4d2abc01-afc0-49f2-9eee-a99878d49728");
+    testDo.stringAttribute().set("foo");
+    testDo.integerAttribute().set(42);
+    testDo.longAttribute().set(123L);
+    testDo.floatAttribute().set(12.34f);
+    testDo.doubleAttribute().set(56.78);
+    testDo.bigDecimalAttribute().set(new BigDecimal("1.23456789"));
+    testDo.bigIntegerAttribute().set(new BigInteger("123456789"));
+    testDo.dateAttribute().set(new Date(123456789));
+    testDo.stringListAttribute().set(Arrays.asList("a", "b", "c"));
+    testDo.itemAttribute().set(BEANS.get(TestItemDo.class).withId("item").withStringAttribute("bar"));
+    testDo.itemsAttribute().set(Arrays.asList(BEANS.get(TestItemDo.class).withId("item1"), BEANS.get(TestItemDo.class).withId("item2")));
+    testDo.withUuidAttribute(UUID.fromString("298d64f9-821d-49fe-91fb-6fb9860d4950"));
+    testDo.withLocaleAttribute(Locale.forLanguageTag("de-CH"));
+    return testDo;
+  }
+
   @Test
   public void testCloneDoEntityWithInterface() throws Exception {
     DoEntityHolder<ITestBaseEntityDo> holder = new DoEntityHolder<>();
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.jackson.dataobject.id;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureStringId;
+import org.eclipse.scout.rt.jackson.dataobject.JacksonDataObjectMapper;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithIIdDo;
+import org.eclipse.scout.rt.jackson.dataobject.id.QualifiedIIdSerializationTest.QualifiedIIdSerializationTest_DataObjectDeserializers;
+import org.eclipse.scout.rt.jackson.dataobject.id.QualifiedIIdSerializationTest.QualifiedIIdSerializationTest_DataObjectMapKeyDeserializers;
+import org.eclipse.scout.rt.jackson.dataobject.id.QualifiedIIdSerializationTest.QualifiedIIdSerializationTest_DataObjectMapKeySerializers;
+import org.eclipse.scout.rt.jackson.dataobject.id.QualifiedIIdSerializationTest.QualifiedIIdSerializationTest_DataObjectSerializers;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures writing and reading a data object holding many qualified ids, using the serializers of
+ * {@link QualifiedIIdSerializationTest}. Only logs the timings, which depend on the machine.
+ *
+ * @since 11
+ */
+@Ignore("Benchmark, run manually")
+public class QualifiedIIdSerializationBenchmarkTest {
+  private static final Logger LOG = LoggerFactory.getLogger(QualifiedIIdSerializationBenchmarkTest.class);
+
+  protected final List<IBean<?>> m_beans = new ArrayList<>();
+
+  protected IDataObjectMapper m_dataObjectMapper;
+
+  @Before
+  public void before() {
+    m_beans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(QualifiedIIdSerializationTest_DataObjectSerializers.class)));
+    m_beans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(QualifiedIIdSerializationTest_DataObjectDeserializers.class)));
+    m_beans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(QualifiedIIdSerializationTest_DataObjectMapKeySerializers.class)));
+    m_beans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(QualifiedIIdSerializationTest_DataObjectMapKeyDeserializers.class)));
+
+    m_dataObjectMapper = new JacksonDataObjectMapper(); // create new instance not using BEANS#get because of serializer cache
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+    m_beans.clear();
+  }
+
+  @Test
+  public void testSerializeDeserialize() {
+    List<FixtureStringId> stringIds = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      stringIds.add(FixtureStringId.of("id" + i));
+    }
+    TestEntityWithIIdDo entity = BEANS.get(TestEntityWithIIdDo.class).withStringIds(stringIds);
+
+    int rounds = 20;
+    long serializeNanos = 0;
+    long deserializeNanos = 0;
+    for (int i = 0; i < rounds; i++) {
+      long t0 = System.nanoTime();
+      String json = m_dataObjectMapper.writeValue(entity);
+      long t1 = System.nanoTime();
+      TestEntityWithIIdDo marshalled = m_dataObjectMapper.readValue(json, TestEntityWithIIdDo.class);
+      long t2 = System.nanoTime();
+      assertEquals(stringIds, marshalled.getStringIds());
+      serializeNanos += t1 - t0;
+      deserializeNanos += t2 - t1;
+    }
+    LOG.info("{} qualified ids: serialization {} ms, deserialization {} ms (average of {} rounds)", stringIds.size(),
+        TimeUnit.NANOSECONDS.toMillis(serializeNanos / rounds), TimeUnit.NANOSECONDS.toMillis(deserializeNanos / rounds), rounds);
+  }
+}
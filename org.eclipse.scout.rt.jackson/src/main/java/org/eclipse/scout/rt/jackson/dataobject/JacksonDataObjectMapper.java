@@ -62,6 +62,19 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     }
   }
 
+  @Override
+  public <T> T readValue(byte[] bytes, int offset, int length, Class<T> valueType) {
+    if (bytes == null) {
+      return null;
+    }
+    try {
+      return m_objectMapper.get().readValue(bytes, offset, length, valueType);
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
   @Override
   public IDataObject readValueRaw(InputStream inputStream) {
     Assertions.assertNotNull(inputStream, "Input stream must not be null");
@@ -86,6 +99,19 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     }
   }
 
+  @Override
+  public IDataObject readValueRaw(byte[] bytes, int offset, int length) {
+    if (bytes == null) {
+      return null;
+    }
+    try {
+      return m_rawObjectMapper.get().readValue(bytes, offset, length, IDataObject.class); // use IDataObject as fixed valueType
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
   @Override
   public void writeValue(OutputStream outputStream, Object value) {
     Assertions.assertNotNull(outputStream, "Output stream must not be null");
@@ -113,6 +139,19 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     }
   }
 
+  @Override
+  public byte[] writeValueAsBytes(Object value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return m_objectMapper.get().writeValueAsBytes(value);
+    }
+    catch (JsonProcessingException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
   /**
    * <b>Note</b> This method is exposed only for internal framework usage. It is recommended to use the
    * {@link IDataObjectMapper} representation of the object mapper and not to use {@link ObjectMapper} instances
@@ -64,6 +64,21 @@ public class JsonDataObjectMarshallerTest {
     assertNull(BEANS.get(JsonDataObjectMarshaller.class).unmarshall(jsonText, context));
   }
 
+  @Test
+  public void testAsBytes() {
+    Map<String, String> context = new HashMap<>();
+    JsonDataObjectAsBytesMarshaller marshaller = BEANS.get(JsonDataObjectAsBytesMarshaller.class);
+    assertEquals(IMarshaller.MESSAGE_TYPE_BYTES, marshaller.getMessageType());
+
+    JsonMarshallerTestEntity testee = new JsonMarshallerTestEntity().withField1("\u00e4\u00f6\u00fc").withField2(42);
+    Object bytes = marshaller.marshall(testee, context);
+    MatcherAssert.assertThat(bytes, instanceOf(byte[].class));
+    assertEquals(testee, marshaller.unmarshall(bytes, context));
+
+    assertNull(marshaller.marshall(null, context));
+    assertNull(marshaller.unmarshall(null, context));
+  }
+
   @Test
   public void testNonDataObject() {
     Assert.assertThrows(AssertionException.class, () -> BEANS.get(JsonDataObjectMarshaller.class).marshall("foo", null));
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.mom.api;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
 import org.eclipse.scout.rt.platform.BEANS;
@@ -141,6 +142,11 @@ public abstract class AbstractMomTransport implements IMomTransport {
     getDelegate().publish(destination, transferObject, input);
   }
 
+  @Override
+  public <DTO> CompletableFuture<Void> publishAsync(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) {
+    return getDelegate().publishAsync(destination, transferObject, input);
+  }
+
   @Override
   public <DTO> ISubscription subscribe(final IDestination<DTO> destination, final IMessageListener<DTO> listener, final SubscribeInput input) {
     return getDelegate().subscribe(destination, listener, input);
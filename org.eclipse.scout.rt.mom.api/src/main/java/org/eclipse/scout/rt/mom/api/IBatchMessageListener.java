@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.api;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+
+/**
+ * Listener to receive messages in batches of up to {@link SubscribeInput#getMaxBatchSize()} messages.
+ * <p>
+ * In {@link SubscribeInput#ACKNOWLEDGE_TRANSACTED} mode, all messages of a batch are received in one transaction which
+ * is committed once after {@link #onMessages(List)} returned.
+ *
+ * @see IMom#subscribe(IDestination, IMessageListener, SubscribeInput)
+ * @since 11
+ */
+@FunctionalInterface
+public interface IBatchMessageListener<DTO> extends IMessageListener<DTO> {
+
+  /**
+   * Method invoked upon the receive of one or more messages, and is invoked in the {@link RunContext} as specified at
+   * registration.
+   */
+  void onMessages(List<IMessage<DTO>> messages);
+
+  @Override
+  default void onMessage(IMessage<DTO> message) {
+    onMessages(Collections.singletonList(message));
+  }
+}
@@ -10,6 +10,7 @@
  */
 package org.eclipse.scout.rt.mom.api;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
@@ -80,6 +81,32 @@ public interface IMom {
    */
   <DTO> void publish(IDestination<DTO> destination, DTO transferObject, PublishInput input);
 
+  /**
+   * Publishes the given message to the given destination without blocking the calling thread, unless too many messages
+   * are pending (backpressure).
+   * <p>
+   * The message is marshalled and sent in the background, possibly together with other messages in one transaction.
+   * Therefore, the transfer object must not be modified after calling this method. Transacted publishing as part of the
+   * current transaction is not supported.
+   * <p>
+   * The default implementation publishes the message synchronously.
+   *
+   * @return future which is completed once the message was sent, or completed exceptionally if sending failed
+   * @see #publish(IDestination, Object, PublishInput)
+   * @since 11
+   */
+  default <DTO> CompletableFuture<Void> publishAsync(IDestination<DTO> destination, DTO transferObject, PublishInput input) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    try {
+      publish(destination, transferObject, input);
+      future.complete(null);
+    }
+    catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
   /**
    * Subscribes the given listener to receive messages sent to the given destination.
    *
@@ -11,6 +11,7 @@
 package org.eclipse.scout.rt.mom.api;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
@@ -180,6 +181,25 @@ public final class MOM {
     BEANS.get(transport).publish(destination, transferObject, input != null ? input : newPublishInput());
   }
 
+  /**
+   * Publishes the given message to the given destination without blocking the calling thread.
+   *
+   * @param transport
+   *          specifies the MOM used as transport to publish the message, e.g. {@link ClusterMom}.
+   * @param destination
+   *          specifies the target of the message, and is either a queue (P2P) or topic (pub/sub).
+   * @param transferObject
+   *          specifies the transfer object to be sent to the destination. It must not be modified afterwards.
+   * @param input
+   *          specifies how to publish the message, or <code>null</code> for default messaging settings.
+   * @return future which is completed once the message was sent
+   * @see IMom#publishAsync(IDestination, Object, PublishInput)
+   * @since 11
+   */
+  public static <DTO> CompletableFuture<Void> publishAsync(final Class<? extends IMomTransport> transport, final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) {
+    return BEANS.get(transport).publishAsync(destination, transferObject, input != null ? input : newPublishInput());
+  }
+
   /**
    * Subscribes the given listener to receive messages sent to the given destination.
    * <p>
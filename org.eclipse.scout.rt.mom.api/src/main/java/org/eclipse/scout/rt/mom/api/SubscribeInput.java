@@ -56,6 +56,9 @@ public class SubscribeInput {
   private String m_selector;
   private boolean m_localReceipt = true;
   private String m_durableSubscriptionName;
+  private int m_consumerCount = 1;
+  private int m_maxBatchSize = 1;
+  private long m_maxBatchWaitMillis;
 
   public int getAcknowledgementMode() {
     return m_acknowledgementMode;
@@ -147,4 +150,49 @@ public class SubscribeInput {
     m_durableSubscriptionName = durableSubscriptionName;
     return this;
   }
+
+  public int getConsumerCount() {
+    return m_consumerCount;
+  }
+
+  /**
+   * Specifies the number of consumers receiving messages in parallel. Each consumer uses its own session and receiving
+   * thread. The default is <code>1</code>.
+   * <p>
+   * More than one consumer is only supported for queues, since every consumer of a topic would receive each message.
+   * Use this to drain high-volume queues in {@link #ACKNOWLEDGE_AUTO_SINGLE_THREADED} or {@link #ACKNOWLEDGE_TRANSACTED}
+   * mode.
+   *
+   * @since 11
+   */
+  public SubscribeInput withConsumerCount(int consumerCount) {
+    m_consumerCount = consumerCount;
+    return this;
+  }
+
+  public int getMaxBatchSize() {
+    return m_maxBatchSize;
+  }
+
+  public long getMaxBatchWaitMillis() {
+    return m_maxBatchWaitMillis;
+  }
+
+  /**
+   * Specifies that messages are delivered in batches to an {@link IBatchMessageListener}. The default is a batch size
+   * of <code>1</code>.
+   * <p>
+   * After the first message of a batch is received, the consumer waits at most <code>maxBatchWaitMillis</code> for
+   * further messages. Messages which are already available are added to the batch until it is full. In
+   * {@link #ACKNOWLEDGE_TRANSACTED} mode a batch is committed at once.
+   * <p>
+   * This is not supported for 'request-reply' messaging.
+   *
+   * @since 11
+   */
+  public SubscribeInput withBatch(int maxBatchSize, long maxBatchWaitMillis) {
+    m_maxBatchSize = maxBatchSize;
+    m_maxBatchWaitMillis = maxBatchWaitMillis;
+    return this;
+  }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.api.marshaller;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.assertType;
+
+import java.util.Map;
+
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.Bean;
+
+/**
+ * This marshaller allows to transport an {@link IDataObject} in its UTF-8 encoded JSON form as binary data across the
+ * network. Unlike {@link JsonDataObjectMarshaller}, the data object is serialized directly into bytes and deserialized
+ * from bytes without creating an intermediate string.
+ *
+ * @see IMarshaller#MESSAGE_TYPE_BYTES
+ * @see IDataObjectMapper#writeValueAsBytes(Object)
+ * @since 11
+ */
+@Bean
+public class JsonDataObjectAsBytesMarshaller extends JsonDataObjectMarshaller {
+
+  @Override
+  public Object marshall(final Object transferObject, final Map<String, String> context) {
+    return m_dataObjectMapper.writeValueAsBytes(assertType(transferObject, IDataObject.class));
+  }
+
+  @Override
+  public Object unmarshall(final Object data, final Map<String, String> context) {
+    final byte[] jsonBytes = assertType(data, byte[].class);
+    if (jsonBytes == null) {
+      return null;
+    }
+    return m_dataObjectMapper.readValue(jsonBytes, 0, jsonBytes.length, IDataObject.class);
+  }
+
+  @Override
+  public int getMessageType() {
+    return MESSAGE_TYPE_BYTES;
+  }
+}
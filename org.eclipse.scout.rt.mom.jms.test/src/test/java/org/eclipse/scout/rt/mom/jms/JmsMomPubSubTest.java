@@ -19,6 +19,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -30,6 +35,7 @@ import org.eclipse.scout.rt.dataobject.DoEntity;
 import org.eclipse.scout.rt.dataobject.DoEntityBuilder;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
 import org.eclipse.scout.rt.dataobject.value.StringValueDo;
+import org.eclipse.scout.rt.mom.api.IBatchMessageListener;
 import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
 import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
@@ -44,13 +50,18 @@ import org.eclipse.scout.rt.mom.api.marshaller.JsonDataObjectMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.JsonMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.ObjectMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.TextMarshaller;
+import org.eclipse.scout.rt.mom.jms.internal.IPublishStats;
+import org.eclipse.scout.rt.mom.jms.internal.ISubscriptionStats;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.platform.Replace;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.IDisposable;
 import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
 import org.eclipse.scout.rt.testing.platform.runner.Times;
@@ -496,6 +507,22 @@ public class JmsMomPubSubTest extends AbstractJmsMomTest {
     assertEquals("cid:abc", cid.get());
   }
 
+  @IgnoreBean
+  @Replace
+  public static class FixtureMomWithProducerPool extends FixtureMom {
+
+    public FixtureMomWithProducerPool(AbstractJmsMomTestParameter parameter) {
+      super(parameter);
+    }
+
+    @Override
+    protected Map<String, String> getConfiguredEnvironment() {
+      final Map<String, String> env = super.getConfiguredEnvironment();
+      env.put(JmsMomImplementor.JMS_PRODUCER_POOL_SIZE, "2");
+      return env;
+    }
+  }
+
   public static class Person implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -780,6 +807,162 @@ public class JmsMomPubSubTest extends AbstractJmsMomTest {
     }
   }
 
+  @Test
+  public void testPublishAsync() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testPublishAsync", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    int msgCount = 50;
+    final Set<String> received = ConcurrentHashMap.newKeySet();
+    final CountDownLatch latch = new CountDownLatch(msgCount);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> {
+      if (received.add(message.getTransferObject())) {
+        latch.countDown();
+      }
+    }));
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < msgCount; i++) {
+      futures.add(MOM.publishAsync(FixtureMom.class, queue, "message-" + i, null));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    assertTrue("messages expected to be received", latch.await(10, TimeUnit.SECONDS));
+    assertEquals(msgCount, received.size());
+
+    IPublishStats stats = ((JmsMomImplementor) BEANS.get(FixtureMom.class).getImplementor()).getAsyncPublishStats();
+    assertEquals(msgCount, stats.publishedMessages());
+    assertEquals(0, stats.failedMessages());
+    assertEquals(0, stats.pendingMessages());
+    assertTrue(stats.flushedBatches() > 0 && stats.flushedBatches() <= msgCount);
+  }
+
+  @Test
+  public void testPublishWithProducerPool() throws InterruptedException {
+    installMom(FixtureMomWithProducerPool.class);
+    // J2EE implementor does not pool its sessions
+    Assume.assumeFalse(J2eeJmsMomImplementor.class.isAssignableFrom(m_testParameter.getImplementor()));
+    IDestination<String> queue = MOM.newDestination("test/mom/testPublishWithProducerPool", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    int msgCount = 20;
+    final Set<String> received = ConcurrentHashMap.newKeySet();
+    final CountDownLatch latch = new CountDownLatch(msgCount);
+    m_disposables.add(MOM.subscribe(FixtureMomWithProducerPool.class, queue, message -> {
+      if (received.add(message.getTransferObject())) {
+        latch.countDown();
+      }
+    }));
+
+    List<IFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      final int publisher = i;
+      futures.add(Jobs.schedule(() -> {
+        for (int j = 0; j < msgCount / 4; j++) {
+          MOM.publish(FixtureMomWithProducerPool.class, queue, "message-" + publisher + "-" + j);
+        }
+        return null;
+      }, Jobs.newInput()));
+    }
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+    }
+
+    assertTrue("messages expected to be received", latch.await(10, TimeUnit.SECONDS));
+    assertEquals(msgCount, received.size());
+
+    JmsProducerPool producerPool = ((JmsMomImplementor) BEANS.get(FixtureMomWithProducerPool.class).getImplementor()).m_producerPool;
+    assertEquals(2, producerPool.getMaxIdlePerDestination());
+    int idle = producerPool.m_idle.get(queue).size();
+    assertTrue("idle sessions expected to be pooled: " + idle, idle >= 1 && idle <= 2);
+  }
+
+  @Test
+  public void testConcurrentConsumers() throws InterruptedException {
+    installMom();
+    IDestination<Object> queue = MOM.newDestination("test/mom/testConcurrentConsumers", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    // 1. Subscribe with 3 single threaded consumers
+    final BlockingCountDownLatch latch = new BlockingCountDownLatch(3, 3, TimeUnit.SECONDS);
+    ISubscription subscription = MOM.subscribe(FixtureMom.class, queue, message -> {
+      try {
+        latch.countDownAndBlock(1, TimeUnit.MINUTES); // timeout must be greater than the default latch timeout
+      }
+      catch (InterruptedException e) {
+        throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+      }
+    }, MOM.newSubscribeInput()
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED)
+        .withConsumerCount(3));
+    m_disposables.add(subscription);
+
+    // 2. Publish some messages, they are distributed among the consumers
+    for (int i = 0; i < 10; i++) {
+      MOM.publish(FixtureMom.class, queue, "hello");
+    }
+
+    try {
+      assertTrue("messages expected to be consumed by concurrent consumers", latch.await());
+    }
+    finally {
+      latch.unblock();
+    }
+
+    List<ISubscriptionStats> stats = ((JmsSubscription) subscription).getConsumerStats();
+    assertEquals(3, stats.size());
+    for (ISubscriptionStats consumerStats : stats) {
+      assertNotNull(consumerStats);
+      assertTrue(consumerStats.receivedNonNullMessages() > 0);
+      assertTrue(consumerStats.throughput() > 0);
+      assertTrue(consumerStats.maxLagMillis() >= consumerStats.lastLagMillis());
+    }
+  }
+
+  @Test
+  public void testBatchedTransactedConsumption() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testBatchedTransactedConsumption", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    // 1. Publish some messages
+    int msgCount = 10;
+    for (int i = 0; i < msgCount; i++) {
+      MOM.publish(FixtureMom.class, queue, "message-" + i);
+    }
+
+    // 2. Consume the messages in batches, reject the first batch (rollback)
+    final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    final Set<String> received = ConcurrentHashMap.newKeySet();
+    final CountDownLatch latch = new CountDownLatch(msgCount);
+    IBatchMessageListener<String> listener = messages -> {
+      batchSizes.add(messages.size());
+      if (batchSizes.size() == 1) {
+        ITransaction.CURRENT.get().rollback();
+        return;
+      }
+      for (IMessage<String> message : messages) {
+        if (received.add(message.getTransferObject())) {
+          latch.countDown();
+        }
+      }
+    };
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, listener, MOM.newSubscribeInput()
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED)
+        .withBatch(msgCount, 500)));
+
+    // 3. Verify that all messages were received, including the ones of the rejected batch
+    assertTrue("messages expected to be received", latch.await(10, TimeUnit.SECONDS));
+    assertEquals(msgCount, received.size());
+    assertTrue("messages expected to be received in batches", batchSizes.stream().anyMatch(size -> size > 1));
+    assertTrue(batchSizes.stream().allMatch(size -> size <= msgCount));
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testBatchRequiresBatchListener() {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testBatchRequiresBatchListener", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> {
+    }, MOM.newSubscribeInput().withBatch(10, 100)));
+  }
+
   @Test
   public void testMessageSelector() throws InterruptedException {
     installMom();
@@ -10,6 +10,8 @@
  */
 package org.eclipse.scout.rt.mom.jms;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import javax.jms.JMSException;
@@ -87,11 +89,11 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
       }
 
       final Session transactedSession;
-      final Message message;
+      final List<Message> messages;
       try {
         transactedSession = m_sessionProvider.getSession();
-        message = m_sessionProvider.receive(m_subscribeInput, m_receiveTimeoutMillis);
-        if (message == null) {
+        messages = receiveMessages();
+        if (messages.isEmpty()) {
           // consumer closed or connection failure, go to start of while loop
           continue;
         }
@@ -108,8 +110,7 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
       }
 
       try {
-        m_mom.getMessageHandler().handleIncoming(m_destination, message, m_marshaller);
-        onJmsMessage(message);
+        dispatchMessages(messages);
       }
       catch (Exception | ThreadInterruptedError e) {
         //not catching ThreadInterruptedError would exit the event loop in case of accidential thread interruption in the downstream call to handleIncoming
@@ -128,6 +129,30 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
     LOG.debug("JMS MessageConsumer for {} was closed", m_destination);
   }
 
+  /**
+   * Receives the messages processed by one iteration of the consumer loop. By default, this is a single message.
+   *
+   * @return the received messages, empty if the consumer was closed or the connection failed
+   * @since 11
+   */
+  protected List<Message> receiveMessages() throws JMSException {
+    Message message = m_sessionProvider.receive(m_subscribeInput, m_receiveTimeoutMillis);
+    return message != null ? Collections.singletonList(message) : Collections.emptyList();
+  }
+
+  /**
+   * Passes the messages received by {@link #receiveMessages()} to the message handler and to
+   * {@link #onJmsMessage(Message)}. If an exception is thrown, a transacted session is rolled back.
+   *
+   * @since 11
+   */
+  protected void dispatchMessages(List<Message> messages) throws JMSException {
+    for (Message message : messages) {
+      m_mom.getMessageHandler().handleIncoming(m_destination, message, m_marshaller);
+      onJmsMessage(message);
+    }
+  }
+
   /**
    * Make sure that a scout JMS-Transaction-Member that is being initialized and not yet attached to the
    * {@link ITransaction} is rollbacked in case of error.
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+import org.eclipse.scout.rt.mom.api.IBatchMessageListener;
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IMessage;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Consumer delivering messages in batches to an {@link IBatchMessageListener}.
+ *
+ * @see SubscribeInput#withBatch(int, long)
+ * @since 11
+ */
+public class BatchMessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchMessageConsumerJob.class);
+
+  protected final IBatchMessageListener<DTO> m_listener;
+
+  public BatchMessageConsumerJob(JmsMomImplementor mom, IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IBatchMessageListener<DTO> listener, SubscribeInput input, long receiveTimeout) {
+    super(mom, sessionProvider, destination, input, receiveTimeout);
+    m_listener = listener;
+  }
+
+  /**
+   * Blocks until the first message is received, then collects further messages until the batch is full or no message
+   * arrived within {@link SubscribeInput#getMaxBatchWaitMillis()}. Messages which are already available are added even
+   * if the wait time has elapsed.
+   *
+   * @return the received messages, empty if the consumer was closed
+   */
+  @Override
+  protected List<Message> receiveMessages() throws JMSException {
+    Message first = m_sessionProvider.receive(m_subscribeInput, m_receiveTimeoutMillis);
+    if (first == null) {
+      return Collections.emptyList();
+    }
+    int maxBatchSize = Math.max(1, m_subscribeInput.getMaxBatchSize());
+    List<Message> messages = new ArrayList<>(maxBatchSize);
+    messages.add(first);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_subscribeInput.getMaxBatchWaitMillis());
+    while (messages.size() < maxBatchSize) {
+      long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      Message message;
+      try {
+        // 0 would block without timeout
+        message = m_sessionProvider.receive(m_subscribeInput, Math.max(remainingMillis, 1L));
+      }
+      catch (JMSException e) {
+        // deliver the messages already received, the failure reoccurs upon the next receive
+        LOG.debug("Failed to receive further messages of batch for {}", m_destination, e);
+        break;
+      }
+      if (message == null) {
+        break;
+      }
+      messages.add(message);
+    }
+    return messages;
+  }
+
+  /**
+   * Passes all messages to the message handler before the listener is invoked once for the whole batch.
+   */
+  @Override
+  protected void dispatchMessages(List<Message> messages) throws JMSException {
+    for (Message message : messages) {
+      m_mom.getMessageHandler().handleIncoming(m_destination, message, m_marshaller);
+    }
+    onJmsMessages(messages);
+  }
+
+  @Override
+  protected void onJmsMessage(Message jmsMessage) throws JMSException {
+    onJmsMessages(Collections.singletonList(jmsMessage));
+  }
+
+  protected void onJmsMessages(final List<Message> jmsMessages) throws JMSException {
+    if (isSingleThreaded() || isTransacted()) {
+      handleMessagesInRunContext(jmsMessages);
+    }
+    else {
+      Jobs.schedule(() -> handleMessagesInRunContext(jmsMessages), m_mom.newJobInput().withName("Receiving JMS messages [dest={}]", m_destination));
+    }
+  }
+
+  /**
+   * Invokes the listener in one {@link org.eclipse.scout.rt.platform.context.RunContext}, so that all messages of the
+   * batch are committed at once in transacted mode.
+   */
+  protected void handleMessagesInRunContext(final List<Message> jmsMessages) throws JMSException {
+    final List<IMessage<DTO>> messages = new ArrayList<>(jmsMessages.size());
+    for (Message jmsMessage : jmsMessages) {
+      final JmsMessageReader<DTO> messageReader = JmsMessageReader.newInstance(jmsMessage, m_marshaller);
+      messages.add(messageReader.readMessage());
+    }
+
+    createRunContext()
+        .run(() -> {
+          try {
+            m_listener.onMessages(messages);
+          }
+          catch (Exception e) {
+            throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+                .withContextInfo("messages", messages.size());
+          }
+        });
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.Session;
+
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IMom;
+import org.eclipse.scout.rt.mom.api.PublishInput;
+import org.eclipse.scout.rt.mom.jms.internal.IPublishStats;
+import org.eclipse.scout.rt.mom.jms.internal.JmsPublishStats;
+import org.eclipse.scout.rt.platform.context.CorrelationId;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes messages in the background (see {@link IMom#publishAsync(IDestination, Object, PublishInput)}).
+ * <p>
+ * Messages are queued and sent by a single job. The messages arriving within the flush window (up to the maximum batch
+ * size) are sent in one transacted session and committed at once. If the commit of a batch fails, its messages are
+ * sent again one by one so that only the failing messages are reported as failed.
+ * <p>
+ * The queue is bounded: if it is full, the publishing thread blocks until there is space again or the maximum blocking
+ * time elapsed (backpressure).
+ *
+ * @since 11
+ */
+public class JmsAsyncPublisher implements IRunnable {
+  private static final Logger LOG = LoggerFactory.getLogger(JmsAsyncPublisher.class);
+
+  protected static final long IDLE_POLL_MILLIS = 1000L;
+
+  protected final JmsMomImplementor m_mom;
+  protected final BlockingQueue<P_PendingMessage> m_queue;
+  protected final long m_flushWindowMillis;
+  protected final int m_maxBatchSize;
+  protected final long m_maxBlockMillis;
+  protected final JmsPublishStats m_stats;
+
+  protected volatile boolean m_closed;
+  protected IFuture<Void> m_worker;
+
+  /**
+   * @param queueCapacity
+   *          maximum number of pending messages
+   * @param flushWindowMillis
+   *          time to wait for further messages before a batch is sent
+   * @param maxBatchSize
+   *          maximum number of messages sent in one transaction
+   * @param maxBlockMillis
+   *          maximum time a publishing thread waits if the queue is full
+   */
+  public JmsAsyncPublisher(JmsMomImplementor mom, int queueCapacity, long flushWindowMillis, int maxBatchSize, long maxBlockMillis) {
+    m_mom = mom;
+    m_queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    m_flushWindowMillis = Math.max(0, flushWindowMillis);
+    m_maxBatchSize = Math.max(1, maxBatchSize);
+    m_maxBlockMillis = Math.max(0, maxBlockMillis);
+    m_stats = new JmsPublishStats(m_queue);
+  }
+
+  public IPublishStats getStats() {
+    return m_stats;
+  }
+
+  /**
+   * Starts the job sending the queued messages.
+   */
+  public synchronized void start() {
+    if (m_worker == null) {
+      m_worker = Jobs.schedule(this, m_mom.newJobInput().withName("JMS async publisher"));
+    }
+  }
+
+  public <DTO> CompletableFuture<Void> publish(IDestination<DTO> destination, DTO transferObject, PublishInput input) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    if (m_closed) {
+      future.completeExceptionally(new ProcessingException("Asynchronous publisher is closed"));
+      return future;
+    }
+    P_PendingMessage message = new P_PendingMessage(destination, transferObject, input, CorrelationId.CURRENT.get(), future);
+    try {
+      if (!m_queue.offer(message, m_maxBlockMillis, TimeUnit.MILLISECONDS)) {
+        m_stats.notifyFailed();
+        future.completeExceptionally(new ProcessingException("Too many pending messages [max={}]", m_queue.remainingCapacity() + m_queue.size()));
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ThreadInterruptedError("Interrupted while waiting to publish a message", e);
+    }
+    if (m_closed && isWorkerDone()) {
+      // closed concurrently, nobody sends the message anymore
+      failPending();
+    }
+    return future;
+  }
+
+  protected synchronized boolean isWorkerDone() {
+    return m_worker == null || m_worker.isDone();
+  }
+
+  @Override
+  public void run() throws Exception {
+    IJmsSessionProvider sessionProvider = null;
+    try {
+      sessionProvider = m_mom.createSessionProvider(null, true);
+      while (true) {
+        P_PendingMessage first;
+        try {
+          // once closed, the pending messages are sent without waiting for new ones
+          first = m_closed ? m_queue.poll() : m_queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) { // NOSONAR
+          first = null;
+        }
+        if (first == null) {
+          if (m_closed || IFuture.CURRENT.get().isCancelled()) {
+            break;
+          }
+          continue;
+        }
+        flush(sessionProvider, collectBatch(first));
+      }
+    }
+    finally {
+      if (sessionProvider != null) {
+        sessionProvider.close();
+      }
+      failPending();
+    }
+  }
+
+  protected List<P_PendingMessage> collectBatch(P_PendingMessage first) {
+    List<P_PendingMessage> batch = new ArrayList<>(Math.min(m_maxBatchSize, 64));
+    batch.add(first);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_flushWindowMillis);
+    while (batch.size() < m_maxBatchSize) {
+      P_PendingMessage message = m_queue.poll();
+      if (message == null) {
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0 || m_closed) {
+          break;
+        }
+        try {
+          message = m_queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+        }
+        catch (InterruptedException e) { // NOSONAR
+          break;
+        }
+        if (message == null) {
+          break;
+        }
+      }
+      batch.add(message);
+    }
+    return batch;
+  }
+
+  protected void flush(IJmsSessionProvider sessionProvider, List<P_PendingMessage> batch) {
+    try {
+      Session session = sessionProvider.getSession();
+      try {
+        for (P_PendingMessage message : batch) {
+          send(sessionProvider, message);
+        }
+        session.commit();
+      }
+      catch (JMSException | RuntimeException e) {
+        rollback(session);
+        throw e;
+      }
+    }
+    catch (JMSException | RuntimeException e) {
+      if (batch.size() > 1) {
+        LOG.debug("Failed to publish batch of {} messages, publishing them one by one", batch.size(), e);
+        for (P_PendingMessage message : batch) {
+          flush(sessionProvider, Collections.singletonList(message));
+        }
+      }
+      else {
+        m_stats.notifyFailed();
+        batch.get(0).m_future.completeExceptionally(e);
+      }
+      return;
+    }
+
+    m_stats.notifyBatchFlushed();
+    long now = System.nanoTime();
+    for (P_PendingMessage message : batch) {
+      m_stats.notifyPublished(now - message.m_enqueuedNanos);
+      message.m_future.complete(null);
+    }
+  }
+
+  protected void send(IJmsSessionProvider sessionProvider, P_PendingMessage message) throws JMSException {
+    // the correlation id of the publishing thread is written to the message
+    String previousCorrelationId = CorrelationId.CURRENT.get();
+    CorrelationId.CURRENT.set(message.m_correlationId);
+    try {
+      @SuppressWarnings("unchecked")
+      IDestination<Object> destination = (IDestination<Object>) message.m_destination;
+      m_mom.send(sessionProvider, destination, message.m_transferObject, message.m_input);
+    }
+    finally {
+      CorrelationId.CURRENT.set(previousCorrelationId);
+    }
+  }
+
+  protected void rollback(Session session) {
+    try {
+      session.rollback();
+    }
+    catch (JMSException | RuntimeException e) {
+      LOG.warn("Failed to rollback transacted session [session={}]", session, e);
+    }
+  }
+
+  protected void failPending() {
+    P_PendingMessage message;
+    while ((message = m_queue.poll()) != null) {
+      m_stats.notifyFailed();
+      message.m_future.completeExceptionally(new ProcessingException("Asynchronous publisher is closed"));
+    }
+  }
+
+  /**
+   * Stops accepting messages and waits until the pending messages are sent.
+   */
+  public void close(long timeoutMillis) {
+    m_closed = true;
+    IFuture<Void> worker;
+    synchronized (this) {
+      worker = m_worker;
+    }
+    if (worker == null) {
+      failPending();
+      return;
+    }
+    try {
+      worker.awaitDone(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Pending messages were not sent within {} ms", timeoutMillis, e);
+      worker.cancel(true);
+    }
+  }
+
+  protected static class P_PendingMessage {
+    protected final IDestination<?> m_destination;
+    protected final Object m_transferObject;
+    protected final PublishInput m_input;
+    protected final String m_correlationId;
+    protected final CompletableFuture<Void> m_future;
+    protected final long m_enqueuedNanos = System.nanoTime();
+
+    protected P_PendingMessage(IDestination<?> destination, Object transferObject, PublishInput input, String correlationId, CompletableFuture<Void> future) {
+      m_destination = destination;
+      m_transferObject = transferObject;
+      m_input = input;
+      m_correlationId = correlationId;
+      m_future = future;
+    }
+  }
+}
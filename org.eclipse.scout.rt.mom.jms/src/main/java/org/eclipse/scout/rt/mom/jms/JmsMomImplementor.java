@@ -13,12 +13,15 @@ package org.eclipse.scout.rt.mom.jms;
 import static org.eclipse.scout.rt.mom.jms.IJmsMomProperties.JMS_PROP_REPLY_ID;
 import static org.eclipse.scout.rt.platform.util.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
@@ -40,6 +43,7 @@ import javax.naming.InitialContext;
 import javax.naming.NamingException;
 
 import org.eclipse.scout.rt.mom.api.DestinationConfigPropertyParser;
+import org.eclipse.scout.rt.mom.api.IBatchMessageListener;
 import org.eclipse.scout.rt.mom.api.IBiDestination;
 import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
@@ -54,6 +58,7 @@ import org.eclipse.scout.rt.mom.api.PublishInput;
 import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.TextMarshaller;
+import org.eclipse.scout.rt.mom.jms.internal.IPublishStats;
 import org.eclipse.scout.rt.mom.jms.internal.JmsConnectionWrapper;
 import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderWrapper;
 import org.eclipse.scout.rt.platform.BEANS;
@@ -128,6 +133,38 @@ public class JmsMomImplementor implements IMomImplementor {
    */
   public static final String JMS_REQUEST_CANCELLATION_MESSAGE_CONSUMER_JOB_RECEIVE_TIMEOUT = "scout.mom.jms.requestCancellationMessageConsumerJobReceiveTimeout";
 
+  /**
+   * Key to set the maximum number of idle producer sessions kept per destination for non-transactional publishing (see
+   * {@link JmsProducerPool}). The default is <code>0</code>, i.e. pooling is disabled and every publish uses its own
+   * session. Idle sessions are kept until the MOM is destroyed, so only enable pooling if messages are published to a
+   * limited set of long-lived destinations.
+   */
+  public static final String JMS_PRODUCER_POOL_SIZE = "scout.mom.jms.producerPoolSize";
+
+  /**
+   * Key to set the maximum number of messages waiting to be published asynchronously (see {@link JmsAsyncPublisher}).
+   * The default is <code>10000</code>.
+   */
+  public static final String JMS_ASYNC_PUBLISH_QUEUE_CAPACITY = "scout.mom.jms.asyncPublishQueueCapacity";
+
+  /**
+   * Key to set the time in milliseconds to wait for further messages before a batch of asynchronously published
+   * messages is committed. The default is <code>10</code>.
+   */
+  public static final String JMS_ASYNC_PUBLISH_FLUSH_WINDOW = "scout.mom.jms.asyncPublishFlushWindow";
+
+  /**
+   * Key to set the maximum number of asynchronously published messages committed in one transaction. The default is
+   * <code>100</code>.
+   */
+  public static final String JMS_ASYNC_PUBLISH_MAX_BATCH_SIZE = "scout.mom.jms.asyncPublishMaxBatchSize";
+
+  /**
+   * Key to set the maximum time in milliseconds a thread publishing asynchronously is blocked if the queue is full. The
+   * default is <code>5000</code>.
+   */
+  public static final String JMS_ASYNC_PUBLISH_MAX_BLOCK_TIME = "scout.mom.jms.asyncPublishMaxBlockTime";
+
   protected final String m_momUid = UUID.randomUUID().toString();
 
   // init -> thread-safety: only set in init method
@@ -142,6 +179,8 @@ public class JmsMomImplementor implements IMomImplementor {
   protected IDestination<?> m_requestReplyCancellationTopic;
   protected IMarshaller m_defaultMarshaller;
   protected IJmsMessageHandler m_messageHandler;
+  protected JmsProducerPool m_producerPool;
+  protected JmsAsyncPublisher m_asyncPublisher;
   // end init
 
   protected ISubscription m_requestCancellationSubscription;
@@ -172,6 +211,8 @@ public class JmsMomImplementor implements IMomImplementor {
       m_defaultMarshaller = createDefaultMarshaller(properties);
       m_messageHandler = createMessageHandler(properties);
       Assertions.assertNotNull(m_messageHandler);
+      m_producerPool = createProducerPool(properties);
+      m_asyncPublisher = createAsyncPublisher(properties);
 
       initRequestReply(properties);
 
@@ -188,6 +229,19 @@ public class JmsMomImplementor implements IMomImplementor {
     }
   }
 
+  protected JmsProducerPool createProducerPool(final Map<Object, Object> properties) {
+    int maxIdlePerDestination = NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_PRODUCER_POOL_SIZE), Integer.class), 0);
+    return new JmsProducerPool(this, maxIdlePerDestination);
+  }
+
+  protected JmsAsyncPublisher createAsyncPublisher(final Map<Object, Object> properties) {
+    return new JmsAsyncPublisher(this,
+        NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_ASYNC_PUBLISH_QUEUE_CAPACITY), Integer.class), 10000),
+        NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_ASYNC_PUBLISH_FLUSH_WINDOW), Long.class), 10L),
+        NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_ASYNC_PUBLISH_MAX_BATCH_SIZE), Integer.class), 100),
+        NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_ASYNC_PUBLISH_MAX_BLOCK_TIME), Long.class), 5000L));
+  }
+
   protected JmsConnectionWrapper createConnectionWrapper(final Map<Object, Object> properties) {
     return new JmsConnectionWrapper(properties)
         .withConnectionFunction(this::createConnection);
@@ -295,6 +349,12 @@ public class JmsMomImplementor implements IMomImplementor {
     return subscription;
   }
 
+  protected JmsSubscription createJmsSubscription(IDestination<?> destination, SubscribeInput input, List<IJmsSessionProvider> sessionProviders, List<IFuture<?>> workers) {
+    JmsSubscription subscription = new JmsSubscription(destination, input, sessionProviders, workers);
+    subscription.awaitStarted(m_subscriptionAwaitStartedSeconds, TimeUnit.SECONDS);
+    return subscription;
+  }
+
   @Override
   public <DTO> void publish(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) {
     assertNotNull(destination, "destination not specified");
@@ -314,15 +374,35 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <DTO> void publishNonTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
-    IJmsSessionProvider sessionProvider = createSessionProvider(destination, false);
+    IJmsSessionProvider sessionProvider = m_producerPool.borrow(destination);
+    boolean success = false;
     try {
       send(sessionProvider, destination, transferObject, input);
+      success = true;
     }
     finally {
-      sessionProvider.close();
+      // a session which failed to send is not reused
+      m_producerPool.release(destination, sessionProvider, success);
     }
   }
 
+  @Override
+  public <DTO> CompletableFuture<Void> publishAsync(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(input, "publishInput not specified");
+    assertFalse(input.isTransactional(), "transactional mode not supported for asynchronous publishing");
+    m_asyncPublisher.start();
+    return m_asyncPublisher.publish(destination, transferObject, input);
+  }
+
+  /**
+   * @return the metrics of the asynchronous publishing
+   * @since 11
+   */
+  public IPublishStats getAsyncPublishStats() {
+    return m_asyncPublisher.getStats();
+  }
+
   protected <DTO> void publishTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
     final ITransaction currentTransaction = assertNotNull(ITransaction.CURRENT.get(), "Transaction required for transactional messaging");
 
@@ -357,12 +437,37 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <DTO> ISubscription subscribeImpl(IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input) throws JMSException {
-    IJmsSessionProvider sessionProvider = createSessionProvider(destination, SubscribeInput.ACKNOWLEDGE_TRANSACTED == input.getAcknowledgementMode());
-    IFuture<?> worker = Jobs.schedule(createMessageConsumerJob(sessionProvider, destination, listener, input), newJobInput().withName("JMS subscriber"));
-    return createJmsSubscription(destination, input, sessionProvider, worker);
+    assertTrue(input.getConsumerCount() > 0, "consumerCount must be greater than 0");
+    assertTrue(input.getConsumerCount() == 1 || destination.getType() == DestinationType.QUEUE, "concurrent consumers are only supported for queues");
+    assertTrue(input.getMaxBatchSize() <= 1 || listener instanceof IBatchMessageListener, "batch delivery requires an IBatchMessageListener");
+    boolean transacted = SubscribeInput.ACKNOWLEDGE_TRANSACTED == input.getAcknowledgementMode();
+    if (input.getConsumerCount() == 1) {
+      IJmsSessionProvider sessionProvider = createSessionProvider(destination, transacted);
+      IFuture<?> worker = Jobs.schedule(createMessageConsumerJob(sessionProvider, destination, listener, input), newJobInput().withName("JMS subscriber"));
+      return createJmsSubscription(destination, input, sessionProvider, worker);
+    }
+
+    // each consumer has its own session, so messages are received and acknowledged in parallel
+    List<IJmsSessionProvider> sessionProviders = new ArrayList<>(input.getConsumerCount());
+    List<IFuture<?>> workers = new ArrayList<>(input.getConsumerCount());
+    try {
+      for (int i = 0; i < input.getConsumerCount(); i++) {
+        IJmsSessionProvider sessionProvider = createSessionProvider(destination, transacted);
+        sessionProviders.add(sessionProvider);
+        workers.add(Jobs.schedule(createMessageConsumerJob(sessionProvider, destination, listener, input), newJobInput().withName("JMS subscriber {}", i + 1)));
+      }
+    }
+    catch (JMSException | RuntimeException e) {
+      sessionProviders.forEach(IJmsSessionProvider::close);
+      throw e;
+    }
+    return createJmsSubscription(destination, input, sessionProviders, workers);
   }
 
   protected <DTO> IRunnable createMessageConsumerJob(IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input) {
+    if (listener instanceof IBatchMessageListener) {
+      return new BatchMessageConsumerJob<>(this, sessionProvider, destination, (IBatchMessageListener<DTO>) listener, input, m_messageConsumerJobReceiveTimeout);
+    }
     return new MessageConsumerJob<>(this, sessionProvider, destination, listener, input, m_messageConsumerJobReceiveTimeout);
   }
 
@@ -553,6 +658,14 @@ public class JmsMomImplementor implements IMomImplementor {
         m_requestCancellationSubscription.dispose();
       }
 
+      // send pending messages, then close pooled sessions
+      if (m_asyncPublisher != null) {
+        m_asyncPublisher.close(TimeUnit.SECONDS.toMillis(10));
+      }
+      if (m_producerPool != null) {
+        m_producerPool.close();
+      }
+
       // cancel any still running mom jobs
       Predicate<IFuture<?>> momJobsFilter = Jobs.newFutureFilterBuilder().andMatchExecutionHint(m_momUid).toFilter();
       Set<IFuture<?>> futures = Jobs.getJobManager().getFutures(momJobsFilter);
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import javax.jms.JMSException;
+
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of non-transacted session providers (a session with its producer) keyed by destination.
+ * <p>
+ * A JMS session must not be used concurrently, so a session provider is borrowed exclusively for one publish and
+ * returned afterwards. At most {@link #getMaxIdlePerDestination()} idle session providers are kept per destination; a
+ * value of <code>0</code> disables pooling, i.e. every publish creates and closes its own session. Pooled session
+ * providers survive a connection failover because they reconnect lazily.
+ * <p>
+ * Idle session providers are not evicted, they are only closed by {@link #close()}. Therefore pooling is disabled by
+ * default (see {@link JmsMomImplementor#JMS_PRODUCER_POOL_SIZE}) and should only be enabled for a limited set of
+ * long-lived destinations. A pooled producer does not re-create a destination which the broker deleted in the meantime
+ * (e.g. an auto-deleted queue).
+ *
+ * @since 11
+ */
+public class JmsProducerPool {
+  private static final Logger LOG = LoggerFactory.getLogger(JmsProducerPool.class);
+
+  protected final JmsMomImplementor m_mom;
+  protected final int m_maxIdlePerDestination;
+  protected final Map<IDestination<?>, BlockingDeque<IJmsSessionProvider>> m_idle = new ConcurrentHashMap<>();
+  protected volatile boolean m_closed;
+
+  public JmsProducerPool(JmsMomImplementor mom, int maxIdlePerDestination) {
+    m_mom = mom;
+    m_maxIdlePerDestination = Math.max(0, maxIdlePerDestination);
+  }
+
+  public int getMaxIdlePerDestination() {
+    return m_maxIdlePerDestination;
+  }
+
+  /**
+   * @return an idle session provider for the given destination or a new one if none is available. Must be returned
+   *         with {@link #release(IDestination, IJmsSessionProvider, boolean)}.
+   */
+  public IJmsSessionProvider borrow(IDestination<?> destination) throws JMSException {
+    BlockingDeque<IJmsSessionProvider> idle = m_idle.get(destination);
+    if (idle != null) {
+      IJmsSessionProvider sessionProvider;
+      while ((sessionProvider = idle.pollFirst()) != null) {
+        if (!sessionProvider.isClosing()) {
+          return sessionProvider;
+        }
+      }
+    }
+    return m_mom.createSessionProvider(destination, false);
+  }
+
+  /**
+   * @param reusable
+   *          <code>false</code> if the session provider must not be reused, e.g. because sending a message failed
+   */
+  public void release(IDestination<?> destination, IJmsSessionProvider sessionProvider, boolean reusable) {
+    if (reusable && m_maxIdlePerDestination > 0 && !m_closed && !sessionProvider.isClosing()) {
+      // LIFO: the most recently used session provider is borrowed first
+      if (m_idle.computeIfAbsent(destination, d -> new LinkedBlockingDeque<>(m_maxIdlePerDestination)).offerFirst(sessionProvider)) {
+        if (m_closed) {
+          // closed concurrently
+          closeIdle();
+        }
+        return;
+      }
+    }
+    closeQuietly(sessionProvider);
+  }
+
+  /**
+   * Closes all idle session providers. Session providers released afterwards are closed immediately.
+   */
+  public void close() {
+    m_closed = true;
+    closeIdle();
+  }
+
+  protected void closeIdle() {
+    for (BlockingDeque<IJmsSessionProvider> idle : m_idle.values()) {
+      IJmsSessionProvider sessionProvider;
+      while ((sessionProvider = idle.pollFirst()) != null) {
+        closeQuietly(sessionProvider);
+      }
+    }
+  }
+
+  protected void closeQuietly(IJmsSessionProvider sessionProvider) {
+    try {
+      sessionProvider.close();
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Failed to close session provider {}", sessionProvider, e);
+    }
+  }
+}
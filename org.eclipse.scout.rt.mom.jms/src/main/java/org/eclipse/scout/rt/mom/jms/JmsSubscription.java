@@ -10,6 +10,9 @@
  */
 package org.eclipse.scout.rt.mom.jms;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import javax.jms.MessageConsumer;
@@ -20,6 +23,7 @@ import org.eclipse.scout.rt.mom.api.ISubscription;
 import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.mom.jms.internal.ISubscriptionStats;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.util.Assertions;
 
 /**
  * Represents a {@link MessageConsumer} in the JMS messaging standard.
@@ -33,12 +37,27 @@ public class JmsSubscription implements ISubscription {
   protected final SubscribeInput m_subscribeInput;
   protected final IJmsSessionProvider m_sessionProvider;
   protected final IFuture<?> m_jobMonitor;
+  protected final List<IJmsSessionProvider> m_sessionProviders;
+  protected final List<IFuture<?>> m_jobMonitors;
 
   public JmsSubscription(IDestination<?> destination, SubscribeInput subscribeInput, IJmsSessionProvider sessionProvider, IFuture<?> jobMonitor) {
+    this(destination, subscribeInput, Collections.singletonList(sessionProvider), Collections.singletonList(jobMonitor));
+  }
+
+  /**
+   * Subscription with concurrent consumers, each with its own session provider and job.
+   *
+   * @since 11
+   */
+  public JmsSubscription(IDestination<?> destination, SubscribeInput subscribeInput, List<IJmsSessionProvider> sessionProviders, List<IFuture<?>> jobMonitors) {
+    Assertions.assertFalse(sessionProviders.isEmpty(), "no session provider");
+    Assertions.assertEqual(sessionProviders.size(), jobMonitors.size(), "a job is required for each session provider");
     m_destination = destination;
     m_subscribeInput = subscribeInput;
-    m_sessionProvider = sessionProvider;
-    m_jobMonitor = jobMonitor;
+    m_sessionProviders = Collections.unmodifiableList(new ArrayList<>(sessionProviders));
+    m_jobMonitors = Collections.unmodifiableList(new ArrayList<>(jobMonitors));
+    m_sessionProvider = m_sessionProviders.get(0);
+    m_jobMonitor = m_jobMonitors.get(0);
   }
 
   @Override
@@ -48,18 +67,37 @@ public class JmsSubscription implements ISubscription {
 
   @Override
   public void dispose() {
-    m_sessionProvider.close();
+    RuntimeException error = null;
+    for (IJmsSessionProvider sessionProvider : m_sessionProviders) {
+      try {
+        sessionProvider.close();
+      }
+      catch (RuntimeException e) {
+        if (error == null) {
+          error = e;
+        }
+        else {
+          error.addSuppressed(e);
+        }
+      }
+    }
+    if (error != null) {
+      throw error;
+    }
     if (SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED == m_subscribeInput.getAcknowledgementMode()) {
       // Close did not throw an exception
       // In case of single threaded subscription we wait for the job to finish
       // This allows API clients to wait for any ongoing message processing
-      m_jobMonitor.awaitDone();
+      for (IFuture<?> jobMonitor : m_jobMonitors) {
+        jobMonitor.awaitDone();
+      }
     }
   }
 
   /**
    * @return the stats of this subscription since the real jms session was started. Returns null if the jms connection
-   *         is currently down.
+   *         is currently down. If the subscription has several consumers, the stats of the first consumer are returned
+   *         (see {@link #getConsumerStats()}).
    * @since 6.1
    */
   public ISubscriptionStats getStats() {
@@ -67,7 +105,21 @@ public class JmsSubscription implements ISubscription {
   }
 
   /**
-   * Wait until the subscription has really started consuming incoming messages.
+   * @return the stats of each consumer of this subscription (see {@link SubscribeInput#getConsumerCount()}). An entry
+   *         is null if the jms connection of the consumer is currently down.
+   * @since 11
+   */
+  public List<ISubscriptionStats> getConsumerStats() {
+    List<ISubscriptionStats> stats = new ArrayList<>(m_sessionProviders.size());
+    for (IJmsSessionProvider sessionProvider : m_sessionProviders) {
+      stats.add(sessionProvider.getStats());
+    }
+    return stats;
+  }
+
+  /**
+   * Wait until the subscription has really started consuming incoming messages. If the subscription has several
+   * consumers, this method waits until all of them have started.
    * <p>
    * This is a best effort approach. This method returns immediately if
    * <ul>
@@ -79,6 +131,15 @@ public class JmsSubscription implements ISubscription {
    */
   public boolean awaitStarted(int time, TimeUnit unit) {
     long timeoutNanos = System.nanoTime() + unit.toNanos(time);
+    for (int i = 0; i < m_sessionProviders.size(); i++) {
+      if (!awaitStarted(m_sessionProviders.get(i), m_jobMonitors.get(i), timeoutNanos)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected boolean awaitStarted(IJmsSessionProvider sessionProvider, IFuture<?> jobMonitor, long timeoutNanos) {
     while (true) {
       if (Thread.currentThread().isInterrupted()) {
         return false;
@@ -86,10 +147,10 @@ public class JmsSubscription implements ISubscription {
       if (System.nanoTime() >= timeoutNanos) {
         return false;
       }
-      if (m_jobMonitor.isFinished()) {
+      if (jobMonitor.isFinished()) {
         return false;
       }
-      ISubscriptionStats stats = getStats();
+      ISubscriptionStats stats = sessionProvider.getStats();
       if (stats != null && (stats.invokingReceive() || stats.receivedMessages() > 0 || stats.receivedErrors() > 0)) {
         return true;
       }
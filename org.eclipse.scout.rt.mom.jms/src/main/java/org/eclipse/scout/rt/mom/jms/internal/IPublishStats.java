@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import org.eclipse.scout.rt.mom.jms.JmsAsyncPublisher;
+
+/**
+ * Metrics of the asynchronous publishing of a MOM (see {@link JmsAsyncPublisher})
+ *
+ * @since 11
+ */
+public interface IPublishStats {
+
+  /**
+   * @return the number of messages which are waiting to be sent
+   */
+  int pendingMessages();
+
+  /**
+   * @return the number of messages sent successfully
+   */
+  long publishedMessages();
+
+  /**
+   * @return the number of messages which could not be sent
+   */
+  long failedMessages();
+
+  /**
+   * @return the number of committed transactions, each containing one or more messages
+   */
+  long flushedBatches();
+
+  /**
+   * @return the average time in milliseconds between the call to publish and the commit of a message
+   */
+  double averageLatencyMillis();
+
+  /**
+   * @return the maximum time in milliseconds between the call to publish and the commit of a message
+   */
+  long maxLatencyMillis();
+}
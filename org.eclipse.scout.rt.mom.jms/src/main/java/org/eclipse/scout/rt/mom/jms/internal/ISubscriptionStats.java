@@ -41,4 +41,24 @@ public interface ISubscriptionStats {
    * @return the number of message errors occurred upon calling receive()
    */
   long receivedErrors();
+
+  /**
+   * @return the number of non-null messages received per second since the stats were created (i.e. since the jms
+   *         session was started)
+   * @since 11
+   */
+  double throughput();
+
+  /**
+   * @return the time in milliseconds between sending and receiving the last message, or 0 if no message was received
+   *         yet. This requires the clocks of the sender and the receiver to be synchronized.
+   * @since 11
+   */
+  long lastLagMillis();
+
+  /**
+   * @return the maximum time in milliseconds between sending and receiving a message
+   * @since 11
+   */
+  long maxLagMillis();
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @since 11
+ */
+public class JmsPublishStats implements IPublishStats {
+  private final BlockingQueue<?> m_queue;
+  private final LongAdder m_publishedCount = new LongAdder();
+  private final LongAdder m_failedCount = new LongAdder();
+  private final LongAdder m_batchCount = new LongAdder();
+  private final LongAdder m_totalLatencyNanos = new LongAdder();
+  private final LongAccumulator m_maxLatencyNanos = new LongAccumulator(Long::max, 0L);
+
+  /**
+   * @param queue
+   *          queue of the pending messages
+   */
+  public JmsPublishStats(BlockingQueue<?> queue) {
+    m_queue = queue;
+  }
+
+  @Override
+  public int pendingMessages() {
+    return m_queue.size();
+  }
+
+  @Override
+  public long publishedMessages() {
+    return m_publishedCount.sum();
+  }
+
+  @Override
+  public long failedMessages() {
+    return m_failedCount.sum();
+  }
+
+  @Override
+  public long flushedBatches() {
+    return m_batchCount.sum();
+  }
+
+  @Override
+  public double averageLatencyMillis() {
+    long count = m_publishedCount.sum();
+    if (count == 0) {
+      return 0;
+    }
+    return m_totalLatencyNanos.sum() / (double) TimeUnit.MILLISECONDS.toNanos(1) / count;
+  }
+
+  @Override
+  public long maxLatencyMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(m_maxLatencyNanos.get());
+  }
+
+  public void notifyPublished(long latencyNanos) {
+    m_publishedCount.increment();
+    m_totalLatencyNanos.add(latencyNanos);
+    m_maxLatencyNanos.accumulate(latencyNanos);
+  }
+
+  public void notifyFailed() {
+    m_failedCount.increment();
+  }
+
+  public void notifyBatchFlushed() {
+    m_batchCount.increment();
+  }
+}
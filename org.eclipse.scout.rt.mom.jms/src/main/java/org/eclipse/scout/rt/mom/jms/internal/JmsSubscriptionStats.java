@@ -10,6 +10,7 @@
  */
 package org.eclipse.scout.rt.mom.jms.internal;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -24,6 +25,9 @@ public class JmsSubscriptionStats implements ISubscriptionStats {
   private final AtomicLong m_messageCount = new AtomicLong();
   private final AtomicLong m_messageNonNullCount = new AtomicLong();
   private final AtomicLong m_errorCount = new AtomicLong();
+  private final AtomicLong m_lastLagMillis = new AtomicLong();
+  private final AtomicLong m_maxLagMillis = new AtomicLong();
+  private final long m_startNanos = System.nanoTime();
 
   @Override
   public boolean invokingReceive() {
@@ -45,6 +49,25 @@ public class JmsSubscriptionStats implements ISubscriptionStats {
     return m_errorCount.get();
   }
 
+  @Override
+  public double throughput() {
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - m_startNanos);
+    if (elapsedMillis <= 0) {
+      return 0;
+    }
+    return m_messageNonNullCount.get() * 1000d / elapsedMillis;
+  }
+
+  @Override
+  public long lastLagMillis() {
+    return m_lastLagMillis.get();
+  }
+
+  @Override
+  public long maxLagMillis() {
+    return m_maxLagMillis.get();
+  }
+
   public void notifyBeforeReceive() {
     m_invokeCount.incrementAndGet();
   }
@@ -57,10 +80,28 @@ public class JmsSubscriptionStats implements ISubscriptionStats {
     m_messageCount.getAndIncrement();
     if (m != null) {
       m_messageNonNullCount.getAndIncrement();
+      notifyLag(m);
     }
   }
 
   public void notifyReceiveError(JMSException e) {
     m_errorCount.incrementAndGet();
   }
+
+  protected void notifyLag(Message m) {
+    long timestamp;
+    try {
+      timestamp = m.getJMSTimestamp();
+    }
+    catch (JMSException e) { // NOSONAR
+      return;
+    }
+    if (timestamp <= 0) {
+      // timestamps may be disabled by the producer
+      return;
+    }
+    long lag = Math.max(0, System.currentTimeMillis() - timestamp);
+    m_lastLagMillis.set(lag);
+    m_maxLagMillis.accumulateAndGet(lag, Math::max);
+  }
 }
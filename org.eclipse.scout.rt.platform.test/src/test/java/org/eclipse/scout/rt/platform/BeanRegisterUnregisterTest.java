@@ -29,7 +29,33 @@ public class BeanRegisterUnregisterTest {
     Assert.assertEquals(0, context.getBeans(Object.class).size());
   }
 
+  @Test
+  public void testCachedQueryIsInvalidated() {
+    BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+
+    Assert.assertNull(context.optBean(TestObject.class));
+    Assert.assertFalse(context.isBean(TestObject.class));
+
+    IBean<?> reg = context.registerClass(TestObject.class);
+    Assert.assertSame(reg, context.optBean(TestObject.class));
+    Assert.assertTrue(context.isBean(TestObject.class));
+
+    IBean<?> replacement = context.registerClass(TestObjectReplacement.class);
+    Assert.assertSame(replacement, context.optBean(TestObject.class));
+    Assert.assertEquals(1, context.getBeans(TestObject.class).size());
+
+    context.unregisterBean(replacement);
+    context.unregisterBean(reg);
+    Assert.assertNull(context.optBean(TestObject.class));
+    Assert.assertFalse(context.isBean(TestObject.class));
+  }
+
   private static class TestObject {
 
   }
+
+  @Replace
+  private static class TestObjectReplacement extends TestObject {
+
+  }
 }
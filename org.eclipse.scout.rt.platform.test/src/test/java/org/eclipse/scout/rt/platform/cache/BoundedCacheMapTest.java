@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @since 11
+ */
+public class BoundedCacheMapTest {
+
+  @Test
+  public void testSizeIsEnforced() {
+    BoundedCacheMap<Integer, String> map = new BoundedCacheMap<>(100);
+    for (int i = 0; i < 1000; i++) {
+      map.put(i, "v" + i);
+      assertTrue(map.size() <= 100);
+    }
+    assertEquals(100, map.size());
+    assertEquals(900, map.getStatistics().getEvictionCount());
+  }
+
+  @Test
+  public void testFrequentlyUsedEntriesSurviveScan() {
+    BoundedCacheMap<Integer, String> map = new BoundedCacheMap<>(100);
+    for (int i = 0; i < 50; i++) {
+      map.put(i, "hot" + i);
+    }
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 50; i++) {
+        assertNotNull(map.get(i));
+      }
+    }
+    map.cleanUp();
+    // a scan over many keys which are used only once must not flush the frequently used entries
+    for (int i = 1000; i < 11000; i++) {
+      map.put(i, "cold" + i);
+    }
+    int hotCount = 0;
+    for (int i = 0; i < 50; i++) {
+      if (map.containsKey(i)) {
+        hotCount++;
+      }
+    }
+    assertTrue("hot entries retained: " + hotCount, hotCount >= 45);
+  }
+
+  @Test
+  public void testHitAndMissStatistics() {
+    BoundedCacheMap<String, String> map = new BoundedCacheMap<>(10);
+    map.put("a", "1");
+    assertEquals("1", map.get("a"));
+    assertNull(map.get("b"));
+    assertEquals(1, map.getStatistics().getHitCount());
+    assertEquals(1, map.getStatistics().getMissCount());
+    assertEquals(0.5, map.getStatistics().getHitRate(), 0.0001);
+  }
+
+  @Test
+  public void testExpireAfterWrite() {
+    P_ManualClockMap<String, String> map = new P_ManualClockMap<>(10, 100, 0);
+    map.put("a", "1");
+    map.advance(60);
+    assertEquals("1", map.get("a"));
+    map.advance(60);
+    assertNull(map.get("a"));
+    assertFalse(map.containsKey("a"));
+    assertEquals(1, map.getStatistics().getExpirationCount());
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void testExpireAfterAccess() {
+    P_ManualClockMap<String, String> map = new P_ManualClockMap<>(10, 0, 100);
+    map.put("a", "1");
+    map.put("b", "2");
+    for (int i = 0; i < 5; i++) {
+      map.advance(60);
+      assertEquals("1", map.get("a"));
+    }
+    assertFalse(map.containsKey("b"));
+    map.cleanUp();
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void testPutIfAbsentReplacesExpiredEntry() {
+    P_ManualClockMap<String, String> map = new P_ManualClockMap<>(10, 100, 0);
+    assertNull(map.putIfAbsent("a", "1"));
+    assertEquals("1", map.putIfAbsent("a", "2"));
+    map.advance(200);
+    assertNull(map.putIfAbsent("a", "3"));
+    assertEquals("3", map.get("a"));
+  }
+
+  @Test
+  public void testMapOperations() {
+    BoundedCacheMap<String, String> map = new BoundedCacheMap<>(10);
+    assertNull(map.put("a", "1"));
+    assertEquals("1", map.put("a", "2"));
+    assertEquals("2", map.replace("a", "3"));
+    assertFalse(map.replace("a", "2", "4"));
+    assertTrue(map.replace("a", "3", "4"));
+    assertNull(map.replace("b", "1"));
+    assertFalse(map.remove("a", "3"));
+    map.put("b", "5");
+
+    Map<String, String> expected = new HashMap<>();
+    expected.put("a", "4");
+    expected.put("b", "5");
+    assertEquals(expected, new HashMap<>(map));
+
+    assertTrue(map.remove("a", "4"));
+    assertEquals("5", map.remove("b"));
+    assertTrue(map.isEmpty());
+
+    map.put("c", "6");
+    map.entrySet().removeIf(e -> "c".equals(e.getKey()));
+    assertTrue(map.isEmpty());
+
+    map.put("d", "7");
+    map.clear();
+    assertTrue(map.isEmpty());
+    // removed entries must not be counted by the policy
+    for (int i = 0; i < 10; i++) {
+      map.put("k" + i, "v");
+    }
+    assertEquals(10, map.size());
+    assertEquals(0, map.getStatistics().getEvictionCount());
+  }
+
+  private static class P_ManualClockMap<K, V> extends BoundedCacheMap<K, V> {
+    private long m_now;
+
+    P_ManualClockMap(long maximumSize, long expireAfterWrite, long expireAfterAccess) {
+      super(maximumSize, expireAfterWrite, expireAfterAccess, TimeUnit.MILLISECONDS);
+    }
+
+    void advance(long millis) {
+      m_now += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    @Override
+    protected long currentTimeNanos() {
+      return m_now;
+    }
+  }
+}
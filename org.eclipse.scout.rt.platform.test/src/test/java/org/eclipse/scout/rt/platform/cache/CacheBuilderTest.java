@@ -47,6 +47,24 @@ public class CacheBuilderTest {
     assertTrue(cacheDelegate instanceof BasicCache);
   }
 
+  @Test
+  public void testWindowTinyLfuEvictionPolicy() {
+    @SuppressWarnings("unchecked")
+    ICacheValueResolver<Integer, String> resolver = mock(ICacheValueResolver.class);
+
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+
+    ICache<Integer, String> cache = cacheBuilder.withCacheId(CACHE_ID + "_tinyLfu").withValueResolver(resolver).withSizeBound(10).withEvictionPolicy(CacheEvictionPolicy.WINDOW_TINY_LFU)
+        .withResolveDeduplication(true).withReplaceIfExists(true).build();
+
+    assertTrue(cache instanceof DeduplicatingResolveCacheWrapper);
+    ICache<Integer, String> cacheDelegate = ((AbstractCacheWrapper<Integer, String>) cache).getDelegate();
+    assertTrue(cacheDelegate instanceof BasicCache);
+    assertTrue(((BasicCache<Integer, String>) cacheDelegate).getCacheMap() instanceof BoundedCacheMap);
+    assertNotNull(cache.getAdapter(CacheStatistics.class));
+  }
+
   protected static class TestCacheWrapper extends AbstractCacheWrapper<Integer, String> {
 
     public TestCacheWrapper(ICache<Integer, String> delegate) {
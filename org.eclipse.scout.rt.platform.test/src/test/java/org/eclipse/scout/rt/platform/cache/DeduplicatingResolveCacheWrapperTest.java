@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.junit.Test;
+
+/**
+ * @since 11
+ */
+public class DeduplicatingResolveCacheWrapperTest {
+
+  @Test
+  public void testConcurrentResolveIsDeduplicated() throws Exception {
+    AtomicInteger resolveCount = new AtomicInteger();
+    CountDownLatch resolveStarted = new CountDownLatch(1);
+    CountDownLatch releaseResolve = new CountDownLatch(1);
+    ICache<Integer, String> cache = createCache("DeduplicatingResolveCacheWrapperTest_concurrent", key -> {
+      resolveCount.incrementAndGet();
+      resolveStarted.countDown();
+      awaitLatch(releaseResolve);
+      return "v" + key;
+    });
+
+    List<IFuture<String>> futures = new ArrayList<>();
+    futures.add(Jobs.schedule(() -> cache.get(1), Jobs.newInput()));
+    assertTrue(resolveStarted.await(10, TimeUnit.SECONDS));
+    for (int i = 0; i < 5; i++) {
+      futures.add(Jobs.schedule(() -> cache.get(1), Jobs.newInput()));
+    }
+    Thread.sleep(100);
+    releaseResolve.countDown();
+    for (IFuture<String> future : futures) {
+      assertEquals("v1", future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    }
+    assertEquals(1, resolveCount.get());
+    assertEquals("v1", cache.get(1));
+    assertEquals(1, resolveCount.get());
+  }
+
+  @Test
+  public void testExceptionIsPassedToWaitingThreads() throws Exception {
+    CountDownLatch resolveStarted = new CountDownLatch(1);
+    CountDownLatch releaseResolve = new CountDownLatch(1);
+    ICache<Integer, String> cache = createCache("DeduplicatingResolveCacheWrapperTest_exception", key -> {
+      resolveStarted.countDown();
+      awaitLatch(releaseResolve);
+      throw new ProcessingException("resolve failed");
+    });
+
+    IFuture<String> first = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withExceptionHandling(null, false));
+    assertTrue(resolveStarted.await(10, TimeUnit.SECONDS));
+    IFuture<String> second = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withExceptionHandling(null, false));
+    Thread.sleep(100);
+    releaseResolve.countDown();
+    for (IFuture<String> future : new IFuture[]{first, second}) {
+      try {
+        future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+        fail("ProcessingException expected");
+      }
+      catch (ProcessingException e) {
+        assertTrue(e.getMessage().contains("resolve failed"));
+      }
+    }
+  }
+
+  @Test
+  public void testStatisticsAreRegistered() {
+    ICache<Integer, String> cache = createCache("DeduplicatingResolveCacheWrapperTest_statistics", key -> "v" + key);
+    cache.get(1);
+    cache.get(1);
+    CacheStatistics statistics = BEANS.get(ICacheRegistryService.class).getStatistics(cache.getCacheId());
+    assertNotNull(statistics);
+    assertEquals(1, statistics.getHitCount());
+    assertEquals(1, statistics.getMissCount());
+    assertSame(statistics, BEANS.get(ICacheRegistryService.class).getAllStatistics().get(cache.getCacheId()));
+  }
+
+  protected ICache<Integer, String> createCache(String id, ICacheValueResolver<Integer, String> resolver) {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    return cacheBuilder
+        .withCacheId(id)
+        .withValueResolver(resolver)
+        .withSizeBound(100)
+        .withEvictionPolicy(CacheEvictionPolicy.WINDOW_TINY_LFU)
+        .withResolveDeduplication(true)
+        .withReplaceIfExists(true)
+        .build();
+  }
+
+  protected static void awaitLatch(CountDownLatch latch) {
+    try {
+      if (!latch.await(10, TimeUnit.SECONDS)) {
+        throw new TimedOutError("latch not released");
+      }
+    }
+    catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the time to build the Jandex inventory by scanning the modules with the time to read it from a
+ * {@link JandexInventorySnapshot}. The result depends on the machine and is only logged, therefore this benchmark is
+ * not part of the regular test run.
+ *
+ * @since 11
+ */
+@Ignore("Benchmark, run manually")
+public class JandexInventorySnapshotBenchmarkTest {
+  private static final Logger LOG = LoggerFactory.getLogger(JandexInventorySnapshotBenchmarkTest.class);
+
+  private Path m_dir;
+  private JandexInventorySnapshot m_snapshot;
+  private List<URL> m_scoutXmlUrls;
+
+  @Before
+  public void before() throws IOException {
+    m_dir = Files.createTempDirectory("jandexSnapshotBenchmark");
+    m_snapshot = new JandexInventorySnapshot(m_dir.resolve("jandex-snapshot.idx"));
+    m_scoutXmlUrls = Arrays.asList(
+        new URL("jar:" + getClass().getResource("test repository/test.jar_").toExternalForm() + "!/" + JandexInventoryBuilder.SCOUT_XML_PATH),
+        getClass().getResource("/" + JandexInventoryBuilder.SCOUT_XML_PATH));
+  }
+
+  @After
+  public void after() {
+    IOUtility.deleteDirectory(m_dir.toFile());
+  }
+
+  @Test
+  public void testStartupTime() {
+    JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING);
+    for (URL url : m_scoutXmlUrls) {
+      builder.scanModule(builder.findIndexUri(url));
+    }
+    assertTrue(m_snapshot.write("benchmark", builder.getIndexes()));
+
+    int rounds = 20;
+    long scanNanos = 0;
+    long snapshotNanos = 0;
+    for (int i = 0; i < rounds; i++) {
+      long t0 = System.nanoTime();
+      JandexInventoryBuilder scanBuilder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING);
+      for (URL url : m_scoutXmlUrls) {
+        URI indexUri = scanBuilder.findIndexUri(url);
+        scanBuilder.scanModule(indexUri);
+      }
+      IndexView scanned = scanBuilder.finish();
+      long t1 = System.nanoTime();
+      List<Index> read = m_snapshot.read("benchmark");
+      assertNotNull(read);
+      IndexView loaded = CompositeIndex.create(new ArrayList<IndexView>(read));
+      long t2 = System.nanoTime();
+      assertEquals(scanned.getKnownClasses().size(), loaded.getKnownClasses().size());
+      scanNanos += t1 - t0;
+      snapshotNanos += t2 - t1;
+    }
+    LOG.info("Jandex inventory of {} modules: scanning {} ms, snapshot {} ms (average of {} rounds)", m_scoutXmlUrls.size(),
+        TimeUnit.NANOSECONDS.toMillis(scanNanos / rounds), TimeUnit.NANOSECONDS.toMillis(snapshotNanos / rounds), rounds);
+  }
+}
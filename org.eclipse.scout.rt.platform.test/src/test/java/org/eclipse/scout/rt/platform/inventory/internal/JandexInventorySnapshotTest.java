@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @since 11
+ */
+public class JandexInventorySnapshotTest {
+
+  private Path m_dir;
+  private JandexInventorySnapshot m_snapshot;
+  private URL m_jarScoutXml;
+
+  @Before
+  public void before() throws IOException {
+    m_dir = Files.createTempDirectory("jandexSnapshotTest");
+    m_snapshot = new JandexInventorySnapshot(m_dir.resolve("jandex-snapshot.idx"));
+    m_jarScoutXml = new URL("jar:" + getClass().getResource("test repository/test.jar_").toExternalForm() + "!/" + JandexInventoryBuilder.SCOUT_XML_PATH);
+  }
+
+  @After
+  public void after() {
+    IOUtility.deleteDirectory(m_dir.toFile());
+  }
+
+  @Test
+  public void testClasspathHash() {
+    String hash = m_snapshot.computeClasspathHash(Collections.singletonList(m_jarScoutXml));
+    assertNotNull(hash);
+    assertEquals(hash, m_snapshot.computeClasspathHash(Collections.singletonList(m_jarScoutXml)));
+    assertNotEquals(hash, m_snapshot.computeClasspathHash(Collections.emptyList()));
+
+    // class folders are not eligible
+    URL folderScoutXml = getClass().getResource("/" + JandexInventoryBuilder.SCOUT_XML_PATH);
+    assertNull(m_snapshot.computeClasspathHash(Arrays.asList(m_jarScoutXml, folderScoutXml)));
+  }
+
+  @Test
+  public void testWriteAndRead() {
+    JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING);
+    Index jarIndex = builder.scanModule(builder.findIndexUri(m_jarScoutXml));
+    Index folderIndex = builder.scanModule(builder.findIndexUri(getClass().getResource("/" + JandexInventoryBuilder.SCOUT_XML_PATH)));
+
+    assertNull(m_snapshot.read("hash"));
+    assertTrue(m_snapshot.write("hash", Arrays.asList(jarIndex, folderIndex)));
+
+    List<Index> indexes = m_snapshot.read("hash");
+    assertNotNull(indexes);
+    assertEquals(2, indexes.size());
+    assertEquals(jarIndex.getKnownClasses().size(), indexes.get(0).getKnownClasses().size());
+    assertEquals(folderIndex.getKnownClasses().size(), indexes.get(1).getKnownClasses().size());
+    assertNotNull(indexes.get(1).getClassByName(DotName.createSimple(JandexInventorySnapshotTest.class.getName())));
+
+    assertNull(m_snapshot.read("otherHash"));
+  }
+
+  @Test
+  public void testReadCorruptSnapshot() throws IOException {
+    Files.write(m_snapshot.getFile(), new byte[]{1, 2, 3});
+    assertNull(m_snapshot.read("hash"));
+  }
+
+  @Test
+  public void testScanAllModulesUsesSnapshot() {
+    P_FixtureJandexInventoryBuilder builder = new P_FixtureJandexInventoryBuilder(RebuildStrategy.IF_MISSING, m_snapshot, m_jarScoutXml);
+    builder.scanAllModules();
+    assertEquals(1, builder.m_scanCount);
+    assertTrue(Files.exists(m_snapshot.getFile()));
+    int knownClasses = builder.finish().getKnownClasses().size();
+
+    builder = new P_FixtureJandexInventoryBuilder(RebuildStrategy.IF_MISSING, m_snapshot, m_jarScoutXml);
+    builder.scanAllModules();
+    assertEquals(0, builder.m_scanCount);
+    assertEquals(knownClasses, builder.finish().getKnownClasses().size());
+
+    // snapshot is ignored when rebuilding
+    builder = new P_FixtureJandexInventoryBuilder(RebuildStrategy.ALWAYS, m_snapshot, m_jarScoutXml);
+    builder.scanAllModules();
+    assertEquals(1, builder.m_scanCount);
+  }
+
+  private static class P_FixtureJandexInventoryBuilder extends JandexInventoryBuilder {
+    private final List<URL> m_scoutXmlUrls;
+    private int m_scanCount;
+
+    P_FixtureJandexInventoryBuilder(RebuildStrategy rebuildStrategy, JandexInventorySnapshot snapshot, URL scoutXmlUrl) {
+      super(rebuildStrategy, snapshot);
+      m_scoutXmlUrls = Collections.singletonList(scoutXmlUrl);
+    }
+
+    @Override
+    protected List<URL> findScoutXmlUrls() {
+      return m_scoutXmlUrls;
+    }
+
+    @Override
+    public synchronized Index scanModule(URI indexUri) {
+      m_scanCount++;
+      return super.scanModule(indexUri);
+    }
+  }
+}
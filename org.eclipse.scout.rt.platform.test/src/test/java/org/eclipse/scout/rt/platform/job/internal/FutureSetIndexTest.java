@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.BlockingCountDownLatch;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class FutureSetIndexTest {
+
+  private IBean<IJobManager> m_jobManagerBean;
+
+  @Before
+  public void before() {
+    // Use dedicated job manager because job manager is shutdown in tests.
+    m_jobManagerBean = JobTestUtil.replaceCurrentJobManager(new JobManager() {
+      // must be a subclass in order to replace JobManager
+    });
+  }
+
+  @After
+  public void after() {
+    JobTestUtil.unregisterAndShutdownJobManager(m_jobManagerBean);
+  }
+
+  @Test
+  public void testQueryByExecutionHint() throws InterruptedException {
+    final BlockingCountDownLatch latch = new BlockingCountDownLatch(2);
+    final IFuture<Void> future1 = Jobs.schedule(() -> {
+      latch.countDownAndBlock();
+    }, Jobs.newInput().withExecutionHint("hint-1"));
+    final IFuture<Void> future2 = Jobs.schedule(() -> {
+      latch.countDownAndBlock();
+    }, Jobs.newInput());
+    assertTrue(latch.await());
+
+    assertEquals(CollectionUtility.hashSet(future1), Jobs.getJobManager().getFutures(Jobs.newFutureFilterBuilder().andMatchExecutionHint("hint-1").toFilter()));
+
+    // hint added after registration
+    future2.addExecutionHint("hint-1");
+    assertEquals(CollectionUtility.hashSet(future1, future2), Jobs.getJobManager().getFutures(Jobs.newFutureFilterBuilder().andMatchExecutionHint("hint-1").toFilter()));
+
+    // filter is still applied to the indexed futures
+    future1.removeExecutionHint("hint-1");
+    assertEquals(CollectionUtility.hashSet(future2), Jobs.getJobManager().getFutures(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint("hint-1")
+        .andMatchFuture(future1, future2)
+        .toFilter()));
+
+    latch.unblock();
+    Jobs.getJobManager().awaitDone(Jobs.newFutureFilterBuilder().andMatchFuture(future1, future2).toFilter(), 10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testAwaitDoneAndCancelBySemaphore() throws InterruptedException {
+    final IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1);
+    final BlockingCountDownLatch latch = new BlockingCountDownLatch(2);
+    final IFuture<Void> semaphoreFuture = Jobs.schedule(() -> {
+      try {
+        latch.countDownAndBlock();
+      }
+      catch (InterruptedException e) {
+        // expected: the job is cancelled while blocking
+      }
+    }, Jobs.newInput().withExecutionSemaphore(semaphore));
+    final IFuture<Void> otherFuture = Jobs.schedule(() -> {
+      latch.countDownAndBlock();
+    }, Jobs.newInput());
+    assertTrue(latch.await());
+
+    try {
+      Jobs.getJobManager().awaitDone(Jobs.newFutureFilterBuilder().andMatchExecutionSemaphore(semaphore).toFilter(), 10, TimeUnit.MILLISECONDS);
+      fail("timeout expected");
+    }
+    catch (TimedOutError e) {
+      // expected
+    }
+
+    assertTrue(Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder().andMatchExecutionSemaphore(semaphore).toFilter(), true));
+    Jobs.getJobManager().awaitDone(Jobs.newFutureFilterBuilder().andMatchExecutionSemaphore(semaphore).toFilter(), 10, TimeUnit.SECONDS);
+    assertTrue(semaphoreFuture.isCancelled());
+    assertFalse(otherFuture.isDone());
+
+    latch.unblock();
+    otherFuture.awaitDone(10, TimeUnit.SECONDS);
+  }
+}
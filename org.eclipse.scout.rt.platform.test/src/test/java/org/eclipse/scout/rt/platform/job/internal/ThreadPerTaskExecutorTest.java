@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ThreadPerTaskExecutorTest {
+
+  @Test
+  public void testRejectAfterShutdown() throws InterruptedException {
+    final List<Runnable> rejected = new ArrayList<>();
+    final ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor(new NamedThreadFactory("thread-per-task-test"), rejected::add);
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+    final Runnable runnable = () -> fail("must not run");
+    executor.execute(runnable);
+    assertEquals(1, rejected.size());
+    assertSame(runnable, rejected.get(0));
+  }
+
+  @Test
+  public void testShutdownNowInterruptsRunningTasks() throws InterruptedException {
+    final ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor(new NamedThreadFactory("thread-per-task-test"), runnable -> fail("must not reject"));
+    final CountDownLatch running = new CountDownLatch(2);
+    final CountDownLatch interrupted = new CountDownLatch(2);
+    for (int i = 0; i < 2; i++) {
+      executor.execute(() -> {
+        running.countDown();
+        try {
+          Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+        }
+        catch (InterruptedException e) {
+          interrupted.countDown();
+        }
+      });
+    }
+    assertTrue(running.await(10, TimeUnit.SECONDS));
+    assertEquals(2, executor.getActiveCount());
+    assertFalse(executor.isTerminated());
+
+    executor.shutdownNow();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(interrupted.await(0, TimeUnit.SECONDS));
+    assertEquals(0, executor.getActiveCount());
+  }
+}
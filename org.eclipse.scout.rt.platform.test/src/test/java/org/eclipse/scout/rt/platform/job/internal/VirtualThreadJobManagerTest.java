@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class VirtualThreadJobManagerTest {
+
+  private static final int BLOCKING_JOB_COUNT = 10_000;
+
+  private IBean<IJobManager> m_jobManagerBean;
+
+  @Before
+  public void before() {
+    Assume.assumeTrue("virtual threads not supported", VirtualThreadFactory.isSupported());
+
+    // Use dedicated job manager because job manager is shutdown in tests.
+    m_jobManagerBean = JobTestUtil.replaceCurrentJobManager(new JobManager() {
+
+      @Override
+      protected ExecutorService createExecutor() {
+        return createVirtualThreadExecutor();
+      }
+    });
+  }
+
+  @After
+  public void after() {
+    if (m_jobManagerBean != null) {
+      JobTestUtil.unregisterAndShutdownJobManager(m_jobManagerBean);
+    }
+  }
+
+  @Test
+  public void testManyConcurrentBlockingJobs() throws InterruptedException {
+    final CountDownLatch allRunning = new CountDownLatch(BLOCKING_JOB_COUNT);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    final List<IFuture<Void>> futures = new ArrayList<>(BLOCKING_JOB_COUNT);
+    for (int i = 0; i < BLOCKING_JOB_COUNT; i++) {
+      futures.add(Jobs.schedule(() -> {
+        allRunning.countDown();
+        release.await();
+      }, Jobs.newInput()));
+    }
+
+    // all jobs block at the same time, none is rejected
+    assertTrue(allRunning.await(30, TimeUnit.SECONDS));
+    release.countDown();
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet(30, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void testThreadNameDecoration() {
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final AtomicReference<Boolean> virtual = new AtomicReference<>();
+    Jobs.schedule(() -> {
+      threadName.set(Thread.currentThread().getName());
+      virtual.set((Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+    }, Jobs.newInput().withThreadName("virtual-test-thread")).awaitDoneAndGet(10, TimeUnit.SECONDS);
+
+    assertTrue(threadName.get(), threadName.get().startsWith("virtual-test-thread-"));
+    assertEquals(Boolean.TRUE, virtual.get());
+  }
+
+  @Test
+  public void testExecutionSemaphore() {
+    final IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1);
+    final AtomicInteger concurrentCount = new AtomicInteger();
+    final AtomicInteger maxConcurrentCount = new AtomicInteger();
+
+    final List<IFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      futures.add(Jobs.schedule(() -> {
+        maxConcurrentCount.accumulateAndGet(concurrentCount.incrementAndGet(), Math::max);
+        Thread.sleep(5);
+        concurrentCount.decrementAndGet();
+      }, Jobs.newInput().withExecutionSemaphore(semaphore)));
+    }
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+    }
+    assertEquals(1, maxConcurrentCount.get());
+  }
+
+  @Test
+  public void testCancelInterruptsVirtualThread() throws InterruptedException {
+    final CountDownLatch running = new CountDownLatch(1);
+    final AtomicReference<Boolean> interrupted = new AtomicReference<>(false);
+    final IFuture<Void> future = Jobs.schedule(() -> {
+      running.countDown();
+      try {
+        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+      }
+      catch (InterruptedException e) {
+        interrupted.set(true);
+        throw new ThreadInterruptedError("interrupted", e);
+      }
+    }, Jobs.newInput().withExceptionHandling(null, false));
+
+    assertTrue(running.await(10, TimeUnit.SECONDS));
+    assertTrue(future.cancel(true));
+    future.awaitFinished(10, TimeUnit.SECONDS);
+    assertTrue(future.isCancelled());
+    assertTrue(interrupted.get());
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.nls;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link NlsText} and {@link NlsTextTable}
+ */
+public class NlsTextTest {
+
+  private static final String[] TEXTS = {
+      "",
+      "no arguments",
+      "{0}",
+      "value {0}",
+      "{1} and {0}, again {1}",
+      "{0}{1}{2}",
+      "leading zeros {007}",
+      "missing {5}",
+      "not a placeholder {a} {} {-1} {0",
+      "too large {99999999999}"};
+
+  @Test
+  public void testBindLikeNlsUtility() {
+    String[][] argumentVariants = {null, {}, {"A"}, {"A", null, "C"}, {"A", "B", "C", "D", "E", "F"}};
+    for (String text : TEXTS) {
+      NlsText compiled = NlsText.compile(text);
+      assertEquals(text, compiled.getText());
+      for (String[] args : argumentVariants) {
+        if (text.contains("99999999999") && args != null && args.length > 0) {
+          continue; // NlsUtility fails as well
+        }
+        assertEquals(text, NlsUtility.bindText(text, args), compiled.bind(args));
+      }
+    }
+  }
+
+  @Test
+  public void testHasArguments() {
+    assertFalse(NlsText.compile("no arguments").hasArguments());
+    assertFalse(NlsText.compile("{a}").hasArguments());
+    assertTrue(NlsText.compile("value {0}").hasArguments());
+  }
+
+  @Test
+  public void testTable() {
+    Map<String, String> textMap = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      textMap.put("key" + i, "value " + i + " {0}");
+    }
+    NlsTextTable table = NlsTextTable.compile(textMap);
+    assertEquals(1000, table.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals("value " + i + " X", table.get("key" + i).bind("X"));
+    }
+    assertNull(table.get("key1000"));
+    assertNull(table.get("unknown"));
+    assertNull(table.get(null));
+
+    assertEquals(0, NlsTextTable.compile(new HashMap<>()).size());
+    assertNull(NlsTextTable.empty().get("key0"));
+  }
+}
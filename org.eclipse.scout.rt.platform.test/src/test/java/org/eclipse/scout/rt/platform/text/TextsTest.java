@@ -47,6 +47,14 @@ public class TextsTest {
     assertEquals("value DEF", TEXTS.getWithFallback("anyKey", TEXTS.getWithFallback("key6", "fallback", "DEF"), "ABC"));
   }
 
+  @Test
+  public void testGetAfterReloadTextProviders() {
+    BEANS.get(ScoutTexts.class).reloadTextProviders();
+    assertEquals("Value 1", TEXTS.get(Locale.ENGLISH, "key1"));
+    assertEquals("value X", TEXTS.get(Locale.ENGLISH, "key6", "X"));
+    assertEquals("{undefined text null}", TEXTS.get((String) null));
+  }
+
   @Test
   public void testGetTextMap() {
     Map<String, String> textMap = BEANS.get(ScoutTexts.class).getTextMap(Locale.ENGLISH);
@@ -148,6 +148,9 @@ public class BasicCache<K, V> implements ICache<K, V> {
 
   @Override
   public <T> T getAdapter(Class<T> clazz) {
+    if (clazz == CacheStatistics.class && m_cacheMap instanceof BoundedCacheMap) {
+      return clazz.cast(((BoundedCacheMap) m_cacheMap).getStatistics());
+    }
     return null;
   }
 }
@@ -0,0 +1,764 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * A thread-safe concurrent map with a strictly enforced size bound and optional expiration of entries.
+ * <p>
+ * Eviction follows the <em>Window TinyLFU</em> policy: new entries are placed in a small LRU admission window (1% of
+ * the maximum size). Entries leaving the window compete with the least recently used entry of the main region and are
+ * only admitted if their access frequency, estimated by a {@link FrequencySketch}, is higher. The main region is a
+ * segmented LRU with a probation and a protected segment (80% of the main region). All policy operations run in
+ * constant time.
+ * <p>
+ * Reads do not block: accesses are recorded in a lossy buffer which is drained while holding the eviction lock as soon
+ * as it is full or when the map is modified. Writes update the policy immediately.
+ * <p>
+ * Entries can expire after a duration since their last write (<tt>expireAfterWrite</tt>) and/or since their last read
+ * or write (<tt>expireAfterAccess</tt>). Expired entries are treated as absent and removed lazily.
+ * <p>
+ * Hits, misses, evictions and expirations of {@link #get(Object)} are recorded in the {@link CacheStatistics} of this
+ * map.
+ * <p>
+ * <em>Important</em>: The method {@link #size()} does not check if entries are expired.
+ * <p>
+ * This class does neither allow <tt>null</tt> keys nor <tt>null</tt> values.
+ *
+ * @param <K>
+ *          the type of keys maintained by this map
+ * @param <V>
+ *          the type of mapped values
+ * @since 11
+ */
+@SuppressWarnings("squid:S2160")
+public class BoundedCacheMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+  private static final int READ_BUFFER_SIZE = 128;
+  private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+  private static final double WINDOW_PERCENTAGE = 0.01;
+  private static final double PROTECTED_PERCENTAGE = 0.8;
+  /**
+   * Candidates with at least this frequency are admitted randomly to defend against hash flooding.
+   */
+  private static final int ADMIT_HASHDOS_THRESHOLD = 6;
+
+  private static final int QUEUE_NONE = 0;
+  private static final int QUEUE_WINDOW = 1;
+  private static final int QUEUE_PROBATION = 2;
+  private static final int QUEUE_PROTECTED = 3;
+
+  private final ConcurrentHashMap<K, Node<K, V>> m_data;
+  private final long m_maximumSize;
+  private final long m_expireAfterWriteNanos;
+  private final long m_expireAfterAccessNanos;
+  private final CacheStatistics m_statistics;
+
+  private final ReentrantLock m_evictionLock = new ReentrantLock();
+  private final AtomicReferenceArray<Node<K, V>> m_readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+  private final AtomicLong m_readBufferCounter = new AtomicLong();
+
+  // guarded by m_evictionLock
+  private final FrequencySketch m_sketch;
+  private final P_AccessOrderDeque<K, V> m_window = new P_AccessOrderDeque<>();
+  private final P_AccessOrderDeque<K, V> m_probation = new P_AccessOrderDeque<>();
+  private final P_AccessOrderDeque<K, V> m_protected = new P_AccessOrderDeque<>();
+  private final P_WriteOrderDeque<K, V> m_writeOrder = new P_WriteOrderDeque<>();
+  private final long m_windowMaximum;
+  private final long m_protectedMaximum;
+  private long m_windowSize;
+  private long m_protectedSize;
+  private long m_linkedSize;
+
+  /**
+   * Creates a size bound map without expiration.
+   *
+   * @param maximumSize
+   *          maximum number of entries, must be greater than zero
+   */
+  public BoundedCacheMap(long maximumSize) {
+    this(maximumSize, 0, 0, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @param maximumSize
+   *          maximum number of entries, must be greater than zero
+   * @param expireAfterWrite
+   *          if greater than zero, entries expire after the given duration since they were created or last replaced
+   * @param expireAfterAccess
+   *          if greater than zero, entries expire after the given duration since they were last read or written
+   * @param unit
+   *          unit of expireAfterWrite and expireAfterAccess
+   */
+  public BoundedCacheMap(long maximumSize, long expireAfterWrite, long expireAfterAccess, TimeUnit unit) {
+    Assertions.assertTrue(maximumSize > 0, "maximumSize must be greater than zero");
+    m_data = new ConcurrentHashMap<>();
+    m_maximumSize = maximumSize;
+    m_expireAfterWriteNanos = expireAfterWrite > 0 ? unit.toNanos(expireAfterWrite) : 0;
+    m_expireAfterAccessNanos = expireAfterAccess > 0 ? unit.toNanos(expireAfterAccess) : 0;
+    m_statistics = new CacheStatistics();
+    m_sketch = new FrequencySketch(maximumSize);
+    m_windowMaximum = Math.max(1, (long) (maximumSize * WINDOW_PERCENTAGE));
+    m_protectedMaximum = (long) ((maximumSize - m_windowMaximum) * PROTECTED_PERCENTAGE);
+  }
+
+  public long getMaximumSize() {
+    return m_maximumSize;
+  }
+
+  public CacheStatistics getStatistics() {
+    return m_statistics;
+  }
+
+  protected long currentTimeNanos() {
+    return System.nanoTime();
+  }
+
+  protected boolean isExpired(Node<K, V> node, long now) {
+    return (m_expireAfterWriteNanos > 0 && now - node.m_writeTime >= m_expireAfterWriteNanos)
+        || (m_expireAfterAccessNanos > 0 && now - node.m_accessTime >= m_expireAfterAccessNanos);
+  }
+
+  @Override
+  public V get(Object key) {
+    Node<K, V> node = m_data.get(key);
+    if (node == null) {
+      m_statistics.recordMiss();
+      return null;
+    }
+    long now = currentTimeNanos();
+    if (isExpired(node, now)) {
+      removeExpired(node);
+      m_statistics.recordMiss();
+      return null;
+    }
+    V value = node.m_value;
+    if (m_expireAfterAccessNanos > 0) {
+      node.m_accessTime = now;
+    }
+    m_statistics.recordHit();
+    afterRead(node);
+    return value;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Node<K, V> node = m_data.get(key);
+    return node != null && !isExpired(node, currentTimeNanos());
+  }
+
+  @Override
+  public V put(K key, V value) {
+    return put(key, value, false);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    return put(key, value, true);
+  }
+
+  protected V put(K key, V value, boolean onlyIfAbsent) {
+    Assertions.assertNotNull(key);
+    Assertions.assertNotNull(value);
+    long now = currentTimeNanos();
+    Node<K, V> node = null;
+    while (true) {
+      Node<K, V> prior = m_data.get(key);
+      if (prior == null) {
+        if (node == null) {
+          node = new Node<>(key, value, now);
+        }
+        prior = m_data.putIfAbsent(key, node);
+        if (prior == null) {
+          afterAdd(node);
+          return null;
+        }
+      }
+      if (isExpired(prior, now)) {
+        if (node == null) {
+          node = new Node<>(key, value, now);
+        }
+        if (m_data.replace(key, prior, node)) {
+          retire(prior);
+          m_statistics.recordExpiration();
+          afterRemove(prior);
+          afterAdd(node);
+          return null;
+        }
+        continue;
+      }
+      if (onlyIfAbsent) {
+        afterRead(prior);
+        return prior.m_value;
+      }
+      V oldValue;
+      synchronized (prior) {
+        if (!prior.m_alive) {
+          continue;
+        }
+        oldValue = prior.m_value;
+        prior.m_value = value;
+        prior.m_writeTime = now;
+        prior.m_accessTime = now;
+      }
+      afterWrite(prior);
+      return oldValue;
+    }
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    Assertions.assertNotNull(value);
+    Node<K, V> node = m_data.get(key);
+    if (node == null) {
+      return null;
+    }
+    long now = currentTimeNanos();
+    V oldValue;
+    synchronized (node) {
+      if (!node.m_alive || isExpired(node, now)) {
+        return null;
+      }
+      oldValue = node.m_value;
+      node.m_value = value;
+      node.m_writeTime = now;
+      node.m_accessTime = now;
+    }
+    afterWrite(node);
+    return oldValue;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    Assertions.assertNotNull(oldValue);
+    Assertions.assertNotNull(newValue);
+    Node<K, V> node = m_data.get(key);
+    if (node == null) {
+      return false;
+    }
+    long now = currentTimeNanos();
+    synchronized (node) {
+      if (!node.m_alive || isExpired(node, now) || !node.m_value.equals(oldValue)) {
+        return false;
+      }
+      node.m_value = newValue;
+      node.m_writeTime = now;
+      node.m_accessTime = now;
+    }
+    afterWrite(node);
+    return true;
+  }
+
+  @Override
+  public V remove(Object key) {
+    Node<K, V> node = m_data.remove(key);
+    if (node == null) {
+      return null;
+    }
+    V value = retire(node);
+    afterRemove(node);
+    return isExpired(node, currentTimeNanos()) ? null : value;
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    Node<K, V> node = m_data.get(key);
+    if (node == null || value == null || !value.equals(node.m_value) || isExpired(node, currentTimeNanos())) {
+      return false;
+    }
+    if (!m_data.remove(key, node)) {
+      return false;
+    }
+    retire(node);
+    afterRemove(node);
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    for (K key : m_data.keySet()) {
+      remove(key);
+    }
+  }
+
+  @Override
+  public int size() {
+    return m_data.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return m_data.isEmpty();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new P_EntrySet();
+  }
+
+  /**
+   * Removes expired entries and applies pending reads to the eviction policy.
+   */
+  public void cleanUp() {
+    m_evictionLock.lock();
+    try {
+      maintenance();
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  private V retire(Node<K, V> node) {
+    synchronized (node) {
+      node.m_alive = false;
+      return node.m_value;
+    }
+  }
+
+  private void removeExpired(Node<K, V> node) {
+    if (m_data.remove(node.m_key, node)) {
+      retire(node);
+      m_statistics.recordExpiration();
+      afterRemove(node);
+    }
+  }
+
+  private void afterRead(Node<K, V> node) {
+    long index = m_readBufferCounter.getAndIncrement();
+    m_readBuffer.lazySet((int) (index & READ_BUFFER_MASK), node);
+    if ((index & READ_BUFFER_MASK) == READ_BUFFER_MASK && m_evictionLock.tryLock()) {
+      try {
+        maintenance();
+      }
+      finally {
+        m_evictionLock.unlock();
+      }
+    }
+  }
+
+  private void afterAdd(Node<K, V> node) {
+    m_evictionLock.lock();
+    try {
+      if (node.m_alive && node.m_queue == QUEUE_NONE) {
+        m_sketch.increment(node.m_key);
+        node.m_queue = QUEUE_WINDOW;
+        m_window.addLast(node);
+        m_writeOrder.addLast(node);
+        m_windowSize++;
+        m_linkedSize++;
+      }
+      maintenance();
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  private void afterWrite(Node<K, V> node) {
+    m_evictionLock.lock();
+    try {
+      if (node.m_queue != QUEUE_NONE) {
+        m_writeOrder.moveToLast(node);
+        onAccess(node);
+      }
+      maintenance();
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  private void afterRemove(Node<K, V> node) {
+    m_evictionLock.lock();
+    try {
+      unlink(node);
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  // all methods below require m_evictionLock
+
+  private void maintenance() {
+    drainReadBuffer();
+    expireEntries();
+    evictEntries();
+  }
+
+  private void drainReadBuffer() {
+    for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+      Node<K, V> node = m_readBuffer.getAndSet(i, null);
+      if (node != null) {
+        onAccess(node);
+      }
+    }
+  }
+
+  private void onAccess(Node<K, V> node) {
+    if (node.m_queue == QUEUE_NONE) {
+      return;
+    }
+    m_sketch.increment(node.m_key);
+    switch (node.m_queue) {
+      case QUEUE_WINDOW:
+        m_window.moveToLast(node);
+        break;
+      case QUEUE_PROBATION:
+        m_probation.remove(node);
+        node.m_queue = QUEUE_PROTECTED;
+        m_protected.addLast(node);
+        m_protectedSize++;
+        demoteFromProtected();
+        break;
+      case QUEUE_PROTECTED:
+        m_protected.moveToLast(node);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void demoteFromProtected() {
+    while (m_protectedSize > m_protectedMaximum) {
+      Node<K, V> demoted = m_protected.pollFirst();
+      if (demoted == null) {
+        return;
+      }
+      m_protectedSize--;
+      demoted.m_queue = QUEUE_PROBATION;
+      m_probation.addLast(demoted);
+    }
+  }
+
+  private void expireEntries() {
+    if (m_expireAfterWriteNanos <= 0 && m_expireAfterAccessNanos <= 0) {
+      return;
+    }
+    long now = currentTimeNanos();
+    if (m_expireAfterAccessNanos > 0) {
+      expireEntries(m_window, now);
+      expireEntries(m_probation, now);
+      expireEntries(m_protected, now);
+    }
+    if (m_expireAfterWriteNanos > 0) {
+      Node<K, V> node;
+      while ((node = m_writeOrder.peekFirst()) != null && isExpired(node, now)) {
+        expire(node);
+      }
+    }
+  }
+
+  private void expireEntries(P_AccessOrderDeque<K, V> deque, long now) {
+    Node<K, V> node;
+    while ((node = deque.peekFirst()) != null && isExpired(node, now)) {
+      expire(node);
+    }
+  }
+
+  private void expire(Node<K, V> node) {
+    if (m_data.remove(node.m_key, node)) {
+      retire(node);
+      m_statistics.recordExpiration();
+    }
+    unlink(node);
+  }
+
+  private void evictEntries() {
+    while (m_windowSize > m_windowMaximum) {
+      Node<K, V> candidate = m_window.pollFirst();
+      m_windowSize--;
+      candidate.m_queue = QUEUE_PROBATION;
+      m_probation.addLast(candidate);
+      if (m_linkedSize <= m_maximumSize) {
+        continue;
+      }
+      Node<K, V> victim = m_probation.peekFirst();
+      if (victim == candidate) {
+        victim = m_protected.peekFirst();
+      }
+      if (victim == null || admit(candidate.m_key, victim.m_key)) {
+        evict(victim != null ? victim : candidate);
+      }
+      else {
+        evict(candidate);
+      }
+    }
+    while (m_linkedSize > m_maximumSize) {
+      Node<K, V> victim = m_probation.peekFirst();
+      if (victim == null) {
+        victim = m_protected.peekFirst();
+      }
+      if (victim == null) {
+        victim = m_window.peekFirst();
+      }
+      evict(victim);
+    }
+  }
+
+  private boolean admit(K candidateKey, K victimKey) {
+    int candidateFrequency = m_sketch.frequency(candidateKey);
+    int victimFrequency = m_sketch.frequency(victimKey);
+    if (candidateFrequency > victimFrequency) {
+      return true;
+    }
+    if (candidateFrequency >= ADMIT_HASHDOS_THRESHOLD) {
+      return (ThreadLocalRandom.current().nextInt() & 127) == 0;
+    }
+    return false;
+  }
+
+  private void evict(Node<K, V> node) {
+    if (m_data.remove(node.m_key, node)) {
+      retire(node);
+      m_statistics.recordEviction();
+    }
+    unlink(node);
+  }
+
+  private void unlink(Node<K, V> node) {
+    switch (node.m_queue) {
+      case QUEUE_WINDOW:
+        m_window.remove(node);
+        m_windowSize--;
+        break;
+      case QUEUE_PROBATION:
+        m_probation.remove(node);
+        break;
+      case QUEUE_PROTECTED:
+        m_protected.remove(node);
+        m_protectedSize--;
+        break;
+      default:
+        return;
+    }
+    m_writeOrder.remove(node);
+    node.m_queue = QUEUE_NONE;
+    m_linkedSize--;
+  }
+
+  protected static final class Node<K, V> {
+    private final K m_key;
+    private volatile V m_value;
+    private volatile long m_writeTime;
+    private volatile long m_accessTime;
+    private volatile boolean m_alive = true;
+
+    // guarded by the eviction lock
+    private int m_queue = QUEUE_NONE;
+    private Node<K, V> m_prevAccess;
+    private Node<K, V> m_nextAccess;
+    private Node<K, V> m_prevWrite;
+    private Node<K, V> m_nextWrite;
+
+    Node(K key, V value, long now) {
+      m_key = key;
+      m_value = value;
+      m_writeTime = now;
+      m_accessTime = now;
+    }
+  }
+
+  /**
+   * Doubly linked deque using the links embedded in the nodes.
+   */
+  private abstract static class P_NodeDeque<K, V> {
+    private Node<K, V> m_first;
+    private Node<K, V> m_last;
+
+    protected abstract Node<K, V> getPrevious(Node<K, V> node);
+
+    protected abstract Node<K, V> getNext(Node<K, V> node);
+
+    protected abstract void setPrevious(Node<K, V> node, Node<K, V> prev);
+
+    protected abstract void setNext(Node<K, V> node, Node<K, V> next);
+
+    Node<K, V> peekFirst() {
+      return m_first;
+    }
+
+    Node<K, V> pollFirst() {
+      Node<K, V> first = m_first;
+      if (first != null) {
+        remove(first);
+      }
+      return first;
+    }
+
+    void addLast(Node<K, V> node) {
+      setPrevious(node, m_last);
+      setNext(node, null);
+      if (m_last == null) {
+        m_first = node;
+      }
+      else {
+        setNext(m_last, node);
+      }
+      m_last = node;
+    }
+
+    void remove(Node<K, V> node) {
+      Node<K, V> prev = getPrevious(node);
+      Node<K, V> next = getNext(node);
+      if (prev == null) {
+        m_first = next;
+      }
+      else {
+        setNext(prev, next);
+      }
+      if (next == null) {
+        m_last = prev;
+      }
+      else {
+        setPrevious(next, prev);
+      }
+      setPrevious(node, null);
+      setNext(node, null);
+    }
+
+    void moveToLast(Node<K, V> node) {
+      if (node != m_last) {
+        remove(node);
+        addLast(node);
+      }
+    }
+  }
+
+  private static final class P_AccessOrderDeque<K, V> extends P_NodeDeque<K, V> {
+    @Override
+    protected Node<K, V> getPrevious(Node<K, V> node) {
+      return node.m_prevAccess;
+    }
+
+    @Override
+    protected Node<K, V> getNext(Node<K, V> node) {
+      return node.m_nextAccess;
+    }
+
+    @Override
+    protected void setPrevious(Node<K, V> node, Node<K, V> prev) {
+      node.m_prevAccess = prev;
+    }
+
+    @Override
+    protected void setNext(Node<K, V> node, Node<K, V> next) {
+      node.m_nextAccess = next;
+    }
+  }
+
+  private static final class P_WriteOrderDeque<K, V> extends P_NodeDeque<K, V> {
+    @Override
+    protected Node<K, V> getPrevious(Node<K, V> node) {
+      return node.m_prevWrite;
+    }
+
+    @Override
+    protected Node<K, V> getNext(Node<K, V> node) {
+      return node.m_nextWrite;
+    }
+
+    @Override
+    protected void setPrevious(Node<K, V> node, Node<K, V> prev) {
+      node.m_prevWrite = prev;
+    }
+
+    @Override
+    protected void setNext(Node<K, V> node, Node<K, V> next) {
+      node.m_nextWrite = next;
+    }
+  }
+
+  private final class P_EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      return new P_EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return BoundedCacheMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      BoundedCacheMap.this.clear();
+    }
+  }
+
+  private final class P_EntryIterator implements Iterator<Entry<K, V>> {
+    private final Iterator<Node<K, V>> m_iterator = m_data.values().iterator();
+    private final long m_now = currentTimeNanos();
+    private Node<K, V> m_next;
+    private Node<K, V> m_current;
+
+    @Override
+    public boolean hasNext() {
+      while (m_next == null && m_iterator.hasNext()) {
+        Node<K, V> node = m_iterator.next();
+        if (!isExpired(node, m_now)) {
+          m_next = node;
+        }
+      }
+      return m_next != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      m_current = m_next;
+      m_next = null;
+      return new P_Entry(m_current.m_key, m_current.m_value);
+    }
+
+    @Override
+    public void remove() {
+      Assertions.assertNotNull(m_current, "next() has not been called");
+      if (m_data.remove(m_current.m_key, m_current)) {
+        retire(m_current);
+        afterRemove(m_current);
+      }
+      m_current = null;
+    }
+  }
+
+  private final class P_Entry extends SimpleEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    P_Entry(K key, V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(V value) {
+      put(getKey(), value);
+      return super.setValue(value);
+    }
+  }
+}
@@ -48,6 +48,9 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private Long m_timeToLive;
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
+  private CacheEvictionPolicy m_evictionPolicy;
+  private Long m_expireAfterAccess;
+  private boolean m_resolveDeduplication;
   private Integer m_maxConcurrentResolve;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
@@ -58,6 +61,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     m_threadSafe = true;
     m_throwIfExists = true;
     m_replaceIfExists = false;
+    m_evictionPolicy = CacheEvictionPolicy.SOFT_BOUND;
   }
 
   @Override
@@ -97,6 +101,9 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     if (!isCreateExpiringMap() && isTransactional() && !isAtomicInsertion() && (isSingleton() || !isTransactionalFastForward())) {
       return new CopyOnWriteTransactionalMap<>(getCacheId(), isTransactionalFastForward());
     }
+    else if (isCreateBoundedMap()) {
+      return createBoundedMap();
+    }
     else if (isCreateExpiringMap()) {
       boolean touchOnGet = isTouchOnGet() || getSizeBound() != null;
       long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
@@ -122,6 +129,17 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return getTimeToLive() != null || getSizeBound() != null;
   }
 
+  protected boolean isCreateBoundedMap() {
+    return getEvictionPolicy() == CacheEvictionPolicy.WINDOW_TINY_LFU && getSizeBound() != null && !isTransactional();
+  }
+
+  protected <KK, VV> BoundedCacheMap<KK, VV> createBoundedMap() {
+    long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
+    long expireAfterWrite = isTouchOnGet() ? -1L : timeToLive;
+    long expireAfterAccess = NumberUtility.nvl(getExpireAfterAccess(), isTouchOnGet() ? timeToLive : -1L);
+    return new BoundedCacheMap<>(getSizeBound(), expireAfterWrite, expireAfterAccess, TimeUnit.MILLISECONDS);
+  }
+
   protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
     return new BasicCache<>(getCacheId(), getValueResolver(), cacheMap, isAtomicInsertion());
   }
@@ -130,6 +148,9 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     if (getMaxConcurrentResolve() != null) {
       cache = new BoundedResolveCacheWrapper<>(cache, getMaxConcurrentResolve());
     }
+    if (isResolveDeduplication()) {
+      cache = new DeduplicatingResolveCacheWrapper<>(cache);
+    }
     return cache;
   }
 
@@ -313,6 +334,47 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_sizeBound;
   }
 
+  @Override
+  public CacheBuilder<K, V> withEvictionPolicy(CacheEvictionPolicy evictionPolicy) {
+    m_evictionPolicy = evictionPolicy != null ? evictionPolicy : CacheEvictionPolicy.SOFT_BOUND;
+    return this;
+  }
+
+  public CacheEvictionPolicy getEvictionPolicy() {
+    return m_evictionPolicy;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withExpireAfterAccess(Long duration, TimeUnit unit) {
+    if (duration == null || unit == null) {
+      m_expireAfterAccess = null;
+    }
+    else {
+      if (duration < 0L) {
+        throw new IllegalArgumentException("duration cannot be negative");
+      }
+      m_expireAfterAccess = unit.toMillis(duration);
+    }
+    return this;
+  }
+
+  /**
+   * @return expire after access duration in milliseconds
+   */
+  public Long getExpireAfterAccess() {
+    return m_expireAfterAccess;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withResolveDeduplication(boolean resolveDeduplication) {
+    m_resolveDeduplication = resolveDeduplication;
+    return this;
+  }
+
+  public boolean isResolveDeduplication() {
+    return m_resolveDeduplication;
+  }
+
   @Override
   public CacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve) {
     if (maxConcurrentResolve != null && maxConcurrentResolve < 0) {
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+/**
+ * Eviction policy of a size bound cache, see {@link ICacheBuilder#withEvictionPolicy(CacheEvictionPolicy)}.
+ *
+ * @since 11
+ */
+public enum CacheEvictionPolicy {
+  /**
+   * Least recently used entries are removed once the cache grows beyond an overflow size. The size bound is only a
+   * guidance value (default).
+   *
+   * @see org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap
+   */
+  SOFT_BOUND,
+  /**
+   * The size bound is enforced using Window TinyLFU: new entries are admitted to the main region only if they are
+   * accessed more frequently than the entry they would replace.
+   *
+   * @see BoundedCacheMap
+   */
+  WINDOW_TINY_LFU
+}
@@ -11,6 +11,8 @@
 package org.eclipse.scout.rt.platform.cache;
 
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.platform.util.Assertions;
@@ -51,6 +53,24 @@ public class CacheRegistryService implements ICacheRegistryService {
     return getMap().get(cacheId);
   }
 
+  @Override
+  public CacheStatistics getStatistics(String cacheId) {
+    ICache<?, ?> cache = opt(cacheId);
+    return cache != null ? cache.getAdapter(CacheStatistics.class) : null;
+  }
+
+  @Override
+  public Map<String, CacheStatistics> getAllStatistics() {
+    Map<String, CacheStatistics> statistics = new TreeMap<>();
+    for (Entry<String, ICache> entry : getMap().entrySet()) {
+      CacheStatistics cacheStatistics = (CacheStatistics) entry.getValue().getAdapter(CacheStatistics.class);
+      if (cacheStatistics != null) {
+        statistics.put(entry.getKey(), cacheStatistics);
+      }
+    }
+    return statistics;
+  }
+
   protected Map<String, ICache> getMap() {
     return m_map;
   }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and eviction counters of a cache.
+ *
+ * @see ICacheRegistryService#getStatistics(String)
+ * @since 11
+ */
+public class CacheStatistics {
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+  private final LongAdder m_expirationCount = new LongAdder();
+
+  public void recordHit() {
+    m_hitCount.increment();
+  }
+
+  public void recordMiss() {
+    m_missCount.increment();
+  }
+
+  public void recordEviction() {
+    m_evictionCount.increment();
+  }
+
+  public void recordExpiration() {
+    m_expirationCount.increment();
+  }
+
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  /**
+   * @return number of entries removed because the size bound was reached
+   */
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  /**
+   * @return number of entries removed because their time to live elapsed
+   */
+  public long getExpirationCount() {
+    return m_expirationCount.sum();
+  }
+
+  /**
+   * @return ratio of hits to all lookups, 1.0 if there were no lookups yet
+   */
+  public double getHitRate() {
+    long hits = getHitCount();
+    long lookups = hits + getMissCount();
+    return lookups == 0 ? 1.0 : (double) hits / lookups;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStatistics [hitCount=" + getHitCount() + ", missCount=" + getMissCount() + ", evictionCount=" + getEvictionCount() + ", expirationCount=" + getExpirationCount() + "]";
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+
+/**
+ * This wrapper ensures that at most one resolve operation per key is running at the same time. Concurrent requests for
+ * a key which is currently being resolved wait for the running operation and receive its value (or its exception).
+ * <p>
+ * Only {@link #get(Object)} is de-duplicated, {@link #getAll(java.util.Collection)} is delegated as is. A miss is only
+ * recorded by the delegate (see {@link CacheStatistics}), threads waiting for a running resolve are not counted.
+ * <p>
+ * <b>The cache implementation on which this wrapper is based on must be still thread safe.</b>
+ *
+ * @since 11
+ */
+public class DeduplicatingResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V> {
+  private final ConcurrentMap<K, CompletableFuture<V>> m_pendingResolves = new ConcurrentHashMap<>();
+
+  public DeduplicatingResolveCacheWrapper(ICache<K, V> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  public V get(K key) {
+    if (key == null) {
+      return null;
+    }
+    // containsKey does not record a miss, the miss is recorded once by the delegate when it resolves the key
+    Map<K, V> map = getUnmodifiableMap();
+    V value = map.containsKey(key) ? map.get(key) : null;
+    if (value != null) {
+      return value;
+    }
+    CompletableFuture<V> future = new CompletableFuture<>();
+    CompletableFuture<V> pending = m_pendingResolves.putIfAbsent(key, future);
+    if (pending != null) {
+      return awaitResolve(pending);
+    }
+    try {
+      value = super.get(key);
+      future.complete(value);
+      return value;
+    }
+    catch (RuntimeException | Error e) {
+      future.completeExceptionally(e);
+      throw e;
+    }
+    finally {
+      m_pendingResolves.remove(key, future);
+    }
+  }
+
+  protected V awaitResolve(CompletableFuture<V> pending) {
+    try {
+      return pending.get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ThreadInterruptedError("Interrupted while waiting for a concurrent resolve", e);
+    }
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw (RuntimeException) cause; // only runtime exceptions and errors are passed to the future
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+/**
+ * Probabilistic frequency estimation for {@link BoundedCacheMap}: a count-min sketch with four 4-bit counters per key.
+ * All counters are halved once the number of recorded increments reaches ten times the maximum size of the cache so
+ * that the sketch adapts to changing access patterns.
+ * <p>
+ * This class is not thread safe, it is only accessed while holding the eviction lock of the map.
+ *
+ * @since 11
+ */
+final class FrequencySketch {
+
+  private static final long[] SEED = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK = 0x1111111111111111L;
+
+  private final long[] m_table;
+  private final int m_tableMask;
+  private final int m_sampleSize;
+  private int m_size;
+
+  FrequencySketch(long maximumSize) {
+    int maximum = (int) Math.min(Math.max(maximumSize, 1L), Integer.MAX_VALUE >>> 1);
+    m_table = new long[Math.max(Integer.highestOneBit(maximum - 1) << 1, 8)];
+    m_tableMask = m_table.length - 1;
+    m_sampleSize = (maximum > Integer.MAX_VALUE / 10) ? Integer.MAX_VALUE : 10 * maximum;
+  }
+
+  /**
+   * @return estimated number of occurrences of the key, at most 15
+   */
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(hash, i);
+      int count = (int) ((m_table[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && ++m_size == m_sampleSize) {
+      reset();
+    }
+  }
+
+  private boolean incrementAt(int index, int counter) {
+    int offset = counter << 2;
+    long mask = 0xfL << offset;
+    if ((m_table[index] & mask) != mask) {
+      m_table[index] += 1L << offset;
+      return true;
+    }
+    return false;
+  }
+
+  private void reset() {
+    int oddCount = 0;
+    for (int i = 0; i < m_table.length; i++) {
+      oddCount += Long.bitCount(m_table[i] & ONE_MASK);
+      m_table[i] = (m_table[i] >>> 1) & RESET_MASK;
+    }
+    m_size = (m_size >>> 1) - (oddCount >>> 2);
+  }
+
+  private int indexOf(int hash, int depth) {
+    long h = (hash + SEED[depth]) * SEED[depth];
+    h += h >>> 32;
+    return ((int) h) & m_tableMask;
+  }
+
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+}
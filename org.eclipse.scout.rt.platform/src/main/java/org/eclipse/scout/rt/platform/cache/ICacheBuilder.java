@@ -148,7 +148,7 @@ public interface ICacheBuilder<K, V> {
   ICacheBuilder<K, V> withSingleton(boolean singleton);
 
   /**
-   * If booth arguments are not null, any resolved cache value will expire and have to be resolved again after the given
+   * If both arguments are not null, any resolved cache value will expire and have to be resolved again after the given
    * time to live duration.
    * <p>
    * <b>Note:</b> If one uses additionally the option {@link #withSizeBound(Integer)} the parameter <tt>touchOnGet</tt>
@@ -181,6 +181,37 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withSizeBound(Integer sizeBound);
 
+  /**
+   * Selects how the size bound set by {@link #withSizeBound(Integer)} is maintained. With
+   * {@link CacheEvictionPolicy#WINDOW_TINY_LFU} the size bound is enforced and the parameter <tt>touchOnGet</tt> of
+   * {@link #withTimeToLive(Long, TimeUnit, boolean)} is not overruled: if false, entries expire after the time to live
+   * since they were written. The policy has no effect on transactional caches. (Default
+   * {@link CacheEvictionPolicy#SOFT_BOUND})
+   *
+   * @return this builder
+   */
+  ICacheBuilder<K, V> withEvictionPolicy(CacheEvictionPolicy evictionPolicy);
+
+  /**
+   * If both arguments are not null, any cache value expires if it was not read or written for the given duration. This
+   * can be combined with a time to live (without touchOnGet) to bound the age of an entry as well.
+   * <p>
+   * Only supported by the eviction policy {@link CacheEvictionPolicy#WINDOW_TINY_LFU}.
+   *
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if duration is negative
+   */
+  ICacheBuilder<K, V> withExpireAfterAccess(Long duration, TimeUnit unit);
+
+  /**
+   * @param resolveDeduplication
+   *          if true concurrent requests for the same missing key are resolved only once, the other requests wait for
+   *          the running resolve operation. See {@link DeduplicatingResolveCacheWrapper}. (Default false)
+   * @return this builder
+   */
+  ICacheBuilder<K, V> withResolveDeduplication(boolean resolveDeduplication);
+
   /**
    * <b>Warning: Potential deadlock</b>
    * <p>
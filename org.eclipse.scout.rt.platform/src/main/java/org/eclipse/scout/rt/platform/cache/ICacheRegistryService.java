@@ -10,6 +10,9 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 
@@ -60,4 +63,21 @@ public interface ICacheRegistryService {
    */
   <K, V> ICache<K, V> opt(String cacheId);
 
+  /**
+   * @return hit, miss and eviction counters of a registered cache or <code>null</code> if the cache is not found or
+   *         does not collect statistics (see {@link CacheEvictionPolicy#WINDOW_TINY_LFU}).
+   * @since 11
+   */
+  default CacheStatistics getStatistics(String cacheId) {
+    return null;
+  }
+
+  /**
+   * @return statistics of all registered caches that collect statistics, by cache id
+   * @since 11
+   */
+  default Map<String, CacheStatistics> getAllStatistics() {
+    return Collections.emptyMap();
+  }
+
 }
@@ -146,6 +146,24 @@ public final class PlatformConfigProperties {
     }
   }
 
+  /**
+   * @since 11
+   */
+  public static class JandexSnapshotProperty extends AbstractStringConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jandex.snapshot";
+    }
+
+    @Override
+    public String description() {
+      return "Path to a snapshot file containing the Jandex indexes of all modules. If set and the classpath is unchanged since the snapshot was written, "
+          + "the indexes are read from this single file instead of from every module. Otherwise all modules are scanned and the snapshot is rewritten. "
+          + "The snapshot may be created at build time using 'JandexInventorySnapshot'. The default value is null which disables the snapshot.";
+    }
+  }
+
   public static class JobManagerCorePoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -241,6 +259,30 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies whether every job should run on a new virtual thread instead of a thread of the pool. Requires Java 21 or newer, otherwise the pool is used. "
+          + "If enabled, the properties '%s', '%s', '%s', '%s' and '%s' are ignored. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerKeepAliveTimeProperty.class).getKey(),
+          BEANS.get(JobManagerAllowCoreThreadTimeoutProperty.class).getKey(),
+          BEANS.get(JobManagerPrestartCoreThreadsProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
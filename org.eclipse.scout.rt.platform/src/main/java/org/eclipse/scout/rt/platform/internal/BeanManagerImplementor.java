@@ -20,6 +20,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -43,6 +44,11 @@ public class BeanManagerImplementor implements IBeanManager {
 
   private final ReentrantReadWriteLock m_lock;
   private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
+  /**
+   * Snapshot of the query results per class. Read without lock, filled while holding the read lock and cleared while
+   * holding the write lock.
+   */
+  private final Map<Class<?>, P_QueryResult> m_queryCache;
   private IBeanDecorationFactory m_beanDecorationFactory;
 
   public BeanManagerImplementor() {
@@ -52,6 +58,7 @@ public class BeanManagerImplementor implements IBeanManager {
   public BeanManagerImplementor(IBeanDecorationFactory f) {
     m_lock = new ReentrantReadWriteLock(true);
     m_beanHierarchies = new HashMap<>();
+    m_queryCache = new ConcurrentHashMap<>();
     m_beanDecorationFactory = f;
   }
 
@@ -64,39 +71,50 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
+    checkAccess();
+    P_QueryResult<T> result = getQueryResult(beanClazz);
+    return getDecoratedBeans(result.m_single, beanClazz);
+  }
+
+  protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
+    checkAccess();
+    P_QueryResult<T> result = getQueryResult(beanClazz);
+    return getDecoratedBeans(result.m_all, beanClazz);
+  }
+
+  /**
+   * @return the cached query result for the given class. The lookup is lock-free if the result is cached, otherwise it
+   *         is computed while holding the read lock.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> P_QueryResult<T> getQueryResult(Class<T> beanClazz) {
+    P_QueryResult<T> result = m_queryCache.get(beanClazz);
+    if (result != null) {
+      return result;
+    }
     m_lock.readLock().lock();
     try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
       BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
+      if (h == null || h.getBeans().isEmpty()) {
+        result = P_QueryResult.EMPTY;
       }
       else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
+        result = new P_QueryResult<>(h.querySingle(), h.queryAll());
       }
+      // the write lock cannot be acquired concurrently, therefore the result is not stale
+      m_queryCache.put(beanClazz, result);
+      return result;
     }
     finally {
       m_lock.readLock().unlock();
     }
   }
 
-  protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+  /**
+   * Must be called while holding the write lock.
+   */
+  protected void invalidateQueryCache() {
+    m_queryCache.clear();
   }
 
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
@@ -162,6 +180,7 @@ public class BeanManagerImplementor implements IBeanManager {
         BeanHierarchy h = m_beanHierarchies.computeIfAbsent(type, k -> new BeanHierarchy(type));
         h.addBean(bean);
       }
+      invalidateQueryCache();
       return bean;
     }
     finally {
@@ -181,6 +200,7 @@ public class BeanManagerImplementor implements IBeanManager {
           h.removeBean(bean);
         }
       }
+      invalidateQueryCache();
       if (bean instanceof BeanImplementor) {
         ((BeanImplementor) bean).dispose();
       }
@@ -269,6 +289,10 @@ public class BeanManagerImplementor implements IBeanManager {
 
   @Override
   public <T> boolean isBean(Class<T> clazz) {
+    P_QueryResult result = m_queryCache.get(clazz);
+    if (result != null) {
+      return result != P_QueryResult.EMPTY;
+    }
     m_lock.readLock().lock();
     try {
       BeanHierarchy h = m_beanHierarchies.get(clazz);
@@ -355,4 +379,20 @@ public class BeanManagerImplementor implements IBeanManager {
   public static boolean isApplicationScoped(IBean<?> bean) {
     return bean.hasAnnotation(ApplicationScoped.class);
   }
+
+  /**
+   * Immutable result of the queries on a {@link BeanHierarchy}.
+   */
+  private static final class P_QueryResult<T> {
+    @SuppressWarnings("rawtypes")
+    private static final P_QueryResult EMPTY = new P_QueryResult<>(Collections.emptyList(), Collections.emptyList());
+
+    private final List<IBean<T>> m_single;
+    private final List<IBean<T>> m_all;
+
+    private P_QueryResult(List<IBean<T>> single, List<IBean<T>> all) {
+      m_single = single;
+      m_all = all;
+    }
+  }
 }
@@ -20,6 +20,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -28,7 +29,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexRebuildProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexSnapshotProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.date.DateUtility;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.Index;
@@ -69,29 +72,81 @@ public class JandexInventoryBuilder {
   }
 
   private final RebuildStrategy m_rebuildStrategy;
+  private final JandexInventorySnapshot m_snapshot;
 
   private final List<IndexView> m_indexList;
 
   public JandexInventoryBuilder() {
     // do not use the CONFIG class here because the platform is not ready yet
-    this(new JandexRebuildProperty().getValue());
+    this(new JandexRebuildProperty().getValue(), createSnapshot(new JandexSnapshotProperty().getValue()));
   }
 
   public JandexInventoryBuilder(RebuildStrategy rebuildStrategy) {
+    this(rebuildStrategy, null);
+  }
+
+  /**
+   * @param snapshot
+   *          optional snapshot of the indexes of all modules, see {@link #scanAllModules()}
+   * @since 11
+   */
+  public JandexInventoryBuilder(RebuildStrategy rebuildStrategy, JandexInventorySnapshot snapshot) {
     m_rebuildStrategy = rebuildStrategy;
+    m_snapshot = snapshot;
     m_indexList = new ArrayList<>();
   }
 
+  protected static JandexInventorySnapshot createSnapshot(String path) {
+    if (!StringUtility.hasText(path)) {
+      return null;
+    }
+    return new JandexInventorySnapshot(Paths.get(path));
+  }
+
   public RebuildStrategy getRebuildStrategy() {
     return m_rebuildStrategy;
   }
 
+  public JandexInventorySnapshot getSnapshot() {
+    return m_snapshot;
+  }
+
+  /**
+   * Scans all modules containing a {@link #SCOUT_XML_PATH}.
+   * <p>
+   * If a {@link #getSnapshot() snapshot} is configured and the classpath consists of jar files only, the indexes are
+   * read from the snapshot instead if it was written for the same classpath. Otherwise the modules are scanned and the
+   * snapshot is rewritten. The snapshot is ignored if the rebuild strategy is {@link RebuildStrategy#ALWAYS}.
+   */
   public void scanAllModules() {
+    List<URL> scoutXmlUrls = findScoutXmlUrls();
+    String classpathHash = null;
+    if (m_snapshot != null && m_rebuildStrategy != RebuildStrategy.ALWAYS) {
+      classpathHash = m_snapshot.computeClasspathHash(scoutXmlUrls);
+      if (classpathHash != null) {
+        List<Index> indexes = m_snapshot.read(classpathHash);
+        if (indexes != null) {
+          synchronized (m_indexList) {
+            m_indexList.addAll(indexes);
+          }
+          return;
+        }
+      }
+    }
+
+    scoutXmlUrls
+        .parallelStream()
+        .map(this::findIndexUri)
+        .forEach(this::scanModule);
+
+    if (classpathHash != null) {
+      m_snapshot.write(classpathHash, getIndexes());
+    }
+  }
+
+  protected List<URL> findScoutXmlUrls() {
     try {
-      Collections.list(getClass().getClassLoader().getResources(SCOUT_XML_PATH))
-          .parallelStream()
-          .map(this::findIndexUri)
-          .forEach(this::scanModule);
+      return Collections.list(getClass().getClassLoader().getResources(SCOUT_XML_PATH));
     }
     catch (IOException ex) {
       throw new PlatformException("Error while reading resources '{}'", SCOUT_XML_PATH, ex);
@@ -317,4 +372,20 @@ public class JandexInventoryBuilder {
   protected List<IndexView> getIndexList() {
     return m_indexList;
   }
+
+  /**
+   * @return the indexes of all modules scanned so far
+   * @since 11
+   */
+  protected List<Index> getIndexes() {
+    List<Index> indexes = new ArrayList<>();
+    synchronized (m_indexList) {
+      for (IndexView view : m_indexList) {
+        if (view instanceof Index) {
+          indexes.add((Index) view);
+        }
+      }
+    }
+    return indexes;
+  }
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.HexUtility;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single file containing the Jandex indexes of all modules on the classpath.
+ * <p>
+ * Reading one file is considerably faster than opening every module (jar) and reading its
+ * {@link JandexInventoryBuilder#JANDEX_INDEX_PATH}. The snapshot is only used if the classpath hash stored in the file
+ * matches the current classpath (see {@link #computeClasspathHash(Collection)}).
+ * <p>
+ * File layout: magic, version, classpath hash, number of indexes and for each index its length followed by the index
+ * in the format of {@link IndexWriter}.
+ *
+ * @since 11
+ */
+public class JandexInventorySnapshot {
+  private static final Logger LOG = LoggerFactory.getLogger(JandexInventorySnapshot.class);
+
+  public static final int MAGIC = 0x53434A53; // "SCJS"
+  public static final int VERSION = 1;
+
+  private final Path m_file;
+
+  public JandexInventorySnapshot(Path file) {
+    m_file = Assertions.assertNotNull(file, "file is null");
+  }
+
+  public Path getFile() {
+    return m_file;
+  }
+
+  /**
+   * @param scoutXmlUrls
+   *          the {@link JandexInventoryBuilder#SCOUT_XML_PATH} resources of all modules
+   * @return hash of the module jars (name, size and modification time) or <code>null</code> if the classpath contains
+   *         modules which are not jar files (e.g. class folders during development). Such classpaths are not eligible
+   *         for a snapshot because their content may change without notice.
+   */
+  public String computeClasspathHash(Collection<URL> scoutXmlUrls) {
+    // the order of the modules does not matter for the resulting composite index
+    TreeSet<String> entries = new TreeSet<>();
+    for (URL url : scoutXmlUrls) {
+      File jarFile = toJarFile(url);
+      if (jarFile == null) {
+        LOG.debug("Classpath is not eligible for a jandex snapshot because of module '{}'", url);
+        return null;
+      }
+      entries.add(jarFile.getAbsolutePath() + "|" + jarFile.length() + "|" + jarFile.lastModified());
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (String entry : entries) {
+        digest.update(entry.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+      }
+      return HexUtility.encode(digest.digest());
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new PlatformException("SHA-256 not available", e);
+    }
+  }
+
+  /**
+   * @return the jar file of the module or <code>null</code> if the module is not a local jar file
+   */
+  protected File toJarFile(URL scoutXmlUrl) {
+    if (!"jar".equals(scoutXmlUrl.getProtocol())) {
+      return null;
+    }
+    String s = scoutXmlUrl.toExternalForm();
+    int i = s.lastIndexOf('!');
+    if (i < 0 || !s.startsWith("jar:file:")) {
+      return null;
+    }
+    try {
+      File f = new File(new URI(s.substring("jar:".length(), i)));
+      return f.isFile() ? f : null;
+    }
+    catch (URISyntaxException | IllegalArgumentException e) {
+      LOG.debug("Cannot resolve jar file of '{}'", scoutXmlUrl, e);
+      return null;
+    }
+  }
+
+  /**
+   * @return the indexes of the snapshot or <code>null</code> if the file does not exist, is not readable or was created
+   *         for another classpath
+   */
+  public List<Index> read(String expectedClasspathHash) {
+    byte[] content;
+    try {
+      content = Files.readAllBytes(m_file);
+    }
+    catch (NoSuchFileException e) { // NOSONAR
+      LOG.debug("No jandex snapshot found: {}", m_file);
+      return null;
+    }
+    catch (IOException e) {
+      LOG.warn("Cannot read jandex snapshot '{}'", m_file, e);
+      return null;
+    }
+
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(content))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        LOG.info("Ignore jandex snapshot '{}' with unknown format.", m_file);
+        return null;
+      }
+      String classpathHash = in.readUTF();
+      if (!classpathHash.equals(expectedClasspathHash)) {
+        LOG.info("Ignore outdated jandex snapshot '{}'. The classpath has changed.", m_file);
+        return null;
+      }
+      int count = in.readInt();
+      List<Index> indexes = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        int length = in.readInt();
+        int offset = content.length - in.available();
+        indexes.add(new IndexReader(new ByteArrayInputStream(content, offset, length)).read());
+        in.skipBytes(length);
+      }
+      LOG.debug("Read {} jandex indexes from snapshot '{}'", count, m_file);
+      return indexes;
+    }
+    catch (IOException | RuntimeException e) {
+      LOG.warn("Ignore corrupt jandex snapshot '{}'", m_file, e);
+      return null;
+    }
+  }
+
+  /**
+   * Writes the snapshot. The file is replaced atomically so that concurrently starting platforms never read a partially
+   * written snapshot. Errors are logged but not thrown because the snapshot is only an optimization.
+   *
+   * @return <code>true</code> if the snapshot was written
+   */
+  public boolean write(String classpathHash, Collection<Index> indexes) {
+    Assertions.assertNotNull(classpathHash, "classpath hash is null");
+    Path tmp = null;
+    try {
+      Path dir = m_file.toAbsolutePath().getParent();
+      Files.createDirectories(dir);
+      tmp = Files.createTempFile(dir, m_file.getFileName().toString(), ".tmp");
+      try (OutputStream out = Files.newOutputStream(tmp)) {
+        writeTo(out, classpathHash, indexes);
+      }
+      Files.move(tmp, m_file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      LOG.info("Wrote {} jandex indexes to snapshot '{}'", indexes.size(), m_file);
+      return true;
+    }
+    catch (IOException | RuntimeException e) {
+      LOG.warn("Cannot write jandex snapshot '{}'", m_file, e);
+      return false;
+    }
+    finally {
+      if (tmp != null) {
+        try {
+          Files.deleteIfExists(tmp);
+        }
+        catch (IOException e) { // NOSONAR
+          LOG.debug("Cannot delete temporary file '{}'", tmp, e);
+        }
+      }
+    }
+  }
+
+  protected void writeTo(OutputStream out, String classpathHash, Collection<Index> indexes) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeUTF(classpathHash);
+    data.writeInt(indexes.size());
+    ByteArrayOutputStream buf = new ByteArrayOutputStream();
+    for (Index index : indexes) {
+      buf.reset();
+      new IndexWriter(buf).write(index);
+      data.writeInt(buf.size());
+      buf.writeTo(data);
+    }
+    data.flush();
+  }
+
+  /**
+   * Creates the snapshot of the current classpath, e.g. at build time or while building a container image:
+   *
+   * <pre>
+   * java -cp ... org.eclipse.scout.rt.platform.inventory.internal.JandexInventorySnapshot /path/to/jandex-snapshot.idx
+   * </pre>
+   *
+   * The path must be configured using the property 'scout.jandex.snapshot'.
+   */
+  public static void main(String[] args) {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: JandexInventorySnapshot <snapshot file>");
+    }
+    JandexInventorySnapshot snapshot = new JandexInventorySnapshot(Paths.get(args[0]));
+    JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING);
+    builder.scanAllModules();
+    String classpathHash = snapshot.computeClasspathHash(builder.findScoutXmlUrls());
+    if (classpathHash == null) {
+      throw new PlatformException("Cannot create jandex snapshot '{}'. The classpath must only consist of jar files.", snapshot.getFile());
+    }
+    if (!snapshot.write(classpathHash, builder.getIndexes())) {
+      throw new PlatformException("Cannot write jandex snapshot '{}'", snapshot.getFile());
+    }
+  }
+}
@@ -10,8 +10,6 @@
  */
 package org.eclipse.scout.rt.platform.job.filter.future;
 
-import java.util.function.Predicate;
-
 import org.eclipse.scout.rt.platform.job.IFuture;
 
 /**
@@ -19,7 +17,7 @@ import org.eclipse.scout.rt.platform.job.IFuture;
  *
  * @since 5.2
  */
-public class ExecutionHintFutureFilter implements Predicate<IFuture<?>> {
+public class ExecutionHintFutureFilter implements IIndexedFutureFilter {
 
   private final String m_hint;
 
@@ -31,4 +29,9 @@ public class ExecutionHintFutureFilter implements Predicate<IFuture<?>> {
   public boolean test(final IFuture<?> future) {
     return future.containsExecutionHint(m_hint);
   }
+
+  @Override
+  public Object getIndexKey() {
+    return m_hint;
+  }
 }
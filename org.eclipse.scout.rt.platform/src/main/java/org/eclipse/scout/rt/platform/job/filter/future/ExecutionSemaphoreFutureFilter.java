@@ -10,8 +10,6 @@
  */
 package org.eclipse.scout.rt.platform.job.filter.future;
 
-import java.util.function.Predicate;
-
 import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
@@ -21,7 +19,7 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
  *
  * @since 5.1
  */
-public class ExecutionSemaphoreFutureFilter implements Predicate<IFuture<?>> {
+public class ExecutionSemaphoreFutureFilter implements IIndexedFutureFilter {
 
   private final IExecutionSemaphore m_semaphore;
 
@@ -33,4 +31,9 @@ public class ExecutionSemaphoreFutureFilter implements Predicate<IFuture<?>> {
   public boolean test(final IFuture<?> future) {
     return ObjectUtility.equals(m_semaphore, future.getJobInput().getExecutionSemaphore());
   }
+
+  @Override
+  public Object getIndexKey() {
+    return m_semaphore;
+  }
 }
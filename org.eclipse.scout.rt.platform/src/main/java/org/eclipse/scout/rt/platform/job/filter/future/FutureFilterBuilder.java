@@ -15,6 +15,7 @@ import static org.eclipse.scout.rt.platform.util.Assertions.assertNotNull;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -47,7 +48,7 @@ public class FutureFilterBuilder {
       case 1:
         return m_andFilters.get(0);
       default:
-        return new AndFilter<>(m_andFilters);
+        return new P_IndexedAndFilter(m_andFilters);
     }
   }
 
@@ -195,4 +196,27 @@ public class FutureFilterBuilder {
     andMatchNot(new ExecutionHintFutureFilter(hint));
     return this;
   }
+
+  /**
+   * 'AND' filter which can be resolved by the index of any of its filters.
+   */
+  private static class P_IndexedAndFilter extends AndFilter<IFuture<?>> implements IIndexedFutureFilter {
+
+    private final Object m_indexKey;
+
+    P_IndexedAndFilter(final List<Predicate<IFuture<?>>> filters) {
+      super(filters);
+      m_indexKey = filters.stream()
+          .filter(IIndexedFutureFilter.class::isInstance)
+          .map(filter -> ((IIndexedFutureFilter) filter).getIndexKey())
+          .filter(Objects::nonNull)
+          .findFirst()
+          .orElse(null);
+    }
+
+    @Override
+    public Object getIndexKey() {
+      return m_indexKey;
+    }
+  }
 }
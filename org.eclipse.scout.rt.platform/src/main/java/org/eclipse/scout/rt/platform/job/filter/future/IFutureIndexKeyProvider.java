@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.filter.future;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.job.IFuture;
+
+/**
+ * Provides an additional index key for Futures, so that a corresponding {@link IIndexedFutureFilter} can be resolved
+ * by the index of the job manager. The execution semaphore and the execution hints of a Future are always indexed.
+ * <p>
+ * Keys of different providers do not need to be distinct, because the index is only used to narrow the Futures to be
+ * tested by a filter.
+ *
+ * @since 11
+ */
+@ApplicationScoped
+public interface IFutureIndexKeyProvider {
+
+  /**
+   * @return the index key of the given Future, or <code>null</code> if not applicable. The key must not change during
+   *         the lifetime of the Future. This method is called while the Future set of the job manager is locked, it
+   *         must therefore be fast and must not interact with the job manager.
+   */
+  Object getIndexKey(IFuture<?> future);
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.filter.future;
+
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+
+/**
+ * Filter which only accepts Futures having a specific index key, like the {@link IExecutionSemaphore} or an execution
+ * hint. The job manager uses the key to look up candidate Futures in its index instead of testing every Future. The
+ * filter is still applied to every candidate.
+ *
+ * @see IFutureIndexKeyProvider
+ * @since 11
+ */
+public interface IIndexedFutureFilter extends Predicate<IFuture<?>> {
+
+  /**
+   * @return key which every Future accepted by this filter is indexed with, or <code>null</code> if this filter cannot
+   *         be resolved by the index.
+   */
+  Object getIndexKey();
+}
@@ -11,9 +11,12 @@
 package org.eclipse.scout.rt.platform.job.internal;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -21,19 +24,28 @@ import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerCorePoolSizeProperty;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.filter.future.IFutureIndexKeyProvider;
+import org.eclipse.scout.rt.platform.job.filter.future.IIndexedFutureFilter;
 import org.eclipse.scout.rt.platform.job.listener.JobEvent;
+import org.eclipse.scout.rt.platform.job.listener.JobEventType;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 
 /**
  * Thread-safe implementation of a {@link Set} to contain {@link IFuture}s.
+ * <p>
+ * Futures are indexed by their execution semaphore, their execution hints and the keys of all
+ * {@link IFutureIndexKeyProvider}s. Filters implementing {@link IIndexedFutureFilter} are only tested against the
+ * Futures of their index key, and threads waiting for such a filter are only signaled upon changes of those Futures.
  *
  * @since 5.1
  */
@@ -41,30 +53,41 @@ import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 public class FutureSet {
 
   private final Set<JobFutureTask<?>> m_futures;
+  private final Map<Object, Set<JobFutureTask<?>>> m_index;
+  private final Map<JobFutureTask<?>, Set<Object>> m_indexKeys;
+  private final List<P_Waiter> m_waiters;
 
   private final ReadLock m_readLock;
   private final WriteLock m_writeLock;
-  private final Condition m_changedCondition;
 
+  private List<IFutureIndexKeyProvider> m_indexKeyProviders;
   private IRegistrationHandle m_jobListenerRegistration;
 
   public FutureSet() {
     m_futures = new HashSet<>(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
+    m_index = new HashMap<>();
+    m_indexKeys = new HashMap<>();
+    m_waiters = new ArrayList<>();
+    m_indexKeyProviders = Collections.emptyList();
 
     final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     m_readLock = lock.readLock();
     m_writeLock = lock.writeLock();
-    m_changedCondition = m_writeLock.newCondition();
   }
 
   /**
    * Invoke to initialize this {@link FutureSet}.
    */
   public void init(final IJobManager jobManager) {
+    m_indexKeyProviders = BEANS.all(IFutureIndexKeyProvider.class);
     m_jobListenerRegistration = jobManager.addListener(newSignalingFilter(), event -> {
+      final JobFutureTask<?> future = (JobFutureTask<?>) event.getData().getFuture();
       m_writeLock.lock();
       try {
-        m_changedCondition.signalAll();
+        if (event.getType() == JobEventType.JOB_EXECUTION_HINT_ADDED) {
+          addIndexKey(future, event.getData().getExecutionHint());
+        }
+        signalWaiters(future);
       }
       finally {
         m_writeLock.unlock();
@@ -82,9 +105,11 @@ public class FutureSet {
     final List<JobFutureTask<?>> runningFutures;
     m_writeLock.lock();
     try {
-      runningFutures = copyFutures();
+      runningFutures = copyFutures(null);
       m_futures.clear();
-      m_changedCondition.signalAll();
+      m_index.clear();
+      m_indexKeys.clear();
+      signalWaiters(null);
     }
     finally {
       m_writeLock.unlock();
@@ -101,8 +126,13 @@ public class FutureSet {
   public void add(final JobFutureTask<?> future) {
     m_writeLock.lock();
     try {
-      m_futures.add(future);
-      m_changedCondition.signalAll();
+      if (m_futures.add(future)) {
+        // collected under the lock, so that an execution hint added concurrently is not missed
+        for (final Object indexKey : collectIndexKeys(future)) {
+          addIndexKey(future, indexKey);
+        }
+      }
+      signalWaiters(future);
     }
     finally {
       m_writeLock.unlock();
@@ -115,8 +145,10 @@ public class FutureSet {
   public void remove(final JobFutureTask<?> future) {
     m_writeLock.lock();
     try {
-      m_futures.remove(future);
-      m_changedCondition.signalAll();
+      if (m_futures.remove(future)) {
+        signalWaiters(future);
+        removeIndexKeys(future);
+      }
     }
     finally {
       m_writeLock.unlock();
@@ -134,7 +166,7 @@ public class FutureSet {
    * @return <code>true</code> if all Futures accepted by the specified Filter are successfully matched.
    */
   public boolean matchesEvery(final Predicate<IFuture<?>> filter, final Predicate<JobFutureTask<?>> matcher) {
-    for (final JobFutureTask<?> future : copyFutures()) {
+    for (final JobFutureTask<?> future : copyFutures(filter)) {
       final boolean accepted = (filter == null || filter.test(future));
 
       if (accepted && !matcher.test(future)) {
@@ -148,7 +180,7 @@ public class FutureSet {
    * Returns <code>true</code>, if this {@link FutureSet} contains one Future matching the given filter at minimum.
    */
   public boolean containsSome(final Predicate<IFuture<?>> filter) {
-    for (final JobFutureTask<?> future : copyFutures()) {
+    for (final JobFutureTask<?> future : copyFutures(filter)) {
       if (filter == null || filter.test(future)) {
         return true;
       }
@@ -175,20 +207,7 @@ public class FutureSet {
     Assertions.assertGreater(timeout, 0L, "Invalid timeout; must be > 0 [timeout={}]", timeout);
 
     // Wait until all Futures matching the filter are done, or the deadline elapsed.
-    m_writeLock.lockInterruptibly();
-    try {
-      long nanos = unit.toNanos(timeout);
-      while (!matchesEvery(filter, CompletionPromise.PROMISE_DONE_MATCHER) && nanos > 0L) {
-        nanos = m_changedCondition.awaitNanos(nanos);
-      }
-
-      if (nanos <= 0L) {
-        throw new TimeoutException();
-      }
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    await(filter, () -> matchesEvery(filter, CompletionPromise.PROMISE_DONE_MATCHER), timeout, unit);
   }
 
   /**
@@ -211,20 +230,7 @@ public class FutureSet {
     Assertions.assertGreater(timeout, 0L, "Invalid timeout; must be > 0 [timeout={}]", timeout);
 
     // Wait until all Futures matching the filter are removed, or the deadline elapsed.
-    m_writeLock.lockInterruptibly();
-    try {
-      long nanos = unit.toNanos(timeout);
-      while (containsSome(filter) && nanos > 0L) {
-        nanos = m_changedCondition.awaitNanos(nanos);
-      }
-
-      if (nanos <= 0L) {
-        throw new TimeoutException();
-      }
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    await(filter, () -> !containsSome(filter), timeout, unit);
   }
 
   /**
@@ -240,7 +246,7 @@ public class FutureSet {
    */
   public final Set<IFuture<?>> values(final Predicate<IFuture<?>> filter) {
     final Set<IFuture<?>> futures = new HashSet<>();
-    for (final IFuture<?> candidate : copyFutures()) {
+    for (final IFuture<?> candidate : copyFutures(filter)) {
       if (filter == null || filter.test(candidate)) {
         futures.add(candidate);
       }
@@ -268,16 +274,120 @@ public class FutureSet {
     return Collections.singleton(Boolean.TRUE).equals(success);
   }
 
-  protected List<JobFutureTask<?>> copyFutures() {
+  /**
+   * Waits until the given condition is fulfilled. The waiting thread is only signaled upon changes of Futures which
+   * have the index key of the given filter.
+   */
+  protected void await(final Predicate<IFuture<?>> filter, final BooleanSupplier condition, final long timeout, final TimeUnit unit) throws InterruptedException, TimeoutException {
+    m_writeLock.lockInterruptibly();
+    final P_Waiter waiter = new P_Waiter(getIndexKey(filter), m_writeLock.newCondition());
+    m_waiters.add(waiter);
+    try {
+      long nanos = unit.toNanos(timeout);
+      while (!condition.getAsBoolean() && nanos > 0L) {
+        nanos = waiter.m_condition.awaitNanos(nanos);
+      }
+
+      if (nanos <= 0L) {
+        throw new TimeoutException();
+      }
+    }
+    finally {
+      m_waiters.remove(waiter);
+      m_writeLock.unlock();
+    }
+  }
+
+  /**
+   * @return all Futures, or if the filter is an {@link IIndexedFutureFilter}, the Futures having its index key.
+   */
+  protected List<JobFutureTask<?>> copyFutures(final Predicate<IFuture<?>> filter) {
+    final Object indexKey = getIndexKey(filter);
     m_readLock.lock();
     try {
-      return new ArrayList<>(m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
+      final Collection<JobFutureTask<?>> futures = (indexKey == null ? m_futures : m_index.getOrDefault(indexKey, Collections.emptySet()));
+      return new ArrayList<>(futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
     }
     finally {
       m_readLock.unlock();
     }
   }
 
+  protected Object getIndexKey(final Predicate<IFuture<?>> filter) {
+    if (filter instanceof IIndexedFutureFilter) {
+      return ((IIndexedFutureFilter) filter).getIndexKey();
+    }
+    return null;
+  }
+
+  /**
+   * Must be called while holding the write lock.
+   *
+   * @return the index keys of the given Future: its execution semaphore, its execution hints and the keys of all
+   *         {@link IFutureIndexKeyProvider}s.
+   */
+  protected Set<Object> collectIndexKeys(final JobFutureTask<?> future) {
+    final Set<Object> indexKeys = new HashSet<>();
+    if (future.getJobInput().getExecutionSemaphore() != null) {
+      indexKeys.add(future.getJobInput().getExecutionSemaphore());
+    }
+    indexKeys.addAll(future.getJobInput().getExecutionHints());
+    for (final IFutureIndexKeyProvider provider : m_indexKeyProviders) {
+      final Object indexKey = provider.getIndexKey(future);
+      if (indexKey != null) {
+        indexKeys.add(indexKey);
+      }
+    }
+    return indexKeys;
+  }
+
+  /**
+   * Must be called while holding the write lock. Does nothing if the Future is not contained.
+   */
+  protected void addIndexKey(final JobFutureTask<?> future, final Object indexKey) {
+    if (indexKey == null || !m_futures.contains(future)) {
+      return;
+    }
+    // keys are only added, so that Futures are still found after removing an execution hint; the filter is applied anyway
+    m_indexKeys.computeIfAbsent(future, k -> new HashSet<>()).add(indexKey);
+    m_index.computeIfAbsent(indexKey, k -> new HashSet<>()).add(future);
+  }
+
+  /**
+   * Must be called while holding the write lock.
+   */
+  protected void removeIndexKeys(final JobFutureTask<?> future) {
+    final Set<Object> indexKeys = m_indexKeys.remove(future);
+    if (indexKeys == null) {
+      return;
+    }
+    for (final Object indexKey : indexKeys) {
+      final Set<JobFutureTask<?>> futures = m_index.get(indexKey);
+      if (futures != null && futures.remove(future) && futures.isEmpty()) {
+        m_index.remove(indexKey);
+      }
+    }
+  }
+
+  /**
+   * Signals all threads waiting for a filter which may accept the given Future. Must be called while holding the write
+   * lock.
+   *
+   * @param future
+   *          the changed Future, or <code>null</code> to signal all waiting threads.
+   */
+  protected void signalWaiters(final JobFutureTask<?> future) {
+    if (m_waiters.isEmpty()) {
+      return;
+    }
+    final Set<Object> indexKeys = (future != null ? m_indexKeys.getOrDefault(future, Collections.emptySet()) : null);
+    for (final P_Waiter waiter : m_waiters) {
+      if (indexKeys == null || waiter.m_indexKey == null || indexKeys.contains(waiter.m_indexKey)) {
+        waiter.m_condition.signal();
+      }
+    }
+  }
+
   /**
    * Creates the filter to signal waiting threads upon a job event.
    */
@@ -303,4 +413,18 @@ public class FutureSet {
       }
     };
   }
+
+  /**
+   * A thread waiting for Futures accepted by a filter.
+   */
+  private static final class P_Waiter {
+
+    private final Object m_indexKey;
+    private final Condition m_condition;
+
+    private P_Waiter(final Object indexKey, final Condition condition) {
+      m_indexKey = indexKey;
+      m_condition = condition;
+    }
+  }
 }
@@ -13,7 +13,6 @@ package org.eclipse.scout.rt.platform.job.internal;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -34,6 +33,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -67,6 +67,9 @@ import org.slf4j.LoggerFactory;
  * jobs, they are first queued via {@link DelayedExecutor}, and will commence execution once the trigger's first fire
  * time elapses. In turn, they are also given to {@link ExecutorService} for execution, so Quartz simply provides the
  * firing facility.
+ * <p>
+ * If {@link JobManagerVirtualThreadsProperty} is enabled, a {@link ThreadPerTaskExecutor} runs every job on a new
+ * virtual thread instead of a pooled thread.
  *
  * @since 5.1
  */
@@ -252,28 +255,28 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class)) {
+      if (VirtualThreadFactory.isSupported()) {
+        return createVirtualThreadExecutor();
+      }
+      LOG.warn("Virtual threads are not supported by this Java runtime, using a thread pool instead. [property={}, version={}]",
+          BEANS.get(JobManagerVirtualThreadsProperty.class).getKey(), System.getProperty("java.version"));
+    }
+    return createThreadPoolExecutor();
+  }
+
+  /**
+   * Creates the executor to run jobs on pooled platform threads.
+   */
+  protected ExecutorService createThreadPoolExecutor() {
     final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
     final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
     final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
     final boolean allowCoreThreadTimeOut = CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class);
     final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
 
-    // Create the rejection handler.
-    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
-      if (isShutdown()) {
-        LOG.debug("Job rejected because the job manager is shutdown.");
-      }
-      else {
-        // Do not propagate exception, because the caller is not the submitting thread.
-        LOG.error("Job rejected because no more threads or queue slots available. [runnable={}]", runnable);
-      }
-
-      if (runnable instanceof IRejectableRunnable) {
-        ((IRejectableRunnable) runnable).reject();
-      }
-    };
-
-    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"),
+        (runnable, e) -> rejectRunnable(runnable));
     executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
     if (prestartCoreThreads) {
       executor.prestartAllCoreThreads();
@@ -282,6 +285,31 @@ public class JobManager implements IJobManager {
     return executor;
   }
 
+  /**
+   * Creates the executor to run every job on a new virtual thread. Blocking jobs then do not occupy a platform thread.
+   * Requires {@link VirtualThreadFactory#isSupported()}.
+   */
+  protected ExecutorService createVirtualThreadExecutor() {
+    return new ThreadPerTaskExecutor(new VirtualThreadFactory("scout-thread"), this::rejectRunnable);
+  }
+
+  /**
+   * Method invoked if the executor cannot accept a runnable.
+   */
+  protected void rejectRunnable(final Runnable runnable) {
+    if (isShutdown()) {
+      LOG.debug("Job rejected because the job manager is shutdown.");
+    }
+    else {
+      // Do not propagate exception, because the caller is not the submitting thread.
+      LOG.error("Job rejected because no more threads or queue slots available. [runnable={}]", runnable);
+    }
+
+    if (runnable instanceof IRejectableRunnable) {
+      ((IRejectableRunnable) runnable).reject();
+    }
+  }
+
   /**
    * Returns the internal Executor Service.
    */
@@ -47,32 +47,35 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
   @Override
   public Thread newThread(final Runnable runnable) {
     final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
-    final Thread thread = new Thread(m_group, runnable, m_threadName, 0) {
-
-      @Override
-      public void run() {
-        /*
-         * Workaround to clear inherited Mapped Diagnostic Context (MDC) which would otherwise preserve
-         * and log MDC entries which were valid when the new worker thread was created.
-         * Logback < 1.1.5 is affected (see https://jira.qos.ch/browse/LOGBACK-422)
-         */
-        MDC.clear();
-
-        ThreadInfo.CURRENT.set(threadInfoRef.get());
-        try {
-          super.run();
-        }
-        finally {
-          ThreadInfo.CURRENT.remove();
-        }
+    final Thread thread = createThread(() -> {
+      /*
+       * Workaround to clear inherited Mapped Diagnostic Context (MDC) which would otherwise preserve
+       * and log MDC entries which were valid when the new worker thread was created.
+       * Logback < 1.1.5 is affected (see https://jira.qos.ch/browse/LOGBACK-422)
+       */
+      MDC.clear();
+
+      ThreadInfo.CURRENT.set(threadInfoRef.get());
+      try {
+        runnable.run();
       }
-    };
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    }, m_threadName);
     threadInfoRef.set(new ThreadInfo(thread, m_threadName, m_sequence.incrementAndGet()));
+    thread.setUncaughtExceptionHandler(this);
+
+    return thread;
+  }
 
+  /**
+   * Creates the unstarted worker thread which runs the given runnable.
+   */
+  protected Thread createThread(final Runnable runnable, final String threadName) {
+    final Thread thread = new Thread(m_group, runnable, threadName, 0);
     thread.setDaemon(false);
     thread.setPriority(Thread.NORM_PRIORITY);
-    thread.setUncaughtExceptionHandler(this);
-
     return thread;
   }
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Executor which starts a new thread for every task. It is used with {@link VirtualThreadFactory}, so that blocking
+ * jobs do not occupy a pooled platform thread.
+ * <p>
+ * Tasks submitted after shutdown are passed to the reject handler, like {@link java.util.concurrent.ThreadPoolExecutor}
+ * does with its {@link java.util.concurrent.RejectedExecutionHandler}.
+ *
+ * @since 11
+ */
+public class ThreadPerTaskExecutor extends AbstractExecutorService {
+
+  private final ThreadFactory m_threadFactory;
+  private final Consumer<Runnable> m_rejectHandler;
+  private final Set<Thread> m_threads = ConcurrentHashMap.newKeySet();
+  private final ReentrantLock m_terminationLock = new ReentrantLock();
+  private final Condition m_terminationCondition = m_terminationLock.newCondition();
+  private volatile boolean m_shutdown;
+
+  public ThreadPerTaskExecutor(final ThreadFactory threadFactory, final Consumer<Runnable> rejectHandler) {
+    m_threadFactory = Assertions.assertNotNull(threadFactory, "threadFactory must not be null");
+    m_rejectHandler = Assertions.assertNotNull(rejectHandler, "rejectHandler must not be null");
+  }
+
+  @Override
+  public void execute(final Runnable command) {
+    if (m_shutdown) {
+      m_rejectHandler.accept(command);
+      return;
+    }
+
+    final Thread thread = m_threadFactory.newThread(() -> {
+      try {
+        command.run();
+      }
+      finally {
+        m_threads.remove(Thread.currentThread());
+        signalIfTerminated();
+      }
+    });
+    m_threads.add(thread);
+    thread.start();
+  }
+
+  @Override
+  public void shutdown() {
+    m_shutdown = true;
+    signalIfTerminated();
+  }
+
+  /**
+   * Shuts down this executor and interrupts all running tasks.
+   *
+   * @return always an empty list because tasks are never queued
+   */
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown();
+    for (final Thread thread : m_threads) {
+      thread.interrupt();
+    }
+    return new ArrayList<>();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return m_shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return m_shutdown && m_threads.isEmpty();
+  }
+
+  @Override
+  public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    m_terminationLock.lock();
+    try {
+      while (!isTerminated()) {
+        if (nanos <= 0L) {
+          return false;
+        }
+        nanos = m_terminationCondition.awaitNanos(nanos);
+      }
+      return true;
+    }
+    finally {
+      m_terminationLock.unlock();
+    }
+  }
+
+  /**
+   * @return number of tasks currently running.
+   */
+  public int getActiveCount() {
+    return m_threads.size();
+  }
+
+  protected void signalIfTerminated() {
+    if (!isTerminated()) {
+      return;
+    }
+    m_terminationLock.lock();
+    try {
+      m_terminationCondition.signalAll();
+    }
+    finally {
+      m_terminationLock.unlock();
+    }
+  }
+}
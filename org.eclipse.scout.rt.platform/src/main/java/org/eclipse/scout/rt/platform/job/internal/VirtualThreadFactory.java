@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+
+/**
+ * Thread factory for named virtual threads. Virtual threads require Java 21 or newer and are therefore accessed
+ * reflectively, see {@link #isSupported()}.
+ * <p>
+ * Thread name decoration and handling of uncaught exceptions work the same as for platform threads created by
+ * {@link NamedThreadFactory}.
+ *
+ * @since 11
+ */
+public class VirtualThreadFactory extends NamedThreadFactory {
+
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+  public VirtualThreadFactory(final String threadName) {
+    super(threadName);
+    if (!isSupported()) {
+      throw new PlatformException("Virtual threads are not supported by this Java runtime [version={}]", System.getProperty("java.version"));
+    }
+  }
+
+  @Override
+  protected Thread createThread(final Runnable runnable, final String threadName) {
+    final Thread thread = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+    thread.setName(threadName);
+    return thread;
+  }
+
+  /**
+   * @return <code>true</code> if the Java runtime supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  /**
+   * @return the factory of <code>Thread.ofVirtual()</code> or <code>null</code> if not available.
+   */
+  private static ThreadFactory createVirtualThreadFactory() {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      // invoke through the public interface because the builder implementation is not accessible
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    }
+    catch (ReflectiveOperationException | RuntimeException e) { // NOSONAR
+      LOG.debug("Virtual threads not supported", e);
+      return null;
+    }
+  }
+}
@@ -15,6 +15,7 @@ import java.util.Collections;
 import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
@@ -39,6 +40,9 @@ public class NlsResourceBundleCache {
   /** constant indicating that no resource bundle exists */
   private static final NlsResourceBundle NONEXISTENT_BUNDLE = new NlsResourceBundle(null, Collections.emptyMap());
 
+  /** incremented whenever cached bundles are discarded because their files were modified */
+  private static final AtomicLong MODIFICATION_COUNT = new AtomicLong();
+
   public NlsResourceBundleCache(String resourceBundleName, Class wrapperClass) {
     m_resourceBundleName = resourceBundleName;
     m_wrapperClass = wrapperClass;
@@ -49,6 +53,7 @@ public class NlsResourceBundleCache {
       try {
         BEANS.get(NlsFileWatcher.class).watch(m_resourceBundleName, (path) -> {
             m_resourceBundles.clear();
+            MODIFICATION_COUNT.incrementAndGet();
             LOG.info("Cleared bundle cache for nls resource bundle {}", m_resourceBundleName);
         }, m_wrapperClass.getClassLoader());
       }
@@ -58,6 +63,16 @@ public class NlsResourceBundleCache {
     }
   }
 
+  /**
+   * @return a counter which is incremented whenever the cached bundles of any {@link NlsResourceBundleCache} are
+   *         discarded by the {@link NlsFileWatcher} (development mode). Caches of texts loaded from bundles must be
+   *         rebuilt when this value changes.
+   * @since 11
+   */
+  public static long getModificationCount() {
+    return MODIFICATION_COUNT.get();
+  }
+
   public Class<?> getWrapperClass() {
     return m_wrapperClass;
   }
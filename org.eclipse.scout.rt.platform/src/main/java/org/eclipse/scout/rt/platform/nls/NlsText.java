@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.nls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A text whose message argument placeholders <code>{0}</code>, <code>{1}</code>, ... are parsed once.
+ * {@link #bind(String...)} returns the same result as {@link NlsUtility#bindText(String, String...)}.
+ *
+ * @since 11
+ */
+public final class NlsText {
+  private static final Pattern MESSAGE_ARGUMENT_PATTERN = Pattern.compile("\\{([0-9]+)\\}");
+  private static final int[] NO_ARGUMENT_INDEXES = new int[0];
+
+  private final String m_text;
+  /** literal segments, one more than placeholders; null if the text cannot be parsed */
+  private final String[] m_literals;
+  private final int[] m_argumentIndexes;
+
+  private NlsText(String text, String[] literals, int[] argumentIndexes) {
+    m_text = text;
+    m_literals = literals;
+    m_argumentIndexes = argumentIndexes;
+  }
+
+  /**
+   * @param text
+   *          not null
+   */
+  public static NlsText compile(String text) {
+    Matcher m = MESSAGE_ARGUMENT_PATTERN.matcher(text);
+    if (!m.find()) {
+      return new NlsText(text, new String[]{text}, NO_ARGUMENT_INDEXES);
+    }
+    List<String> literals = new ArrayList<>();
+    List<Integer> argumentIndexes = new ArrayList<>();
+    int start = 0;
+    do {
+      literals.add(text.substring(start, m.start()));
+      try {
+        argumentIndexes.add(Integer.parseInt(m.group(1)));
+      }
+      catch (NumberFormatException e) { // NOSONAR
+        // index too large: leave it to NlsUtility
+        return new NlsText(text, null, null);
+      }
+      start = m.end();
+    }
+    while (m.find(start));
+    literals.add(text.substring(start));
+
+    int[] indexes = new int[argumentIndexes.size()];
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = argumentIndexes.get(i);
+    }
+    return new NlsText(text, literals.toArray(new String[0]), indexes);
+  }
+
+  /**
+   * @return the text without any arguments bound
+   */
+  public String getText() {
+    return m_text;
+  }
+
+  /**
+   * @return true if the text contains message argument placeholders
+   */
+  public boolean hasArguments() {
+    return m_argumentIndexes == null || m_argumentIndexes.length > 0;
+  }
+
+  /**
+   * @see NlsUtility#bindText(String, String...)
+   */
+  public String bind(String... messageArguments) {
+    if (messageArguments == null || messageArguments.length == 0 || m_argumentIndexes == NO_ARGUMENT_INDEXES) {
+      return m_text;
+    }
+    if (m_literals == null) {
+      return NlsUtility.bindText(m_text, messageArguments);
+    }
+    StringBuilder b = new StringBuilder(m_text.length() + 16 * m_argumentIndexes.length);
+    for (int i = 0; i < m_argumentIndexes.length; i++) {
+      b.append(m_literals[i]);
+      int index = m_argumentIndexes[i];
+      if (index < messageArguments.length) {
+        if (messageArguments[index] != null) {
+          b.append(messageArguments[index]);
+        }
+      }
+      else {
+        b.append('{').append(index).append('}');
+      }
+    }
+    b.append(m_literals[m_argumentIndexes.length]);
+    return b.toString();
+  }
+
+  @Override
+  public String toString() {
+    return m_text;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.nls;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Immutable hash table of compiled texts by text key, using open addressing with linear probing.
+ * <p>
+ * Compared to a {@link java.util.HashMap} there are no entry objects and lookups only touch two arrays.
+ *
+ * @since 11
+ */
+public final class NlsTextTable {
+  private static final NlsTextTable EMPTY = new NlsTextTable(new String[1], new NlsText[1], 0);
+
+  private final String[] m_keys;
+  private final NlsText[] m_texts;
+  private final int m_mask;
+  private final int m_size;
+
+  private NlsTextTable(String[] keys, NlsText[] texts, int size) {
+    m_keys = keys;
+    m_texts = texts;
+    m_mask = keys.length - 1;
+    m_size = size;
+  }
+
+  public static NlsTextTable empty() {
+    return EMPTY;
+  }
+
+  /**
+   * @param textMap
+   *          texts by key, neither keys nor values may be null
+   */
+  public static NlsTextTable compile(Map<String, String> textMap) {
+    if (textMap.isEmpty()) {
+      return EMPTY;
+    }
+    // load factor between 0.25 and 0.5
+    int capacity = Integer.highestOneBit(textMap.size()) << 2;
+    String[] keys = new String[capacity];
+    NlsText[] texts = new NlsText[capacity];
+    int mask = capacity - 1;
+    for (Entry<String, String> e : textMap.entrySet()) {
+      int i = hash(e.getKey()) & mask;
+      while (keys[i] != null) {
+        i = (i + 1) & mask;
+      }
+      keys[i] = e.getKey();
+      texts[i] = NlsText.compile(e.getValue());
+    }
+    return new NlsTextTable(keys, texts, textMap.size());
+  }
+
+  private static int hash(String key) {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * @return the compiled text or <code>null</code> if there is no text for the given key
+   */
+  public NlsText get(String key) {
+    if (key == null) {
+      return null;
+    }
+    int i = hash(key) & m_mask;
+    String candidate;
+    while ((candidate = m_keys[i]) != null) {
+      if (candidate.equals(key)) {
+        return m_texts[i];
+      }
+      i = (i + 1) & m_mask;
+    }
+    return null;
+  }
+
+  public int size() {
+    return m_size;
+  }
+}
@@ -10,13 +10,21 @@
  */
 package org.eclipse.scout.rt.platform.text;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.nls.NlsResourceBundleCache;
+import org.eclipse.scout.rt.platform.nls.NlsText;
+import org.eclipse.scout.rt.platform.nls.NlsTextTable;
 
 /**
  * ScoutTexts provides support for text translations.
@@ -28,6 +36,11 @@ import org.eclipse.scout.rt.platform.BEANS;
  * This implementation caches all available {@link ITextProviderService}s for better performance (otherwise 2/3 of a
  * {@link #getText(String, String...)} invocation would be spend for collecting {@link ITextProviderService}s). Invoke
  * {@link #reloadTextProviders()} after modifying the set of text provider services.
+ * <p>
+ * Consecutive providers whose texts are completely described by {@link ITextProviderService#getTextMap(Locale)} (see
+ * {@link #isIndexable(ITextProviderService)}) are merged into one compiled {@link NlsTextTable} per locale, which
+ * already contains the result of the provider order and the locale fallback. The tables are built on first use and
+ * discarded by {@link #reloadTextProviders()} or when the text files are modified in development mode.
  *
  * @see TEXTS
  * @see ITextProviderService
@@ -39,6 +52,7 @@ public class ScoutTexts {
    * Cached list of ordered {@link ITextProviderService}s
    */
   private volatile List<? extends ITextProviderService> m_textProviders;
+  private volatile P_TextIndex m_textIndex;
 
   public ScoutTexts() {
     reloadTextProviders();
@@ -46,6 +60,7 @@ public class ScoutTexts {
 
   public void reloadTextProviders() {
     m_textProviders = BEANS.all(ITextProviderService.class);
+    m_textIndex = null;
   }
 
   public final String getText(@NlsKey String key, String... messageArguments) {
@@ -70,8 +85,8 @@ public class ScoutTexts {
   }
 
   protected String getTextInternal(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
-    for (ITextProviderService provider : getTextProviders()) {
-      String result = provider.getText(locale, key, messageArguments);
+    for (P_Segment segment : getTextIndex().m_segments) {
+      String result = segment.getText(locale, key, messageArguments);
       if (result != null) {
         return result;
       }
@@ -79,6 +94,57 @@ public class ScoutTexts {
     return fallback;
   }
 
+  /**
+   * @return true if the texts of the given provider are exactly the ones of {@link ITextProviderService#getTextMap(Locale)}
+   *         with message arguments bound as in {@link org.eclipse.scout.rt.platform.nls.NlsUtility#bindText(String, String...)}.
+   *         The texts of such providers are compiled into an {@link NlsTextTable}.
+   * @since 11
+   */
+  protected boolean isIndexable(ITextProviderService provider) {
+    if (!(provider instanceof AbstractDynamicNlsTextProviderService)) {
+      return false;
+    }
+    try {
+      Class<?> c = provider.getClass();
+      return c.getMethod("getText", Locale.class, String.class, String[].class).getDeclaringClass() == AbstractDynamicNlsTextProviderService.class
+          && c.getMethod("getTextMap", Locale.class).getDeclaringClass() == AbstractDynamicNlsTextProviderService.class;
+    }
+    catch (NoSuchMethodException e) { // NOSONAR
+      return false;
+    }
+  }
+
+  protected P_TextIndex getTextIndex() {
+    P_TextIndex index = m_textIndex;
+    if (index == null || index.m_modificationCount != NlsResourceBundleCache.getModificationCount()) {
+      // read the counter before the texts are loaded: a concurrent modification discards this index again
+      long modificationCount = NlsResourceBundleCache.getModificationCount();
+      index = new P_TextIndex(createSegments(getTextProviders()), modificationCount);
+      m_textIndex = index;
+    }
+    return index;
+  }
+
+  protected List<P_Segment> createSegments(List<? extends ITextProviderService> providers) {
+    List<P_Segment> segments = new ArrayList<>();
+    List<ITextProviderService> indexableProviders = new ArrayList<>();
+    for (ITextProviderService provider : providers) {
+      if (isIndexable(provider)) {
+        indexableProviders.add(provider);
+        continue;
+      }
+      if (!indexableProviders.isEmpty()) {
+        segments.add(new P_CompiledSegment(indexableProviders));
+        indexableProviders = new ArrayList<>();
+      }
+      segments.add(new P_ProviderSegment(provider));
+    }
+    if (!indexableProviders.isEmpty()) {
+      segments.add(new P_CompiledSegment(indexableProviders));
+    }
+    return segments;
+  }
+
   protected String getDefaultFallback(String key) {
     return "{undefined text " + key + "}";
   }
@@ -86,4 +152,74 @@ public class ScoutTexts {
   public String getTextWithFallback(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
     return getTextInternal(locale, key, fallback, messageArguments);
   }
+
+  protected static final class P_TextIndex {
+    private final List<P_Segment> m_segments;
+    private final long m_modificationCount;
+
+    private P_TextIndex(List<P_Segment> segments, long modificationCount) {
+      m_segments = segments;
+      m_modificationCount = modificationCount;
+    }
+  }
+
+  protected interface P_Segment {
+    String getText(Locale locale, String key, String... messageArguments);
+  }
+
+  /**
+   * A provider whose texts are not compiled.
+   */
+  protected static class P_ProviderSegment implements P_Segment {
+    private final ITextProviderService m_provider;
+
+    protected P_ProviderSegment(ITextProviderService provider) {
+      m_provider = provider;
+    }
+
+    @Override
+    public String getText(Locale locale, String key, String... messageArguments) {
+      return m_provider.getText(locale, key, messageArguments);
+    }
+  }
+
+  /**
+   * Consecutive providers whose texts are merged into one {@link NlsTextTable} per locale.
+   */
+  protected static class P_CompiledSegment implements P_Segment {
+    private final List<ITextProviderService> m_providers;
+    private final ConcurrentMap<Locale, NlsTextTable> m_tables = new ConcurrentHashMap<>();
+
+    protected P_CompiledSegment(List<ITextProviderService> providers) {
+      m_providers = providers;
+    }
+
+    @Override
+    public String getText(Locale locale, String key, String... messageArguments) {
+      NlsText text = getTable(locale != null ? locale : NlsLocale.get()).get(key);
+      return text != null ? text.bind(messageArguments) : null;
+    }
+
+    protected NlsTextTable getTable(Locale locale) {
+      NlsTextTable table = m_tables.get(locale);
+      if (table == null) {
+        table = createTable(locale);
+        NlsTextTable existing = m_tables.putIfAbsent(locale, table);
+        if (existing != null) {
+          table = existing;
+        }
+      }
+      return table;
+    }
+
+    protected NlsTextTable createTable(Locale locale) {
+      Map<String, String> textMap = new HashMap<>();
+      for (ITextProviderService provider : m_providers) {
+        for (Entry<String, String> e : provider.getTextMap(locale).entrySet()) {
+          textMap.putIfAbsent(e.getKey(), e.getValue());
+        }
+      }
+      return NlsTextTable.compile(textMap);
+    }
+  }
 }
@@ -22,6 +22,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractMapConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringListConfigProperty;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
@@ -150,6 +151,27 @@ public final class ServerCommonsConfigProperties {
     }
   }
 
+  /**
+   * @since 11
+   */
+  public static class HttpResourceCacheMaxSizeProperty extends AbstractLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.http.resourceCacheMaxSize";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 256L * 1024 * 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Maximum size in bytes of the web resources (including their compressed variants) kept in a HTTP resource cache. If the size is exceeded, the least recently used resources are removed from the cache. The default value is 256 MB.";
+    }
+  }
+
   public static class TrustedCertificatesProperty extends AbstractStringListConfigProperty {
 
     @Override
@@ -12,7 +12,9 @@ package org.eclipse.scout.rt.server.commons.servlet.cache;
 
 import java.io.Serializable;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -29,6 +31,7 @@ public class HttpCacheObject implements Serializable {
   private final HttpCacheKey m_cacheKey;
   private final BinaryResource m_resource;
   private final Set<IHttpResponseInterceptor> m_httpResponseInterceptors = new HashSet<>();
+  private final Map<String, byte[]> m_encodedContents = new ConcurrentHashMap<>();
 
   /**
    * @param cacheKey
@@ -69,6 +72,51 @@ public class HttpCacheObject implements Serializable {
     return null;
   }
 
+  /**
+   * @param contentEncoding
+   *          content coding as used in the <code>Content-Encoding</code> header, e.g. <code>gzip</code> or
+   *          <code>br</code>
+   * @return the content of the resource encoded with the given content coding or <code>null</code> if no such variant
+   *         is available
+   * @since 11
+   */
+  public byte[] getEncodedContent(String contentEncoding) {
+    return m_encodedContents.get(contentEncoding);
+  }
+
+  /**
+   * Adds a variant of the resource content encoded with the given content coding (e.g. a precompressed file or the
+   * content compressed when the resource was loaded). Encoded variants are sent instead of the content if the client
+   * accepts the content coding, which avoids compressing the same content again on every request.
+   *
+   * @since 11
+   */
+  public void putEncodedContent(String contentEncoding, byte[] encodedContent) {
+    Assertions.assertNotNull(contentEncoding);
+    Assertions.assertNotNull(encodedContent);
+    m_encodedContents.put(contentEncoding, encodedContent);
+  }
+
+  /**
+   * @return the content codings of the available encoded variants
+   * @since 11
+   */
+  public Set<String> getContentEncodings() {
+    return m_encodedContents.keySet();
+  }
+
+  /**
+   * @return number of bytes of the content and all encoded variants
+   * @since 11
+   */
+  public long getSize() {
+    long size = m_resource.getContent() != null ? m_resource.getContent().length : 0;
+    for (byte[] encodedContent : m_encodedContents.values()) {
+      size += encodedContent.length;
+    }
+    return size;
+  }
+
   public void addHttpResponseInterceptor(IHttpResponseInterceptor interceptor) {
     m_httpResponseInterceptors.add(interceptor);
   }
@@ -10,44 +10,101 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCacheMaxSizeProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A server side cache use to store web resources like HTML, CSS and JS.
+ * <p>
+ * The cache is bounded by the size of the cached content (see {@link HttpCacheObject#getSize()} and
+ * {@link HttpResourceCacheMaxSizeProperty}). If the maximum size is exceeded, the least recently used objects are
+ * evicted.
  */
 @Bean
 public class HttpResourceCache implements IHttpResourceCache {
 
   private static final Logger LOG = LoggerFactory.getLogger(HttpResourceCache.class);
 
-  private final Map<HttpCacheKey, HttpCacheObject> m_cache = Collections.synchronizedMap(new HashMap<>());
+  private final long m_maxSize;
+  // access ordered: the first entry is the least recently used one
+  private final LinkedHashMap<HttpCacheKey, P_Entry> m_cache = new LinkedHashMap<>(16, 0.75f, true);
+  private long m_size;
+
+  public HttpResourceCache() {
+    this(CONFIG.getPropertyValue(HttpResourceCacheMaxSizeProperty.class));
+  }
+
+  /**
+   * @param maxSize
+   *          maximum number of bytes of all cached objects
+   * @since 11
+   */
+  public HttpResourceCache(long maxSize) {
+    m_maxSize = maxSize;
+  }
 
   @Override
   public boolean put(HttpCacheObject obj) {
     if (!obj.isCachingAllowed()) {
       return false;
     }
-    m_cache.put(obj.getCacheKey(), obj);
+    long size = obj.getSize();
+    if (size > m_maxSize) {
+      LOG.debug("Object is too large to be cached: {} size={}", obj.getCacheKey(), size);
+      return false;
+    }
+    synchronized (m_cache) {
+      P_Entry previous = m_cache.put(obj.getCacheKey(), new P_Entry(obj, size));
+      if (previous != null) {
+        m_size -= previous.m_size;
+      }
+      m_size += size;
+      evictIfNecessary();
+    }
     LOG.debug("Stored object in cache: {}", obj.getCacheKey());
     return true;
   }
 
+  protected void evictIfNecessary() {
+    Iterator<Entry<HttpCacheKey, P_Entry>> it = m_cache.entrySet().iterator();
+    while (m_size > m_maxSize && it.hasNext()) {
+      Entry<HttpCacheKey, P_Entry> eldest = it.next();
+      it.remove();
+      m_size -= eldest.getValue().m_size;
+      LOG.debug("Evicted object from cache: {}", eldest.getKey());
+    }
+  }
+
   @Override
   public HttpCacheObject get(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.get(cacheKey);
+    HttpCacheObject obj = null;
+    synchronized (m_cache) {
+      P_Entry entry = m_cache.get(cacheKey);
+      if (entry != null) {
+        obj = entry.m_obj;
+      }
+    }
     LOG.debug("Lookup object in cache: {} found={}", cacheKey, obj != null);
     return obj;
   }
 
   @Override
   public HttpCacheObject remove(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.remove(cacheKey);
+    HttpCacheObject obj = null;
+    synchronized (m_cache) {
+      P_Entry entry = m_cache.remove(cacheKey);
+      if (entry != null) {
+        obj = entry.m_obj;
+        m_size -= entry.m_size;
+      }
+    }
     LOG.debug("Remove object in cache: {} removed={}", cacheKey, obj != null);
     return obj;
   }
@@ -55,6 +112,32 @@ public class HttpResourceCache implements IHttpResourceCache {
   @Override
   public void clear() {
     LOG.debug("Clear resource cache");
-    m_cache.clear();
+    synchronized (m_cache) {
+      m_cache.clear();
+      m_size = 0;
+    }
+  }
+
+  /**
+   * @return number of bytes of all cached objects
+   * @since 11
+   */
+  public long getSize() {
+    synchronized (m_cache) {
+      return m_size;
+    }
+  }
+
+  /**
+   * Remembers the size of the object when it was added because encoded variants may be added later.
+   */
+  private static final class P_Entry {
+    private final HttpCacheObject m_obj;
+    private final long m_size;
+
+    private P_Entry(HttpCacheObject obj, long size) {
+      m_obj = obj;
+      m_size = size;
+    }
   }
 }
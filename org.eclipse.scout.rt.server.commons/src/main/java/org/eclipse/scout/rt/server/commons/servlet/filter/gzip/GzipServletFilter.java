@@ -40,13 +40,18 @@ import org.slf4j.LoggerFactory;
  * <li><b>post_pattern:</b> regex of pathInfo that is compressed for POST requests (default value =
  * <code>.{@literal *}/json</code>)
  * </ul>
+ * Requests for a server-sent events stream (<code>Accept: text/event-stream</code>) are never compressed, because every
+ * event must reach the client when it is flushed and not only when the long-lived response completes.
  */
 public class GzipServletFilter implements Filter {
   private static final Logger LOG = LoggerFactory.getLogger(GzipServletFilter.class);
 
+  public static final String ACCEPT = "Accept";
   public static final String ACCEPT_ENCODING = "Accept-Encoding";
   public static final String CONTENT_ENCODING = "Content-Encoding";
   public static final String GZIP = "gzip";
+  public static final String BROTLI = "br";
+  public static final String CONTENT_TYPE_EVENT_STREAM = "text/event-stream";
   public static final String CONTENT_TYPES = "text/html,text/css,text/xml,text/plain,application/json,application/javascript,image/svg+xml,text/vcard";
 
   private int m_getMinSize;
@@ -77,8 +82,10 @@ public class GzipServletFilter implements Filter {
             req.getPathInfo());
       }
     }
-    if (requestAcceptsGzipEncoding(req)) {
-      resp = new GzipServletResponseWrapper(resp);
+    if (requestAcceptsGzipEncoding(req) && !requestAcceptsEventStream(req)) {
+      // Stream the response as soon as the minimum length is reached instead of buffering it completely
+      final HttpServletRequest gzipReq = req;
+      resp = new GzipServletResponseWrapper(resp, minimumLengthToCompress(req), r -> responseNeedsGzipEncoding(gzipReq, r));
     }
 
     chain.doFilter(req, resp);
@@ -111,10 +118,19 @@ public class GzipServletFilter implements Filter {
     return h != null && h.contains(GZIP);
   }
 
+  protected boolean requestAcceptsEventStream(HttpServletRequest req) {
+    String h = req.getHeader(ACCEPT);
+    return h != null && h.contains(CONTENT_TYPE_EVENT_STREAM);
+  }
+
   protected boolean responseNeedsGzipEncoding(HttpServletRequest req, HttpServletResponse resp) {
     if (!UrlHints.isCompressHint(req)) {
       return false;
     }
+    if (resp.getHeader(CONTENT_ENCODING) != null) {
+      // already encoded, e.g. a precompressed web resource
+      return false;
+    }
     String contentType = resp.getContentType();
     if (contentType == null) {
       return false;
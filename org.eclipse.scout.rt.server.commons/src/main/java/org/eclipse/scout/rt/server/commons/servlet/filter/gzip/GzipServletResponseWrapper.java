@@ -10,35 +10,73 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
 
+import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.IOUtility;
-import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
 
+/**
+ * Compresses the response content with GZIP.
+ * <p>
+ * The content is buffered until the compression threshold is reached. At that point it is decided whether the response
+ * is compressed, and the buffered and all subsequent content is streamed (compressed or not) to the underlying response.
+ * Large responses are therefore never held in memory as a whole. If the response completes before the threshold is
+ * reached, the buffered content is written with a content length in {@link #finish(int)}.
+ */
 public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
-  private BufferedServletOutputStream m_buf;
+  private static final int GZIP_BUFFER_SIZE = 8192;
+
+  private final int m_threshold;
+  private final Predicate<HttpServletResponse> m_compressionCondition;
+
+  private P_StreamingOutputStream m_stream;
   private int m_compressedLength = -1;
   private int m_uncompressedLength = -1;
   // one of these two is used
   private ServletOutputStream m_servletOut;
   private PrintWriter m_writer;
 
+  /**
+   * Buffers the whole response, compression is decided in {@link #finish(int)}.
+   */
   public GzipServletResponseWrapper(HttpServletResponse resp) {
+    this(resp, Integer.MAX_VALUE, r -> true);
+  }
+
+  /**
+   * Starts streaming as soon as {@code minimumLengthToCompress} bytes were written. The response is compressed if the
+   * compression condition is fulfilled at that point.
+   *
+   * @param minimumLengthToCompress
+   *          is the minimum uncompressed size that is compressed, -1 disables compression
+   * @param compressionCondition
+   *          evaluated once when the compression is decided (e.g. to check the content type)
+   * @since 11
+   */
+  public GzipServletResponseWrapper(HttpServletResponse resp, int minimumLengthToCompress, Predicate<HttpServletResponse> compressionCondition) {
     super(resp);
+    m_threshold = minimumLengthToCompress < 0 ? 0 : minimumLengthToCompress;
+    m_compressionCondition = minimumLengthToCompress < 0 ? r -> false : compressionCondition;
   }
 
-  protected BufferedServletOutputStream ensureBufferedStream() {
-    if (m_buf == null) {
-      m_buf = new BufferedServletOutputStream();
+  protected P_StreamingOutputStream ensureStream() {
+    if (m_stream == null) {
+      m_stream = new P_StreamingOutputStream();
     }
-    return m_buf;
+    return m_stream;
   }
 
   /**
@@ -61,7 +99,7 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
       throw new IllegalStateException("getWriter was previsouly called, getOutputStream is not available");
     }
     if (m_servletOut == null) {
-      m_servletOut = ensureBufferedStream();
+      m_servletOut = ensureStream();
     }
     return m_servletOut;
   }
@@ -72,7 +110,7 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
       throw new IllegalStateException("getOutputStream was previsouly called, getWriter is not available");
     }
     if (m_writer == null) {
-      m_writer = new PrintWriter(new OutputStreamWriter(ensureBufferedStream(), getResponse().getCharacterEncoding()));
+      m_writer = new PrintWriter(new OutputStreamWriter(ensureStream(), getResponse().getCharacterEncoding()));
     }
     return m_writer;
   }
@@ -82,20 +120,26 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     // ignored
   }
 
+  @Override
+  public void setContentLengthLong(long len) {
+    // ignored
+  }
+
   @Override
   public void flushBuffer() throws IOException {
     if (m_writer != null) {
       m_writer.flush();
     }
-    if (m_buf != null) {
-      m_buf.flush();
+    if (m_stream != null) {
+      m_stream.flush();
     }
     super.flushBuffer();
   }
 
   /**
    * @param minimumLengthToCompress
-   *          is the minimum uncompressed size that is compressed, -1 disables compression
+   *          is the minimum uncompressed size that is compressed, -1 disables compression. Only considered if the
+   *          compression was not decided yet.
    * @return true if the content was compressed
    */
   public boolean finish(int minimumLengthToCompress) throws IOException {
@@ -104,28 +148,158 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
       m_writer = null;
     }
     boolean compressed = false;
-    if (m_buf != null) {
-      m_buf.close();
-      byte[] raw = m_buf.getContent();
-      m_uncompressedLength = raw.length;
-      m_buf = null;
+    if (m_stream != null) {
+      compressed = m_stream.finish(minimumLengthToCompress);
+      m_uncompressedLength = (int) m_stream.getUncompressedLength();
+      m_compressedLength = (int) m_stream.getCompressedLength();
+      m_stream = null;
+      super.flushBuffer();
+    }
+    return compressed;
+  }
+
+  protected class P_StreamingOutputStream extends ServletOutputStream {
+
+    private ByteArrayOutputStream m_pending = new ByteArrayOutputStream();
+    private P_CountingOutputStream m_counter;
+    private GZIPOutputStream m_gzip;
+    private OutputStream m_target; // null as long as the compression is not decided
+    private long m_uncompressedLength;
+    private long m_compressedLength;
+    private boolean m_compressed;
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      Assertions.assertNotNull(writeListener);
+      try {
+        writeListener.onWritePossible();
+      }
+      catch (IOException e) {
+        writeListener.onError(e);
+      }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      m_uncompressedLength++;
+      if (m_target == null) {
+        m_pending.write(b);
+        decideIfThresholdReached();
+      }
+      else {
+        m_target.write(b);
+      }
+    }
 
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      m_uncompressedLength += len;
+      if (m_target == null) {
+        m_pending.write(b, off, len);
+        decideIfThresholdReached();
+      }
+      else {
+        m_target.write(b, off, len);
+      }
+    }
+
+    /**
+     * Flushing commits the response, hence the compression has to be decided with the content written so far.
+     */
+    @Override
+    public void flush() throws IOException {
+      if (m_target == null) {
+        if (m_threshold == Integer.MAX_VALUE) {
+          return; // buffering mode: flushing is deferred to finish
+        }
+        decide(m_uncompressedLength >= m_threshold && m_compressionCondition.test(GzipServletResponseWrapper.this));
+      }
+      m_target.flush();
+    }
+
+    protected void decideIfThresholdReached() throws IOException {
+      if (m_uncompressedLength > m_threshold) {
+        decide(m_compressionCondition.test(GzipServletResponseWrapper.this));
+      }
+    }
+
+    protected void decide(boolean compress) throws IOException {
       HttpServletResponse res = (HttpServletResponse) getResponse();
-      byte[] gzipped;
-      if (minimumLengthToCompress >= 0 && m_uncompressedLength >= minimumLengthToCompress) {
-        gzipped = IOUtility.compressGzip(raw);
+      m_counter = new P_CountingOutputStream(res.getOutputStream());
+      if (compress) {
         res.addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
-        compressed = true;
+        m_gzip = new GZIPOutputStream(m_counter, GZIP_BUFFER_SIZE, true);
+        m_target = m_gzip;
+        m_compressed = true;
       }
       else {
-        gzipped = raw;
+        m_target = m_counter;
       }
-      m_compressedLength = gzipped.length;
-      raw = null;
-      res.setContentLength(gzipped.length);
-      res.getOutputStream().write(gzipped);
-      super.flushBuffer();
+      m_pending.writeTo(m_target);
+      m_pending = null;
+    }
+
+    protected boolean finish(int minimumLengthToCompress) throws IOException {
+      if (m_target == null) {
+        // complete response is buffered: compress at once and write it with a content length
+        HttpServletResponse res = (HttpServletResponse) getResponse();
+        byte[] raw = m_pending.toByteArray();
+        m_pending = null;
+        byte[] content = raw;
+        if (minimumLengthToCompress >= 0 && raw.length >= minimumLengthToCompress && m_compressionCondition.test(GzipServletResponseWrapper.this)) {
+          content = IOUtility.compressGzip(raw);
+          res.addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+          m_compressed = true;
+        }
+        m_compressedLength = content.length;
+        res.setContentLength(content.length);
+        res.getOutputStream().write(content);
+        return m_compressed;
+      }
+      if (m_gzip != null) {
+        m_gzip.finish();
+      }
+      m_target.flush();
+      m_compressedLength = m_counter.getCount();
+      return m_compressed;
+    }
+
+    public long getUncompressedLength() {
+      return m_uncompressedLength;
+    }
+
+    public long getCompressedLength() {
+      return m_compressedLength;
+    }
+  }
+
+  protected static class P_CountingOutputStream extends FilterOutputStream {
+
+    private long m_count;
+
+    public P_CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      m_count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      m_count += len;
+    }
+
+    public long getCount() {
+      return m_count;
     }
-    return compressed;
   }
 }
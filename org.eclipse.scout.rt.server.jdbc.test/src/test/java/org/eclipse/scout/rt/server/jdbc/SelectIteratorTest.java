@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSetMetaData;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#selectIterator(String, Object...)} and {@link SQL#selectStream(String, Object...)} (using
+ * the mock {@link SqlServiceMock}).
+ */
+@RunWith(PlatformTestRunner.class)
+public class SelectIteratorTest {
+
+  private SqlServiceMock m_sqlService;
+  private List<IBean<?>> m_beans;
+
+  @Before
+  public void before() {
+    m_sqlService = new SqlServiceMock();
+    m_sqlService.setResultData(new Object[][]{{1L, "lorem"}, {2L, "ipsum"}, {3L, "dolor"}});
+    m_beans = BeanTestingHelper.get().registerBeans(new BeanMetaData(ISqlService.class).withInitialInstance(m_sqlService).withApplicationScoped(true));
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testRowsAreFetchedLazily() {
+    try (CloseableIterator<Object[]> it = m_sqlService.selectIterator("SELECT A, B FROM T WHERE C = :c", new NVPair("c", 5))) {
+      String protocol = m_sqlService.getProtocol().toString();
+      assertFalse(protocol, protocol.contains("Connection.prepareStatement"));
+
+      assertTrue(it.hasNext());
+      assertArrayEquals(new Object[]{1L, "lorem"}, it.next());
+      protocol = m_sqlService.getProtocol().toString();
+      assertTrue(protocol, protocol.contains("PreparedStatement.setFetchSize(500)"));
+      assertFalse(protocol, protocol.contains("ResultSet.close"));
+
+      assertArrayEquals(new Object[]{2L, "ipsum"}, it.next());
+      assertArrayEquals(new Object[]{3L, "dolor"}, it.next());
+      assertFalse(it.hasNext());
+      assertTrue(m_sqlService.getProtocol().toString().contains("ResultSet.close"));
+    }
+  }
+
+  @Test
+  public void testCloseReleasesResultSet() {
+    CloseableIterator<Object[]> it = m_sqlService.selectIterator("SELECT A, B FROM T");
+    assertArrayEquals(new Object[]{1L, "lorem"}, it.next());
+    it.close();
+    it.close();
+    assertFalse(it.hasNext());
+    assertTrue(m_sqlService.getProtocol().toString().contains("ResultSet.close"));
+  }
+
+  @Test
+  public void testConsumeOutsideTransaction() {
+    CloseableIterator<Object[]> it = m_sqlService.selectIterator("SELECT A, B FROM T");
+    ITransaction.CURRENT.set(mock(ITransaction.class));
+    try {
+      assertThrows(ProcessingException.class, it::hasNext);
+    }
+    finally {
+      ITransaction.CURRENT.remove();
+    }
+    assertFalse(it.hasNext());
+    assertFalse(m_sqlService.getProtocol().toString().contains("Connection.prepareStatement"));
+  }
+
+  @Test
+  public void testStreamWithArrayBind() {
+    try (Stream<Object[]> stream = SQL.selectStream("SELECT A, B FROM T WHERE C = :{c}", new NVPair("c", new Long[]{7L, 8L}))) {
+      // each input batch is executed with the same mocked result
+      assertEquals(6, stream.count());
+    }
+    String protocol = m_sqlService.getProtocol().toString();
+    assertEquals(2, protocol.split("Connection\\.prepareStatement", -1).length - 1);
+  }
+
+  @Test
+  public void testStreamWithMapper() {
+    try (Stream<String> stream = SQL.selectStream((meta, row) -> row[1] + "-" + row[0], "SELECT A, B FROM T")) {
+      assertEquals("lorem-1,ipsum-2,dolor-3", stream.collect(Collectors.joining(",")));
+    }
+  }
+
+  @Test
+  public void testBeanSelectRowMapper() throws Exception {
+    ResultSetMetaData meta = (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "getColumnCount":
+          return 3;
+        case "getColumnLabel":
+          return new String[]{"PERSON_NR", "FIRST_NAME", "UNKNOWN"}[(Integer) args[0] - 1];
+        default:
+          return null;
+      }
+    });
+    BeanSelectRowMapper<PersonBean> mapper = new BeanSelectRowMapper<>(PersonBean.class);
+    PersonBean person = mapper.mapRow(meta, new Object[]{12, "John", "x"});
+    assertEquals(Long.valueOf(12), person.getPersonNr());
+    assertEquals("John", person.getFirstName());
+  }
+
+  public static class PersonBean {
+    private Long m_personNr;
+    private String m_firstName;
+
+    public Long getPersonNr() {
+      return m_personNr;
+    }
+
+    public void setPersonNr(Long personNr) {
+      m_personNr = personNr;
+    }
+
+    public String getFirstName() {
+      return m_firstName;
+    }
+
+    public void setFirstName(String firstName) {
+      m_firstName = firstName;
+    }
+  }
+}
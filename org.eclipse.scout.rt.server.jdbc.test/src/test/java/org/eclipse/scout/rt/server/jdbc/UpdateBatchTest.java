@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.holders.ITableBeanRowHolder;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.ConnectionMock;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.fixture.TableFieldBeanData;
+import org.eclipse.scout.rt.server.jdbc.fixture.TableFieldBeanData.TableFieldBeanDataRowData;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#updateBatch(String, Object...)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class UpdateBatchTest {
+
+  @Test
+  public void testUpdateBatchFromTableFieldBeanData() {
+    SqlServiceMock sql = new SqlServiceMock();
+    int[] counts = sql.updateBatch("UDPATE my_table SET s=:{state} where n=:{name} ", createTableFieldBeanData(3));
+
+    assertArrayEquals(new int[]{1, 1, 1}, counts);
+    assertEquals("Connection.prepareStatement(UDPATE my_table SET s = ? where n = ?)\n"
+        + "PreparedStatement.setObject(1, 0, 4)\n"
+        + "PreparedStatement.setObject(2, name0, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 1, 4)\n"
+        + "PreparedStatement.setObject(2, name1, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 2, 4)\n"
+        + "PreparedStatement.setObject(2, name2, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testUpdateBatchRespectsBatchSize() {
+    SqlServiceMock sql = new SqlServiceMock() {
+      @Override
+      protected int getConfiguredJdbcBatchSize() {
+        return 2;
+      }
+    };
+    int[] counts = sql.updateBatch("UDPATE this_table SET v = :value where r = :{roles}", new NVPair("roles", new Long[]{1L, 2L, 3L, 4L, 5L}), new NVPair("value", "lorem"));
+
+    assertArrayEquals(new int[]{1, 1, 1, 1, 1}, counts);
+    String protocol = sql.getProtocol().toString();
+    assertEquals(1, countOccurrences(protocol, "Connection.prepareStatement"));
+    assertEquals(5, countOccurrences(protocol, "PreparedStatement.addBatch()"));
+    assertEquals(3, countOccurrences(protocol, "PreparedStatement.executeBatch()"));
+  }
+
+  @Test
+  public void testPartialFailure() {
+    Connection conn = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+      if ("prepareStatement".equals(method.getName())) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class}, (ps, m, a) -> {
+          if ("executeBatch".equals(m.getName())) {
+            // the second row fails, the driver stops processing
+            throw new BatchUpdateException(new int[]{1});
+          }
+          return null;
+        });
+      }
+      return null;
+    });
+
+    StatementProcessor sp = new StatementProcessor(new SqlServiceMock(), "UDPATE my_table SET s=:{state} where n=:{name} ", new Object[]{createTableFieldBeanData(3)});
+    try {
+      sp.processModificationBatch(conn, new PreparedStatementCache(1), null, 10);
+      fail("SqlBatchUpdateException expected");
+    }
+    catch (SqlBatchUpdateException e) {
+      assertEquals(1, e.getFailedRowIndex());
+      assertArrayEquals(new int[]{1}, e.getUpdateCounts());
+    }
+  }
+
+  @Test
+  public void testMonitorIsNotified() {
+    SqlServiceMock sql = new SqlServiceMock();
+    AtomicInteger notifications = new AtomicInteger();
+    StatementProcessor sp = new StatementProcessor(sql, "UDPATE my_table SET s=:{state} where n=:{name} ", new Object[]{createTableFieldBeanData(3)});
+    sp.processModificationBatch(new ConnectionMock(sql.getProtocol()).getConnection(), new PreparedStatementCache(1), (conn, ps, rs, rows) -> {
+      assertNotNull(ps);
+      assertNull(rs);
+      assertNull(rows);
+      notifications.incrementAndGet();
+    }, 2);
+    assertEquals(1, notifications.get());
+  }
+
+  private static TableFieldBeanData createTableFieldBeanData(int rowCount) {
+    TableFieldBeanData tableBeanData = new TableFieldBeanData();
+    for (int i = 0; i < rowCount; i++) {
+      TableFieldBeanDataRowData row = tableBeanData.addRow(ITableBeanRowHolder.STATUS_UPDATED);
+      row.setState(i);
+      row.setName("name" + i);
+    }
+    return tableBeanData;
+  }
+
+  private static int countOccurrences(String s, String part) {
+    int count = 0;
+    int index = s.indexOf(part);
+    while (index >= 0) {
+      count++;
+      index = s.indexOf(part, index + part.length());
+    }
+    return count;
+  }
+}
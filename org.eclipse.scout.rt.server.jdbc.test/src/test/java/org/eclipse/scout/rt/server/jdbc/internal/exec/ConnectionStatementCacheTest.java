@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ConnectionStatementCache}
+ */
+public class ConnectionStatementCacheTest {
+
+  private AtomicInteger m_prepareCount;
+  private Set<Object> m_closedStatements;
+  private Connection m_conn;
+  private StatementCacheStatistics m_statistics;
+
+  @Before
+  public void before() {
+    m_prepareCount = new AtomicInteger();
+    m_closedStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+    m_statistics = new StatementCacheStatistics();
+    m_conn = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+      if ("prepareStatement".equals(method.getName())) {
+        m_prepareCount.incrementAndGet();
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class}, (ps, m, a) -> {
+          if ("close".equals(m.getName())) {
+            m_closedStatements.add(ps);
+          }
+          return null;
+        });
+      }
+      return null;
+    });
+  }
+
+  @Test
+  public void testStatementIsReused() throws Exception {
+    ConnectionStatementCache cache = new ConnectionStatementCache(m_conn, 5, m_statistics);
+    PreparedStatement ps1 = cache.getPreparedStatement(m_conn, "SELECT 1");
+    cache.releasePreparedStatement(ps1);
+    PreparedStatement ps2 = cache.getPreparedStatement(m_conn, "SELECT 1");
+    cache.releasePreparedStatement(ps2);
+
+    assertSame(ps1, ps2);
+    assertEquals(1, m_prepareCount.get());
+    assertEquals(1, m_statistics.getHitCount());
+    assertEquals(1, m_statistics.getMissCount());
+    assertTrue(m_closedStatements.isEmpty());
+  }
+
+  @Test
+  public void testReleaseTwice() throws Exception {
+    ConnectionStatementCache cache = new ConnectionStatementCache(m_conn, 5, m_statistics);
+    PreparedStatement ps = cache.getPreparedStatement(m_conn, "SELECT 1");
+    cache.releasePreparedStatement(ps);
+    cache.releasePreparedStatement(ps);
+
+    assertEquals(1, cache.size());
+    assertFalse(m_closedStatements.contains(ps));
+  }
+
+  @Test
+  public void testNestedUseOfSameStatement() throws Exception {
+    ConnectionStatementCache cache = new ConnectionStatementCache(m_conn, 5, m_statistics);
+    PreparedStatement outer = cache.getPreparedStatement(m_conn, "SELECT 1");
+    PreparedStatement inner = cache.getPreparedStatement(m_conn, "SELECT 1");
+    assertNotSame(outer, inner);
+    cache.releasePreparedStatement(inner);
+    cache.releasePreparedStatement(outer);
+
+    assertEquals(1, cache.size());
+    assertTrue(m_closedStatements.contains(inner));
+    assertFalse(m_closedStatements.contains(outer));
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted() throws Exception {
+    ConnectionStatementCache cache = new ConnectionStatementCache(m_conn, 2, m_statistics);
+    PreparedStatement ps1 = cache.getPreparedStatement(m_conn, "SELECT 1");
+    cache.releasePreparedStatement(ps1);
+    PreparedStatement ps2 = cache.getPreparedStatement(m_conn, "SELECT 2");
+    cache.releasePreparedStatement(ps2);
+    cache.releasePreparedStatement(cache.getPreparedStatement(m_conn, "SELECT 1"));
+    PreparedStatement ps3 = cache.getPreparedStatement(m_conn, "SELECT 3");
+    cache.releasePreparedStatement(ps3);
+
+    assertEquals(2, cache.size());
+    assertEquals(1, m_statistics.getEvictionCount());
+    assertTrue(m_closedStatements.contains(ps2));
+    assertFalse(m_closedStatements.contains(ps1));
+  }
+
+  @Test
+  public void testInvalidate() throws Exception {
+    ConnectionStatementCache cache = new ConnectionStatementCache(m_conn, 5, m_statistics);
+    PreparedStatement idle = cache.getPreparedStatement(m_conn, "SELECT 1");
+    cache.releasePreparedStatement(idle);
+    PreparedStatement used = cache.getPreparedStatement(m_conn, "SELECT 2");
+
+    cache.invalidate();
+    assertTrue(m_closedStatements.contains(idle));
+    assertFalse(m_closedStatements.contains(used));
+
+    cache.releasePreparedStatement(used);
+    assertTrue(m_closedStatements.contains(used));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testForeignConnectionIsNotCached() throws Exception {
+    ConnectionStatementCache cache = new ConnectionStatementCache(m_conn, 5, m_statistics);
+    Connection other = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> m_conn.prepareStatement((String) args[0]));
+    PreparedStatement ps = cache.getPreparedStatement(other, "SELECT 1");
+    cache.releasePreparedStatement(ps);
+
+    assertTrue(m_closedStatements.contains(ps));
+    assertEquals(0, cache.size());
+  }
+}
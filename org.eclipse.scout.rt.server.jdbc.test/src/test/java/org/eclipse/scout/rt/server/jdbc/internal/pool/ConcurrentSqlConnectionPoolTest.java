@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class ConcurrentSqlConnectionPoolTest {
+
+  private static final int POOL_SIZE = 3;
+
+  private AtomicInteger m_createCount;
+  private AtomicBoolean m_testFails;
+  private CountDownLatch m_awaitingCandidate;
+  private AbstractSqlService m_service;
+  private ConcurrentSqlConnectionPool m_pool;
+
+  @Before
+  public void before() {
+    m_createCount = new AtomicInteger();
+    m_testFails = new AtomicBoolean();
+    m_awaitingCandidate = new CountDownLatch(1);
+    m_service = new AbstractSqlService() {
+      @Override
+      protected void execTestConnection(Connection conn) {
+        if (m_testFails.get()) {
+          throw new IllegalStateException("dirty");
+        }
+      }
+    };
+    m_pool = new ConcurrentSqlConnectionPool() {
+      @Override
+      protected Connection createConnection(AbstractSqlService service) {
+        m_createCount.incrementAndGet();
+        return createConnectionMock();
+      }
+
+      @Override
+      protected PoolEntry awaitCandidate(AbstractSqlService service, long start) throws ClassNotFoundException, SQLException {
+        m_awaitingCandidate.countDown();
+        return super.awaitCandidate(service, start);
+      }
+    };
+    m_pool.initialize("test", POOL_SIZE, TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(6));
+  }
+
+  @After
+  public void after() {
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testReleasedConnectionIsReusedBySameThread() throws Exception {
+    Connection c1 = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(c1);
+    Connection c2 = m_pool.leaseConnection(m_service);
+    assertSame(c1, c2);
+    assertEquals(1, m_createCount.get());
+    assertEquals(1, m_pool.getBusyConnections());
+    m_pool.releaseConnection(c2);
+    assertEquals(0, m_pool.getBusyConnections());
+    assertEquals(1, m_pool.getTotalConnections());
+  }
+
+  @Test
+  public void testPoolSizeIsRespected() throws Exception {
+    List<Connection> leased = new ArrayList<>();
+    for (int i = 0; i < POOL_SIZE; i++) {
+      leased.add(m_pool.leaseConnection(m_service));
+    }
+    assertEquals(POOL_SIZE, m_createCount.get());
+
+    // a waiting lease is served as soon as a connection is released
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput());
+    assertTrue(m_awaitingCandidate.await(10, TimeUnit.SECONDS));
+    assertFalse(future.isDone());
+    m_pool.releaseConnection(leased.get(0));
+    assertSame(leased.get(0), future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    assertEquals(POOL_SIZE, m_createCount.get());
+  }
+
+  @Test
+  public void testConcurrentLeases() throws Exception {
+    List<IFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      futures.add(Jobs.schedule(() -> {
+        for (int j = 0; j < 200; j++) {
+          Connection conn = m_pool.leaseConnection(m_service);
+          m_pool.releaseConnection(conn);
+        }
+        return null;
+      }, Jobs.newInput()));
+    }
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet(1, TimeUnit.MINUTES);
+    }
+    assertTrue(m_createCount.get() <= POOL_SIZE);
+    assertEquals(0, m_pool.getBusyConnections());
+    assertEquals(4000, m_pool.getLeaseWaitHistogram().getTotalCount());
+  }
+
+  @Test
+  public void testDirtyConnectionIsReplaced() throws Exception {
+    Connection c1 = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(c1);
+    // managePool tests idle connections regardless of the validation bypass window
+    m_testFails.set(true);
+    m_pool.managePool();
+    assertEquals(0, m_pool.getTotalConnections());
+    assertEquals(1, m_pool.getClosedConnectionCount());
+
+    m_testFails.set(false);
+    Connection c2 = m_pool.leaseConnection(m_service);
+    assertNotSame(c1, c2);
+    m_pool.releaseConnection(c2);
+  }
+
+  @Test
+  public void testStatementCacheIsBoundToConnection() throws Exception {
+    Connection c1 = m_pool.leaseConnection(m_service);
+    IStatementCache cache = m_pool.getStatementCache(c1, 10);
+    assertNotNull(cache);
+    m_pool.releaseConnection(c1);
+    assertNull(m_pool.getStatementCache(c1, 10));
+
+    Connection c2 = m_pool.leaseConnection(m_service);
+    assertSame(c1, c2);
+    assertSame(cache, m_pool.getStatementCache(c2, 10));
+    m_pool.releaseConnection(c2);
+  }
+
+  @Test
+  public void testInventory() throws Exception {
+    Connection c1 = m_pool.leaseConnection(m_service);
+    Connection c2 = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(c2);
+    String inventory = m_pool.getInventory();
+    assertTrue(inventory, inventory.startsWith("Total connections: 2\nBusy: 1\n"));
+    assertTrue(inventory, inventory.contains("Idle: 1\n"));
+    m_pool.releaseConnection(c1);
+  }
+
+  protected static Connection createConnectionMock() {
+    return (Connection) Proxy.newProxyInstance(ConcurrentSqlConnectionPoolTest.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "isClosed":
+          return false;
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+          return null;
+      }
+    });
+  }
+}
@@ -41,16 +41,20 @@ import org.eclipse.scout.rt.platform.text.TEXTS;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolTypeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPooledStatementCacheProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPropertiesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStatementCacheSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiInitialContextFactoryProperty;
@@ -62,6 +66,8 @@ import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlTransactionMember
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlUsernameProperty;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ConcurrentSqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ISqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionBuilder;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
@@ -75,7 +81,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlService.class);
   public static final int DEFAULT_MEMORY_PREFETCH_SIZE = 1024 * 1024; // = 1MB default
 
-  private volatile SqlConnectionPool m_pool;
+  private volatile ISqlConnectionPool m_pool;
   private final String m_transactionMemberId;
   private final boolean m_directJdbcConnection;
   private final String m_jndiName;
@@ -88,9 +94,12 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final Class<? extends ISqlConnectionPool> m_jdbcPoolType;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final boolean m_pooledStatementCache;
+  private final int m_jdbcBatchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -117,9 +126,12 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
+    m_pooledStatementCache = getPropertyValue(SqlJdbcPooledStatementCacheProperty.class, getConfiguredJdbcPooledStatementCache());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolType = getPropertyValue(SqlJdbcPoolTypeProperty.class, getConfiguredJdbcPoolType());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
 
     // load sql style
@@ -248,12 +260,43 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  /**
+   * @return the connection pool implementation used for direct JDBC connections. Use
+   *         {@link ConcurrentSqlConnectionPool} for servers with many concurrent transactions.
+   */
+  @ConfigProperty(ConfigProperty.OBJECT)
+  @Order(155)
+  protected Class<? extends ISqlConnectionPool> getConfiguredJdbcPoolType() {
+    return SqlConnectionPool.class;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
     return 25;
   }
 
+  /**
+   * @return <code>true</code> to cache prepared statements per pooled connection across transactions (see
+   *         {@link ISqlConnectionPool#getStatementCache(Connection, int)}), <code>false</code> to cache them per
+   *         transaction only. Only used with a direct JDBC connection.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(165)
+  protected boolean getConfiguredJdbcPooledStatementCache() {
+    return false;
+  }
+
+  /**
+   * @return maximum number of rows sent to the database in one round trip by {@link #insertBatch(String, Object...)}
+   *         and {@link #updateBatch(String, Object...)}
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(167)
+  protected int getConfiguredJdbcBatchSize() {
+    return 100;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(170)
   protected String getConfiguredJndiName() {
@@ -437,6 +480,14 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_queryCacheSize;
   }
 
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
+  public boolean isJdbcPooledStatementCache() {
+    return m_pooledStatementCache;
+  }
+
   public String getJndiName() {
     return m_jndiName;
   }
@@ -485,13 +536,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public Class<? extends ISqlConnectionPool> getJdbcPoolType() {
+    return m_jdbcPoolType;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
 
   @Override
   public String getInventory() {
-    final SqlConnectionPool pool = m_pool;
+    final ISqlConnectionPool pool = m_pool;
     if (pool != null) {
       return pool.getInventory();
     }
@@ -549,10 +604,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     }
   }
 
-  protected synchronized SqlConnectionPool getSqlConnectionPool() {
+  protected synchronized ISqlConnectionPool getSqlConnectionPool() {
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
-      m_pool = BEANS.get(SqlConnectionPool.class);
+      m_pool = BEANS.get(getJdbcPoolType());
       m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
     }
     return m_pool;
@@ -589,10 +644,18 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   }
 
   /**
-   * @return the statement cache used for this {@link ITransaction} transaction
+   * @return the statement cache of the pooled connection if {@link #isJdbcPooledStatementCache()} is set, otherwise the
+   *         statement cache used for this {@link ITransaction} transaction
    */
   protected final IStatementCache getStatementCache() {
     ITransaction tx = Assertions.assertNotNull(ITransaction.CURRENT.get(), "Transaction required");
+    if (isDirectJdbcConnection() && isJdbcPooledStatementCache()) {
+      getTransaction();
+      IStatementCache pooledCache = ((SqlTransactionMember) tx.getMember(getTransactionMemberId())).getPooledStatementCache();
+      if (pooledCache != null) {
+        return pooledCache;
+      }
+    }
     IStatementCache res = (IStatementCache) tx.getMember(PreparedStatementCache.TRANSACTION_MEMBER_ID);
     if (res == null) {
       res = new PreparedStatementCache(getJdbcStatementCacheSize());
@@ -635,6 +698,16 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     createStatementProcessor(s, bindBases, maxRowCount).processSelectStreaming(getTransaction(), getStatementCache(), handler);
   }
 
+  @Override
+  public CloseableIterator<Object[]> selectIterator(String s, Object... bindBases) {
+    return selectIterator((meta, row) -> row, s, bindBases);
+  }
+
+  @Override
+  public <T> CloseableIterator<T> selectIterator(ISelectRowMapper<T> mapper, String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectIterator(getTransaction(), getSqlStyle().getStreamingFetchSize(), mapper);
+  }
+
   @Override
   public int insert(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
@@ -650,6 +723,16 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public int[] insertBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null, getJdbcBatchSize());
+  }
+
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null, getJdbcBatchSize());
+  }
+
   @Override
   public boolean callStoredProcedure(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processStoredProcedure(getTransaction(), getStatementCache(), null);
@@ -796,6 +879,8 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
   private class SqlTransactionMember extends AbstractSqlTransactionMember {
     private final Connection m_conn;
+    private boolean m_pooledStatementCacheResolved;
+    private IStatementCache m_pooledStatementCache;
 
     public SqlTransactionMember(String transactionMemberId, Connection conn) {
       super(transactionMemberId);
@@ -806,6 +891,18 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
       return m_conn;
     }
 
+    /**
+     * @return the statement cache bound to the pooled connection or <code>null</code> if the connection was not leased
+     *         from the pool (e.g. {@link #execCreateConnection()} is overridden)
+     */
+    public synchronized IStatementCache getPooledStatementCache() {
+      if (!m_pooledStatementCacheResolved) {
+        m_pooledStatementCache = getSqlConnectionPool().getStatementCache(m_conn, getJdbcStatementCacheSize());
+        m_pooledStatementCacheResolved = true;
+      }
+      return m_pooledStatementCache;
+    }
+
     @Override
     public void commitPhase2() {
       try {
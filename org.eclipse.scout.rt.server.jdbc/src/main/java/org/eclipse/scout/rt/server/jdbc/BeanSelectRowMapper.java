@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+
+/**
+ * Maps each row onto a new instance of a bean class.
+ * <p>
+ * A column is assigned to the writable bean property whose name matches the column label ignoring case and
+ * underscores, i.e. the column <code>FIRST_NAME</code> is written to <code>setFirstName</code>. Columns without a
+ * matching property are ignored. The column-to-property assignment is resolved once per result set.
+ */
+public class BeanSelectRowMapper<T> implements ISelectRowMapper<T> {
+
+  private final Class<T> m_beanType;
+  private final Constructor<T> m_constructor;
+  private final Map<String, Method> m_writeMethods;
+  private ResultSetMetaData m_meta;
+  private Method[] m_columnWriteMethods;
+
+  public BeanSelectRowMapper(Class<T> beanType) {
+    m_beanType = Assertions.assertNotNull(beanType);
+    m_constructor = Assertions.assertNotNull(BeanUtility.findConstructor(beanType), "{} has no default constructor", beanType.getName());
+    m_writeMethods = new HashMap<>();
+    for (FastPropertyDescriptor desc : BeanUtility.getFastBeanInfo(beanType, Object.class).getPropertyDescriptors()) {
+      if (desc.getWriteMethod() != null) {
+        m_writeMethods.put(normalize(desc.getName()), desc.getWriteMethod());
+      }
+    }
+  }
+
+  @Override
+  public T mapRow(ResultSetMetaData meta, Object[] row) throws SQLException {
+    if (meta != m_meta) {
+      m_columnWriteMethods = resolveColumns(meta);
+      m_meta = meta;
+    }
+    T bean = createBean();
+    for (int i = 0; i < row.length && i < m_columnWriteMethods.length; i++) {
+      Method writeMethod = m_columnWriteMethods[i];
+      if (writeMethod == null) {
+        continue;
+      }
+      try {
+        writeMethod.invoke(bean, TypeCastUtility.castValue(row[i], writeMethod.getParameterTypes()[0]));
+      }
+      catch (Exception e) {
+        throw new ProcessingException("column {} of {}", meta.getColumnLabel(i + 1), m_beanType.getName(), e);
+      }
+    }
+    return bean;
+  }
+
+  protected T createBean() {
+    try {
+      return m_constructor.newInstance();
+    }
+    catch (ReflectiveOperationException e) {
+      throw new ProcessingException("create instance of {}", m_beanType.getName(), e);
+    }
+  }
+
+  protected Method[] resolveColumns(ResultSetMetaData meta) throws SQLException {
+    Method[] methods = new Method[meta.getColumnCount()];
+    for (int i = 0; i < methods.length; i++) {
+      String label = meta.getColumnLabel(i + 1);
+      if (label != null) {
+        methods[i] = m_writeMethods.get(normalize(label));
+      }
+    }
+    return methods;
+  }
+
+  protected String normalize(String name) {
+    return name.replace("_", "").toLowerCase(Locale.ROOT);
+  }
+}
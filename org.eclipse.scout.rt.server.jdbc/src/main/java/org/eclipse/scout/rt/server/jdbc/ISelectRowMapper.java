@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Converts a fetched row into the element type of a streaming select.
+ *
+ * @see ISqlService#selectIterator(ISelectRowMapper, String, Object...)
+ */
+@FunctionalInterface
+public interface ISelectRowMapper<T> {
+
+  /**
+   * @param meta
+   *          meta data of the current result set, the same instance is passed for all rows of a result set
+   * @param row
+   *          column values of the current row, read using {@link org.eclipse.scout.rt.server.jdbc.style.ISqlStyle}
+   */
+  T mapRow(ResultSetMetaData meta, Object[] row) throws SQLException;
+}
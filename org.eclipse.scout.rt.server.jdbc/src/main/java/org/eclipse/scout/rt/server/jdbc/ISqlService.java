@@ -16,6 +16,7 @@ import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.IPlatformListener;
 import org.eclipse.scout.rt.platform.job.IJobManager;
 import org.eclipse.scout.rt.platform.service.IService;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
 
@@ -238,6 +239,26 @@ public interface ISqlService extends IService {
    */
   void selectStreamingLimited(String s, ISelectStreamHandler handler, int maxRowCount, Object... bindBases);
 
+  /**
+   * Executes the select lazily: rows are fetched in chunks of {@link ISqlStyle#getStreamingFetchSize()} while the
+   * returned iterator is consumed, so arbitrarily large results can be processed in constant memory. The statement and
+   * its result set stay open until the iterator is exhausted or closed, the iterator must therefore always be closed,
+   * preferably using try-with-resources. The iterator uses the connection of the current transaction and must be
+   * consumed within that transaction. <code>INTO</code> binds are not supported.
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @see #select(String, Object...)
+   */
+  CloseableIterator<Object[]> selectIterator(String s, Object... bindBases);
+
+  /**
+   * Same as {@link #selectIterator(String, Object...)} but each row is converted using the given mapper, e.g. a
+   * {@link BeanSelectRowMapper}.
+   */
+  <T> CloseableIterator<T> selectIterator(ISelectRowMapper<T> mapper, String s, Object... bindBases);
+
   /**
    * insert rows
    * <p>
@@ -268,6 +289,34 @@ public interface ISqlService extends IService {
    */
   int delete(String s, Object... bindBases);
 
+  /**
+   * insert rows using JDBC batch execution
+   * <p>
+   * Use it instead of {@link #insert(String, Object...)} with array or table binds (e.g.
+   * {@link org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData}) to send many rows with
+   * few round trips. See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of inserted rows per row of the batch binds
+   * @throws SqlBatchUpdateException
+   *           if a row could not be inserted
+   */
+  int[] insertBatch(String s, Object... bindBases);
+
+  /**
+   * update rows using JDBC batch execution
+   * <p>
+   * Use it instead of {@link #update(String, Object...)} with array or table binds (e.g.
+   * {@link org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData}) to send many rows with
+   * few round trips. See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of updated rows per row of the batch binds
+   * @throws SqlBatchUpdateException
+   *           if a row could not be updated
+   */
+  int[] updateBatch(String s, Object... bindBases);
+
   /**
    * call a stored procedure
    * <p>
@@ -12,6 +12,8 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
 
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
+
 public interface IStatementProcessor {
 
   Object[][] processSelect(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
@@ -20,8 +22,30 @@ public interface IStatementProcessor {
 
   void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler);
 
+  /**
+   * Executes the select lazily. Rows are fetched from the database while the returned iterator is consumed, the
+   * statement and its result set stay open until the iterator is exhausted or closed.
+   *
+   * @param fetchSize
+   *          JDBC fetch size hint, 0 to use the driver default
+   * @param mapper
+   *          converts each fetched row into an element of the iterator
+   */
+  <T> CloseableIterator<T> processSelectIterator(Connection conn, int fetchSize, ISelectRowMapper<T> mapper);
+
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
+  /**
+   * Executes the modification for all rows of the batch binds using JDBC batch execution.
+   *
+   * @param batchSize
+   *          maximum number of rows sent to the database in one round trip
+   * @return update count per row
+   * @throws SqlBatchUpdateException
+   *           if a row fails
+   */
+  int[] processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, int batchSize);
+
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   String createPlainText();
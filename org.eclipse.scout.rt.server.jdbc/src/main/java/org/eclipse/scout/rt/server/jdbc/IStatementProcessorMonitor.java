@@ -26,6 +26,10 @@ public interface IStatementProcessorMonitor {
    *          call. Used in methods
    *          {@link IStatementProcessor#processSelect(Connection, IStatementCache, IStatementProcessorMonitor)}
    *          {@link IStatementProcessor#processSelectInto(Connection, IStatementCache, IStatementProcessorMonitor)}
+   *          <p>
+   *          {@link IStatementProcessor#processModificationBatch(Connection, IStatementCache, IStatementProcessorMonitor, int)}
+   *          calls this method after the last batch was executed, with <code>rs</code> and <code>rows</code> set to
+   *          <code>null</code>.
    */
   void postFetchData(Connection con, PreparedStatement stm, ResultSet rs, List<Object[]> rows);
 }
@@ -12,9 +12,14 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 
 /**
@@ -120,6 +125,53 @@ public final class SQL {
     service.selectIntoLimited(s, maxRowCount, bindBases);
   }
 
+  /**
+   * @see ISqlService#selectIterator(String, Object...)
+   */
+  public static CloseableIterator<Object[]> selectIterator(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectIterator(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#selectIterator(ISelectRowMapper, String, Object...)
+   */
+  public static <T> CloseableIterator<T> selectIterator(ISelectRowMapper<T> mapper, String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectIterator(mapper, s, bindBases);
+  }
+
+  /**
+   * Lazily fetched rows as a sequential {@link Stream}. The stream must be closed, e.g. using try-with-resources, to
+   * release the underlying statement.
+   *
+   * @see ISqlService#selectIterator(String, Object...)
+   */
+  public static Stream<Object[]> selectStream(String s, Object... bindBases) {
+    return toStream(selectIterator(s, bindBases));
+  }
+
+  /**
+   * @see #selectStream(String, Object...)
+   * @see ISqlService#selectIterator(ISelectRowMapper, String, Object...)
+   */
+  public static <T> Stream<T> selectStream(ISelectRowMapper<T> mapper, String s, Object... bindBases) {
+    return toStream(selectIterator(mapper, s, bindBases));
+  }
+
+  /**
+   * Each row is mapped onto a new instance of the bean type, see {@link BeanSelectRowMapper}.
+   *
+   * @see #selectStream(String, Object...)
+   */
+  public static <T> Stream<T> selectStream(Class<T> beanType, String s, Object... bindBases) {
+    return selectStream(new BeanSelectRowMapper<>(beanType), s, bindBases);
+  }
+
+  private static <T> Stream<T> toStream(CloseableIterator<T> it) {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false).onClose(it::close);
+  }
+
   /**
    * @see ISqlService#insert(String, Object...)
    */
@@ -144,6 +196,22 @@ public final class SQL {
     return service.delete(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#insertBatch(String, Object...)
+   */
+  public static int[] insertBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.insertBatch(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#updateBatch(String, Object...)
+   */
+  public static int[] updateBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.updateBatch(s, bindBases);
+  }
+
   /**
    * @see ISqlService#callStoredProcedure(String, Object...)
    */
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.BatchUpdateException;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+
+/**
+ * Thrown by {@link ISqlService#insertBatch(String, Object...)} and {@link ISqlService#updateBatch(String, Object...)}
+ * if a row of the batch could not be executed.
+ */
+public class SqlBatchUpdateException extends ProcessingException {
+  private static final long serialVersionUID = 1L;
+
+  private final int[] m_updateCounts;
+  private final int m_failedRowIndex;
+
+  /**
+   * @param updateCounts
+   *          update counts of the rows executed before the failure, as reported by the JDBC driver. Drivers which
+   *          continue after a failing row report {@link java.sql.Statement#EXECUTE_FAILED} for that row.
+   * @param failedRowIndex
+   *          index of the first failed row, -1 if unknown
+   */
+  public SqlBatchUpdateException(int[] updateCounts, int failedRowIndex, BatchUpdateException cause) {
+    super("Batch update failed at row {}", failedRowIndex, cause);
+    m_updateCounts = updateCounts;
+    m_failedRowIndex = failedRowIndex;
+  }
+
+  /**
+   * @return update counts of all rows executed so far, indexed by row
+   */
+  public int[] getUpdateCounts() {
+    return m_updateCounts;
+  }
+
+  /**
+   * @return index of the first row that failed, -1 if the driver did not report it
+   */
+  public int getFailedRowIndex() {
+    return m_failedRowIndex;
+  }
+
+  @Override
+  public SqlBatchUpdateException withContextInfo(final String name, final Object value, final Object... valueArgs) {
+    super.withContextInfo(name, value, valueArgs);
+    return this;
+  }
+}
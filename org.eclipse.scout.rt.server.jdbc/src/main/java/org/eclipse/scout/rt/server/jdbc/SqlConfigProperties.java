@@ -10,10 +10,16 @@
  */
 package org.eclipse.scout.rt.server.jdbc;
 
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractClassConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ConcurrentSqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ISqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
 
 /**
  * Config properties for org.eclipse.scout.rt.server.jdbc
@@ -205,6 +211,33 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of rows sent to the database in one round trip by insertBatch and updateBatch. The default value is 100.";
+    }
+  }
+
+  public static class SqlJdbcPooledStatementCacheProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pooledStatementCache";
+    }
+
+    @Override
+    public String description() {
+      return "If true, prepared statements are cached per pooled JDBC connection and reused across transactions. "
+          + "Otherwise they are cached per transaction only. Requires a direct JDBC connection. The default value is false.";
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -217,4 +250,38 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  public static class SqlJdbcPoolTypeProperty extends AbstractClassConfigProperty<ISqlConnectionPool> {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.type";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Fully qualified class name of the connection pool to use for direct JDBC connections. The class must implement '%s'. "
+          + "By default '%s' is used, '%s' is an alternative without a global lock for highly concurrent servers.",
+          ISqlConnectionPool.class.getName(), SqlConnectionPool.class.getName(), ConcurrentSqlConnectionPool.class.getName());
+    }
+  }
+
+  public static class SqlJdbcPoolLeaseTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.leaseTimeout";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum time in milliseconds to wait for a connection if all connections of the pool are busy. "
+          + "Only supported by '%s'. The default value is 1 minute.", ConcurrentSqlConnectionPool.class.getName());
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return TimeUnit.MINUTES.toMillis(1);
+    }
+  }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Statement cache bound to the lifetime of one pooled physical connection. Unlike {@link PreparedStatementCache} it
+ * survives the end of a transaction, so statements are prepared once per connection.
+ * <p>
+ * A statement is removed from the cache while it is in use and put back when it is released, hence the same SQL may be
+ * executed in nested calls. The cache holds at most <code>maxSize</code> idle statements and closes the least recently
+ * used one when full. After {@link #invalidate()} every statement is closed instead of cached.
+ * <p>
+ * This class is thread-safe, even though a connection is only used by one transaction at a time.
+ */
+@SuppressWarnings("squid:S1166")
+public class ConnectionStatementCache implements IStatementCache {
+  private static final Logger LOG = LoggerFactory.getLogger(ConnectionStatementCache.class);
+
+  private final Connection m_conn;
+  private final int m_maxSize;
+  private final StatementCacheStatistics m_statistics;
+  private final LinkedHashMap<StatementKey, PreparedStatement> m_idleStatements;
+  /**
+   * Same statements as the values of {@link #m_idleStatements}, used to detect a repeated release in constant time.
+   */
+  private final Set<PreparedStatement> m_idleStatementSet = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Map<PreparedStatement, StatementKey> m_usedStatements = new IdentityHashMap<>();
+  private boolean m_invalidated;
+
+  public ConnectionStatementCache(Connection conn, int maxSize, StatementCacheStatistics statistics) {
+    m_conn = conn;
+    m_maxSize = maxSize;
+    m_statistics = statistics;
+    m_idleStatements = new LinkedHashMap<StatementKey, PreparedStatement>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Entry<StatementKey, PreparedStatement> eldest) {
+        if (size() <= m_maxSize) {
+          return false;
+        }
+        m_statistics.evicted();
+        m_idleStatementSet.remove(eldest.getValue());
+        closeStatement(eldest.getValue());
+        return true;
+      }
+    };
+  }
+
+  @Override
+  public PreparedStatement getPreparedStatement(Connection conn, String s) throws SQLException {
+    return getStatement(conn, new StatementKey(s, false));
+  }
+
+  @Override
+  public void releasePreparedStatement(PreparedStatement ps) {
+    releaseStatement(ps);
+  }
+
+  @Override
+  public CallableStatement getCallableStatement(Connection conn, String s) throws SQLException {
+    return (CallableStatement) getStatement(conn, new StatementKey(s, true));
+  }
+
+  @Override
+  public void releaseCallableStatement(CallableStatement cs) {
+    releaseStatement(cs);
+  }
+
+  @SuppressWarnings("resource")
+  protected synchronized PreparedStatement getStatement(Connection conn, StatementKey key) throws SQLException {
+    if (conn != m_conn || m_invalidated) {
+      // not cacheable, closed upon release
+      return key.isCallable() ? conn.prepareCall(key.getSql()) : conn.prepareStatement(key.getSql());
+    }
+
+    PreparedStatement ps = m_idleStatements.remove(key);
+    if (ps != null) {
+      m_idleStatementSet.remove(ps);
+      m_statistics.hit();
+      ps.clearParameters();
+      ps.clearWarnings();
+    }
+    else {
+      long start = System.nanoTime();
+      ps = key.isCallable() ? conn.prepareCall(key.getSql()) : conn.prepareStatement(key.getSql());
+      m_statistics.miss(System.nanoTime() - start);
+    }
+    m_usedStatements.put(ps, key);
+    return ps;
+  }
+
+  protected synchronized void releaseStatement(PreparedStatement ps) {
+    if (ps == null) {
+      return;
+    }
+    StatementKey key = m_usedStatements.remove(ps);
+    if (key == null && m_idleStatementSet.contains(ps)) {
+      // released twice
+      return;
+    }
+    if (key == null || m_invalidated || m_maxSize <= 0) {
+      closeStatement(ps);
+      return;
+    }
+    PreparedStatement previous = m_idleStatements.put(key, ps);
+    m_idleStatementSet.add(ps);
+    if (previous != null && previous != ps) {
+      // the same statement was used twice at the same time, keep the one released last
+      m_idleStatementSet.remove(previous);
+      closeStatement(previous);
+    }
+  }
+
+  /**
+   * Closes all idle statements and disables caching. Called when the connection is retired from the pool.
+   */
+  public synchronized void invalidate() {
+    m_invalidated = true;
+    for (PreparedStatement ps : m_idleStatements.values()) {
+      closeStatement(ps);
+    }
+    m_idleStatements.clear();
+    m_idleStatementSet.clear();
+  }
+
+  public synchronized int size() {
+    return m_idleStatements.size();
+  }
+
+  protected void closeStatement(PreparedStatement ps) {
+    try {
+      ps.close();
+    }
+    catch (Exception e) {
+      LOG.warn("Exception while closing statement", e);
+    }
+  }
+
+  protected static final class StatementKey {
+    private final String m_sql;
+    private final boolean m_callable;
+
+    StatementKey(String sql, boolean callable) {
+      m_sql = sql;
+      m_callable = callable;
+    }
+
+    public String getSql() {
+      return m_sql;
+    }
+
+    public boolean isCallable() {
+      return m_callable;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * m_sql.hashCode() + (m_callable ? 1 : 0);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      StatementKey other = (StatementKey) obj;
+      return m_callable == other.m_callable && Objects.equals(m_sql, other.m_sql);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters shared by all {@link ConnectionStatementCache}s of a connection pool.
+ */
+public class StatementCacheStatistics {
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+  private final LongAdder m_prepareNanos = new LongAdder();
+
+  void hit() {
+    m_hitCount.increment();
+  }
+
+  void miss(long prepareNanos) {
+    m_missCount.increment();
+    m_prepareNanos.add(prepareNanos);
+  }
+
+  void evicted() {
+    m_evictionCount.increment();
+  }
+
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  /**
+   * @return total time spent preparing statements which were not found in the cache
+   */
+  public long getPrepareTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(m_prepareNanos.sum());
+  }
+}
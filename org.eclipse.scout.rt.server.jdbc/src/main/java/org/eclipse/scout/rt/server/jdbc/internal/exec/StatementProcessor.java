@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.server.jdbc.internal.exec;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.BatchUpdateException;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -21,10 +22,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.TreeMap;
 import java.util.regex.Pattern;
 
@@ -42,15 +45,18 @@ import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 import org.eclipse.scout.rt.platform.util.TriState;
 import org.eclipse.scout.rt.server.IServerSession;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlTransactionMember;
+import org.eclipse.scout.rt.server.jdbc.ISelectRowMapper;
 import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.IStatementCache;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessor;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
+import org.eclipse.scout.rt.server.jdbc.SqlBatchUpdateException;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
@@ -418,6 +424,11 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @Override
+  public <T> CloseableIterator<T> processSelectIterator(Connection conn, int fetchSize, ISelectRowMapper<T> mapper) {
+    return new P_SelectIterator<>(conn, fetchSize, mapper);
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -457,6 +468,94 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @SuppressWarnings("resource")
+  @Override
+  public int[] processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, int batchSize) {
+    PreparedStatement ps = null;
+    String batchStm = null;
+    int batchRowCount = 0;
+    P_UpdateCounts updateCounts = new P_UpdateCounts();
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        boolean sameStatement = m_currentInputStm.equals(batchStm);
+        if (ps != null && (batchRowCount >= batchSize || !sameStatement)) {
+          executeBatch(ps, updateCounts, batchRowCount);
+          batchRowCount = 0;
+          if (!sameStatement) {
+            // plain (non-jdbc) binds changed the statement text, a new statement is required
+            unregisterActiveStatement(ps);
+            cache.releasePreparedStatement(ps);
+            ps = null;
+          }
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          batchStm = m_currentInputStm;
+          registerActiveStatement(ps);
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        batchRowCount++;
+      }
+      if (batchRowCount > 0) {
+        executeBatch(ps, updateCounts, batchRowCount);
+        batchRowCount = 0;
+      }
+      if (monitor != null && ps != null) {
+        monitor.postFetchData(conn, ps, null, null);
+      }
+      return updateCounts.toArray();
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      if (ps != null) {
+        unregisterActiveStatement(ps);
+        if (batchRowCount > 0) {
+          try {
+            ps.clearBatch();
+          }
+          catch (SQLException e) {
+            LOG.warn("could not clear batch", e);
+          }
+        }
+        cache.releasePreparedStatement(ps);
+      }
+    }
+  }
+
+  private void executeBatch(PreparedStatement ps, P_UpdateCounts updateCounts, int batchRowCount) throws SQLException {
+    try {
+      updateCounts.addAll(ps.executeBatch());
+    }
+    catch (BatchUpdateException e) {
+      int firstRowIndex = updateCounts.size();
+      int failedRowIndex = -1;
+      int[] counts = e.getUpdateCounts();
+      if (counts != null) {
+        if (counts.length < batchRowCount) {
+          // driver stopped at the first failing row
+          failedRowIndex = firstRowIndex + counts.length;
+        }
+        else {
+          for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.EXECUTE_FAILED) {
+              failedRowIndex = firstRowIndex + i;
+              break;
+            }
+          }
+        }
+        updateCounts.addAll(counts);
+      }
+      throw new SqlBatchUpdateException(updateCounts.toArray(), failedRowIndex, e);
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -840,6 +939,153 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  private static class P_UpdateCounts {
+    private int[] m_counts = new int[16];
+    private int m_size;
+
+    public void addAll(int[] counts) {
+      if (m_size + counts.length > m_counts.length) {
+        m_counts = Arrays.copyOf(m_counts, Math.max(m_counts.length * 2, m_size + counts.length));
+      }
+      System.arraycopy(counts, 0, m_counts, m_size, counts.length);
+      m_size += counts.length;
+    }
+
+    public int size() {
+      return m_size;
+    }
+
+    public int[] toArray() {
+      return Arrays.copyOf(m_counts, m_size);
+    }
+  }
+
+  /**
+   * Lazily executes the input batches and fetches the rows of their result sets. The {@link PreparedStatement} is not
+   * taken from a statement cache since it stays open until the iterator is exhausted or closed.
+   * <p>
+   * The iterator is bound to the connection of the transaction it was created in. That connection is returned to the
+   * pool when the transaction ends, therefore the iterator fails if it is consumed outside of that transaction.
+   */
+  private final class P_SelectIterator<T> implements CloseableIterator<T> {
+    private final Connection m_conn;
+    private final int m_fetchSize;
+    private final ISelectRowMapper<T> m_mapper;
+    private final ITransaction m_transaction;
+    private PreparedStatement m_ps;
+    private ResultSet m_rs;
+    private ResultSetMetaData m_meta;
+    private int m_rowCount;
+    private T m_next;
+    private boolean m_nextAvailable;
+    private boolean m_closed;
+
+    P_SelectIterator(Connection conn, int fetchSize, ISelectRowMapper<T> mapper) {
+      m_conn = conn;
+      m_fetchSize = fetchSize;
+      m_mapper = mapper;
+      m_transaction = ITransaction.CURRENT.get();
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (!m_nextAvailable && !m_closed) {
+        assertSameTransaction();
+        m_nextAvailable = fetchNext();
+      }
+      return m_nextAvailable;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T next = m_next;
+      m_next = null;
+      m_nextAvailable = false;
+      return next;
+    }
+
+    private void assertSameTransaction() {
+      if (m_transaction != ITransaction.CURRENT.get()) {
+        close();
+        throw new ProcessingException("The iterator of a streaming select must be consumed within the transaction it was created in")
+            .withContextInfo("statement", createSqlDump(true, false));
+      }
+    }
+
+    @SuppressWarnings("resource")
+    private boolean fetchNext() {
+      try {
+        while (true) {
+          if (m_rs != null) {
+            if ((m_maxRowCount <= 0 || m_rowCount < m_maxRowCount) && m_rs.next()) {
+              m_rowCount++;
+              m_next = m_mapper.mapRow(m_meta, processResultRow(m_rs));
+              return true;
+            }
+            closeStatement();
+          }
+          if (!hasNextInputBatch() || (m_maxRowCount > 0 && m_rowCount >= m_maxRowCount)) {
+            close();
+            return false;
+          }
+          nextInputBatch();
+          prepareInputStatementAndBinds();
+          dump();
+          m_ps = m_conn.prepareStatement(m_currentInputStm, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+          if (m_fetchSize != 0) {
+            m_ps.setFetchSize(m_fetchSize);
+          }
+          bindBatch(m_ps);
+          registerActiveStatement(m_ps);
+          m_rs = m_ps.executeQuery();
+          m_meta = m_rs.getMetaData();
+        }
+      }
+      catch (SQLException | RuntimeException e) {
+        close();
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+            .withContextInfo("statement", createSqlDump(true, false));
+      }
+    }
+
+    private void closeStatement() {
+      if (m_rs != null) {
+        try {
+          m_rs.close();
+        }
+        catch (Exception e) {
+          LOG.warn("could not close ResultSet", e);
+        }
+        m_rs = null;
+        m_meta = null;
+      }
+      if (m_ps != null) {
+        unregisterActiveStatement(m_ps);
+        try {
+          m_ps.close();
+        }
+        catch (Exception e) {
+          LOG.warn("could not close PreparedStatement", e);
+        }
+        m_ps = null;
+      }
+    }
+
+    @Override
+    public void close() {
+      if (m_closed) {
+        return;
+      }
+      m_closed = true;
+      m_next = null;
+      m_nextAvailable = false;
+      closeStatement();
+    }
+  }
+
   protected void dump() {
     if (LOG.isDebugEnabled()) {
       LOG.debug("\n" + createSqlDump(true, true));
@@ -0,0 +1,522 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
+import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolLeaseTimeoutProperty;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementCacheStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Connection pool without a global lock.
+ * <p>
+ * All connections are kept in a copy-on-write list and are claimed by a compare-and-set on the state of their
+ * {@link PoolEntry}. A thread preferably gets back the connection it released last. Threads waiting for a connection
+ * are served in FIFO order by a fair hand-off queue and give up after
+ * {@link SqlJdbcPoolLeaseTimeoutProperty scout.sql.jdbc.pool.leaseTimeout}. Closing expired connections and testing idle
+ * connections is done by a periodic job and not while leasing.
+ * <p>
+ * Statistics are available through JMX, see {@link IConcurrentSqlConnectionPoolMBean}.
+ * <p>
+ * Use it by overriding {@link AbstractSqlService#getConfiguredJdbcPoolType()} or by setting the property
+ * <code>scout.sql.jdbc.pool.type</code>.
+ */
+@Bean
+@SuppressWarnings("squid:S1166")
+public class ConcurrentSqlConnectionPool implements ISqlConnectionPool {
+  private static final Logger LOG = LoggerFactory.getLogger(ConcurrentSqlConnectionPool.class);
+
+  /**
+   * Connections returned within this time are leased again without being tested.
+   */
+  private static final long VALIDATION_BYPASS_MILLIS = 500L;
+  private static final int MAX_THREAD_AFFINE_ENTRIES = 8;
+  private static final int MAX_HANDOFF_ATTEMPTS = 256;
+  /**
+   * Waiting threads re-check the pool at least this often, e.g. for capacity freed by a retired connection.
+   */
+  private static final long WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+  private volatile boolean m_destroyed;
+  private final String m_identity = UUID.randomUUID().toString();
+
+  private final CopyOnWriteArrayList<PoolEntry> m_entries = new CopyOnWriteArrayList<>();
+  /**
+   * Number of entries including the ones whose connection is currently being created.
+   */
+  private final AtomicInteger m_entryCount = new AtomicInteger();
+  private final AtomicInteger m_waiters = new AtomicInteger();
+  private final SynchronousQueue<PoolEntry> m_handoffQueue = new SynchronousQueue<>(true);
+  private final ThreadLocal<List<WeakReference<PoolEntry>>> m_threadAffineEntries = ThreadLocal.withInitial(ArrayList::new);
+
+  private final LeaseWaitHistogram m_leaseWaitHistogram = new LeaseWaitHistogram();
+  private final LongAdder m_leaseTimeoutCount = new LongAdder();
+  private final LongAdder m_createdConnectionCount = new LongAdder();
+  private final LongAdder m_closedConnectionCount = new LongAdder();
+  private final StatementCacheStatistics m_statementCacheStatistics = new StatementCacheStatistics();
+
+  private volatile AbstractSqlService m_service;
+  private volatile String m_name;
+  private volatile int m_poolSize;
+  private volatile long m_connectionLifetime;
+  private volatile long m_connectionBusyTimeout;
+  private volatile long m_leaseTimeoutNanos;
+  private final AtomicBoolean m_initialized = new AtomicBoolean(false);
+
+  @Override
+  public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
+    m_name = name;
+    m_poolSize = poolSize;
+    m_connectionLifetime = connectionLifetime;
+    m_connectionBusyTimeout = connectionBusyTimeout;
+    m_leaseTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(CONFIG.getPropertyValue(SqlJdbcPoolLeaseTimeoutProperty.class));
+    MBeanUtility.register(ConcurrentSqlConnectionPoolMBean.jmxObjectName(m_name), new ConcurrentSqlConnectionPoolMBean(this));
+    startManagePool();
+  }
+
+  /**
+   * Start managing pool
+   */
+  private void startManagePool() {
+    Jobs.schedule(this::managePool, Jobs.newInput()
+        .withName("Managing SQL connection pool for {}", m_name)
+        .withExecutionHint(m_identity)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(1, TimeUnit.MINUTES)
+            .withSchedule(FixedDelayScheduleBuilder.repeatForever(1, TimeUnit.MINUTES))));
+  }
+
+  @Override
+  public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    assertNotDestroyed();
+    m_service = service;
+
+    long start = System.nanoTime();
+    PoolEntry candidate = pollThreadAffineEntry();
+    if (candidate == null || !testCandidate(service, candidate)) {
+      candidate = awaitCandidate(service, start);
+    }
+    m_leaseWaitHistogram.record(System.nanoTime() - start);
+
+    candidate.leaseBegin = System.currentTimeMillis();
+    candidate.leaseCount++;
+    LOG.debug("lease   {}", candidate.conn);
+    return candidate.conn;
+  }
+
+  /**
+   * @return a tested candidate which is already marked busy
+   */
+  protected PoolEntry awaitCandidate(AbstractSqlService service, long start) throws ClassNotFoundException, SQLException {
+    // register as waiter before scanning so that a concurrent release hands its connection over instead of missing us
+    m_waiters.incrementAndGet();
+    try {
+      while (true) {
+        assertNotDestroyed();
+        PoolEntry candidate = pollIdleEntry();
+        if (candidate == null) {
+          candidate = tryCreateEntry(service);
+        }
+        if (candidate == null) {
+          long remaining = m_leaseTimeoutNanos - (System.nanoTime() - start);
+          if (remaining <= 0) {
+            m_leaseTimeoutCount.increment();
+            throw new TimedOutError("Timed out while leasing database connection [pool={}, timeout={}ms]", m_name, TimeUnit.NANOSECONDS.toMillis(m_leaseTimeoutNanos));
+          }
+          candidate = m_handoffQueue.poll(Math.min(remaining, WAIT_SLICE_NANOS), TimeUnit.NANOSECONDS);
+          if (candidate == null || !candidate.compareAndSetState(PoolEntry.STATE_IDLE, PoolEntry.STATE_BUSY)) {
+            continue;
+          }
+        }
+        if (testCandidate(service, candidate)) {
+          return candidate;
+        }
+      }
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+    finally {
+      m_waiters.decrementAndGet();
+    }
+  }
+
+  /**
+   * @return the most recently released connection of the current thread if it is still idle
+   */
+  protected PoolEntry pollThreadAffineEntry() {
+    List<WeakReference<PoolEntry>> list = m_threadAffineEntries.get();
+    for (int i = list.size() - 1; i >= 0; i--) {
+      PoolEntry entry = list.remove(i).get();
+      if (entry != null && entry.compareAndSetState(PoolEntry.STATE_IDLE, PoolEntry.STATE_BUSY)) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  protected PoolEntry pollIdleEntry() {
+    for (PoolEntry entry : m_entries) {
+      if (entry.compareAndSetState(PoolEntry.STATE_IDLE, PoolEntry.STATE_BUSY)) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return a new busy entry or <code>null</code> if the pool is exhausted
+   */
+  protected PoolEntry tryCreateEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    int count;
+    do {
+      count = m_entryCount.get();
+      if (count >= m_poolSize) {
+        return null;
+      }
+    }
+    while (!m_entryCount.compareAndSet(count, count + 1));
+
+    boolean created = false;
+    try {
+      PoolEntry entry = new PoolEntry();
+      entry.state.set(PoolEntry.STATE_BUSY);
+      entry.conn = createConnection(service);
+      LOG.info("created jdbc connection {}", entry.conn);
+      service.callbackAfterConnectionCreated(entry.conn);
+      entry.createTime = System.currentTimeMillis();
+      m_entries.add(entry);
+      m_createdConnectionCount.increment();
+      created = true;
+      return entry;
+    }
+    finally {
+      if (!created) {
+        m_entryCount.decrementAndGet();
+      }
+    }
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  /**
+   * Tests a busy candidate unless it was returned just recently. A dirty candidate is removed from the pool.
+   */
+  protected boolean testCandidate(AbstractSqlService service, PoolEntry candidate) {
+    if (System.currentTimeMillis() - candidate.lastAccessTime <= VALIDATION_BYPASS_MILLIS) {
+      return true;
+    }
+    try {
+      service.callbackTestConnection(candidate.conn);
+      return true;
+    }
+    catch (Exception e) {
+      LOG.warn("closing dirty connection: {}", candidate.conn, e);
+      retire(candidate, "dirty connection");
+      return false;
+    }
+  }
+
+  @Override
+  public void releaseConnection(Connection conn) {
+    LOG.debug("release {}", conn);
+    assertNotDestroyed();
+
+    PoolEntry candidate = null;
+    for (PoolEntry entry : m_entries) {
+      if (entry.conn == conn && entry.state.get() == PoolEntry.STATE_BUSY) {
+        candidate = entry;
+        break;
+      }
+    }
+    if (candidate == null || !isReusable(conn)) {
+      LOG.warn("closing dirty connection: {}", conn);
+      if (candidate != null) {
+        remove(candidate);
+        candidate.invalidateStatementCache();
+      }
+      try {
+        conn.close();
+      }
+      catch (SQLException e) {
+        // ignored
+      }
+      return;
+    }
+
+    candidate.leaseBegin = 0;
+    candidate.lastAccessTime = System.currentTimeMillis();
+    candidate.state.set(PoolEntry.STATE_IDLE);
+    List<WeakReference<PoolEntry>> threadAffineEntries = m_threadAffineEntries.get();
+    if (threadAffineEntries.size() >= MAX_THREAD_AFFINE_ENTRIES) {
+      threadAffineEntries.remove(0);
+    }
+    threadAffineEntries.add(new WeakReference<>(candidate));
+    handOff(candidate);
+  }
+
+  /**
+   * Passes an idle entry to a waiting thread, if there is any.
+   */
+  protected void handOff(PoolEntry entry) {
+    for (int i = 0; i < MAX_HANDOFF_ATTEMPTS && m_waiters.get() > 0; i++) {
+      if (entry.state.get() != PoolEntry.STATE_IDLE || m_handoffQueue.offer(entry)) {
+        return;
+      }
+      if ((i & 0xf) == 0xf) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+      }
+      else {
+        Thread.yield();
+      }
+    }
+    // the entry stays idle: a waiter which is not polling yet finds it when re-scanning the pool
+  }
+
+  protected boolean isReusable(Connection conn) {
+    try {
+      if (conn.isClosed()) {
+        return false;
+      }
+      if (conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        conn.clearWarnings();
+      }
+      return true;
+    }
+    catch (Exception e) {
+      return false;
+    }
+  }
+
+  protected boolean remove(PoolEntry entry) {
+    entry.state.set(PoolEntry.STATE_RETIRED);
+    if (m_entries.remove(entry)) {
+      m_entryCount.decrementAndGet();
+      m_closedConnectionCount.increment();
+      return true;
+    }
+    return false;
+  }
+
+  protected void retire(PoolEntry entry, String reason) {
+    if (remove(entry)) {
+      entry.invalidateStatementCache();
+      closeConnectionAsync(entry.conn, reason);
+    }
+  }
+
+  @Override
+  public IStatementCache getStatementCache(Connection conn, int maxSize) {
+    for (PoolEntry entry : m_entries) {
+      if (entry.conn == conn && entry.state.get() == PoolEntry.STATE_BUSY) {
+        return entry.getOrCreateStatementCache(maxSize, m_statementCacheStatistics);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public String getInventory() {
+    StringBuilder buf = new StringBuilder();
+    SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
+    List<PoolEntry> busyEntries = new ArrayList<>();
+    List<PoolEntry> idleEntries = new ArrayList<>();
+    for (PoolEntry e : m_entries) {
+      if (e.state.get() == PoolEntry.STATE_BUSY) {
+        busyEntries.add(e);
+      }
+      else if (e.state.get() != PoolEntry.STATE_RETIRED) {
+        idleEntries.add(e);
+      }
+    }
+    buf.append("Total connections: ").append(busyEntries.size() + idleEntries.size());
+    buf.append("\n");
+    buf.append("Busy: ").append(busyEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : busyEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+          .append(fmt.format(new Date(e.leaseBegin)));
+      buf.append("\n");
+    }
+    buf.append("Idle: ").append(idleEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : idleEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
+      buf.append("\n");
+    }
+    return buf.toString();
+  }
+
+  /**
+   * Thread worker to manage pool: closes expired idle and timed out busy connections and tests the idle ones.
+   */
+  protected void managePool() {
+    try {
+      if (isDestroyed()) {
+        return;
+      }
+      AbstractSqlService service = m_service;
+      for (PoolEntry e : m_entries) {
+        long now = System.currentTimeMillis();
+        if (e.compareAndSetState(PoolEntry.STATE_IDLE, PoolEntry.STATE_RESERVED)) {
+          if (now - e.createTime > m_connectionLifetime) {
+            retire(e, "expired idle connection");
+            continue;
+          }
+          if (service != null) {
+            try {
+              service.callbackTestConnection(e.conn);
+            }
+            catch (Exception ex) {
+              LOG.warn("closing dirty connection: {}", e.conn, ex);
+              retire(e, "dirty idle connection");
+              continue;
+            }
+          }
+          e.state.set(PoolEntry.STATE_IDLE);
+          handOff(e);
+        }
+        else if (e.state.get() == PoolEntry.STATE_BUSY && e.leaseBegin > 0 && now - e.leaseBegin > m_connectionBusyTimeout) {
+          retire(e, "timed out busy connection");
+        }
+      }
+    }
+    catch (Exception t) {
+      LOG.warn("Unexpected Problem while managing SQL connection pool", t);
+    }
+  }
+
+  protected void assertNotDestroyed() {
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+  }
+
+  @Override
+  public boolean isDestroyed() {
+    return m_destroyed;
+  }
+
+  @Override
+  public synchronized void destroy() {
+    if (isDestroyed()) {
+      return;
+    }
+    m_destroyed = true;
+
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
+
+    for (PoolEntry entry : m_entries) {
+      retire(entry, "destroying SQL connection pool");
+    }
+    MBeanUtility.unregister(ConcurrentSqlConnectionPoolMBean.jmxObjectName(m_name));
+  }
+
+  protected void closeConnectionAsync(final Connection connection, final String reason) {
+    Jobs.schedule(() -> {
+      LOG.info("Closing SQL connection {}", connection);
+      try {
+        connection.close();
+      }
+      catch (SQLException e) {
+        LOG.error("Failed to close SQL connection [connection={}]", connection, e);
+      }
+    }, Jobs.newInput()
+        .withName("Closing SQL connection [name={}, connection={}, reason={}]", m_name, connection, reason)
+        .withExecutionHint(m_identity));
+  }
+
+  /*
+   * Statistics
+   */
+
+  public String getName() {
+    return m_name;
+  }
+
+  public int getPoolSize() {
+    return m_poolSize;
+  }
+
+  public int getTotalConnections() {
+    return m_entries.size();
+  }
+
+  public int getBusyConnections() {
+    int busy = 0;
+    for (PoolEntry e : m_entries) {
+      if (e.state.get() == PoolEntry.STATE_BUSY) {
+        busy++;
+      }
+    }
+    return busy;
+  }
+
+  public int getWaitingThreads() {
+    return m_waiters.get();
+  }
+
+  public long getLeaseTimeoutCount() {
+    return m_leaseTimeoutCount.sum();
+  }
+
+  public long getCreatedConnectionCount() {
+    return m_createdConnectionCount.sum();
+  }
+
+  public long getClosedConnectionCount() {
+    return m_closedConnectionCount.sum();
+  }
+
+  @Override
+  public StatementCacheStatistics getStatementCacheStatistics() {
+    return m_statementCacheStatistics;
+  }
+
+  LeaseWaitHistogram getLeaseWaitHistogram() {
+    return m_leaseWaitHistogram;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import javax.management.ObjectName;
+
+import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
+
+/**
+ * Registered by {@link ConcurrentSqlConnectionPool} for the lifetime of the pool.
+ */
+public class ConcurrentSqlConnectionPoolMBean implements IConcurrentSqlConnectionPoolMBean {
+
+  private final ConcurrentSqlConnectionPool m_pool;
+
+  public ConcurrentSqlConnectionPoolMBean(ConcurrentSqlConnectionPool pool) {
+    m_pool = pool;
+  }
+
+  public static ObjectName jmxObjectName(String poolName) {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.server.jdbc", PlatformIdentifier.get(), "ConcurrentSqlConnectionPool-" + poolName);
+  }
+
+  @Override
+  public String getName() {
+    return m_pool.getName();
+  }
+
+  @Override
+  public int getPoolSize() {
+    return m_pool.getPoolSize();
+  }
+
+  @Override
+  public int getTotalConnections() {
+    return m_pool.getTotalConnections();
+  }
+
+  @Override
+  public int getBusyConnections() {
+    return m_pool.getBusyConnections();
+  }
+
+  @Override
+  public int getIdleConnections() {
+    return m_pool.getTotalConnections() - m_pool.getBusyConnections();
+  }
+
+  @Override
+  public int getWaitingThreads() {
+    return m_pool.getWaitingThreads();
+  }
+
+  @Override
+  public long getLeaseCount() {
+    return m_pool.getLeaseWaitHistogram().getTotalCount();
+  }
+
+  @Override
+  public long getLeaseTimeoutCount() {
+    return m_pool.getLeaseTimeoutCount();
+  }
+
+  @Override
+  public long getCreatedConnectionCount() {
+    return m_pool.getCreatedConnectionCount();
+  }
+
+  @Override
+  public long getClosedConnectionCount() {
+    return m_pool.getClosedConnectionCount();
+  }
+
+  @Override
+  public long getMaxLeaseWaitMillis() {
+    return m_pool.getLeaseWaitHistogram().getMaxMillis();
+  }
+
+  @Override
+  public long getStatementCacheHitCount() {
+    return m_pool.getStatementCacheStatistics().getHitCount();
+  }
+
+  @Override
+  public long getStatementCacheMissCount() {
+    return m_pool.getStatementCacheStatistics().getMissCount();
+  }
+
+  @Override
+  public long getStatementCacheEvictionCount() {
+    return m_pool.getStatementCacheStatistics().getEvictionCount();
+  }
+
+  @Override
+  public long getStatementPrepareTimeMillis() {
+    return m_pool.getStatementCacheStatistics().getPrepareTimeMillis();
+  }
+
+  @Override
+  public LeaseWaitBucket[] getLeaseWaitHistogram() {
+    return m_pool.getLeaseWaitHistogram().toBuckets();
+  }
+
+  @Override
+  public String getInventory() {
+    return m_pool.getInventory();
+  }
+}
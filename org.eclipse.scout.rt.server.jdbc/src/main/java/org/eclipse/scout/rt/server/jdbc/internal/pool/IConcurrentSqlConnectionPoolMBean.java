@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.beans.ConstructorProperties;
+
+import javax.management.MXBean;
+
+/**
+ * Jmx view of a {@link ConcurrentSqlConnectionPool}
+ */
+@MXBean
+public interface IConcurrentSqlConnectionPoolMBean {
+
+  String getName();
+
+  int getPoolSize();
+
+  int getTotalConnections();
+
+  int getBusyConnections();
+
+  int getIdleConnections();
+
+  /**
+   * @return the number of threads currently waiting for a connection
+   */
+  int getWaitingThreads();
+
+  long getLeaseCount();
+
+  long getLeaseTimeoutCount();
+
+  long getCreatedConnectionCount();
+
+  long getClosedConnectionCount();
+
+  long getMaxLeaseWaitMillis();
+
+  long getStatementCacheHitCount();
+
+  long getStatementCacheMissCount();
+
+  long getStatementCacheEvictionCount();
+
+  /**
+   * @return total time spent preparing statements which were not found in the statement cache of their connection
+   */
+  long getStatementPrepareTimeMillis();
+
+  /**
+   * @return number of leases per wait time bucket
+   */
+  LeaseWaitBucket[] getLeaseWaitHistogram();
+
+  String getInventory();
+
+  class LeaseWaitBucket {
+    private final long m_upperBoundMillis;
+    private final long m_count;
+
+    @ConstructorProperties({"upperBoundMillis", "count"})
+    public LeaseWaitBucket(long upperBoundMillis, long count) {
+      m_upperBoundMillis = upperBoundMillis;
+      m_count = count;
+    }
+
+    /**
+     * @return exclusive upper bound of the wait time of the leases counted in this bucket, {@link Long#MAX_VALUE} for
+     *         the last bucket
+     */
+    public long getUpperBoundMillis() {
+      return m_upperBoundMillis;
+    }
+
+    public long getCount() {
+      return m_count;
+    }
+  }
+}
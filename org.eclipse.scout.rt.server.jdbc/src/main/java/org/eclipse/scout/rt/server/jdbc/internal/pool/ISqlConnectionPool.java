@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementCacheStatistics;
+
+/**
+ * Connection pool used by an {@link AbstractSqlService} with a direct JDBC connection. The implementation to use is
+ * selected by {@link AbstractSqlService#getJdbcPoolType()}.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see SqlConnectionPool
+ * @see ConcurrentSqlConnectionPool
+ */
+public interface ISqlConnectionPool {
+
+  /**
+   * Initializes this pool. Must be called exactly once before the first connection is leased.
+   *
+   * @param name
+   *          name of the pool, typically the class name of the SQL service
+   * @param poolSize
+   *          maximum number of connections
+   * @param connectionLifetime
+   *          time in milliseconds after which an idle connection is closed
+   * @param connectionBusyTimeout
+   *          time in milliseconds after which a busy connection is closed
+   */
+  void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout);
+
+  /**
+   * Leases a connection from this pool. The connection must be returned by {@link #releaseConnection(Connection)}.
+   */
+  Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException;
+
+  /**
+   * Returns a connection previously leased by {@link #leaseConnection(AbstractSqlService)} to this pool.
+   */
+  void releaseConnection(Connection conn);
+
+  /**
+   * Returns the statement cache bound to the lifetime of a connection leased from this pool. Statements cached there
+   * survive the end of the transaction and are closed when the pool closes the connection.
+   *
+   * @param conn
+   *          a connection currently leased from this pool
+   * @param maxSize
+   *          maximum number of cached statements, only used when the cache is created
+   * @return the statement cache or <code>null</code> if the connection was not leased from this pool
+   */
+  IStatementCache getStatementCache(Connection conn, int maxSize);
+
+  /**
+   * @return hit, miss and eviction counters of all statement caches returned by
+   *         {@link #getStatementCache(Connection, int)}
+   */
+  StatementCacheStatistics getStatementCacheStatistics();
+
+  /**
+   * @return human readable description of the connections currently held by this pool
+   */
+  String getInventory();
+
+  /**
+   * Returns whether this SQL pool was destroyed, and cannot be used anymore.
+   */
+  boolean isDestroyed();
+
+  /**
+   * Destroys this connection pool. Upon return, this pool cannot be used anymore.
+   */
+  void destroy();
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.server.jdbc.internal.pool.IConcurrentSqlConnectionPoolMBean.LeaseWaitBucket;
+
+/**
+ * Lock-free histogram of the time threads waited for a connection.
+ */
+class LeaseWaitHistogram {
+  private static final long[] UPPER_BOUNDS_MILLIS = {1, 5, 10, 50, 100, 500, 1000, 5000, 10000, Long.MAX_VALUE};
+
+  private final LongAdder[] m_counts;
+  private final LongAdder m_total = new LongAdder();
+  private final LongAccumulator m_maxNanos = new LongAccumulator(Long::max, 0L);
+
+  LeaseWaitHistogram() {
+    m_counts = new LongAdder[UPPER_BOUNDS_MILLIS.length];
+    for (int i = 0; i < m_counts.length; i++) {
+      m_counts[i] = new LongAdder();
+    }
+  }
+
+  void record(long waitNanos) {
+    long millis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+    int i = 0;
+    while (millis >= UPPER_BOUNDS_MILLIS[i]) {
+      i++;
+    }
+    m_counts[i].increment();
+    m_total.increment();
+    m_maxNanos.accumulate(waitNanos);
+  }
+
+  long getTotalCount() {
+    return m_total.sum();
+  }
+
+  long getMaxMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(m_maxNanos.get());
+  }
+
+  LeaseWaitBucket[] toBuckets() {
+    LeaseWaitBucket[] buckets = new LeaseWaitBucket[UPPER_BOUNDS_MILLIS.length];
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new LeaseWaitBucket(UPPER_BOUNDS_MILLIS[i], m_counts[i].sum());
+    }
+    return buckets;
+  }
+}
@@ -11,11 +11,55 @@
 package org.eclipse.scout.rt.server.jdbc.internal.pool;
 
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ConnectionStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementCacheStatistics;
 
 @SuppressWarnings({"squid:S00116", "squid:ClassVariableVisibilityCheck"})
 class PoolEntry {
+  static final int STATE_IDLE = 0;
+  static final int STATE_BUSY = 1;
+  static final int STATE_RESERVED = 2;
+  static final int STATE_RETIRED = 3;
+
   public Connection conn;
   public long createTime;
   public long leaseBegin;
   public int leaseCount;
+  /**
+   * Only used by {@link ConcurrentSqlConnectionPool}: one of the STATE_* constants, changed by compare-and-set only.
+   */
+  public final AtomicInteger state = new AtomicInteger(STATE_IDLE);
+  /**
+   * Only used by {@link ConcurrentSqlConnectionPool}: time the entry was last returned to the pool.
+   */
+  public volatile long lastAccessTime;
+  /**
+   * Statement cache bound to the lifetime of {@link #conn}, created on first use.
+   */
+  public volatile ConnectionStatementCache statementCache;
+
+  boolean compareAndSetState(int expect, int update) {
+    return state.compareAndSet(expect, update);
+  }
+
+  ConnectionStatementCache getOrCreateStatementCache(int maxSize, StatementCacheStatistics statistics) {
+    ConnectionStatementCache cache = statementCache;
+    if (cache == null) {
+      cache = new ConnectionStatementCache(conn, maxSize, statistics);
+      statementCache = cache;
+    }
+    return cache;
+  }
+
+  /**
+   * Closes the cached statements, must be called when the connection is closed by the pool.
+   */
+  void invalidateStatementCache() {
+    ConnectionStatementCache cache = statementCache;
+    if (cache != null) {
+      cache.invalidate();
+    }
+  }
 }
@@ -27,6 +27,8 @@ import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementCacheStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,7 +39,7 @@ import org.slf4j.LoggerFactory;
  */
 @Bean
 @SuppressWarnings("squid:S1166")
-public class SqlConnectionPool {
+public class SqlConnectionPool implements ISqlConnectionPool {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPool.class);
 
   private volatile boolean m_destroyed;
@@ -54,7 +56,13 @@ public class SqlConnectionPool {
   private volatile long m_connectionLifetime;
   private volatile long m_connectionBusyTimeout;
   private final AtomicBoolean m_initialized = new AtomicBoolean(false);
+  private final StatementCacheStatistics m_statementCacheStatistics = new StatementCacheStatistics();
+  /**
+   * Set as soon as a statement cache is requested, i.e. the SQL service uses pooled statement caches
+   */
+  private volatile boolean m_statementCacheEnabled;
 
+  @Override
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
@@ -76,6 +84,7 @@ public class SqlConnectionPool {
             .withSchedule(FixedDelayScheduleBuilder.repeatForever(1, TimeUnit.MINUTES))));
   }
 
+  @Override
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     managePool();
     synchronized (m_poolLock) {
@@ -117,6 +126,7 @@ public class SqlConnectionPool {
             // remove candidate from idle pool and close it
             m_idleEntries.remove(candidate);
             LOG.warn("closing dirty connection: {}", candidate.conn, e);
+            candidate.invalidateStatementCache();
             try {
               candidate.conn.close();
             }
@@ -137,6 +147,7 @@ public class SqlConnectionPool {
     }
   }
 
+  @Override
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
     synchronized (m_poolLock) {
@@ -151,6 +162,7 @@ public class SqlConnectionPool {
           break;
         }
       }
+      final PoolEntry busyEntry = candidate;
       // check close status of connection
       if (candidate != null) {
         try {
@@ -189,6 +201,9 @@ public class SqlConnectionPool {
       }
       else {
         LOG.warn("closing dirty connection: {}", conn);
+        if (busyEntry != null) {
+          busyEntry.invalidateStatementCache();
+        }
         try {
           conn.close();
         }
@@ -201,6 +216,25 @@ public class SqlConnectionPool {
     managePool();
   }
 
+  @Override
+  public IStatementCache getStatementCache(Connection conn, int maxSize) {
+    m_statementCacheEnabled = true;
+    synchronized (m_poolLock) {
+      for (PoolEntry e : m_busyEntries) {
+        if (e.conn == conn) {
+          return e.getOrCreateStatementCache(maxSize, m_statementCacheStatistics);
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public StatementCacheStatistics getStatementCacheStatistics() {
+    return m_statementCacheStatistics;
+  }
+
+  @Override
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
@@ -221,6 +255,11 @@ public class SqlConnectionPool {
         buf.append("\n");
       }
     }
+    if (m_statementCacheEnabled) {
+      buf.append("Statement cache: hits=").append(m_statementCacheStatistics.getHitCount()).append(", misses=").append(m_statementCacheStatistics.getMissCount())
+          .append(", evictions=").append(m_statementCacheStatistics.getEvictionCount()).append(", prepareTime=").append(m_statementCacheStatistics.getPrepareTimeMillis()).append("ms");
+      buf.append("\n");
+    }
     return buf.toString();
   }
 
@@ -238,6 +277,7 @@ public class SqlConnectionPool {
         for (Iterator it = m_idleEntries.iterator(); it.hasNext();) {
           PoolEntry e = (PoolEntry) it.next();
           if (System.currentTimeMillis() - e.createTime > m_connectionLifetime) {
+            e.invalidateStatementCache();
             closeConnectionAsync(e.conn, "expired idle connection");
             e.conn = null;
             it.remove();
@@ -247,6 +287,7 @@ public class SqlConnectionPool {
         for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
           PoolEntry e = (PoolEntry) it.next();
           if (System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout) {
+            e.invalidateStatementCache();
             closeConnectionAsync(e.conn, "timed out busy connection");
             e.conn = null;
             it.remove();
@@ -259,16 +300,12 @@ public class SqlConnectionPool {
     }
   }
 
-  /**
-   * Returns whether this SQL pool was destroyed, and cannot be used anymore.
-   */
+  @Override
   public boolean isDestroyed() {
     return m_destroyed;
   }
 
-  /**
-   * Destroys this connection pool. Upon return, this pool cannot be used anymore.
-   */
+  @Override
   public void destroy() {
     if (isDestroyed()) {
       return;
@@ -286,11 +323,13 @@ public class SqlConnectionPool {
           .toFilter(), true);
 
       for (final PoolEntry idleEntry : m_idleEntries) {
+        idleEntry.invalidateStatementCache();
         closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
       }
       m_idleEntries.clear();
 
       for (final PoolEntry busyEntry : m_busyEntries) {
+        busyEntry.invalidateStatementCache();
         closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
       }
       m_busyEntries.clear();
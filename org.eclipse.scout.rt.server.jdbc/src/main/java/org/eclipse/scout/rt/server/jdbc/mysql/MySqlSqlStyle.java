@@ -61,6 +61,15 @@ public class MySqlSqlStyle extends AbstractSqlStyle {
     return (s.length() > MAX_SQL_STRING_LENGTH);
   }
 
+  /**
+   * MySQL Connector/J only streams a result set row by row when the fetch size is {@link Integer#MIN_VALUE}, otherwise
+   * it reads the complete result into memory.
+   */
+  @Override
+  public int getStreamingFetchSize() {
+    return Integer.MIN_VALUE;
+  }
+
   @Override
   protected int getMaxListSize() {
     return MAX_LIST_SIZE;
@@ -1070,6 +1070,11 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     return adaptBindName(bindName);
   }
 
+  @Override
+  public int getStreamingFetchSize() {
+    return 500;
+  }
+
   @Override
   public void commit() {
   }
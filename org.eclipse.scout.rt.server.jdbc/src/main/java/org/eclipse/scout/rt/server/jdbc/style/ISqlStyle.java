@@ -178,6 +178,15 @@ public interface ISqlStyle extends Serializable {
    */
   boolean isLargeString(String s);
 
+  /**
+   * JDBC fetch size used by streaming selects, see {@link org.eclipse.scout.rt.server.jdbc.ISqlService#selectIterator}
+   *
+   * @return number of rows fetched per round trip, 0 to use the driver default. The default implementation returns 0.
+   */
+  default int getStreamingFetchSize() {
+    return 0;
+  }
+
   /*
    * Attribute filters Aggregate SQL code transforming the template code to
    * specific database sql the following methods display an example of an
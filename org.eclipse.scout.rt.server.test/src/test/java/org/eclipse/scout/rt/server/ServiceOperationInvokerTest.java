@@ -17,6 +17,11 @@ import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.server.admin.inspector.ProcessInspector;
@@ -87,6 +92,51 @@ public class ServiceOperationInvokerTest {
     assertProcessingException(res, exceptionMessage);
   }
 
+  @Test
+  public void testDispatchTable() {
+    when(m_pingSvc.ping(any(String.class))).thenReturn(m_testData);
+    ServiceOperationInvoker s = new ServiceOperationInvoker();
+    for (int i = 0; i < 3; i++) {
+      assertValidResponse(invokePingService(s, ServerRunContexts.empty()), m_testData);
+    }
+
+    assertEquals(1, s.getServiceOperationDescriptors().size());
+    ServiceOperationDescriptor descriptor = s.getServiceOperationDescriptors().iterator().next();
+    assertEquals(IPingService.class, descriptor.getInterfaceClass());
+    assertEquals("ping", descriptor.getMethod().getName());
+    assertEquals(3, descriptor.getStatistics().getInvocationCount());
+    assertEquals(0, descriptor.getStatistics().getFailureCount());
+
+    s.clearServiceOperationDescriptors();
+    assertTrue(s.getServiceOperationDescriptors().isEmpty());
+  }
+
+  @Test
+  public void testAccessChecksPerCall() {
+    when(m_pingSvc.ping(any(String.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    final List<Object> checkedArgs = new ArrayList<>();
+    final List<Object> authorizedArgs = new ArrayList<>();
+    ServiceOperationInvoker s = new ServiceOperationInvoker() {
+      @Override
+      protected void checkRemoteServiceAccessByAnnotations(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod, Object[] args) {
+        checkedArgs.add(args[0]);
+        super.checkRemoteServiceAccessByAnnotations(interfaceClass, implClass, interfaceMethod, args);
+      }
+
+      @Override
+      protected boolean mustAuthorize(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod, Object[] args) {
+        authorizedArgs.add(args[0]);
+        return false;
+      }
+    };
+
+    // the hooks may decide on the arguments, hence they are called for every call
+    assertValidResponse(invokePingService(s, ServerRunContexts.empty(), "a"), "a");
+    assertValidResponse(invokePingService(s, ServerRunContexts.empty(), "b"), "b");
+    assertEquals(Arrays.asList("a", "b"), checkedArgs);
+    assertEquals(Arrays.asList("a", "b"), authorizedArgs);
+  }
+
   /**
    * Asserts that the response contains an exception without the customMessage information (security)
    */
@@ -105,8 +155,15 @@ public class ServiceOperationInvokerTest {
   }
 
   private ServiceTunnelResponse invokePingService(final ServerRunContext runcontext) {
-    ServiceOperationInvoker s = new ServiceOperationInvoker();
-    ServiceTunnelRequest request = new ServiceTunnelRequest(IPingService.class.getName(), "ping", new Class[]{String.class}, new Object[]{"hello"});
+    return invokePingService(new ServiceOperationInvoker(), runcontext);
+  }
+
+  private ServiceTunnelResponse invokePingService(ServiceOperationInvoker s, final ServerRunContext runcontext) {
+    return invokePingService(s, runcontext, "hello");
+  }
+
+  private ServiceTunnelResponse invokePingService(ServiceOperationInvoker s, final ServerRunContext runcontext, String arg) {
+    ServiceTunnelRequest request = new ServiceTunnelRequest(IPingService.class.getName(), "ping", new Class[]{String.class}, new Object[]{arg});
     return s.invoke(runcontext, request);
   }
 
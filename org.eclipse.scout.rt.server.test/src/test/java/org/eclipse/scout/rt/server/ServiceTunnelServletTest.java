@@ -30,11 +30,14 @@ import javax.servlet.http.HttpSession;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ServiceTunnelMaxBatchSizeProperty;
 import org.eclipse.scout.rt.server.commons.context.HttpRunContextProducer;
 import org.eclipse.scout.rt.server.commons.servlet.IHttpServletRoundtrip;
 import org.eclipse.scout.rt.server.commons.servlet.logging.ServletDiagnosticsProviderFactory;
@@ -44,6 +47,7 @@ import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.session.ServerSessionCache;
 import org.eclipse.scout.rt.server.session.ServerSessionProvider;
 import org.eclipse.scout.rt.shared.services.common.ping.IPingService;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
@@ -171,6 +175,45 @@ public class ServiceTunnelServletTest {
     assertEquals(0, res.getNotifications().size());
   }
 
+  @Test
+  public void testPostBatchSuccessful() {
+    ServiceTunnelServlet s = new ServiceTunnelServlet();
+    for (boolean parallel : new boolean[]{false, true}) {
+      List<ServiceTunnelRequest> requests = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        ServiceTunnelRequest req = new ServiceTunnelRequest(IPingService.class.getName(), "ping", new Class[]{String.class}, new Object[]{"test" + i});
+        req.setUserAgent(UserAgents.createDefault().createIdentifier());
+        requests.add(req);
+      }
+      ServiceTunnelBatchRequest batchReq = new ServiceTunnelBatchRequest(requests, parallel);
+      batchReq.setUserAgent(UserAgents.createDefault().createIdentifier());
+      ServiceTunnelResponse res = s.doPost(batchReq);
+      assertNull(res.getException());
+      assertEquals(0, res.getNotifications().size());
+      ServiceTunnelResponse[] responses = (ServiceTunnelResponse[]) res.getData();
+      assertEquals(3, responses.length);
+      for (int i = 0; i < 3; i++) {
+        assertEquals("test" + i, responses[i].getData());
+        assertNull(responses[i].getException());
+      }
+    }
+  }
+
+  @Test
+  public void testPostBatchTooLarge() {
+    ServiceTunnelServlet s = new ServiceTunnelServlet();
+    int maxBatchSize = CONFIG.getPropertyValue(ServiceTunnelMaxBatchSizeProperty.class);
+    List<ServiceTunnelRequest> requests = new ArrayList<>();
+    for (int i = 0; i <= maxBatchSize; i++) {
+      requests.add(new ServiceTunnelRequest(IPingService.class.getName(), "ping", new Class[]{String.class}, new Object[]{"test" + i}));
+    }
+    ServiceTunnelBatchRequest batchReq = new ServiceTunnelBatchRequest(requests, true);
+    batchReq.setUserAgent(UserAgents.createDefault().createIdentifier());
+    ServiceTunnelResponse res = s.doPost(batchReq);
+    assertTrue(res.getException() instanceof ProcessingException);
+    assertNull(res.getData());
+  }
+
   private Answer<IServerSession> slowCreateTestsession(final TestServerSession testSession) {
     return invocation -> {
       Thread.sleep(2000); // simulate long running task
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import static org.junit.Assert.*;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -74,6 +75,55 @@ public class ClientNotificationNodeQueueTest {
     assertEquals("test1", notifications.get(0).getNotification());
   }
 
+  @Test
+  public void testReadWithCursor() {
+    putTestNotifications(3);
+    ClientNotificationNodeQueue.Batch batch = m_queue.read(0, 2);
+    assertFalse(batch.hasGap());
+    assertEquals(2, batch.getMessages().size());
+    assertEquals("test0", batch.getMessages().get(0).getNotification());
+
+    batch = m_queue.read(batch.getNextSequence(), 10);
+    assertEquals(1, batch.getMessages().size());
+    assertEquals("test2", batch.getMessages().get(0).getNotification());
+    assertEquals(3, batch.getNextSequence());
+    assertTrue(m_queue.read(batch.getNextSequence(), 10).getMessages().isEmpty());
+
+    // reading does not consume
+    assertEquals(3, m_queue.getLag());
+    assertEquals(3, m_queue.getNotifications(10, 10, TimeUnit.MILLISECONDS).size());
+    assertEquals(0, m_queue.getLag());
+  }
+
+  @Test
+  public void testReadGapDetected() {
+    putTestNotifications(MAX_TEST_CAPACITY + 5);
+    ClientNotificationNodeQueue.Batch batch = m_queue.read(0, 100);
+    assertTrue(batch.hasGap());
+    assertEquals(5, batch.getMissedCount());
+    assertEquals(MAX_TEST_CAPACITY, batch.getMessages().size());
+    assertEquals("test5", batch.getMessages().get(0).getNotification());
+    assertEquals(MAX_TEST_CAPACITY + 5, batch.getNextSequence());
+  }
+
+  @Test
+  public void testMetrics() {
+    putTestNotifications(MAX_TEST_CAPACITY + 2);
+    assertEquals(MAX_TEST_CAPACITY + 2, m_queue.getPublishSequence());
+    assertEquals(MAX_TEST_CAPACITY + 2, m_queue.getLag());
+    assertEquals(2, m_queue.getDroppedCount());
+    assertEquals(MAX_TEST_CAPACITY + 2, m_queue.getFanOutCount());
+
+    m_queue.getNotifications(100, 10, TimeUnit.MILLISECONDS);
+    assertEquals(0, m_queue.getLag());
+  }
+
+  @Test
+  public void testIrrelevantNotificationsIgnored() {
+    m_queue.put(new ClientNotificationMessage(ClientNotificationAddress.createSessionAddress(Collections.singleton("otherSession")), "test", true, "cid"));
+    assertEquals(0, m_queue.getPublishSequence());
+  }
+
   private void putTestNotifications(int count) {
     ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
     for (int i = 0; i < count; i++) {
@@ -103,6 +103,23 @@ public class ClientNotificationRegistryTest {
     assertEquals(1, notificationsNode.size());
   }
 
+  /**
+   * A node which is still registered with another session no longer receives notifications of an unregistered user.
+   */
+  @Test
+  public void testNotificationsUnregisteredUser() {
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
+    reg.registerSession(TEST_NODE, TEST_SESSION, TEST_USER);
+    reg.registerSession(TEST_NODE, TEST_SESSION_2, "User2");
+    reg.unregisterSession(TEST_NODE, TEST_SESSION, TEST_USER);
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION);
+    reg.putForSession(TEST_SESSION, TEST_NOTIFICATION);
+    assertTrue(consumeNoWait(reg, TEST_NODE).isEmpty());
+
+    reg.putForUser("User2", TEST_NOTIFICATION);
+    assertSingleTestNotification(consumeNoWait(reg, TEST_NODE));
+  }
+
   /**
    * Tests that a notification for a single user is only consumed by nodes that have the user registered.
    */
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test {@link SharedLookupResultCache}
+ *
+ * @since 11
+ */
+@RunWith(PlatformTestRunner.class)
+public class SharedLookupResultCacheTest {
+  private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+  private List<IBean<?>> m_beans;
+
+  @Before
+  public void before() {
+    INVOCATIONS.set(0);
+    m_beans = BeanTestingHelper.get().registerBeans(
+        new BeanMetaData(P_CachedLookupService.class).withApplicationScoped(true),
+        new BeanMetaData(P_UncachedLookupService.class).withApplicationScoped(true));
+  }
+
+  @After
+  public void after() {
+    BEANS.get(SharedLookupResultCache.class).invalidate(ICachedLookupService.class);
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testGetDataByKeyCached() {
+    SharedLookupResultCache cache = BEANS.get(SharedLookupResultCache.class);
+    assertTrue(cache.isCached(new P_CachedLookupCall()));
+
+    List<ILookupRow<Long>> rows = cache.getDataByKey(createCall(new P_CachedLookupCall(), 1L));
+    assertEquals(1, rows.size());
+    assertEquals("text1", rows.get(0).getText());
+    assertEquals("text1", cache.getDataByKey(createCall(new P_CachedLookupCall(), 1L)).get(0).getText());
+    assertEquals(1, INVOCATIONS.get());
+
+    cache.getDataByKey(createCall(new P_CachedLookupCall(), 2L));
+    assertEquals(2, INVOCATIONS.get());
+
+    // the returned list is a copy
+    rows.clear();
+    assertEquals(1, cache.getDataByKey(createCall(new P_CachedLookupCall(), 1L)).size());
+    assertEquals(2, INVOCATIONS.get());
+  }
+
+  @Test
+  public void testGetDataByKeyReturnsCopiesOfRows() {
+    SharedLookupResultCache cache = BEANS.get(SharedLookupResultCache.class);
+    ILookupRow<Long> row = cache.getDataByKey(createCall(new P_CachedLookupCall(), 1L)).get(0);
+    row.withText("modified");
+
+    ILookupRow<Long> otherRow = cache.getDataByKey(createCall(new P_CachedLookupCall(), 1L)).get(0);
+    assertNotSame(row, otherRow);
+    assertEquals("text1", otherRow.getText());
+    assertEquals("tooltip1", otherRow.getTooltipText());
+    assertFalse(otherRow.isEnabled());
+    assertEquals(1, INVOCATIONS.get());
+  }
+
+  @Test
+  public void testGetDataByKeyNotAnnotated() {
+    SharedLookupResultCache cache = BEANS.get(SharedLookupResultCache.class);
+    assertFalse(cache.isCached(new P_UncachedLookupCall()));
+    cache.getDataByKey(createCall(new P_UncachedLookupCall(), 1L));
+    cache.getDataByKey(createCall(new P_UncachedLookupCall(), 1L));
+    assertEquals(2, INVOCATIONS.get());
+  }
+
+  @Test
+  public void testInvalidate() {
+    SharedLookupResultCache cache = BEANS.get(SharedLookupResultCache.class);
+    cache.getDataByKey(createCall(new P_CachedLookupCall(), 1L));
+    cache.getDataByKey(createCall(new P_CachedLookupCall(), 2L));
+    assertEquals(2, INVOCATIONS.get());
+
+    cache.invalidateKeys(ICachedLookupService.class, Collections.singleton(1L));
+    cache.getDataByKey(createCall(new P_CachedLookupCall(), 1L));
+    cache.getDataByKey(createCall(new P_CachedLookupCall(), 2L));
+    assertEquals(3, INVOCATIONS.get());
+
+    cache.invalidate(ICachedLookupService.class);
+    cache.getDataByKey(createCall(new P_CachedLookupCall(), 1L));
+    cache.getDataByKey(createCall(new P_CachedLookupCall(), 2L));
+    assertEquals(5, INVOCATIONS.get());
+  }
+
+  @Test
+  public void testBatchLookupAcrossBatches() {
+    for (int i = 0; i < 3; i++) {
+      BatchLookupCall batch = new BatchLookupCall();
+      for (long key : Arrays.asList(1L, 2L, 1L, 3L)) {
+        batch.addLookupCall(createCall(new P_CachedLookupCall(), key));
+      }
+      List<List<ILookupRow<?>>> result = new BatchLookupService().getBatchDataByKey(batch);
+      assertEquals(4, result.size());
+      assertEquals("text3", result.get(3).get(0).getText());
+    }
+    assertEquals(3, INVOCATIONS.get());
+  }
+
+  private static LookupCall<Long> createCall(LookupCall<Long> call, Long key) {
+    call.setKey(key);
+    return call;
+  }
+
+  private static List<ILookupRow<Long>> createRows(ILookupCall<Long> call) {
+    INVOCATIONS.incrementAndGet();
+    return Collections.singletonList(new LookupRow<>(call.getKey(), "text" + call.getKey())
+        .withTooltipText("tooltip" + call.getKey())
+        .withEnabled(false));
+  }
+
+  public interface ICachedLookupService extends ILookupService<Long> {
+  }
+
+  public interface IUncachedLookupService extends ILookupService<Long> {
+  }
+
+  public abstract static class P_AbstractTestLookupService extends AbstractLookupService<Long> {
+
+    @Override
+    public List<? extends ILookupRow<Long>> getDataByKey(ILookupCall<Long> call) {
+      return createRows(call);
+    }
+
+    @Override
+    public List<? extends ILookupRow<Long>> getDataByText(ILookupCall<Long> call) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public List<? extends ILookupRow<Long>> getDataByAll(ILookupCall<Long> call) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public List<? extends ILookupRow<Long>> getDataByRec(ILookupCall<Long> call) {
+      return Collections.emptyList();
+    }
+  }
+
+  @SharedLookupCache(sizeBound = 100)
+  public static class P_CachedLookupService extends P_AbstractTestLookupService implements ICachedLookupService {
+  }
+
+  public static class P_UncachedLookupService extends P_AbstractTestLookupService implements IUncachedLookupService {
+  }
+
+  public static class P_CachedLookupCall extends LookupCall<Long> {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected Class<? extends ILookupService<Long>> getConfiguredService() {
+      return ICachedLookupService.class;
+    }
+  }
+
+  public static class P_UncachedLookupCall extends LookupCall<Long> {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected Class<? extends ILookupService<Long>> getConfiguredService() {
+      return IUncachedLookupService.class;
+    }
+  }
+}
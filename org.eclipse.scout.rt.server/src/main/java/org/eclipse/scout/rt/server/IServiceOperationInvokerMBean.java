@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server;
+
+import java.beans.ConstructorProperties;
+
+import javax.management.MXBean;
+
+/**
+ * Invocation statistics of the remote service operations called through {@link ServiceOperationInvoker}.
+ *
+ * @since 11
+ */
+@MXBean
+public interface IServiceOperationInvokerMBean {
+
+  /**
+   * @return number of resolved service operations in the dispatch table
+   */
+  int getDispatchTableSize();
+
+  /**
+   * @return the upper bounds (exclusive) of the latency histogram buckets in milliseconds
+   */
+  long[] getLatencyHistogramUpperBoundsMillis();
+
+  ServiceOperationEntry[] getOperations();
+
+  void resetStatistics();
+
+  void clearDispatchTable();
+
+  class ServiceOperationEntry {
+
+    private final String m_serviceName;
+    private final String m_operation;
+    private final long m_invocationCount;
+    private final long m_failureCount;
+    private final long m_totalMillis;
+    private final long m_maxMillis;
+    private final long[] m_latencyHistogram;
+
+    @ConstructorProperties({"serviceName", "operation", "invocationCount", "failureCount", "totalMillis", "maxMillis", "latencyHistogram"})
+    public ServiceOperationEntry(String serviceName, String operation, long invocationCount, long failureCount, long totalMillis, long maxMillis, long[] latencyHistogram) {
+      m_serviceName = serviceName;
+      m_operation = operation;
+      m_invocationCount = invocationCount;
+      m_failureCount = failureCount;
+      m_totalMillis = totalMillis;
+      m_maxMillis = maxMillis;
+      m_latencyHistogram = latencyHistogram;
+    }
+
+    public String getServiceName() {
+      return m_serviceName;
+    }
+
+    public String getOperation() {
+      return m_operation;
+    }
+
+    public long getInvocationCount() {
+      return m_invocationCount;
+    }
+
+    public long getFailureCount() {
+      return m_failureCount;
+    }
+
+    public long getTotalMillis() {
+      return m_totalMillis;
+    }
+
+    public long getMaxMillis() {
+      return m_maxMillis;
+    }
+
+    /**
+     * @return number of invocations per bucket, see {@link IServiceOperationInvokerMBean#getLatencyHistogramUpperBoundsMillis()}
+     */
+    public long[] getLatencyHistogram() {
+      return m_latencyHistogram;
+    }
+  }
+}
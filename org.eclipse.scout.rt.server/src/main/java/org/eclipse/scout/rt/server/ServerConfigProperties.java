@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.server;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.server.services.common.file.RemoteFileService;
@@ -71,4 +72,46 @@ public final class ServerConfigProperties {
       return String.format("Absolute path to the root directory of the '%s'. The default value is null.", RemoteFileService.class.getSimpleName());
     }
   }
+
+  /**
+   * @since 11
+   */
+  public static class ServiceTunnelMaxBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 100;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.maxBatchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of service requests of a batch request. Larger batch requests are rejected. The default value is 100.";
+    }
+  }
+
+  /**
+   * @since 11
+   */
+  public static class ServiceTunnelMaxBatchParallelismProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 4;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.maxBatchParallelism";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of service requests of a parallel batch request which are executed at the same time. The default value is 4.";
+    }
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Entry of the dispatch table of {@link ServiceOperationInvoker}: a resolved service operation with a
+ * {@link MethodHandle} to invoke it and the invocation statistics.
+ *
+ * @since 11
+ */
+public class ServiceOperationDescriptor {
+  private static final Logger LOG = LoggerFactory.getLogger(ServiceOperationDescriptor.class);
+  private static final Object[] NO_ARGS = new Object[0];
+
+  private final Class<?> m_interfaceClass;
+  private final Method m_method;
+  private final MethodHandle m_invoker;
+  private final ServiceOperationStatistics m_statistics = new ServiceOperationStatistics();
+
+  public ServiceOperationDescriptor(Class<?> interfaceClass, Method method) {
+    m_interfaceClass = Assertions.assertNotNull(interfaceClass, "interface class is null");
+    m_method = Assertions.assertNotNull(method, "method is null");
+    m_invoker = createInvoker(method);
+  }
+
+  /**
+   * @return a handle of type <code>(Object service, Object[] args)Object</code> or <code>null</code> if the method is
+   *         not publicly accessible (e.g. declared by a non-public interface)
+   */
+  protected static MethodHandle createInvoker(Method method) {
+    try {
+      return MethodHandles.publicLookup()
+          .unreflect(method)
+          .asSpreader(Object[].class, method.getParameterCount())
+          .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    }
+    catch (IllegalAccessException e) {
+      LOG.debug("Using reflection to invoke {}", method, e);
+      return null;
+    }
+  }
+
+  public Class<?> getInterfaceClass() {
+    return m_interfaceClass;
+  }
+
+  public Method getMethod() {
+    return m_method;
+  }
+
+  ServiceOperationStatistics getStatistics() {
+    return m_statistics;
+  }
+
+  /**
+   * Invokes the operation on the given service.
+   *
+   * @see ServiceUtility#invoke(Object, Method, Object[])
+   */
+  @SuppressWarnings("squid:S1181") // Throwable and Error should not be caught
+  public Object invoke(Object service, Object[] args) {
+    if (m_invoker == null) {
+      return BEANS.get(ServiceUtility.class).invoke(service, m_method, args);
+    }
+    Assertions.assertNotNull(service, "service is null");
+    // the static argument types must match the handle type exactly, hence no conditional expression in the invocation
+    final Object[] invocationArgs = args != null ? args : NO_ARGS;
+    try {
+      return (Object) m_invoker.invokeExact(service, invocationArgs);
+    }
+    catch (final Throwable t) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(t);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + m_interfaceClass.getName() + "." + m_method.getName() + "]";
+  }
+}
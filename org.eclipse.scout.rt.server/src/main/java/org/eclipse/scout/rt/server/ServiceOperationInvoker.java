@@ -11,7 +11,14 @@
 package org.eclipse.scout.rt.server;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -43,11 +50,21 @@ import org.slf4j.LoggerFactory;
 /**
  * Provides functionality to invoke service operations as described by {@link ServiceTunnelRequest} and to return the
  * operations result in the form of a {@link ServiceTunnelResponse}.
+ * <p>
+ * Resolved service operations are kept in a dispatch table keyed by interface, operation and parameter types (see
+ * {@link ServiceOperationDescriptor}). Each entry caches the {@link Method} and a method handle to invoke it.
+ * Invocation statistics are available through JMX, see {@link IServiceOperationInvokerMBean}.
+ * <p>
+ * The access checks are performed for each call. Only the reflective method lookups of their default implementations
+ * are cached (see {@link #lookupMethod(Class, Method)}).
  */
 @ApplicationScoped
 public class ServiceOperationInvoker {
   private static final Logger LOG = LoggerFactory.getLogger(ServiceOperationInvoker.class);
 
+  private final ConcurrentMap<P_OperationKey, ServiceOperationDescriptor> m_dispatchTable = new ConcurrentHashMap<>();
+  private final ConcurrentMap<P_MethodKey, Optional<Method>> m_methodLookups = new ConcurrentHashMap<>();
+
   /**
    * Invoke the service associated with the {@link ServiceTunnelRequest}. <br>
    * Must be called within a transaction.
@@ -88,21 +105,64 @@ public class ServiceOperationInvoker {
     CallInspector callInspector = getCallInspector(serviceReq, serverSession);
     ServiceTunnelResponse serviceRes = null;
     try {
-      ServiceUtility serviceUtility = BEANS.get(ServiceUtility.class);
-      Class<?> serviceInterfaceClass = SerializationUtility.getClassLoader().loadClass(serviceReq.getServiceInterfaceClassName());
-      Method serviceOp = serviceUtility.getServiceOperation(serviceInterfaceClass, serviceReq.getOperation(), serviceReq.getParameterTypes());
+      ServiceOperationDescriptor serviceOp = getServiceOperationDescriptor(serviceReq);
       Object[] args = serviceReq.getArgs();
-      Object service = getValidatedServiceAccess(serviceInterfaceClass, serviceOp, args);
-
-      Object data = serviceUtility.invoke(service, serviceOp, args);
-      serviceRes = new ServiceTunnelResponse(data);
-      return serviceRes;
+      long t0 = System.nanoTime();
+      boolean failed = true;
+      try {
+        Object service = getValidatedServiceAccess(serviceOp.getInterfaceClass(), serviceOp.getMethod(), args);
+        Object data = serviceOp.invoke(service, args);
+        failed = false;
+        serviceRes = new ServiceTunnelResponse(data);
+        return serviceRes;
+      }
+      finally {
+        serviceOp.getStatistics().record(System.nanoTime() - t0, failed);
+      }
     }
     finally {
       updateInspector(callInspector, serviceRes);
     }
   }
 
+  /**
+   * @return the entry of the dispatch table for the operation of the given request, the entry is created on first use
+   */
+  protected ServiceOperationDescriptor getServiceOperationDescriptor(ServiceTunnelRequest serviceReq) throws ClassNotFoundException {
+    P_OperationKey key = new P_OperationKey(serviceReq.getServiceInterfaceClassName(), serviceReq.getOperation(), serviceReq.getParameterTypes());
+    ServiceOperationDescriptor descriptor = m_dispatchTable.get(key);
+    if (descriptor == null) {
+      // not computeIfAbsent: the class loader must not be called while holding a lock of the map
+      descriptor = createServiceOperationDescriptor(serviceReq);
+      ServiceOperationDescriptor existing = m_dispatchTable.putIfAbsent(key, descriptor);
+      if (existing != null) {
+        descriptor = existing;
+      }
+    }
+    return descriptor;
+  }
+
+  protected ServiceOperationDescriptor createServiceOperationDescriptor(ServiceTunnelRequest serviceReq) throws ClassNotFoundException {
+    Class<?> serviceInterfaceClass = SerializationUtility.getClassLoader().loadClass(serviceReq.getServiceInterfaceClassName());
+    Method serviceOp = BEANS.get(ServiceUtility.class).getServiceOperation(serviceInterfaceClass, serviceReq.getOperation(), serviceReq.getParameterTypes());
+    return new ServiceOperationDescriptor(serviceInterfaceClass, serviceOp);
+  }
+
+  /**
+   * @return the entries of the dispatch table
+   */
+  public Collection<ServiceOperationDescriptor> getServiceOperationDescriptors() {
+    return new ArrayList<>(m_dispatchTable.values());
+  }
+
+  /**
+   * Removes all entries of the dispatch table including their statistics, as well as the cached method lookups.
+   */
+  public void clearServiceOperationDescriptors() {
+    m_dispatchTable.clear();
+    m_methodLookups.clear();
+  }
+
   private void updateInspector(CallInspector callInspector, ServiceTunnelResponse serviceRes) {
     if (callInspector != null) {
       try {
@@ -127,7 +187,7 @@ public class ServiceOperationInvoker {
   }
 
   /**
-   * Check, if the service can be accessed
+   * Check, if the service can be accessed.
    */
   protected Object getValidatedServiceAccess(Class<?> serviceInterfaceClass, Method serviceOp, Object[] args) {
     Object service = BEANS.opt(serviceInterfaceClass);
@@ -159,12 +219,8 @@ public class ServiceOperationInvoker {
     }
 
     //check: method is defined on service interface itself
-    Method verifyMethod;
-    try {
-      verifyMethod = interfaceClass.getMethod(interfaceMethod.getName(), interfaceMethod.getParameterTypes());
-    }
-    catch (NoSuchMethodException | RuntimeException t) {
-      LOG.debug("Could not lookup service method", t);
+    Method verifyMethod = lookupMethod(interfaceClass, interfaceMethod);
+    if (verifyMethod == null) {
       throw new SecurityException("access denied (code 1c).");
     }
     //exists
@@ -184,13 +240,7 @@ public class ServiceOperationInvoker {
     Class<?> c = implClass;
     while (c != null) {
       //method level
-      Method m = null;
-      try {
-        m = c.getMethod(interfaceMethod.getName(), interfaceMethod.getParameterTypes());
-      }
-      catch (NoSuchMethodException | RuntimeException t) {
-        LOG.debug("Could not lookup service method", t);
-      }
+      Method m = lookupMethod(c, interfaceMethod);
       if (m != null && m.isAnnotationPresent(RemoteServiceAccessDenied.class)) {
         throw new SecurityException("access denied (code 2b).");
       }
@@ -240,13 +290,7 @@ public class ServiceOperationInvoker {
     Class<?> c = implClass;
     while (c != null) {
       //method level
-      Method m = null;
-      try {
-        m = c.getMethod(interfaceMethod.getName(), interfaceMethod.getParameterTypes());
-      }
-      catch (NoSuchMethodException | RuntimeException t) {
-        LOG.debug("Could not lookup service method", t);
-      }
+      Method m = lookupMethod(c, interfaceMethod);
       if (m != null && m.isAnnotationPresent(RemoteServiceWithoutAuthorization.class)) {
         //granted
         return false;
@@ -271,6 +315,29 @@ public class ServiceOperationInvoker {
     return true;
   }
 
+  /**
+   * Looks up the public method of the given class with the name and parameter types of the interface method. The
+   * result is cached.
+   *
+   * @return the method or <code>null</code> if the class has no such method
+   * @since 11
+   */
+  protected Method lookupMethod(Class<?> c, Method interfaceMethod) {
+    P_MethodKey key = new P_MethodKey(c, interfaceMethod);
+    Optional<Method> method = m_methodLookups.get(key);
+    if (method == null) {
+      try {
+        method = Optional.of(c.getMethod(interfaceMethod.getName(), interfaceMethod.getParameterTypes()));
+      }
+      catch (NoSuchMethodException | RuntimeException t) {
+        LOG.debug("Could not lookup service method", t);
+        method = Optional.empty();
+      }
+      m_methodLookups.put(key, method);
+    }
+    return method.orElse(null);
+  }
+
   private CallInspector getCallInspector(ServiceTunnelRequest serviceReq, IServerSession serverSession) {
     if (serverSession != null) {
       SessionInspector sessionInspector = BEANS.get(ProcessInspector.class).getSessionInspector(serverSession, true);
@@ -317,4 +384,67 @@ public class ServiceOperationInvoker {
     p.setStackTrace(new StackTraceElement[0]);
     return p;
   }
+
+  private static final class P_MethodKey {
+    private final Class<?> m_class;
+    private final Method m_interfaceMethod;
+
+    private P_MethodKey(Class<?> c, Method interfaceMethod) {
+      m_class = c;
+      m_interfaceMethod = interfaceMethod;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * m_class.hashCode() + m_interfaceMethod.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      P_MethodKey other = (P_MethodKey) obj;
+      return m_class == other.m_class && m_interfaceMethod.equals(other.m_interfaceMethod);
+    }
+  }
+
+  private static final class P_OperationKey {
+    private static final Class<?>[] NO_PARAMETER_TYPES = new Class<?>[0];
+
+    private final String m_serviceInterfaceClassName;
+    private final String m_operation;
+    private final Class<?>[] m_parameterTypes;
+    private final int m_hash;
+
+    private P_OperationKey(String serviceInterfaceClassName, String operation, Class<?>[] parameterTypes) {
+      m_serviceInterfaceClassName = serviceInterfaceClassName;
+      m_operation = operation;
+      m_parameterTypes = parameterTypes != null ? parameterTypes : NO_PARAMETER_TYPES;
+      m_hash = Objects.hash(serviceInterfaceClassName, operation) * 31 + Arrays.hashCode(m_parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return m_hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      P_OperationKey other = (P_OperationKey) obj;
+      return m_hash == other.m_hash
+          && Objects.equals(m_serviceInterfaceClassName, other.m_serviceInterfaceClassName)
+          && Objects.equals(m_operation, other.m_operation)
+          && Arrays.equals(m_parameterTypes, other.m_parameterTypes);
+    }
+  }
 }
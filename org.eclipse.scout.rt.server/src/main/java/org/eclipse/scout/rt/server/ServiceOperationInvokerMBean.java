@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.ObjectName;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
+
+/**
+ * @since 11
+ */
+@ApplicationScoped
+@CreateImmediately
+public class ServiceOperationInvokerMBean implements IServiceOperationInvokerMBean {
+
+  @PostConstruct
+  protected void register() {
+    MBeanUtility.register(jmxObjectName(), this);
+  }
+
+  @PreDestroy
+  protected void unregister() {
+    MBeanUtility.unregister(jmxObjectName());
+  }
+
+  protected ObjectName jmxObjectName() {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.server", PlatformIdentifier.get(), ServiceOperationInvoker.class.getSimpleName());
+  }
+
+  protected ServiceOperationInvoker getInvoker() {
+    return BEANS.get(ServiceOperationInvoker.class);
+  }
+
+  @Override
+  public int getDispatchTableSize() {
+    return getInvoker().getServiceOperationDescriptors().size();
+  }
+
+  @Override
+  public long[] getLatencyHistogramUpperBoundsMillis() {
+    return ServiceOperationStatistics.UPPER_BOUNDS_MILLIS.clone();
+  }
+
+  @Override
+  public ServiceOperationEntry[] getOperations() {
+    return getInvoker()
+        .getServiceOperationDescriptors()
+        .stream()
+        .map(this::toServiceOperationEntry)
+        .toArray(ServiceOperationEntry[]::new);
+  }
+
+  protected ServiceOperationEntry toServiceOperationEntry(ServiceOperationDescriptor descriptor) {
+    ServiceOperationStatistics statistics = descriptor.getStatistics();
+    return new ServiceOperationEntry(
+        descriptor.getInterfaceClass().getName(),
+        toOperationSignature(descriptor.getMethod()),
+        statistics.getInvocationCount(),
+        statistics.getFailureCount(),
+        statistics.getTotalMillis(),
+        statistics.getMaxMillis(),
+        statistics.getHistogram());
+  }
+
+  protected String toOperationSignature(Method method) {
+    return Arrays.stream(method.getParameterTypes())
+        .map(Class::getSimpleName)
+        .collect(Collectors.joining(", ", method.getName() + "(", ")"));
+  }
+
+  @Override
+  public void resetStatistics() {
+    getInvoker().getServiceOperationDescriptors().forEach(descriptor -> descriptor.getStatistics().reset());
+  }
+
+  @Override
+  public void clearDispatchTable() {
+    getInvoker().clearServiceOperationDescriptors();
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free invocation counters and latency histogram of a service operation.
+ */
+class ServiceOperationStatistics {
+  static final long[] UPPER_BOUNDS_MILLIS = {1, 5, 10, 50, 100, 500, 1000, 5000, 10000, Long.MAX_VALUE};
+
+  private final LongAdder[] m_counts;
+  private final LongAdder m_invocations = new LongAdder();
+  private final LongAdder m_failures = new LongAdder();
+  private final LongAdder m_totalNanos = new LongAdder();
+  private final LongAccumulator m_maxNanos = new LongAccumulator(Long::max, 0L);
+
+  ServiceOperationStatistics() {
+    m_counts = new LongAdder[UPPER_BOUNDS_MILLIS.length];
+    for (int i = 0; i < m_counts.length; i++) {
+      m_counts[i] = new LongAdder();
+    }
+  }
+
+  void record(long durationNanos, boolean failed) {
+    long millis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    int i = 0;
+    while (millis >= UPPER_BOUNDS_MILLIS[i]) {
+      i++;
+    }
+    m_counts[i].increment();
+    m_invocations.increment();
+    if (failed) {
+      m_failures.increment();
+    }
+    m_totalNanos.add(durationNanos);
+    m_maxNanos.accumulate(durationNanos);
+  }
+
+  long getInvocationCount() {
+    return m_invocations.sum();
+  }
+
+  long getFailureCount() {
+    return m_failures.sum();
+  }
+
+  long getTotalMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(m_totalNanos.sum());
+  }
+
+  long getMaxMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(m_maxNanos.get());
+  }
+
+  long[] getHistogram() {
+    long[] histogram = new long[m_counts.length];
+    for (int i = 0; i < histogram.length; i++) {
+      histogram[i] = m_counts[i].sum();
+    }
+    return histogram;
+  }
+
+  void reset() {
+    for (LongAdder count : m_counts) {
+      count.reset();
+    }
+    m_invocations.reset();
+    m_failures.reset();
+    m_totalNanos.reset();
+    m_maxNanos.reset();
+  }
+}
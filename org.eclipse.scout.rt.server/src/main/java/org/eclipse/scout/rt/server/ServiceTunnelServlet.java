@@ -14,6 +14,11 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.net.SocketException;
 import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.LongPredicate;
 
@@ -24,14 +29,23 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.transaction.TransactionCancelledError;
 import org.eclipse.scout.rt.platform.util.LazyValue;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.AbstractInterruptionError;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ServiceTunnelMaxBatchParallelismProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ServiceTunnelMaxBatchSizeProperty;
 import org.eclipse.scout.rt.server.admin.html.AdminSession;
 import org.eclipse.scout.rt.server.commons.idempotent.DuplicateRequestException;
 import org.eclipse.scout.rt.server.commons.idempotent.SequenceNumberDuplicateDetector;
@@ -45,7 +59,9 @@ import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry;
 import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry.IRegistrationHandle;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
+import org.eclipse.scout.rt.shared.servicetunnel.CompactBinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
@@ -64,6 +80,7 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
   protected static final String DUPLICATE_REQUEST_DETECTOR_SESSION_KEY = "DuplicateRequestDetector";
 
   protected transient IServiceTunnelContentHandler m_contentHandler;
+  protected transient Map<String, IServiceTunnelContentHandler> m_contentHandlersByContentType;
   protected transient LazyValue<HttpServerRunContextProducer> m_serverRunContextProducer = new LazyValue<>(HttpServerRunContextProducer.class);
   protected transient LazyValue<HttpServletControl> m_httpServletControl = new LazyValue<>(HttpServletControl.class);
   protected transient LazyValue<HttpCacheControl> m_httpCacheControl = new LazyValue<>(HttpCacheControl.class);
@@ -186,7 +203,9 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     final ServerRunContext serverRunContext = createServiceTunnelRunContext(serviceRequest);
     final IRegistrationHandle registrationHandle = registerForCancellation(serverRunContext, serviceRequest);
     try {
-      ServiceTunnelResponse serviceResponse = invokeService(serverRunContext, serviceRequest);
+      ServiceTunnelResponse serviceResponse = serviceRequest instanceof ServiceTunnelBatchRequest
+          ? invokeBatch(serverRunContext, (ServiceTunnelBatchRequest) serviceRequest)
+          : invokeService(serverRunContext, serviceRequest);
       // include client notifications in response (piggyback)
       serviceResponse.setNotifications(serverRunContext.getClientNotificationCollector().consume());
       return serviceResponse;
@@ -249,13 +268,52 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     return m_svcInvoker.get().invoke(serverRunContext, serviceTunnelRequest);
   }
 
+  /**
+   * Method invoked to execute the requests of a {@link ServiceTunnelBatchRequest} within the session of the batch
+   * request. Each request is invoked like a single request (with its own transaction). Parallel batch requests run at
+   * most {@link ServiceTunnelMaxBatchParallelismProperty} requests at the same time.
+   *
+   * @return a response whose data is the array of the responses in the order of the requests or a response with an
+   *         exception if the batch request contains more than {@link ServiceTunnelMaxBatchSizeProperty} requests
+   * @since 11
+   */
+  protected ServiceTunnelResponse invokeBatch(final ServerRunContext serverRunContext, final ServiceTunnelBatchRequest batchRequest) {
+    List<ServiceTunnelRequest> requests = batchRequest.getRequests();
+    int maxBatchSize = CONFIG.getPropertyValue(ServiceTunnelMaxBatchSizeProperty.class);
+    if (requests.size() > maxBatchSize) {
+      return new ServiceTunnelResponse(new ProcessingException("Batch request contains {} requests, at most {} are allowed", requests.size(), maxBatchSize));
+    }
+    ServiceTunnelResponse[] responses = new ServiceTunnelResponse[requests.size()];
+    if (!batchRequest.isParallel() || requests.size() < 2) {
+      for (int i = 0; i < responses.length; i++) {
+        responses[i] = invokeService(serverRunContext.copy(), requests.get(i));
+      }
+    }
+    else {
+      IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(CONFIG.getPropertyValue(ServiceTunnelMaxBatchParallelismProperty.class));
+      List<IFuture<ServiceTunnelResponse>> futures = new ArrayList<>(requests.size());
+      for (ServiceTunnelRequest request : requests) {
+        futures.add(Jobs.schedule(() -> invokeService((ServerRunContext) RunContext.CURRENT.get(), request), Jobs.newInput()
+            .withRunContext(serverRunContext.copy())
+            .withExecutionSemaphore(semaphore)
+            .withName("Service tunnel batch request [seq={}, {}.{}]", batchRequest.getRequestSequence(), request.getServiceInterfaceClassName(), request.getOperation())
+            .withExceptionHandling(null, false)));
+      }
+      for (int i = 0; i < responses.length; i++) {
+        responses[i] = futures.get(i).awaitDoneAndGet();
+      }
+    }
+    return new ServiceTunnelResponse(responses);
+  }
+
   // === MESSAGE UNMARSHALLING / MARSHALLING ===
 
   /**
    * Method invoked to deserialize a service request to be given to the service handler.
    */
   protected ServiceTunnelRequest deserializeServiceRequest() throws IOException, ClassNotFoundException {
-    return m_contentHandler.readRequest(IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get().getInputStream());
+    HttpServletRequest req = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get();
+    return getContentHandler(req).readRequest(req.getInputStream());
   }
 
   /**
@@ -268,8 +326,29 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     m_httpServletControl.get().doDefaults(this, req, resp);
 
     m_httpCacheControl.get().checkAndSetCacheHeaders(req, resp, null);
-    resp.setContentType(m_contentHandler.getContentType());
-    m_contentHandler.writeResponse(resp.getOutputStream(), serviceResponse);
+    IServiceTunnelContentHandler contentHandler = getContentHandler(req);
+    resp.setContentType(contentHandler.getContentType());
+    contentHandler.writeResponse(resp.getOutputStream(), serviceResponse);
+  }
+
+  /**
+   * @return the content handler matching the content type of the given request. The response is written in the same
+   *         format as the request. Requests with an unknown content type are handled by the default content handler
+   *         (see {@link #createContentHandler()}).
+   */
+  protected IServiceTunnelContentHandler getContentHandler(HttpServletRequest req) {
+    String contentType = req.getContentType();
+    if (contentType != null && m_contentHandlersByContentType != null) {
+      int paramIndex = contentType.indexOf(';');
+      if (paramIndex >= 0) {
+        contentType = contentType.substring(0, paramIndex);
+      }
+      IServiceTunnelContentHandler contentHandler = m_contentHandlersByContentType.get(StringUtility.lowercase(contentType.trim()));
+      if (contentHandler != null) {
+        return contentHandler;
+      }
+    }
+    return m_contentHandler;
   }
 
   // === INITIALIZATION ===
@@ -282,7 +361,14 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     if (m_contentHandler != null) {
       return;
     }
-    m_contentHandler = createContentHandler();
+    IServiceTunnelContentHandler contentHandler = createContentHandler();
+    Map<String, IServiceTunnelContentHandler> contentHandlersByContentType = new HashMap<>();
+    contentHandlersByContentType.put(StringUtility.lowercase(contentHandler.getContentType()), contentHandler);
+    for (IServiceTunnelContentHandler alternative : createAlternativeContentHandlers()) {
+      contentHandlersByContentType.putIfAbsent(StringUtility.lowercase(alternative.getContentType()), alternative);
+    }
+    m_contentHandlersByContentType = contentHandlersByContentType;
+    m_contentHandler = contentHandler;
   }
 
   /**
@@ -296,6 +382,20 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     return e;
   }
 
+  /**
+   * Create the (reusable) content handlers accepted in addition to the default content handler. They are selected by
+   * the content type of the request, which allows clients using different formats to coexist.
+   * <p>
+   * This method is part of the protected api and can be overridden.
+   *
+   * @since 11
+   */
+  protected List<IServiceTunnelContentHandler> createAlternativeContentHandlers() {
+    IServiceTunnelContentHandler e = BEANS.get(CompactBinaryServiceTunnelContentHandler.class);
+    e.initialize();
+    return Collections.singletonList(e);
+  }
+
   protected boolean isConnectionError(Throwable e) {
     Throwable cause = e;
     while (cause != null) {
@@ -12,18 +12,20 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.Bean;
@@ -39,6 +41,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A queue for a client node, that keeps track of notifications for that node.
+ * <p>
+ * The notifications are kept in a bounded ring buffer. Every notification gets a sequence number. If the capacity is
+ * reached, the oldest notifications are overwritten. Consumers read with a cursor (the sequence number of the next
+ * notification to read, see {@link #read(long, int)}) and detect overwritten notifications as a gap between their
+ * cursor and the oldest available sequence number. {@link #consume(int, long, TimeUnit)} uses the cursor of the node.
  */
 @Bean
 public class ClientNotificationNodeQueue {
@@ -47,20 +54,29 @@ public class ClientNotificationNodeQueue {
   private final FinalValue<String> m_nodeId = new FinalValue<>();
 
   private final int m_capacity;
-  private final BlockingDeque<ClientNotificationMessage> m_notifications;
+  private final ClientNotificationMessage[] m_ring;
+  private final ReentrantLock m_ringLock = new ReentrantLock();
+  private final Condition m_notEmpty = m_ringLock.newCondition();
+  private long m_publishSequence; // sequence number of the next published notification, guarded by m_ringLock
+  private long m_consumeSequence; // cursor of consume, guarded by m_ringLock
 
   private final ReentrantReadWriteLock m_sessionUserCacheLock = new ReentrantReadWriteLock();
   private final Set<String /*sessionId*/> m_sessions = new HashSet<>();
   private final Map<String /*userId*/, Set<String /*sessionId*/>> m_userToSessions = new HashMap<>();
   private final AtomicLong m_lastConsumeAccess;
 
+  private final LongAdder m_droppedCount = new LongAdder();
+  private final LongAdder m_fanOutCount = new LongAdder();
+  private final LongAdder m_fanOutNanos = new LongAdder();
+  private final LongAccumulator m_fanOutMaxNanos = new LongAccumulator(Long::max, 0L);
+
   public ClientNotificationNodeQueue() {
     this(CONFIG.getPropertyValue(NodeQueueCapacity.class));
   }
 
   public ClientNotificationNodeQueue(int capacity) {
     m_capacity = capacity;
-    m_notifications = new LinkedBlockingDeque<>(capacity);
+    m_ring = new ClientNotificationMessage[capacity];
     m_lastConsumeAccess = new AtomicLong(System.currentTimeMillis());
   }
 
@@ -73,7 +89,7 @@ public class ClientNotificationNodeQueue {
   }
 
   /**
-   * @return capacity of queue. If maximum capacity is reached, messages are dropped.
+   * @return capacity of queue. If maximum capacity is reached, the oldest messages are dropped.
    */
   public int getCapacity() {
     return m_capacity;
@@ -122,29 +138,49 @@ public class ClientNotificationNodeQueue {
 
   public void put(Collection<? extends ClientNotificationMessage> notificationInput) {
     List<ClientNotificationMessage> notifications = getRelevantNotifications(notificationInput);
-    putDroppingOld(notifications);
+    putRelevant(notifications);
   }
 
   /**
-   * Put notifications into queue and drop oldest ones, if capacity is reached.
+   * Puts notifications which are known to be relevant for this node (see {@link #isRelevant(IClientNotificationAddress)})
+   * into the queue. If the capacity is reached, the oldest notifications are dropped.
+   *
+   * @since 11
    */
-  private void putDroppingOld(Collection<? extends ClientNotificationMessage> notifications) {
+  public void putRelevant(Collection<? extends ClientNotificationMessage> notifications) {
+    if (notifications.isEmpty()) {
+      return;
+    }
+    long start = System.nanoTime();
     int dropCount = 0;
-    for (ClientNotificationMessage message : notifications) {
-      boolean inserted = m_notifications.offer(message);
-      while (!inserted) {
-        ClientNotificationMessage removed = m_notifications.poll();
-        if (removed != null) {
+    m_ringLock.lock();
+    try {
+      for (ClientNotificationMessage message : notifications) {
+        if (m_publishSequence - m_consumeSequence >= m_capacity) {
           dropCount++;
         }
-        inserted = m_notifications.offer(message);
+        m_ring[index(m_publishSequence)] = message;
+        m_publishSequence++;
       }
+      m_notEmpty.signalAll();
+    }
+    finally {
+      m_ringLock.unlock();
     }
+    long nanos = System.nanoTime() - start;
+    m_fanOutCount.increment();
+    m_fanOutNanos.add(nanos);
+    m_fanOutMaxNanos.accumulate(nanos);
     if (dropCount > 0) {
-      LOG.warn("Notification queue capacity reached. Remove oldest {} notification messages.", dropCount);
+      m_droppedCount.add(dropCount);
+      LOG.warn("Notification queue capacity of node {} reached. Remove oldest {} notification messages.", getNodeId(), dropCount);
     }
   }
 
+  private int index(long sequence) {
+    return (int) (sequence % m_capacity);
+  }
+
   /**
    * @return time since messages have last been consumed
    */
@@ -161,30 +197,146 @@ public class ClientNotificationNodeQueue {
   }
 
   protected List<ClientNotificationMessage> getNotifications(int maxAmount, long maxWaitTime, TimeUnit unit) {
-    List<ClientNotificationMessage> collected = new LinkedList<>();
+    List<ClientNotificationMessage> collected = new ArrayList<>();
+    m_ringLock.lock();
     try {
       //blocking wait to get first message
-      ClientNotificationMessage next = m_notifications.poll(maxWaitTime, unit);
-      if (next != null) {
-        collected.add(next);
+      long nanos = unit.toNanos(maxWaitTime);
+      while (m_publishSequence == m_consumeSequence && nanos > 0) {
+        nanos = m_notEmpty.awaitNanos(nanos);
       }
+      long available = readAvailable(collected, maxAmount);
 
       //add more available notifications
       //with short wait timeout to not go back with one notification when some are about to pop up.
-      int timeout = 234; // 0 for no reschedule
-      while (next != null && collected.size() < maxAmount) {
-        next = m_notifications.poll(timeout, TimeUnit.MILLISECONDS);
-        if (next != null) {
-          collected.add(next);
+      long timeout = TimeUnit.MILLISECONDS.toNanos(234); // 0 for no reschedule
+      while (available > 0 && collected.size() < maxAmount) {
+        nanos = timeout;
+        while (m_publishSequence == m_consumeSequence && nanos > 0) {
+          nanos = m_notEmpty.awaitNanos(nanos);
         }
+        available = readAvailable(collected, maxAmount);
       }
     }
     catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
       LOG.info("Interrupted while waiting for client notification messages", e);
     }
+    finally {
+      m_ringLock.unlock();
+    }
     return collected;
   }
 
+  /**
+   * Moves the cursor of this node over the available notifications. Must be called holding {@link #m_ringLock}.
+   *
+   * @return number of read notifications
+   */
+  private long readAvailable(List<ClientNotificationMessage> collected, int maxAmount) {
+    long oldest = oldestSequence();
+    if (m_consumeSequence < oldest) {
+      LOG.warn("Node {} missed {} client notification messages because the queue capacity was reached.", getNodeId(), oldest - m_consumeSequence);
+      m_consumeSequence = oldest;
+    }
+    long count = 0;
+    while (m_consumeSequence < m_publishSequence && collected.size() < maxAmount) {
+      collected.add(m_ring[index(m_consumeSequence)]);
+      m_consumeSequence++;
+      count++;
+    }
+    return count;
+  }
+
+  private long oldestSequence() {
+    return Math.max(0L, m_publishSequence - m_capacity);
+  }
+
+  /**
+   * Reads the notifications starting at the given sequence number without blocking, without removing them and without
+   * moving the cursor of this node. Consumers keeping their own cursor pass {@link Batch#getNextSequence()} of the previous batch. If the
+   * cursor is older than the oldest available notification, {@link Batch#getMissedCount()} is the number of overwritten
+   * notifications and the consumer must resynchronize.
+   *
+   * @since 11
+   */
+  public Batch read(long sequence, int maxAmount) {
+    m_ringLock.lock();
+    try {
+      long oldest = oldestSequence();
+      long cursor = Math.min(Math.max(sequence, oldest), m_publishSequence);
+      long end = Math.min(m_publishSequence, cursor + Math.max(0, maxAmount));
+      List<ClientNotificationMessage> messages = new ArrayList<>((int) (end - cursor));
+      for (long seq = cursor; seq < end; seq++) {
+        messages.add(m_ring[index(seq)]);
+      }
+      return new Batch(messages, end, Math.max(0L, oldest - sequence));
+    }
+    finally {
+      m_ringLock.unlock();
+    }
+  }
+
+  /**
+   * @return the sequence number of the next published notification
+   * @since 11
+   */
+  public long getPublishSequence() {
+    m_ringLock.lock();
+    try {
+      return m_publishSequence;
+    }
+    finally {
+      m_ringLock.unlock();
+    }
+  }
+
+  /**
+   * @return number of published but not yet consumed notifications (including dropped ones)
+   * @since 11
+   */
+  public long getLag() {
+    m_ringLock.lock();
+    try {
+      return m_publishSequence - m_consumeSequence;
+    }
+    finally {
+      m_ringLock.unlock();
+    }
+  }
+
+  /**
+   * @return number of notifications dropped because the capacity was reached
+   * @since 11
+   */
+  public long getDroppedCount() {
+    return m_droppedCount.sum();
+  }
+
+  /**
+   * @return number of {@link #putRelevant(Collection)} calls
+   * @since 11
+   */
+  public long getFanOutCount() {
+    return m_fanOutCount.sum();
+  }
+
+  /**
+   * @return total time in {@link #putRelevant(Collection)}
+   * @since 11
+   */
+  public long getFanOutNanos() {
+    return m_fanOutNanos.sum();
+  }
+
+  /**
+   * @return maximum time of one {@link #putRelevant(Collection)} call
+   * @since 11
+   */
+  public long getFanOutMaxNanos() {
+    return m_fanOutMaxNanos.get();
+  }
+
   private List<ClientNotificationMessage> getRelevantNotifications(Collection<? extends ClientNotificationMessage> notificationInput) {
     List<ClientNotificationMessage> notifications = new ArrayList<>(notificationInput);
     notifications.removeIf(clientNotificationMessage -> !isRelevant(clientNotificationMessage.getAddress()));
@@ -219,4 +371,43 @@ public class ClientNotificationNodeQueue {
 
   }
 
+  /**
+   * Result of {@link ClientNotificationNodeQueue#read(long, int)}.
+   *
+   * @since 11
+   */
+  public static class Batch {
+    private final List<ClientNotificationMessage> m_messages;
+    private final long m_nextSequence;
+    private final long m_missedCount;
+
+    public Batch(List<ClientNotificationMessage> messages, long nextSequence, long missedCount) {
+      m_messages = Collections.unmodifiableList(messages);
+      m_nextSequence = nextSequence;
+      m_missedCount = missedCount;
+    }
+
+    public List<ClientNotificationMessage> getMessages() {
+      return m_messages;
+    }
+
+    /**
+     * @return the cursor to pass to the next {@link ClientNotificationNodeQueue#read(long, int)}
+     */
+    public long getNextSequence() {
+      return m_nextSequence;
+    }
+
+    /**
+     * @return number of notifications between the requested cursor and the first returned notification which are not
+     *         available anymore
+     */
+    public long getMissedCount() {
+      return m_missedCount;
+    }
+
+    public boolean hasGap() {
+      return m_missedCount > 0;
+    }
+  }
 }
@@ -11,14 +11,16 @@
 package org.eclipse.scout.rt.server.clientnotification;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -32,6 +34,7 @@ import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperti
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationAddress;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +50,9 @@ import org.slf4j.LoggerFactory;
 public class ClientNotificationRegistry {
   private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationRegistry.class);
   private final Map<String /*notificationNodeId*/, ClientNotificationNodeQueue> m_notificationQueues = new HashMap<>();
+  // address index, guarded by m_notificationQueues
+  private final Map<String /*sessionId*/, Set<ClientNotificationNodeQueue>> m_sessionIndex = new HashMap<>();
+  private final Map<String /*userId*/, Set<ClientNotificationNodeQueue>> m_userIndex = new HashMap<>();
 
   /**
    * If no message is consumed for a certain amount of time [ms], queues are removed to avoid overflows. This may
@@ -67,7 +73,10 @@ public class ClientNotificationRegistry {
    */
   protected void registerSession(String nodeId, String sessionId, String userId) {
     synchronized (m_notificationQueues) {
-      getQueue(nodeId).registerSession(sessionId, userId);
+      ClientNotificationNodeQueue queue = getQueue(nodeId);
+      queue.registerSession(sessionId, userId);
+      m_sessionIndex.computeIfAbsent(sessionId, k -> new HashSet<>()).add(queue);
+      m_userIndex.computeIfAbsent(userId, k -> new HashSet<>()).add(queue);
     }
   }
 
@@ -78,9 +87,13 @@ public class ClientNotificationRegistry {
   void unregisterSession(String nodeId, String sessionId, String userId) {
     synchronized (m_notificationQueues) {
       ClientNotificationNodeQueue queue = getQueue(nodeId);
+      Set<String> userIds = queue.getAllUserIds();
       queue.unregisterSession(sessionId, userId);
+      removeFromIndex(m_sessionIndex, Collections.singleton(sessionId), queue);
+      userIds.removeAll(queue.getAllUserIds());
+      removeFromIndex(m_userIndex, userIds, queue);
       if (queue.getAllSessionIds().isEmpty()) {
-        m_notificationQueues.remove(nodeId);
+        removeQueue(queue);
       }
     }
   }
@@ -92,7 +105,32 @@ public class ClientNotificationRegistry {
    */
   void unregisterNode(String nodeId) {
     synchronized (m_notificationQueues) {
-      m_notificationQueues.remove(nodeId);
+      ClientNotificationNodeQueue queue = m_notificationQueues.get(nodeId);
+      if (queue != null) {
+        removeQueue(queue);
+      }
+    }
+  }
+
+  /**
+   * Removes the queue and its entries of the address index. Must be called holding the lock of
+   * {@link #m_notificationQueues}.
+   */
+  private void removeQueue(ClientNotificationNodeQueue queue) {
+    m_notificationQueues.remove(queue.getNodeId());
+    removeFromIndex(m_sessionIndex, queue.getAllSessionIds(), queue);
+    removeFromIndex(m_userIndex, queue.getAllUserIds(), queue);
+  }
+
+  private static void removeFromIndex(Map<String, Set<ClientNotificationNodeQueue>> index, Collection<String> ids, ClientNotificationNodeQueue queue) {
+    for (String id : ids) {
+      Set<ClientNotificationNodeQueue> queues = index.get(id);
+      if (queues != null) {
+        queues.remove(queue);
+        if (queues.isEmpty()) {
+          index.remove(id);
+        }
+      }
     }
   }
 
@@ -268,17 +306,60 @@ public class ClientNotificationRegistry {
    */
   public void publishWithoutClusterNotification(Collection<? extends ClientNotificationMessage> messages, String excludedUiNodeId) {
     synchronized (m_notificationQueues) {
-      final Iterator<ClientNotificationNodeQueue> iter = m_notificationQueues.values().iterator();
-      while (iter.hasNext()) {
-        final ClientNotificationNodeQueue queue = iter.next();
-        if (!queue.getNodeId().equals(excludedUiNodeId)) {
-          queue.put(messages);
-          if (isQueueExpired(queue)) {
-            LOG.debug("Removing expired queue {}", queue.getNodeId());
-            iter.remove();
-          }
+      // fan-out using the address index instead of evaluating every message against every node
+      Map<ClientNotificationNodeQueue, List<ClientNotificationMessage>> messagesByQueue = new LinkedHashMap<>();
+      for (ClientNotificationMessage message : messages) {
+        for (ClientNotificationNodeQueue queue : getAddressedQueues(message.getAddress())) {
+          messagesByQueue.computeIfAbsent(queue, k -> new ArrayList<>()).add(message);
+        }
+      }
+      for (Entry<ClientNotificationNodeQueue, List<ClientNotificationMessage>> entry : messagesByQueue.entrySet()) {
+        if (!entry.getKey().getNodeId().equals(excludedUiNodeId)) {
+          entry.getKey().putRelevant(entry.getValue());
         }
       }
+      for (ClientNotificationNodeQueue queue : new ArrayList<>(m_notificationQueues.values())) {
+        if (!queue.getNodeId().equals(excludedUiNodeId) && isQueueExpired(queue)) {
+          LOG.debug("Removing expired queue {}", queue.getNodeId());
+          removeQueue(queue);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the queues of the nodes addressed by the given address. Must be called holding the lock of
+   *         {@link #m_notificationQueues}.
+   */
+  private Collection<ClientNotificationNodeQueue> getAddressedQueues(IClientNotificationAddress address) {
+    if (address.isNotifyAllNodes() || address.isNotifyAllSessions()) {
+      return m_notificationQueues.values();
+    }
+    Set<ClientNotificationNodeQueue> queues = new HashSet<>();
+    addIndexedQueues(queues, m_sessionIndex, address.getSessionIds());
+    addIndexedQueues(queues, m_userIndex, address.getUserIds());
+    return queues;
+  }
+
+  private static void addIndexedQueues(Set<ClientNotificationNodeQueue> queues, Map<String, Set<ClientNotificationNodeQueue>> index, Collection<String> ids) {
+    if (ids == null) {
+      return;
+    }
+    for (String id : ids) {
+      Set<ClientNotificationNodeQueue> indexed = index.get(id);
+      if (indexed != null) {
+        queues.addAll(indexed);
+      }
+    }
+  }
+
+  /**
+   * @return the queues of all registered nodes
+   * @since 11
+   */
+  public List<ClientNotificationNodeQueue> getNodeQueues() {
+    synchronized (m_notificationQueues) {
+      return new ArrayList<>(m_notificationQueues.values());
     }
   }
 
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.ObjectName;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
+
+/**
+ * @since 11
+ */
+@ApplicationScoped
+@CreateImmediately
+public class ClientNotificationRegistryMBean implements IClientNotificationRegistryMBean {
+
+  @PostConstruct
+  protected void register() {
+    MBeanUtility.register(jmxObjectName(), this);
+  }
+
+  @PreDestroy
+  protected void unregister() {
+    MBeanUtility.unregister(jmxObjectName());
+  }
+
+  protected ObjectName jmxObjectName() {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.server", PlatformIdentifier.get(), ClientNotificationRegistry.class.getSimpleName());
+  }
+
+  protected ClientNotificationRegistry getRegistry() {
+    return BEANS.get(ClientNotificationRegistry.class);
+  }
+
+  @Override
+  public int getNodeCount() {
+    return getRegistry().getNodeQueues().size();
+  }
+
+  @Override
+  public NodeQueueEntry[] getNodeQueues() {
+    return getRegistry()
+        .getNodeQueues()
+        .stream()
+        .map(this::toNodeQueueEntry)
+        .toArray(NodeQueueEntry[]::new);
+  }
+
+  protected NodeQueueEntry toNodeQueueEntry(ClientNotificationNodeQueue queue) {
+    return new NodeQueueEntry(
+        queue.getNodeId(),
+        queue.getAllSessionIds().size(),
+        queue.getAllUserIds().size(),
+        queue.getCapacity(),
+        queue.getPublishSequence(),
+        queue.getLag(),
+        queue.getDroppedCount(),
+        queue.getFanOutCount(),
+        TimeUnit.NANOSECONDS.toMicros(queue.getFanOutNanos()),
+        TimeUnit.NANOSECONDS.toMicros(queue.getFanOutMaxNanos()),
+        queue.getLastConsumeAccess());
+  }
+}
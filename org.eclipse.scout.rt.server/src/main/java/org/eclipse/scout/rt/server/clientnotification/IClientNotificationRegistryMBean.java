@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.beans.ConstructorProperties;
+
+import javax.management.MXBean;
+
+/**
+ * Metrics of the client notification queues of {@link ClientNotificationRegistry}.
+ *
+ * @since 11
+ */
+@MXBean
+public interface IClientNotificationRegistryMBean {
+
+  int getNodeCount();
+
+  NodeQueueEntry[] getNodeQueues();
+
+  class NodeQueueEntry {
+
+    private final String m_nodeId;
+    private final int m_sessionCount;
+    private final int m_userCount;
+    private final int m_capacity;
+    private final long m_publishedCount;
+    private final long m_lag;
+    private final long m_droppedCount;
+    private final long m_fanOutCount;
+    private final long m_fanOutTotalMicros;
+    private final long m_fanOutMaxMicros;
+    private final long m_lastConsumeAccess;
+
+    @ConstructorProperties({"nodeId", "sessionCount", "userCount", "capacity", "publishedCount", "lag", "droppedCount", "fanOutCount", "fanOutTotalMicros", "fanOutMaxMicros", "lastConsumeAccess"})
+    public NodeQueueEntry(String nodeId, int sessionCount, int userCount, int capacity, long publishedCount, long lag, long droppedCount, long fanOutCount, long fanOutTotalMicros, long fanOutMaxMicros,
+        long lastConsumeAccess) {
+      m_nodeId = nodeId;
+      m_sessionCount = sessionCount;
+      m_userCount = userCount;
+      m_capacity = capacity;
+      m_publishedCount = publishedCount;
+      m_lag = lag;
+      m_droppedCount = droppedCount;
+      m_fanOutCount = fanOutCount;
+      m_fanOutTotalMicros = fanOutTotalMicros;
+      m_fanOutMaxMicros = fanOutMaxMicros;
+      m_lastConsumeAccess = lastConsumeAccess;
+    }
+
+    public String getNodeId() {
+      return m_nodeId;
+    }
+
+    public int getSessionCount() {
+      return m_sessionCount;
+    }
+
+    public int getUserCount() {
+      return m_userCount;
+    }
+
+    public int getCapacity() {
+      return m_capacity;
+    }
+
+    public long getPublishedCount() {
+      return m_publishedCount;
+    }
+
+    /**
+     * @return number of published but not yet consumed notifications
+     */
+    public long getLag() {
+      return m_lag;
+    }
+
+    public long getDroppedCount() {
+      return m_droppedCount;
+    }
+
+    public long getFanOutCount() {
+      return m_fanOutCount;
+    }
+
+    public long getFanOutTotalMicros() {
+      return m_fanOutTotalMicros;
+    }
+
+    public long getFanOutMaxMicros() {
+      return m_fanOutMaxMicros;
+    }
+
+    /**
+     * @return time in milliseconds of the last consume request of the node
+     */
+    public long getLastConsumeAccess() {
+      return m_lastConsumeAccess;
+    }
+  }
+}
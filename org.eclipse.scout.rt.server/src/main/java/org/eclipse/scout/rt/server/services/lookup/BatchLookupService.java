@@ -13,6 +13,7 @@ package org.eclipse.scout.rt.server.services.lookup;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
@@ -36,8 +37,14 @@ public class BatchLookupService implements IServerBatchLookupService {
     List<ILookupCall<?>> calls = batch.getCallBatch();
     List<List<ILookupRow<?>>> result = new ArrayList<>();
     BatchLookupResultCache cache = new BatchLookupResultCache();
+    SharedLookupResultCache sharedCache = BEANS.get(SharedLookupResultCache.class);
     for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<>(cache.getDataByKey(call)));
+      if (call != null && sharedCache.isCached(call)) {
+        result.add(new ArrayList<>(sharedCache.getDataByKey(call)));
+      }
+      else {
+        result.add(new ArrayList<>(cache.getDataByKey(call)));
+      }
     }
     return result;
   }
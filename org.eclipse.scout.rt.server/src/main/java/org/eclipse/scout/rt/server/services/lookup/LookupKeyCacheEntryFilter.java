@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+
+/**
+ * Filter of {@link SharedLookupResultCache} that accepts all entries of the given lookup row keys (regardless of the
+ * lookup call class and locale).
+ * <p>
+ * This class is immutable.
+ *
+ * @since 11
+ */
+public final class LookupKeyCacheEntryFilter implements ICacheEntryFilter<SharedLookupCacheKey, List<ILookupRow<?>>> {
+  private static final long serialVersionUID = 1L;
+  private final Set<Object> m_keys;
+
+  public LookupKeyCacheEntryFilter(Collection<?> keys) {
+    m_keys = Collections.unmodifiableSet(CollectionUtility.hashSetWithoutNullElements(keys));
+  }
+
+  public Set<Object> getKeys() {
+    return m_keys;
+  }
+
+  @Override
+  public boolean accept(SharedLookupCacheKey key, List<ILookupRow<?>> value) {
+    return m_keys.contains(key.getCall().getKey());
+  }
+
+  @Override
+  public ICacheEntryFilter<SharedLookupCacheKey, List<ILookupRow<?>>> coalesce(ICacheEntryFilter<SharedLookupCacheKey, List<ILookupRow<?>>> other) {
+    if (other instanceof LookupKeyCacheEntryFilter) {
+      Set<Object> newKeySet = new HashSet<>(m_keys);
+      newKeySet.addAll(((LookupKeyCacheEntryFilter) other).m_keys);
+      return new LookupKeyCacheEntryFilter(newKeySet);
+    }
+    return null;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+
+/**
+ * Marks an {@link ILookupService} implementation whose results of
+ * {@link ILookupService#getDataByKey(org.eclipse.scout.rt.shared.services.lookup.ILookupCall) getDataByKey} do not
+ * depend on the current user. Such results are cached server-wide (across all sessions) by
+ * {@link SharedLookupResultCache}. The results are cached per locale.
+ * <p>
+ * Modifications of the underlying data must be published using {@link SharedLookupResultCache#invalidate(Class)} or
+ * {@link SharedLookupResultCache#invalidateKeys(Class, java.util.Collection)}, the invalidation is propagated to all
+ * cluster nodes.
+ *
+ * @since 11
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SharedLookupCache {
+
+  /**
+   * @return time to live of a cached result in {@link #timeToLiveUnit()}. A value &lt;= 0 disables the expiration.
+   */
+  long timeToLive() default 1;
+
+  TimeUnit timeToLiveUnit() default TimeUnit.HOURS;
+
+  /**
+   * @return maximum number of cached results. A value &lt;= 0 disables the size bound.
+   */
+  int sizeBound() default 10000;
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupNormalizer;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+
+/**
+ * Key of {@link SharedLookupResultCache}: a copy of the lookup call (compared with
+ * {@link ILookupCall#equals(Object)} as in {@link BatchLookupNormalizer}) and the locale of the result.
+ * <p>
+ * This class is immutable.
+ *
+ * @since 11
+ */
+public final class SharedLookupCacheKey implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final ILookupCall<?> m_call;
+  private final Locale m_locale;
+
+  public SharedLookupCacheKey(ILookupCall<?> call, Locale locale) {
+    m_call = call.copy();
+    m_locale = locale;
+  }
+
+  /**
+   * @return the lookup call, must not be modified
+   */
+  public ILookupCall<?> getCall() {
+    return m_call;
+  }
+
+  public Locale getLocale() {
+    return m_locale;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * m_call.hashCode() + Objects.hashCode(m_locale);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    SharedLookupCacheKey other = (SharedLookupCacheKey) obj;
+    return m_call.equals(other.m_call) && Objects.equals(m_locale, other.m_locale);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[call=" + m_call.getClass().getName() + ", key=" + m_call.getKey() + ", locale=" + m_locale + "]";
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.AllCacheEntryFilter;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
+import org.eclipse.scout.rt.platform.cache.ICacheValueResolver;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.util.CloneUtility;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+
+/**
+ * Server-wide cache of the results of {@link ILookupService#getDataByKey(ILookupCall)} shared by all sessions.
+ * <p>
+ * Only lookup services annotated with {@link SharedLookupCache} are cached, each in its own {@link ICache} (see
+ * {@link #getCacheId(Class)}). Lookup calls are compared with {@link LookupCall#equals(Object)}, calls of classes which
+ * are not {@link BatchLookupResultCache#isCacheable(Class) cacheable} are never cached.
+ * <p>
+ * Lookup rows are mutable. The cached rows are therefore never handed out, callers get copies of them (see
+ * {@link #copyRows(List)}).
+ *
+ * @since 11
+ */
+@ApplicationScoped
+public class SharedLookupResultCache {
+  public static final String CACHE_ID_PREFIX = "scout.lookup.";
+
+  private final ConcurrentMap<Class<?>, Optional<ICache<SharedLookupCacheKey, List<ILookupRow<?>>>>> m_caches = new ConcurrentHashMap<>();
+
+  /**
+   * @return the same as {@link ILookupCall#getDataByKey()} but uses the shared cache if the lookup service of the call
+   *         is annotated with {@link SharedLookupCache}
+   */
+  @SuppressWarnings("unchecked")
+  public <KEY_TYPE> List<ILookupRow<KEY_TYPE>> getDataByKey(ILookupCall<KEY_TYPE> call) {
+    if (call == null || call.getKey() == null) {
+      return CollectionUtility.emptyArrayList();
+    }
+    ICache<SharedLookupCacheKey, List<ILookupRow<?>>> cache = getCache(call);
+    if (cache == null) {
+      return CollectionUtility.arrayList(call.getDataByKey());
+    }
+    List<ILookupRow<?>> result = copyRows(cache.get(createCacheKey(call)));
+    List<ILookupRow<KEY_TYPE>> copy = new ArrayList<>(result.size());
+    for (ILookupRow<?> row : result) {
+      copy.add((ILookupRow<KEY_TYPE>) row);
+    }
+    return copy;
+  }
+
+  /**
+   * @return true if the results of the given call are cached
+   */
+  public boolean isCached(ILookupCall<?> call) {
+    return getCache(call) != null;
+  }
+
+  /**
+   * Invalidates all cached results of the given lookup service on all cluster nodes.
+   */
+  public void invalidate(Class<? extends ILookupService> serviceClass) {
+    invalidate(serviceClass, new AllCacheEntryFilter<>());
+  }
+
+  /**
+   * Invalidates the cached results of the given lookup row keys on all cluster nodes.
+   */
+  public void invalidateKeys(Class<? extends ILookupService> serviceClass, Collection<?> keys) {
+    if (CollectionUtility.isEmpty(keys)) {
+      return;
+    }
+    invalidate(serviceClass, new LookupKeyCacheEntryFilter(keys));
+  }
+
+  protected void invalidate(Class<? extends ILookupService> serviceClass, ICacheEntryFilter<SharedLookupCacheKey, List<ILookupRow<?>>> filter) {
+    Class<?> implClass = BEANS.get(serviceClass).getClass();
+    ICache<SharedLookupCacheKey, List<ILookupRow<?>>> cache = getOrCreateCache(implClass);
+    if (cache != null) {
+      cache.invalidate(filter, true);
+    }
+  }
+
+  protected ICache<SharedLookupCacheKey, List<ILookupRow<?>>> getCache(ILookupCall<?> call) {
+    if (!(call instanceof LookupCall) || !BatchLookupResultCache.isCacheable(call.getClass())) {
+      return null;
+    }
+    ILookupService<?> service = ((LookupCall<?>) call).getLookupService();
+    if (service == null) {
+      return null;
+    }
+    return getOrCreateCache(service.getClass());
+  }
+
+  protected ICache<SharedLookupCacheKey, List<ILookupRow<?>>> getOrCreateCache(Class<?> serviceClass) {
+    return m_caches.computeIfAbsent(serviceClass, c -> {
+      SharedLookupCache annotation = c.getAnnotation(SharedLookupCache.class);
+      if (annotation == null) {
+        return Optional.empty();
+      }
+      return Optional.of(createCacheBuilder(c, annotation).build());
+    }).orElse(null);
+  }
+
+  /**
+   * @return copy of the given cached rows which may be modified by the caller
+   */
+  protected List<ILookupRow<?>> copyRows(List<ILookupRow<?>> rows) {
+    if (rows.isEmpty()) {
+      return rows;
+    }
+    List<ILookupRow<?>> copies = new ArrayList<>(rows.size());
+    for (ILookupRow<?> row : rows) {
+      copies.add(copyRow(row));
+    }
+    return copies;
+  }
+
+  /**
+   * Plain {@link LookupRow}s are copied property by property. Their keys are shared with the cached row, only the
+   * mutable additional table row data is deep copied. Rows of other classes may hold further state and are deep copied
+   * by serialization.
+   */
+  protected ILookupRow<?> copyRow(ILookupRow<?> row) {
+    if (row.getClass() == LookupRow.class) {
+      return copyLookupRow((LookupRow<?>) row);
+    }
+    return createDeepCopy(row);
+  }
+
+  protected <T> LookupRow<T> copyLookupRow(LookupRow<T> row) {
+    AbstractTableRowData additionalTableRowData = row.getAdditionalTableRowData();
+    return new LookupRow<>(row.getKey(), row.getText())
+        .withParentKey(row.getParentKey())
+        .withIconId(row.getIconId())
+        .withTooltipText(row.getTooltipText())
+        .withForegroundColor(row.getForegroundColor())
+        .withBackgroundColor(row.getBackgroundColor())
+        .withCssClass(row.getCssClass())
+        .withFont(row.getFont())
+        .withEnabled(row.isEnabled())
+        .withActive(row.isActive())
+        .withAdditionalTableRowData(additionalTableRowData != null ? createDeepCopy(additionalTableRowData) : null);
+  }
+
+  protected <T> T createDeepCopy(T o) {
+    try {
+      return CloneUtility.createDeepCopyBySerializing(o);
+    }
+    catch (Exception e) {
+      throw new ProcessingException("Could not copy cached lookup row", e);
+    }
+  }
+
+  protected SharedLookupCacheKey createCacheKey(ILookupCall<?> call) {
+    return new SharedLookupCacheKey(call, NlsLocale.get());
+  }
+
+  /**
+   * @return the id of the cache of the given lookup service implementation
+   */
+  public String getCacheId(Class<?> serviceClass) {
+    return CACHE_ID_PREFIX + serviceClass.getName();
+  }
+
+  @SuppressWarnings("unchecked")
+  protected ICacheBuilder<SharedLookupCacheKey, List<ILookupRow<?>>> createCacheBuilder(Class<?> serviceClass, SharedLookupCache annotation) {
+    ICacheBuilder<SharedLookupCacheKey, List<ILookupRow<?>>> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    cacheBuilder
+        .withCacheId(getCacheId(serviceClass))
+        .withValueResolver(createCacheValueResolver())
+        .withClusterEnabled(true)
+        .withReplaceIfExists(true);
+    if (annotation.timeToLive() > 0) {
+      cacheBuilder.withTimeToLive(annotation.timeToLive(), annotation.timeToLiveUnit(), false);
+    }
+    if (annotation.sizeBound() > 0) {
+      cacheBuilder.withSizeBound(annotation.sizeBound());
+    }
+    return cacheBuilder;
+  }
+
+  protected ICacheValueResolver<SharedLookupCacheKey, List<ILookupRow<?>>> createCacheValueResolver() {
+    return key -> {
+      List<? extends ILookupRow<?>> rows = key.getCall().getDataByKey();
+      if (rows == null) {
+        return Collections.emptyList();
+      }
+      return Collections.unmodifiableList(new ArrayList<>(rows));
+    };
+  }
+}
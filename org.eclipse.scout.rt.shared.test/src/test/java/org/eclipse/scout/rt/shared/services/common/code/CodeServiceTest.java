@@ -16,11 +16,13 @@ import static org.junit.Assert.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
 import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
@@ -209,6 +211,32 @@ public class CodeServiceTest {
     assertNull(r);
   }
 
+  @Test
+  public void testFindCodeTypeByIdAfterInvalidate() {
+    ICodeService service = newCodeServiceInstance();
+
+    ICodeType<Long, ?> abcCodeType1 = service.findCodeTypeById(ABC_ID);
+    service.invalidateCodeType(AbcCodeType.class);
+    ICodeType<Long, ?> abcCodeType2 = service.findCodeTypeById(ABC_ID);
+
+    assertTrue(abcCodeType2 instanceof AbcCodeType);
+    assertNotSame(abcCodeType1, abcCodeType2);
+    assertSame(abcCodeType2, service.findCodeTypeById(ABC_ID));
+    assertNull(service.findCodeTypeById(-1L));
+  }
+
+  @Test
+  public void testGetCodes() {
+    ICodeService service = newCodeServiceInstance();
+
+    Map<String, ICode<String>> codes = service.getCodes(AbcCodeType.class, Arrays.asList("b", "x", null, "a", "b"));
+    assertEquals(Arrays.asList("b", "a"), new ArrayList<>(codes.keySet()));
+    assertEquals("B", codes.get("b").getText());
+    assertEquals("A", codes.get("a").getText());
+
+    assertTrue(service.getCodes(AbcCodeType.class, Collections.emptyList()).isEmpty());
+  }
+
   @Test
   public void testReplaceLookupUsingCodeService() {
     ICodeService service = newCodeServiceInstance();
@@ -274,6 +302,36 @@ public class CodeServiceTest {
       return ABC_ID;
     }
 
+    @Order(10)
+    public class ACode extends AbstractCode<String> {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public String getId() {
+        return "a";
+      }
+
+      @Override
+      protected String getConfiguredText() {
+        return "A";
+      }
+    }
+
+    @Order(20)
+    public class BCode extends AbstractCode<String> {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public String getId() {
+        return "b";
+      }
+
+      @Override
+      protected String getConfiguredText() {
+        return "B";
+      }
+    }
+
   }
 
   public static class ZyxCodeType extends AbstractCodeType<Long, String> {
@@ -11,6 +11,7 @@
 package org.eclipse.scout.rt.shared.services.common.code;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.util.List;
 
@@ -104,6 +105,31 @@ public class CodeTypeWithAddRemoveCodeTest {
     assertEquals("{id:10,text:Root10}", dumpCodeType(ct));
   }
 
+  @Test
+  public void testGetCodeAfterAddRemove() {
+    TestCodeType ct = new TestCodeType();
+    assertEquals("Test11", ct.getCode(11L).getText());
+
+    // replaced child code
+    ICode<Long> root = ct.getCode(10L);
+    root.addChildCodeInternal(-1, new MutableCode<>(new CodeRow<>(11L, "Test11b")));
+    assertEquals("Test11b", ct.getCode(11L).getText());
+
+    // added child code
+    root.addChildCodeInternal(-1, new MutableCode<>(new CodeRow<>(20L, "Child20")));
+    assertEquals("Child20", ct.getCode(20L).getText());
+
+    // removed child code
+    root.removeChildCodeInternal(12L);
+    assertNull(ct.getCode(12L));
+
+    // children of a replaced root code
+    ct.addRootCodeInternal(-1, new MutableCode<>(new CodeRow<>(10L, "Root10b")));
+    assertEquals("Root10b", ct.getCode(10L).getText());
+    assertNull(ct.getCode(11L));
+    assertNull(ct.getCode(20L));
+  }
+
   private static String dumpCodeType(ICodeType<Long, Long> ct) {
     StringBuilder buf = new StringBuilder();
     List<? extends ICode<Long>> list = ct.getCodes();
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.ByteArrayInputStream;
+
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encode and decode times of the {@link CompactBinaryServiceTunnelContentHandler} compared with the
+ * {@link BinaryServiceTunnelContentHandler} for the table field response of
+ * {@link CompactBinaryServiceTunnelContentHandlerTest}. The times are logged, not asserted.
+ *
+ * @since 11
+ */
+@Ignore("Benchmark, run manually")
+@RunWith(PlatformTestRunner.class)
+public class CompactBinaryServiceTunnelContentHandlerBenchmarkTest {
+  private static final Logger LOG = LoggerFactory.getLogger(CompactBinaryServiceTunnelContentHandlerBenchmarkTest.class);
+
+  @Test
+  public void compareWithBinaryServiceTunnelContentHandler() throws Throwable {
+    ServiceTunnelResponse response = new ServiceTunnelResponse(CompactBinaryServiceTunnelContentHandlerTest.createTableData(2000), null);
+    for (boolean compressed : new boolean[]{false, true}) {
+      IServiceTunnelContentHandler binaryHandler = CompactBinaryServiceTunnelContentHandlerTest.createBinaryHandler(compressed);
+      IServiceTunnelContentHandler compactHandler = CompactBinaryServiceTunnelContentHandlerTest.createHandler(compressed);
+      byte[] binaryData = CompactBinaryServiceTunnelContentHandlerTest.write(binaryHandler, response);
+      byte[] compactData = CompactBinaryServiceTunnelContentHandlerTest.write(compactHandler, response);
+
+      long[] binaryNanos = measure(binaryHandler, response, binaryData);
+      long[] compactNanos = measure(compactHandler, response, compactData);
+      LOG.info("compressed={}: binary {} bytes, encode {} us, decode {} us; compact {} bytes, encode {} us, decode {} us",
+          compressed, binaryData.length, binaryNanos[0] / 1000, binaryNanos[1] / 1000, compactData.length, compactNanos[0] / 1000, compactNanos[1] / 1000);
+    }
+  }
+
+  /**
+   * @return the average encode and decode time in nanoseconds
+   */
+  protected long[] measure(IServiceTunnelContentHandler handler, ServiceTunnelResponse response, byte[] data) throws Exception {
+    int warmup = 5;
+    int iterations = 20;
+    long encode = 0;
+    long decode = 0;
+    for (int i = 0; i < warmup + iterations; i++) {
+      long t0 = System.nanoTime();
+      CompactBinaryServiceTunnelContentHandlerTest.write(handler, response);
+      long t1 = System.nanoTime();
+      handler.readResponse(new ByteArrayInputStream(data));
+      long t2 = System.nanoTime();
+      if (i >= warmup) {
+        encode += t1 - t0;
+        decode += t2 - t1;
+      }
+    }
+    return new long[]{encode / iterations, decode / iterations};
+  }
+}
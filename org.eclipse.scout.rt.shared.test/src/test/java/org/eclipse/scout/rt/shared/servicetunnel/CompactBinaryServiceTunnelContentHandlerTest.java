@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.util.date.UTCDate;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData;
+import org.eclipse.scout.rt.shared.servicetunnel.compact.CompactObjectInput;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link CompactBinaryServiceTunnelContentHandler}
+ *
+ * @since 11
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactBinaryServiceTunnelContentHandlerTest {
+
+  @Test
+  public void request() throws Throwable {
+    CompactBinaryServiceTunnelContentHandler handler = createHandler();
+    Object[] args = {"arg", 42L, new int[]{1, 2, 3}, null, Locale.GERMANY};
+    ServiceTunnelRequest request = new ServiceTunnelRequest("test", "op", new Class[]{String.class, long.class, int[].class, Object.class, Locale.class}, args);
+    request.setSessionId("session");
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, request);
+
+    ServiceTunnelRequest readRequest = handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals("test", readRequest.getServiceInterfaceClassName());
+    assertEquals("op", readRequest.getOperation());
+    assertEquals("session", readRequest.getSessionId());
+    assertEquals(request.getRequestSequence(), readRequest.getRequestSequence());
+    assertArrayEquals(request.getParameterTypes(), readRequest.getParameterTypes());
+    assertEquals("arg", readRequest.getArgs()[0]);
+    assertEquals(42L, readRequest.getArgs()[1]);
+    assertArrayEquals(new int[]{1, 2, 3}, (int[]) readRequest.getArgs()[2]);
+    assertNull(readRequest.getArgs()[3]);
+    assertEquals(Locale.GERMANY, readRequest.getArgs()[4]);
+  }
+
+  @Test
+  public void response() throws Throwable {
+    CompactBinaryServiceTunnelContentHandler handler = createHandler();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse("test", null));
+    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals("test", readResponse.getData());
+  }
+
+  @Test
+  public void responseWithException() throws Throwable {
+    CompactBinaryServiceTunnelContentHandler handler = createHandler();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse(new IllegalStateException("expected")));
+    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    assertTrue(readResponse.getException() instanceof IllegalStateException);
+    assertEquals("expected", readResponse.getException().getMessage());
+  }
+
+  @Test
+  public void uncompressed() throws Throwable {
+    String testValue = "xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx";
+    ServiceTunnelResponse response = new ServiceTunnelResponse(testValue, null);
+    int sizeCompressed = write(createHandler(), response).length;
+    byte[] uncompressed = write(createHandler(false), response);
+    assertEquals(0, uncompressed[0]);
+    assertEquals(testValue, createHandler().readResponse(new ByteArrayInputStream(uncompressed)).getData());
+    assertTrue(String.format("sizeUncompressed: %s, sizeCompressed: %s", uncompressed.length, sizeCompressed), uncompressed.length > sizeCompressed);
+  }
+
+  @Test
+  public void tableData() throws Throwable {
+    P_PersonTableData table = createTableData(10);
+    ServiceTunnelResponse readResponse = roundtrip(new ServiceTunnelResponse(table, null));
+
+    P_PersonTableData readTable = (P_PersonTableData) readResponse.getData();
+    assertEquals(10, readTable.getRowCount());
+    for (int i = 0; i < 10; i++) {
+      P_PersonTableData.P_PersonTableRowData expected = table.rowAt(i);
+      P_PersonTableData.P_PersonTableRowData actual = readTable.rowAt(i);
+      assertEquals(expected.getId(), actual.getId());
+      assertEquals(expected.getName(), actual.getName());
+      assertEquals(expected.getCity(), actual.getCity());
+      assertEquals(expected.getBirthday(), actual.getBirthday());
+      assertEquals(expected.getSalary(), actual.getSalary());
+      assertEquals(expected.isActive(), actual.isActive());
+      assertEquals(expected.getRowState(), actual.getRowState());
+    }
+  }
+
+  @Test
+  public void sharedReferencesAndCycles() throws Throwable {
+    List<Object> list = new ArrayList<>();
+    Map<String, Object> map = new HashMap<>();
+    map.put("list", list);
+    map.put("self", map);
+    list.add(map);
+    list.add(list);
+    Date date = new Date();
+
+    @SuppressWarnings("unchecked")
+    List<Object> readData = (List<Object>) roundtrip(new ServiceTunnelResponse(new ArrayList<>(Arrays.asList(list, map, date, date)), null)).getData();
+    @SuppressWarnings("unchecked")
+    List<Object> readList = (List<Object>) readData.get(0);
+    @SuppressWarnings("unchecked")
+    Map<String, Object> readMap = (Map<String, Object>) readData.get(1);
+    assertSame(readList, readList.get(1));
+    assertSame(readMap, readList.get(0));
+    assertSame(readMap, readMap.get("self"));
+    assertSame(readList, readMap.get("list"));
+    assertEquals(date, readData.get(2));
+    assertSame(readData.get(2), readData.get(3));
+  }
+
+  @Test
+  public void dates() throws Throwable {
+    Date date = new Date(1234567890123L);
+    UTCDate utcDate = new UTCDate(1234567890123L);
+    Object[] readData = (Object[]) roundtrip(new ServiceTunnelResponse(new Object[]{date, utcDate}, null)).getData();
+    assertEquals(Date.class, readData[0].getClass());
+    assertEquals(date, readData[0]);
+    assertEquals(UTCDate.class, readData[1].getClass());
+    assertEquals(utcDate, readData[1]);
+  }
+
+  @Test
+  public void notSerializable() throws Throwable {
+    try {
+      write(createHandler(), new ServiceTunnelResponse(new ArrayList<>(Collections.singletonList(new Object())), null));
+      fail("NotSerializableException expected");
+    }
+    catch (NotSerializableException expected) {
+      // expected
+    }
+  }
+
+  @Test
+  public void incompatibleTypeRegistry() throws Throwable {
+    byte[] data = write(createHandler(), new ServiceTunnelResponse("test", null));
+    CompactBinaryServiceTunnelContentHandler otherHandler = new CompactBinaryServiceTunnelContentHandler() {
+      @Override
+      protected List<Class<?>> getRegisteredClasses() {
+        List<Class<?>> classes = new ArrayList<>(super.getRegisteredClasses());
+        classes.add(P_PersonTableData.class);
+        return classes;
+      }
+    };
+    otherHandler.initialize();
+    try {
+      otherHandler.readResponse(new ByteArrayInputStream(data));
+      fail("InvalidClassException expected");
+    }
+    catch (InvalidClassException expected) {
+      // expected
+    }
+  }
+
+  @Test
+  public void arraysAndStringsLongerThanPreallocatedLength() throws Throwable {
+    int length = 2 * CompactObjectInput.MAX_PREALLOCATED_LENGTH + 1;
+    int[] ints = new int[length];
+    Object[] objects = new Object[length];
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      ints[i] = i - 1000;
+      objects[i] = i % 3 == 0 ? null : Integer.valueOf(i);
+      chars[i] = i % 2 == 0 ? 'a' : '\u00e4';
+    }
+    String string = new String(chars);
+    BigInteger bigInteger = BigInteger.ONE.shiftLeft(8 * length);
+
+    Object[] readData = (Object[]) roundtrip(new ServiceTunnelResponse(new Object[]{ints, objects, string, bigInteger}, null)).getData();
+    assertArrayEquals(ints, (int[]) readData[0]);
+    assertArrayEquals(objects, (Object[]) readData[1]);
+    assertEquals(string, readData[2]);
+    assertEquals(bigInteger, readData[3]);
+  }
+
+  @Test
+  public void corruptLengthDoesNotAllocateArray() throws Throwable {
+    byte[] content = new byte[300];
+    Arrays.fill(content, (byte) 0x55);
+    byte[] data = write(createHandler(false), new ServiceTunnelResponse(content, null));
+
+    // replace the length 300 (varint 0xAC 0x02) by Integer.MAX_VALUE
+    ByteArrayOutputStream corrupt = new ByteArrayOutputStream();
+    int i = 0;
+    while (!(data[i] == (byte) 0xAC && data[i + 1] == 0x02 && data[i + 2] == 0x55)) {
+      corrupt.write(data[i++]);
+    }
+    corrupt.write(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+    corrupt.write(data, i + 2, data.length - i - 2);
+
+    try {
+      createHandler().readResponse(new ByteArrayInputStream(corrupt.toByteArray()));
+      fail("EOFException expected");
+    }
+    catch (EOFException expected) {
+      // expected, the stream ends before the announced length is reached
+    }
+  }
+
+  /**
+   * Compares the payload size with the {@link BinaryServiceTunnelContentHandler} for a typical table field response (see
+   * {@link CompactBinaryServiceTunnelContentHandlerBenchmarkTest} for the encode and decode times).
+   */
+  @Test
+  public void compareWithBinaryServiceTunnelContentHandler() throws Throwable {
+    ServiceTunnelResponse response = new ServiceTunnelResponse(createTableData(2000), null);
+    for (boolean compressed : new boolean[]{false, true}) {
+      byte[] binaryData = write(createBinaryHandler(compressed), response);
+      byte[] compactData = write(createHandler(compressed), response);
+      assertTrue(String.format("compressed: %s, binary: %s bytes, compact: %s bytes", compressed, binaryData.length, compactData.length), compactData.length < binaryData.length);
+    }
+  }
+
+  protected CompactBinaryServiceTunnelContentHandler createHandler() {
+    CompactBinaryServiceTunnelContentHandler handler = new CompactBinaryServiceTunnelContentHandler();
+    handler.initialize();
+    return handler;
+  }
+
+  protected static CompactBinaryServiceTunnelContentHandler createHandler(boolean compressed) {
+    CompactBinaryServiceTunnelContentHandler handler = new CompactBinaryServiceTunnelContentHandler() {
+      @Override
+      protected boolean isUseCompression() {
+        return compressed;
+      }
+    };
+    handler.initialize();
+    return handler;
+  }
+
+  protected static BinaryServiceTunnelContentHandler createBinaryHandler(boolean compressed) {
+    BinaryServiceTunnelContentHandler handler = new BinaryServiceTunnelContentHandler() {
+      @Override
+      protected boolean isUseCompression() {
+        return compressed;
+      }
+    };
+    handler.initialize();
+    return handler;
+  }
+
+  protected ServiceTunnelResponse roundtrip(ServiceTunnelResponse response) throws IOException, ClassNotFoundException {
+    return createHandler().readResponse(new ByteArrayInputStream(write(createHandler(), response)));
+  }
+
+  protected static byte[] write(IServiceTunnelContentHandler handler, ServiceTunnelResponse response) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, response);
+    return bos.toByteArray();
+  }
+
+  protected static P_PersonTableData createTableData(int rowCount) {
+    String[] cities = {"Baar", "Bern", "Z\u00fcrich", "M\u00fcnchen"};
+    P_PersonTableData table = new P_PersonTableData();
+    for (int i = 0; i < rowCount; i++) {
+      P_PersonTableData.P_PersonTableRowData row = table.addRow(i % 2 == 0 ? AbstractTableRowData.STATUS_INSERTED : AbstractTableRowData.STATUS_UPDATED);
+      row.setId((long) i);
+      row.setName("Person " + i);
+      row.setCity(cities[i % cities.length]);
+      row.setBirthday(new Date(86400000L * (3650 + i)));
+      row.setSalary(new BigDecimal(50000 + i).movePointLeft(2));
+      row.setActive(i % 3 == 0);
+    }
+    return table;
+  }
+
+  private static class P_PersonTableData extends AbstractTableFieldBeanData {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public P_PersonTableRowData addRow(int rowState) {
+      return (P_PersonTableRowData) super.addRow(rowState);
+    }
+
+    @Override
+    public P_PersonTableRowData rowAt(int idx) {
+      return (P_PersonTableRowData) super.rowAt(idx);
+    }
+
+    @Override
+    public P_PersonTableRowData createRow() {
+      return new P_PersonTableRowData();
+    }
+
+    @Override
+    public Class<? extends AbstractTableRowData> getRowType() {
+      return P_PersonTableRowData.class;
+    }
+
+    public static class P_PersonTableRowData extends AbstractTableRowData {
+      private static final long serialVersionUID = 1L;
+
+      private Long m_id;
+      private String m_name;
+      private String m_city;
+      private Date m_birthday;
+      private BigDecimal m_salary;
+      private boolean m_active;
+
+      public Long getId() {
+        return m_id;
+      }
+
+      public void setId(Long id) {
+        m_id = id;
+      }
+
+      public String getName() {
+        return m_name;
+      }
+
+      public void setName(String name) {
+        m_name = name;
+      }
+
+      public String getCity() {
+        return m_city;
+      }
+
+      public void setCity(String city) {
+        m_city = city;
+      }
+
+      public Date getBirthday() {
+        return m_birthday;
+      }
+
+      public void setBirthday(Date birthday) {
+        m_birthday = birthday;
+      }
+
+      public BigDecimal getSalary() {
+        return m_salary;
+      }
+
+      public void setSalary(BigDecimal salary) {
+        m_salary = salary;
+      }
+
+      public boolean isActive() {
+        return m_active;
+      }
+
+      public void setActive(boolean active) {
+        m_active = active;
+      }
+    }
+  }
+}
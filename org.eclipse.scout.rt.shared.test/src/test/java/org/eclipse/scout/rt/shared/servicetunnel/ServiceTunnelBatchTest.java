@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link ServiceTunnelBatch}
+ *
+ * @since 11
+ */
+@RunWith(PlatformTestRunner.class)
+public class ServiceTunnelBatchTest {
+
+  private P_RecordingServiceTunnel m_tunnel;
+  private Method m_echo;
+  private Method m_fail;
+
+  @Before
+  public void before() throws NoSuchMethodException {
+    m_tunnel = new P_RecordingServiceTunnel();
+    m_echo = IEchoService.class.getMethod("echo", String.class);
+    m_fail = IEchoService.class.getMethod("fail", String.class);
+  }
+
+  @Test
+  public void testCallsOfAllBlocksInOneRoundTrip() {
+    List<Callable<String>> blocks = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      String arg = "a" + i;
+      blocks.add(() -> echo(arg));
+    }
+    List<String> results = BEANS.get(ServiceTunnelBatch.class).call(blocks);
+
+    assertEquals(Arrays.asList("a0", "a1", "a2", "a3", "a4"), results);
+    assertEquals(1, m_tunnel.m_roundTrips.size());
+    assertEquals(5, m_tunnel.m_roundTrips.get(0).getRequests().size());
+    assertFalse(m_tunnel.m_roundTrips.get(0).isParallel());
+  }
+
+  @Test
+  public void testDependentCallsInRounds() {
+    List<Callable<String>> blocks = Arrays.asList(
+        () -> echo(echo("a") + echo("b")),
+        () -> echo("c"),
+        () -> "local");
+    List<String> results = BEANS.get(ServiceTunnelBatch.class).withParallelExecution(true).call(blocks);
+
+    assertEquals(Arrays.asList("ab", "c", "local"), results);
+    // the first block needs three round trips, the call of the second block is sent with the first round trip
+    assertEquals(3, m_tunnel.m_roundTrips.size());
+    assertEquals(2, m_tunnel.m_roundTrips.get(0).getRequests().size());
+    assertEquals(1, m_tunnel.m_roundTrips.get(1).getRequests().size());
+    assertEquals(1, m_tunnel.m_roundTrips.get(2).getRequests().size());
+    assertTrue(m_tunnel.m_roundTrips.get(0).isParallel());
+  }
+
+  @Test
+  public void testRemoteException() {
+    try {
+      BEANS.get(ServiceTunnelBatch.class).run(
+          () -> echo("a"),
+          () -> m_tunnel.invokeService(IEchoService.class, m_fail, new Object[]{"expected"}));
+      fail("ProcessingException expected");
+    }
+    catch (ProcessingException e) {
+      assertEquals("expected", e.getDisplayMessage());
+    }
+    assertEquals(1, m_tunnel.m_roundTrips.size());
+  }
+
+  @Test
+  public void testExceptionCaughtByBlock() {
+    List<String> results = BEANS.get(ServiceTunnelBatch.class).call(Arrays.asList(() -> {
+      try {
+        m_tunnel.invokeService(IEchoService.class, m_fail, new Object[]{"expected"});
+        return "no exception";
+      }
+      catch (ProcessingException e) {
+        return e.getDisplayMessage();
+      }
+    }));
+    assertEquals(Arrays.asList("expected"), results);
+  }
+
+  @Test
+  public void testAbortSignalSwallowedByBlock() {
+    List<String> results = BEANS.get(ServiceTunnelBatch.class).call(Arrays.asList(() -> {
+      String s;
+      try {
+        s = echo("a");
+      }
+      catch (Throwable t) { // NOSONAR
+        s = "swallowed";
+      }
+      return s + echo("b");
+    }));
+    assertEquals(Arrays.asList("ab"), results);
+    assertEquals(2, m_tunnel.m_roundTrips.size());
+  }
+
+  @Test
+  public void testNestedBatch() {
+    List<String> results = BEANS.get(ServiceTunnelBatch.class).call(Arrays.asList(
+        () -> String.join(",", BEANS.get(ServiceTunnelBatch.class).call(Arrays.asList(() -> echo("a"), () -> echo("b")))),
+        () -> echo("c")));
+    assertEquals(Arrays.asList("a,b", "c"), results);
+    assertEquals(2, m_tunnel.m_roundTrips.size());
+  }
+
+  @Test
+  public void testCallsOutsideBatchAreNotCollected() {
+    assertEquals("a", echo("a"));
+    assertEquals(0, m_tunnel.m_roundTrips.size());
+    assertEquals(1, m_tunnel.m_singleRequests);
+  }
+
+  protected String echo(String s) {
+    return (String) m_tunnel.invokeService(IEchoService.class, m_echo, new Object[]{s});
+  }
+
+  public interface IEchoService {
+    String echo(String s);
+
+    String fail(String message);
+  }
+
+  private static class P_RecordingServiceTunnel extends AbstractServiceTunnel {
+    private final List<ServiceTunnelBatchRequest> m_roundTrips = new ArrayList<>();
+    private int m_singleRequests;
+
+    @Override
+    public boolean isActive() {
+      return true;
+    }
+
+    @Override
+    protected ServiceTunnelResponse tunnel(ServiceTunnelRequest serviceRequest) {
+      if (serviceRequest instanceof ServiceTunnelBatchRequest) {
+        ServiceTunnelBatchRequest batchRequest = (ServiceTunnelBatchRequest) serviceRequest;
+        m_roundTrips.add(batchRequest);
+        List<ServiceTunnelResponse> responses = new ArrayList<>();
+        for (ServiceTunnelRequest request : batchRequest.getRequests()) {
+          responses.add(invokeLocal(request));
+        }
+        return new ServiceTunnelResponse(responses.toArray(new ServiceTunnelResponse[0]));
+      }
+      m_singleRequests++;
+      return invokeLocal(serviceRequest);
+    }
+
+    protected ServiceTunnelResponse invokeLocal(ServiceTunnelRequest request) {
+      assertEquals(IEchoService.class.getName(), request.getServiceInterfaceClassName());
+      if ("fail".equals(request.getOperation())) {
+        return new ServiceTunnelResponse(new ProcessingException((String) request.getArgs()[0]));
+      }
+      return new ServiceTunnelResponse(request.getArgs()[0]);
+    }
+  }
+}
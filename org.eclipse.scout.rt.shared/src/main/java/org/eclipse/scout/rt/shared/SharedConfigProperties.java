@@ -205,6 +205,28 @@ public final class SharedConfigProperties {
     }
   }
 
+  /**
+   * @since 11
+   */
+  public static class CompactServiceTunnelCodecProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the client uses the compact binary format for the service tunnel instead of java serialization. "
+          + "The server always accepts both formats. The default value is false.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.compactCodec";
+    }
+  }
+
   public static class CreateTunnelToServerBeansProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -10,10 +10,9 @@
  */
 package org.eclipse.scout.rt.shared.job.filter.future;
 
-import java.util.function.Predicate;
-
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.filter.future.IIndexedFutureFilter;
 import org.eclipse.scout.rt.platform.util.IAdaptable;
 import org.eclipse.scout.rt.shared.ISession;
 
@@ -22,7 +21,7 @@ import org.eclipse.scout.rt.shared.ISession;
  *
  * @since 5.2
  */
-public class SessionFutureFilter implements Predicate<IFuture<?>>, IAdaptable {
+public class SessionFutureFilter implements IIndexedFutureFilter, IAdaptable {
 
   private final ISession m_session;
 
@@ -45,6 +44,14 @@ public class SessionFutureFilter implements Predicate<IFuture<?>>, IAdaptable {
     return m_session == session;
   }
 
+  /**
+   * @see SessionFutureIndexKeyProvider
+   */
+  @Override
+  public Object getIndexKey() {
+    return m_session;
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public <T> T getAdapter(final Class<T> type) {
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.job.filter.future;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.filter.future.IFutureIndexKeyProvider;
+import org.eclipse.scout.rt.shared.ISession;
+
+/**
+ * Indexes Futures by the {@link ISession} of their {@link RunContext}, so that {@link SessionFutureFilter} can be
+ * resolved by the index of the job manager.
+ *
+ * @since 11
+ */
+public class SessionFutureIndexKeyProvider implements IFutureIndexKeyProvider {
+
+  @Override
+  public Object getIndexKey(final IFuture<?> future) {
+    final RunContext runContext = future.getJobInput().getRunContext();
+    if (runContext == null) {
+      return null;
+    }
+    return runContext.getAdapter(ISession.class);
+  }
+}
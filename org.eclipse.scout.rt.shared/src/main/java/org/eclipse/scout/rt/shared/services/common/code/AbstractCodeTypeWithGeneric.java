@@ -57,6 +57,7 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
   private transient Map<CODE_ID, CODE> m_rootCodeMap = new HashMap<>();
   private List<CODE> m_rootCodeList = new ArrayList<>();
   private transient Map<CODE_ID, Integer> m_codeIndexMap = new HashMap<>();
+  private transient Map<CODE_ID, CODE> m_codeByIdMap = new HashMap<>();
   protected IContributionOwner m_contributionHolder;
   private final ObjectExtensions<AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE>, ICodeTypeExtension<CODE_TYPE_ID, CODE_ID, ? extends AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE>>> m_objectExtensions;
 
@@ -360,7 +361,11 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
   @SuppressWarnings("unchecked")
   @Override
   public CODE getCode(CODE_ID id) {
-    CODE c = m_rootCodeMap.get(id);
+    CODE c = m_codeByIdMap.get(id);
+    if (c != null && isAttached(c)) {
+      return c;
+    }
+    c = m_rootCodeMap.get(id);
     if (c == null) {
       for (CODE childCode : m_rootCodeList) {
         c = (CODE) childCode.getChildCode(id);
@@ -390,19 +395,42 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
     return null;
   }
 
+  /**
+   * @return true if the given code is part of the code tree of this code type. Codes indexed by
+   *         {@link #rebuildCodeIndexMap()} may have been removed afterwards using the internal methods.
+   */
+  protected boolean isAttached(ICode<CODE_ID> code) {
+    ICode<CODE_ID> root = code;
+    while (root.getParentCode() != null) {
+      root = root.getParentCode();
+    }
+    return m_rootCodeMap.get(root.getId()) == root;
+  }
+
+  /**
+   * Rebuilds the index of all codes (including child codes) used by {@link #getCodeIndex(Object)} and
+   * {@link #getCode(Object)}.
+   */
+  @SuppressWarnings("unchecked")
   protected void rebuildCodeIndexMap() {
-    m_codeIndexMap = new HashMap<>();
+    Map<CODE_ID, Integer> codeIndexMap = new HashMap<>();
+    Map<CODE_ID, CODE> codeByIdMap = new HashMap<>();
     ICodeVisitor<ICode<CODE_ID>> v = new ICodeVisitor<ICode<CODE_ID>>() {
       private int m_index = 0;
 
       @Override
       public boolean visit(ICode<CODE_ID> code, int treeLevel) {
-        m_codeIndexMap.put(code.getId(), m_index);
+        codeIndexMap.put(code.getId(), m_index);
+        codeByIdMap.putIfAbsent(code.getId(), (CODE) code);
         m_index++;
         return true;
       }
     };
     visit(v, false);
+    // root codes take precedence over child codes with the same id
+    codeByIdMap.putAll(m_rootCodeMap);
+    m_codeIndexMap = codeIndexMap;
+    m_codeByIdMap = codeByIdMap;
   }
 
   @Override
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.scout.rt.platform.BEANS;
@@ -49,6 +50,14 @@ public final class CODES {
     return BEANS.get(ICodeService.class).getCode(type);
   }
 
+  /**
+   * @see ICodeService#getCodes(Class, Collection)
+   * @since 11
+   */
+  public static <CODE_ID> Map<CODE_ID, ICode<CODE_ID>> getCodes(Class<? extends ICodeType<?, CODE_ID>> type, Collection<? extends CODE_ID> ids) {
+    return BEANS.get(ICodeService.class).getCodes(type, ids);
+  }
+
   public static <T extends ICodeType> T reloadCodeType(Class<T> type) {
     return BEANS.get(ICodeService.class).reloadCodeType(type);
   }
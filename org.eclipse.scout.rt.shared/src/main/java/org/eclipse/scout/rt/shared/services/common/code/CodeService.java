@@ -14,11 +14,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.PostConstruct;
 
@@ -37,6 +40,9 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 
 /**
  * Common logic for the {@link ICodeService} implementations. Uses {@link ICache} for caching.
+ * <p>
+ * The classes of resolved code types are indexed by code type id, hence {@link #findCodeTypeById(Object)} does not
+ * iterate over all cached code types.
  *
  * @since 4.3.0 (Mars-M5)
  */
@@ -47,6 +53,7 @@ public class CodeService implements ICodeService {
   public static final String CODE_SERVICE_CACHE_ID = CodeService.class.getName();
 
   private volatile ICache<CodeTypeCacheKey, ICodeType<?, ?>> m_cache;
+  private final ConcurrentMap<Object, Class<? extends ICodeType<?, ?>>> m_codeTypeClassById = new ConcurrentHashMap<>();
 
   /**
    * Creates and initializes a new cache. Executed in {@link PostConstruct} to ensure that the cache created exactly
@@ -71,7 +78,9 @@ public class CodeService implements ICodeService {
   protected ICacheValueResolver<CodeTypeCacheKey, ICodeType<?, ?>> createCacheValueResolver() {
     return key -> {
       try {
-        return key.getCodeTypeClass().getConstructor().newInstance();
+        ICodeType<?, ?> codeType = key.getCodeTypeClass().getConstructor().newInstance();
+        indexCodeType(key.getCodeTypeClass(), codeType);
+        return codeType;
       }
       catch (ReflectiveOperationException e) {
         throw BEANS.get(PlatformExceptionTranslator.class)
@@ -120,12 +129,21 @@ public class CodeService implements ICodeService {
    */
   @SuppressWarnings("unchecked")
   protected <T> ICodeType<T, ?> findCodeTypeByIdInternal(T id) {
+    Class<? extends ICodeType<?, ?>> codeTypeClass = m_codeTypeClassById.get(id);
+    if (codeTypeClass != null) {
+      ICodeType<?, ?> ct = getCodeType(codeTypeClass);
+      if (ct != null && id.equals(ct.getId())) {
+        return (ICodeType<T, ?>) ct;
+      }
+    }
+
     Locale locale = NlsLocale.get();
     for (Entry<CodeTypeCacheKey, ICodeType<?, ?>> entry : getCache().getUnmodifiableMap().entrySet()) {
       CodeTypeCacheKey key = entry.getKey();
       if (ObjectUtility.equals(key.getLocale(), locale)) {
         ICodeType<?, ?> ct = entry.getValue();
         if (ct != null && id.equals(ct.getId())) {
+          indexCodeType(key.getCodeTypeClass(), ct);
           return (ICodeType<T, ?>) ct;
         }
       }
@@ -133,6 +151,26 @@ public class CodeService implements ICodeService {
     return null;
   }
 
+  /**
+   * Adds the given code type to the index used by {@link #findCodeTypeById(Object)}.
+   *
+   * @since 11
+   */
+  protected void indexCodeType(Class<? extends ICodeType<?, ?>> codeTypeClass, ICodeType<?, ?> codeType) {
+    if (codeTypeClass != null && codeType != null && codeType.getId() != null) {
+      m_codeTypeClassById.put(codeType.getId(), codeTypeClass);
+    }
+  }
+
+  /**
+   * Removes the given code type classes from the index used by {@link #findCodeTypeById(Object)}.
+   *
+   * @since 11
+   */
+  protected void unindexCodeTypes(Collection<? extends Class<?>> codeTypeClasses) {
+    m_codeTypeClassById.values().removeIf(codeTypeClasses::contains);
+  }
+
   @Override
   public List<ICodeType<?, ?>> getCodeTypes(List<Class<? extends ICodeType<?, ?>>> types) {
     List<ICodeType<?, ?>> result = new ArrayList<>();
@@ -223,6 +261,27 @@ public class CodeService implements ICodeService {
     return (T) codeHolder.getValue();
   }
 
+  @Override
+  public <CODE_ID> Map<CODE_ID, ICode<CODE_ID>> getCodes(Class<? extends ICodeType<?, CODE_ID>> type, Collection<? extends CODE_ID> ids) {
+    Map<CODE_ID, ICode<CODE_ID>> result = new LinkedHashMap<>();
+    if (type == null || CollectionUtility.isEmpty(ids)) {
+      return result;
+    }
+    ICodeType<?, CODE_ID> codeType = getCodeType(type);
+    if (codeType == null) {
+      return result;
+    }
+    for (CODE_ID id : ids) {
+      if (id != null && !result.containsKey(id)) {
+        ICode<CODE_ID> code = codeType.getCode(id);
+        if (code != null) {
+          result.put(id, code);
+        }
+      }
+    }
+    return result;
+  }
+
   @Override
   public <T extends ICodeType<?, ?>> T reloadCodeType(Class<T> type) {
     invalidateCodeType(type);
@@ -240,7 +299,9 @@ public class CodeService implements ICodeService {
     if (type == null) {
       return;
     }
-    getCache().invalidate(BEANS.get(CodeTypeCacheUtility.class).createEntryFilter(type), true);
+    CodeTypeCacheEntryFilter filter = BEANS.get(CodeTypeCacheUtility.class).createEntryFilter(type);
+    unindexCodeTypes(filter.getCodeTypeClasses());
+    getCache().invalidate(filter, true);
   }
 
   @Override
@@ -249,6 +310,7 @@ public class CodeService implements ICodeService {
     if (filter.getCodeTypeClasses().isEmpty()) {
       return;
     }
+    unindexCodeTypes(filter.getCodeTypeClasses());
     getCache().invalidate(filter, true);
   }
 
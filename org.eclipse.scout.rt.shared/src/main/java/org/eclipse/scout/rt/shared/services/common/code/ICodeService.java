@@ -38,6 +38,14 @@ public interface ICodeService extends IService {
 
   <CODE extends ICode<?>> CODE getCode(Class<CODE> type);
 
+  /**
+   * Bulk variant of {@link ICodeType#getCode(Object)}, e.g. to render all values of a table column.
+   *
+   * @return the codes of the given code type by id in the order of the given ids. Ids without a code are not contained.
+   * @since 11
+   */
+  <CODE_ID> Map<CODE_ID, ICode<CODE_ID>> getCodes(Class<? extends ICodeType<?, CODE_ID>> type, Collection<? extends CODE_ID> ids);
+
   /**
    * reload code type
    *
@@ -11,12 +11,16 @@
 package org.eclipse.scout.rt.shared.servicetunnel;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.IThrowableWithContextInfo;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.shared.INode;
 import org.eclipse.scout.rt.shared.ISession;
@@ -37,6 +41,11 @@ public abstract class AbstractServiceTunnel implements IServiceTunnel {
     LOG.debug("{}.{}({})", serviceInterfaceClass, operation, callerArgs);
     ServiceTunnelRequest request = createRequest(serviceInterfaceClass, operation, callerArgs);
     interceptRequest(request);
+    ServiceTunnelBatch batch = ServiceTunnelBatch.CURRENT.get();
+    if (batch != null) {
+      // the response is available if the request was sent in a previous round of the batch
+      return processResponse(request, batch.collect(this, request));
+    }
     return invokeService(request);
   }
 
@@ -48,6 +57,47 @@ public abstract class AbstractServiceTunnel implements IServiceTunnel {
     ServiceTunnelResponse response = tunnel(request);
     afterTunnel(t0, response);
 
+    return processResponse(request, response);
+  }
+
+  /**
+   * Sends the given requests in one round trip (see {@link ServiceTunnelBatchRequest}).
+   *
+   * @param requests
+   *          requests created by {@link #createRequest(Class, Method, Object[])} and intercepted by
+   *          {@link #interceptRequest(ServiceTunnelRequest)}
+   * @param parallel
+   *          true if the server may execute the requests in parallel
+   * @return the responses in the order of the requests. If the round trip itself fails, the response of each request
+   *         contains the exception.
+   * @since 11
+   */
+  public List<ServiceTunnelResponse> invokeServices(List<ServiceTunnelRequest> requests, boolean parallel) {
+    final long t0 = System.nanoTime();
+
+    ServiceTunnelBatchRequest batchRequest = new ServiceTunnelBatchRequest(requests, parallel);
+    interceptRequest(batchRequest);
+    checkAlreadyCancelled(batchRequest);
+    beforeTunnel(batchRequest);
+    ServiceTunnelResponse response = tunnel(batchRequest);
+    afterTunnel(t0, response);
+
+    if (response.getException() == null && response.getData() instanceof ServiceTunnelResponse[]) {
+      ServiceTunnelResponse[] responses = (ServiceTunnelResponse[]) response.getData();
+      if (responses.length == requests.size()) {
+        return Arrays.asList(responses);
+      }
+    }
+    Throwable t = response.getException() != null ? response.getException() : new ProcessingException("Unexpected response to {}", batchRequest);
+    return Collections.nCopies(requests.size(), new ServiceTunnelResponse(t));
+  }
+
+  /**
+   * @return the data of the given response
+   * @throws RuntimeException
+   *           if the response contains an exception
+   */
+  protected Object processResponse(ServiceTunnelRequest request, ServiceTunnelResponse response) {
     // Exception handling
     Throwable t = response.getException();
     if (t != null) {
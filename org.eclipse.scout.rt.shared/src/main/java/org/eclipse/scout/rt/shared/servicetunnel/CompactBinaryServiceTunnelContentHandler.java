@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.serialization.IObjectReplacer;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CompactServiceTunnelCodecProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.compact.CompactBufferPool;
+import org.eclipse.scout.rt.shared.servicetunnel.compact.CompactClassSerializer;
+import org.eclipse.scout.rt.shared.servicetunnel.compact.CompactObjectInput;
+import org.eclipse.scout.rt.shared.servicetunnel.compact.CompactObjectOutput;
+import org.eclipse.scout.rt.shared.servicetunnel.compact.CompactTypeRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client-server communication using the compact binary format of {@link CompactObjectOutput} with optional
+ * compression.
+ * <p>
+ * Compared to {@link BinaryServiceTunnelContentHandler} no class descriptors and field names are transferred, the
+ * per-class serializers are computed once (see {@link CompactClassSerializer}) and strings as well as class names are
+ * only written once per message. Objects of classes with custom java serialization are still written with the
+ * {@link #getObjectSerializer() object serializer} (including its blacklist and whitelist).
+ * <p>
+ * The server accepts both formats and answers in the format of the request (see the content type). Clients use this
+ * handler if {@link CompactServiceTunnelCodecProperty} is enabled. Client and server must use the same
+ * {@link #createTypeRegistry() type registry}.
+ *
+ * @since 11
+ */
+@Order(5050)
+public class CompactBinaryServiceTunnelContentHandler extends AbstractServiceTunnelContentHandler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CompactBinaryServiceTunnelContentHandler.class);
+  private static final String CONTENT_TYPE = "application/x-scout-compact";
+  private static final CompactBufferPool BUFFER_POOL = new CompactBufferPool();
+
+  private CompactTypeRegistry m_typeRegistry;
+  private IObjectReplacer m_objectReplacer;
+  private Boolean m_receivedCompressed;
+
+  @Override
+  public void initialize() {
+    super.initialize();
+    m_objectReplacer = createObjectReplacer();
+    m_typeRegistry = createTypeRegistry();
+  }
+
+  /**
+   * @return the replacer applied to all objects (see {@link #createObjectSerializer()})
+   */
+  protected IObjectReplacer createObjectReplacer() {
+    return new ServiceTunnelObjectReplacer();
+  }
+
+  /**
+   * @return the registry of classes referenced by id. Subclasses may add frequently transferred classes, the list must
+   *         be the same on client and server.
+   */
+  protected CompactTypeRegistry createTypeRegistry() {
+    return new CompactTypeRegistry(getRegisteredClasses());
+  }
+
+  protected List<Class<?>> getRegisteredClasses() {
+    return Arrays.asList(ServiceTunnelRequest.class, ServiceTunnelResponse.class, StaticDate.class, ServiceTunnelBatchRequest.class, ServiceTunnelResponse[].class);
+  }
+
+  protected CompactTypeRegistry getTypeRegistry() {
+    return m_typeRegistry;
+  }
+
+  protected CompactBufferPool getBufferPool() {
+    return BUFFER_POOL;
+  }
+
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void writeRequest(OutputStream out, ServiceTunnelRequest msg) throws IOException {
+    writeData(out, msg);
+  }
+
+  @Override
+  public ServiceTunnelRequest readRequest(InputStream in) throws IOException, ClassNotFoundException {
+    return readData(in, ServiceTunnelRequest.class);
+  }
+
+  @Override
+  public void writeResponse(OutputStream out, ServiceTunnelResponse msg) throws IOException {
+    writeData(out, msg);
+  }
+
+  @Override
+  public ServiceTunnelResponse readResponse(InputStream in) throws IOException, ClassNotFoundException {
+    return readData(in, ServiceTunnelResponse.class);
+  }
+
+  private void writeData(OutputStream out, Object msg) throws IOException {
+    Deflater deflater = null;
+    boolean compressed = isUseCompression();
+    try {
+      // signal compression
+      out.write(compressed ? 1 : 0);
+      if (compressed) {
+        deflater = new Deflater(Deflater.BEST_SPEED);
+        out = new DeflaterOutputStream(out, deflater);
+      }
+      try (CompactObjectOutput compactOut = new CompactObjectOutput(out, m_typeRegistry, getObjectSerializer(), m_objectReplacer, getBufferPool())) {
+        compactOut.writeObject(msg);
+      }
+      if (compressed) {
+        ((DeflaterOutputStream) out).finish();
+      }
+    }
+    catch (NotSerializableException e) {
+      LOG.error("Error serializing data '{}'", msg);
+      throw e;
+    }
+    finally {
+      if (deflater != null) {
+        try {
+          deflater.end();
+        }
+        catch (Throwable fatal) { // NOSONAR
+        }
+      }
+    }
+  }
+
+  private <T> T readData(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
+    Inflater inflater = null;
+    try {
+      // read compressed flag
+      boolean compressed = in.read() == 1;
+      m_receivedCompressed = compressed;
+      if (compressed) {
+        inflater = new Inflater();
+        in = new InflaterInputStream(in, inflater);
+      }
+      Object o;
+      try (CompactObjectInput compactIn = new CompactObjectInput(in, m_typeRegistry, getObjectSerializer(), m_objectReplacer, getBufferPool())) {
+        o = compactIn.readObject();
+      }
+      if (!clazz.isInstance(o)) {
+        throw new IOException("deserialized object has unexpected type: expected '" + clazz + "', actual '" + (o == null ? null : o.getClass()) + "'.");
+      }
+      return clazz.cast(o);
+    }
+    finally {
+      if (inflater != null) {
+        try {
+          inflater.end();
+        }
+        catch (Throwable fatal) { // NOSONAR
+        }
+      }
+    }
+  }
+
+  protected boolean isUseCompression() {
+    if (isSendCompressed() != null) {
+      return isSendCompressed();
+    }
+    if (m_receivedCompressed != null) {
+      return m_receivedCompressed;
+    }
+    return true;
+  }
+}
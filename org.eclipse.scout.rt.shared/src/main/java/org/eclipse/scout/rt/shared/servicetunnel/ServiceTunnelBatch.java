@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+
+/**
+ * Runs blocks of code and sends the remote service calls of all blocks in as few round trips as possible.
+ * <p>
+ * Example: load code types and lookup rows of a form with one HTTP request instead of one per service call
+ *
+ * <pre>
+ * BEANS.get(ServiceTunnelBatch.class).run(
+ *     () -&gt; m_companyTypes = BEANS.get(ICompanyService.class).getCompanyTypes(),
+ *     () -&gt; m_countries = BEANS.get(ICountryService.class).getCountries(),
+ *     () -&gt; m_permissions = BEANS.get(IAccessControlService.class).getPermissions());
+ * </pre>
+ * <p>
+ * The blocks are executed in rounds on the calling thread. Within a round, each block runs until it invokes a remote
+ * service whose response is not yet known; that request is collected and the block is aborted. Then all collected
+ * requests are sent in one {@link ServiceTunnelBatchRequest} and the aborted blocks are executed again, this time
+ * receiving the known responses in the order of their calls. A block which invokes n remote services (one after the
+ * other) is therefore executed n + 1 times, but the number of round trips is the maximum number of calls of a single
+ * block instead of the total number of calls.
+ * <p>
+ * Hence blocks must not have any side effects except for the remote service calls and must invoke the same services
+ * in the same order when executed again. Blocks are meant for loading data (e.g. lookups, code types, permissions).
+ * Remote service calls made by other threads (e.g. jobs scheduled by a block) are not collected. If a batch is run
+ * within a block of another batch, its blocks are executed directly and their calls are collected by the outer batch.
+ * <p>
+ * The server must support {@link ServiceTunnelBatchRequest}s (Scout 11 or newer).
+ *
+ * @since 11
+ */
+@Bean
+public class ServiceTunnelBatch {
+
+  /**
+   * The batch collecting the remote service calls of the current thread.
+   */
+  static final ThreadLocal<ServiceTunnelBatch> CURRENT = new ThreadLocal<>();
+
+  private boolean m_parallelExecution;
+  private P_Block m_currentBlock;
+
+  /**
+   * @param parallelExecution
+   *          true if the server may execute the requests of a round in parallel, false to execute them in the order of
+   *          the blocks (default).
+   */
+  public ServiceTunnelBatch withParallelExecution(boolean parallelExecution) {
+    m_parallelExecution = parallelExecution;
+    return this;
+  }
+
+  public boolean isParallelExecution() {
+    return m_parallelExecution;
+  }
+
+  /**
+   * Runs the given blocks. If blocks fail, the exception of the first failed block is thrown after all blocks were
+   * executed.
+   */
+  public void run(IRunnable... blocks) {
+    List<Callable<Object>> callables = new ArrayList<>(blocks.length);
+    for (IRunnable block : blocks) {
+      callables.add(() -> {
+        block.run();
+        return null;
+      });
+    }
+    call(callables);
+  }
+
+  /**
+   * Runs the given blocks. If blocks fail, the exception of the first failed block is thrown after all blocks were
+   * executed.
+   *
+   * @return the results of the blocks in the order of the blocks
+   */
+  public <T> List<T> call(List<? extends Callable<? extends T>> blocks) {
+    List<P_Block> allBlocks = new ArrayList<>(blocks.size());
+    for (Callable<? extends T> block : blocks) {
+      allBlocks.add(new P_Block(block));
+    }
+
+    if (CURRENT.get() != null) {
+      // nested batch: calls are collected by the outer batch
+      for (P_Block block : allBlocks) {
+        executeDirectly(block);
+      }
+    }
+    else {
+      List<P_Block> pendingBlocks = allBlocks;
+      while (!pendingBlocks.isEmpty()) {
+        List<P_Block> waitingBlocks = new ArrayList<>();
+        for (P_Block block : pendingBlocks) {
+          if (!execute(block)) {
+            waitingBlocks.add(block);
+          }
+        }
+        if (!waitingBlocks.isEmpty()) {
+          sendCollectedRequests(waitingBlocks);
+        }
+        pendingBlocks = waitingBlocks;
+      }
+    }
+
+    List<T> results = new ArrayList<>(allBlocks.size());
+    for (P_Block block : allBlocks) {
+      if (block.m_exception != null) {
+        throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(block.m_exception);
+      }
+      @SuppressWarnings("unchecked")
+      T result = (T) block.m_result;
+      results.add(result);
+    }
+    return results;
+  }
+
+  /**
+   * @return true if the block completed, false if it was aborted because a remote service call was collected
+   */
+  protected boolean execute(P_Block block) {
+    block.m_callIndex = 0;
+    block.m_collectedRequest = null;
+    block.m_collectedTunnel = null;
+    m_currentBlock = block;
+    CURRENT.set(this);
+    try {
+      executeDirectly(block);
+    }
+    finally {
+      CURRENT.remove();
+      m_currentBlock = null;
+    }
+    // the result of a block which swallowed the abort signal is ignored
+    return block.m_collectedRequest == null;
+  }
+
+  protected void executeDirectly(P_Block block) {
+    try {
+      block.m_result = block.m_callable.call();
+      block.m_exception = null;
+    }
+    catch (Exception | Error e) { // NOSONAR
+      block.m_result = null;
+      block.m_exception = e;
+    }
+  }
+
+  /**
+   * Sends the requests collected in the current round, one round trip per service tunnel.
+   */
+  protected void sendCollectedRequests(List<P_Block> blocks) {
+    Map<AbstractServiceTunnel, List<P_Block>> blocksByTunnel = new LinkedHashMap<>();
+    for (P_Block block : blocks) {
+      blocksByTunnel.computeIfAbsent(block.m_collectedTunnel, k -> new ArrayList<>()).add(block);
+    }
+    for (Entry<AbstractServiceTunnel, List<P_Block>> entry : blocksByTunnel.entrySet()) {
+      List<P_Block> tunnelBlocks = entry.getValue();
+      List<ServiceTunnelRequest> requests = new ArrayList<>(tunnelBlocks.size());
+      for (P_Block block : tunnelBlocks) {
+        requests.add(block.m_collectedRequest);
+      }
+      List<ServiceTunnelResponse> responses = entry.getKey().invokeServices(requests, isParallelExecution());
+      for (int i = 0; i < tunnelBlocks.size(); i++) {
+        P_Block block = tunnelBlocks.get(i);
+        block.m_requests.add(block.m_collectedRequest);
+        block.m_responses.add(responses.get(i));
+      }
+    }
+  }
+
+  /**
+   * Invoked by {@link AbstractServiceTunnel} for each remote service call of the current block.
+   *
+   * @return the response received in a previous round
+   */
+  ServiceTunnelResponse collect(AbstractServiceTunnel tunnel, ServiceTunnelRequest request) {
+    P_Block block = m_currentBlock;
+    if (block.m_collectedRequest != null) {
+      // the block caught the abort signal and continued
+      throw P_AbortSignal.INSTANCE;
+    }
+    int index = block.m_callIndex++;
+    if (index < block.m_responses.size()) {
+      ServiceTunnelRequest previousRequest = block.m_requests.get(index);
+      if (!previousRequest.getServiceInterfaceClassName().equals(request.getServiceInterfaceClassName()) || !previousRequest.getOperation().equals(request.getOperation())) {
+        throw new ProcessingException("Block of service tunnel batch is not deterministic: call {} was {}.{} but is now {}.{}", index,
+            previousRequest.getServiceInterfaceClassName(), previousRequest.getOperation(), request.getServiceInterfaceClassName(), request.getOperation());
+      }
+      return block.m_responses.get(index);
+    }
+    block.m_collectedRequest = request;
+    block.m_collectedTunnel = tunnel;
+    throw P_AbortSignal.INSTANCE;
+  }
+
+  protected static class P_Block {
+    private final Callable<?> m_callable;
+    private final List<ServiceTunnelRequest> m_requests = new ArrayList<>();
+    private final List<ServiceTunnelResponse> m_responses = new ArrayList<>();
+    private int m_callIndex;
+    private ServiceTunnelRequest m_collectedRequest;
+    private AbstractServiceTunnel m_collectedTunnel;
+    private Object m_result;
+    private Throwable m_exception;
+
+    protected P_Block(Callable<?> callable) {
+      m_callable = callable;
+    }
+  }
+
+  /**
+   * Aborts the current block after a remote service call was collected.
+   */
+  private static final class P_AbortSignal extends Error {
+    private static final long serialVersionUID = 1L;
+    private static final P_AbortSignal INSTANCE = new P_AbortSignal();
+
+    private P_AbortSignal() {
+      super("remote service call collected by service tunnel batch", null, false, false);
+    }
+  }
+}
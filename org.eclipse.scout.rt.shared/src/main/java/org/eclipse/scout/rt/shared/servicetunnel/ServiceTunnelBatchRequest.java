@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Envelope transferring several {@link ServiceTunnelRequest}s in one round trip.
+ * <p>
+ * The server executes the requests within the session of this envelope, either in the given order or in parallel, and
+ * answers with a {@link ServiceTunnelResponse} whose data is an array containing the response to each request in the
+ * same order.
+ *
+ * @see ServiceTunnelBatch
+ * @since 11
+ */
+public class ServiceTunnelBatchRequest extends ServiceTunnelRequest {
+  private static final long serialVersionUID = 1L;
+
+  public static final String OPERATION = "invokeBatch";
+
+  private final ArrayList<ServiceTunnelRequest> m_requests;
+  private final boolean m_parallel;
+
+  /**
+   * Used by {@link CompactBinaryServiceTunnelContentHandler} to create the instance before its fields are read.
+   *
+   * @since 11
+   */
+  private ServiceTunnelBatchRequest() {
+    m_requests = null;
+    m_parallel = false;
+  }
+
+  public ServiceTunnelBatchRequest(List<ServiceTunnelRequest> requests, boolean parallel) {
+    super(ServiceTunnelBatchRequest.class.getName(), OPERATION, new Class[0], null);
+    m_requests = new ArrayList<>(requests);
+    m_parallel = parallel;
+  }
+
+  public List<ServiceTunnelRequest> getRequests() {
+    return m_requests;
+  }
+
+  /**
+   * @return true if the server may execute the requests in parallel, false to execute them one after the other in the
+   *         given order
+   */
+  public boolean isParallel() {
+    return m_parallel;
+  }
+
+  @Override
+  public String toString() {
+    return "Remote batch call [requestSequence='" + getRequestSequence() + "', sessionId='" + getSessionId() + "', requests=" + m_requests.size() + ", parallel=" + m_parallel + "]";
+  }
+}
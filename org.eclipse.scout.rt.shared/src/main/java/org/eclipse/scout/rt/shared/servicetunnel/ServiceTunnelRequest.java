@@ -37,6 +37,19 @@ public class ServiceTunnelRequest implements Serializable {
   private String m_userAgent;
   private String m_clientNodeId;
 
+  /**
+   * Used by {@link CompactBinaryServiceTunnelContentHandler} to create the instance before its fields are read.
+   *
+   * @since 11
+   */
+  protected ServiceTunnelRequest() {
+    m_serviceInterfaceClassName = null;
+    m_operation = null;
+    m_parameterTypes = null;
+    m_args = null;
+    m_locale = null;
+  }
+
   public ServiceTunnelRequest(String serviceInterfaceName, String op, Class[] parameterTypes, Object[] args) {
     m_serviceInterfaceClassName = serviceInterfaceName;
     m_operation = op;
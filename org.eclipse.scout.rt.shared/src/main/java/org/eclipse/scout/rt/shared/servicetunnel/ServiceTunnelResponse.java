@@ -26,6 +26,15 @@ public class ServiceTunnelResponse implements Serializable {
 
   private List<ClientNotificationMessage> m_notifications;
 
+  /**
+   * Used by {@link CompactBinaryServiceTunnelContentHandler} to create the instance before its fields are read.
+   *
+   * @since 11
+   */
+  private ServiceTunnelResponse() {
+    this(null, null);
+  }
+
   public ServiceTunnelResponse(Throwable t) {
     this(null, t);
   }
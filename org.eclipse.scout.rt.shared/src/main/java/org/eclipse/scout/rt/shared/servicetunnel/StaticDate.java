@@ -25,6 +25,15 @@ public class StaticDate implements Serializable {
 
   private final long m_textAsLong;
 
+  /**
+   * Used by {@link CompactBinaryServiceTunnelContentHandler} to create the instance before its fields are read.
+   *
+   * @since 11
+   */
+  private StaticDate() {
+    m_textAsLong = 0;
+  }
+
   public StaticDate(Date d) {
     Calendar cal = new GregorianCalendar();
     cal.setTime(d);
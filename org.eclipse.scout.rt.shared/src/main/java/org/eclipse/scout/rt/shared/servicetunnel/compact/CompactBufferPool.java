@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.compact;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded pool of equally sized byte buffers used by {@link CompactObjectOutput} and {@link CompactObjectInput}.
+ * <p>
+ * Buffers are only pooled up to the maximum number of idle buffers, surplus buffers are left to the garbage collector.
+ *
+ * @since 11
+ */
+public class CompactBufferPool {
+
+  public static final int DEFAULT_BUFFER_SIZE = 16 * 1024;
+  public static final int DEFAULT_MAX_IDLE_BUFFERS = 64;
+
+  private final int m_bufferSize;
+  private final BlockingQueue<byte[]> m_idleBuffers;
+
+  public CompactBufferPool() {
+    this(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_IDLE_BUFFERS);
+  }
+
+  public CompactBufferPool(int bufferSize, int maxIdleBuffers) {
+    if (bufferSize < 64) {
+      throw new IllegalArgumentException("bufferSize must be at least 64");
+    }
+    m_bufferSize = bufferSize;
+    m_idleBuffers = new ArrayBlockingQueue<>(Math.max(1, maxIdleBuffers));
+  }
+
+  public int getBufferSize() {
+    return m_bufferSize;
+  }
+
+  /**
+   * @return a pooled or a new buffer of size {@link #getBufferSize()}
+   */
+  public byte[] acquire() {
+    byte[] buffer = m_idleBuffers.poll();
+    return buffer != null ? buffer : new byte[m_bufferSize];
+  }
+
+  /**
+   * Returns the given buffer to the pool. The buffer must not be used by the caller afterwards.
+   */
+  public void release(byte[] buffer) {
+    if (buffer != null && buffer.length == m_bufferSize) {
+      m_idleBuffers.offer(buffer);
+    }
+  }
+
+  public int getIdleBufferCount() {
+    return m_idleBuffers.size();
+  }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.compact;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Precomputed serializer of one class used by {@link CompactObjectOutput} and {@link CompactObjectInput}.
+ * <p>
+ * The serializable state of a class is the same as for java serialization: all non-static, non-transient fields of all
+ * {@link Serializable} classes of the hierarchy. The fields are encoded in a fixed order (super classes first, within a
+ * class sorted by name) without any field names. Primitive fields are encoded without boxing.
+ * <p>
+ * Classes which customize java serialization by a <code>writeObject</code> method, by
+ * <code>serialPersistentFields</code> or by implementing {@link Externalizable} cannot be encoded field by field. They
+ * are encoded using java serialization instead (see {@link #isJavaSerialized()}). The same applies to classes whose
+ * fields are not accessible (e.g. JDK internal classes) and to classes without a no-arg constructor (it may be
+ * private). A <code>readObject</code> method without a corresponding <code>writeObject</code> method is supported as
+ * long as it only calls {@link ObjectInputStream#defaultReadObject()} (typically followed by a validation).
+ * <code>writeReplace</code> and <code>readResolve</code> methods are invoked like in java serialization.
+ *
+ * @since 11
+ */
+public final class CompactClassSerializer {
+
+  static final byte KIND_REFERENCE = 0;
+  static final byte KIND_BOOLEAN = 1;
+  static final byte KIND_BYTE = 2;
+  static final byte KIND_CHAR = 3;
+  static final byte KIND_SHORT = 4;
+  static final byte KIND_INT = 5;
+  static final byte KIND_LONG = 6;
+  static final byte KIND_FLOAT = 7;
+  static final byte KIND_DOUBLE = 8;
+
+  private static final ClassValue<CompactClassSerializer> SERIALIZERS = new ClassValue<CompactClassSerializer>() {
+    @Override
+    protected CompactClassSerializer computeValue(Class<?> type) {
+      return new CompactClassSerializer(type);
+    }
+  };
+
+  private final Class<?> m_type;
+  private final boolean m_serializable;
+  private final boolean m_javaSerialized;
+  private final Field[] m_fields;
+  private final byte[] m_kinds;
+  private final Method[] m_readObjectMethods;
+  private final Method m_writeReplaceMethod;
+  private final Method m_readResolveMethod;
+  private final Constructor<?> m_constructor;
+  private final int m_fingerprint;
+
+  public static CompactClassSerializer get(Class<?> type) {
+    return SERIALIZERS.get(type);
+  }
+
+  private CompactClassSerializer(Class<?> type) {
+    m_type = type;
+    m_serializable = Serializable.class.isAssignableFrom(type) && !type.isInterface();
+    m_writeReplaceMethod = m_serializable ? findInheritableMethod(type, "writeReplace") : null;
+    m_readResolveMethod = m_serializable ? findInheritableMethod(type, "readResolve") : null;
+
+    List<Field> fields = new ArrayList<>();
+    List<Method> readObjectMethods = new ArrayList<>();
+    boolean javaSerialized = !m_serializable || !isFieldSerializable(type);
+    if (!javaSerialized) {
+      List<Class<?>> hierarchy = new ArrayList<>();
+      for (Class<?> c = type; c != null && Serializable.class.isAssignableFrom(c); c = c.getSuperclass()) {
+        hierarchy.add(0, c);
+      }
+      for (Class<?> c : hierarchy) {
+        if (!isFieldSerializable(c)) {
+          javaSerialized = true;
+          break;
+        }
+        List<Field> declaredFields = new ArrayList<>();
+        for (Field f : c.getDeclaredFields()) {
+          if (!Modifier.isStatic(f.getModifiers()) && !Modifier.isTransient(f.getModifiers())) {
+            declaredFields.add(f);
+          }
+        }
+        declaredFields.sort(Comparator.comparing(Field::getName));
+        fields.addAll(declaredFields);
+        Method readObject = findPrivateMethod(c, "readObject", ObjectInputStream.class);
+        if (readObject != null) {
+          readObjectMethods.add(readObject);
+        }
+      }
+    }
+
+    Constructor<?> constructor = null;
+    if (!javaSerialized) {
+      try {
+        for (Field f : fields) {
+          f.setAccessible(true);
+        }
+        constructor = createSerializationConstructor(type);
+      }
+      catch (RuntimeException | ReflectiveOperationException e) { // NOSONAR
+        // e.g. fields of a module which is not open
+        javaSerialized = true;
+      }
+    }
+
+    m_javaSerialized = javaSerialized;
+    m_fields = javaSerialized ? new Field[0] : fields.toArray(new Field[0]);
+    m_readObjectMethods = javaSerialized ? new Method[0] : readObjectMethods.toArray(new Method[0]);
+    m_constructor = constructor;
+    m_kinds = new byte[m_fields.length];
+    int fingerprint = type.getName().hashCode();
+    for (int i = 0; i < m_fields.length; i++) {
+      m_kinds[i] = kindOf(m_fields[i].getType());
+      fingerprint = 31 * fingerprint + m_fields[i].getName().hashCode();
+      fingerprint = 31 * fingerprint + m_fields[i].getType().getName().hashCode();
+    }
+    m_fingerprint = fingerprint;
+  }
+
+  private static boolean isFieldSerializable(Class<?> c) {
+    if (Externalizable.class.isAssignableFrom(c) || Proxy.isProxyClass(c) || c.isSynthetic() || c.isEnum() || c.isArray()) {
+      return false;
+    }
+    if (findPrivateMethod(c, "writeObject", ObjectOutputStream.class) != null || findPrivateMethod(c, "readObjectNoData") != null) {
+      return false;
+    }
+    try {
+      c.getDeclaredField("serialPersistentFields");
+      return false;
+    }
+    catch (NoSuchFieldException e) { // NOSONAR
+      // regular class
+    }
+    Module module = c.getModule();
+    return !module.isNamed() || module.isOpen(c.getPackageName(), CompactClassSerializer.class.getModule());
+  }
+
+  private static byte kindOf(Class<?> type) {
+    if (!type.isPrimitive()) {
+      return KIND_REFERENCE;
+    }
+    if (type == boolean.class) {
+      return KIND_BOOLEAN;
+    }
+    if (type == byte.class) {
+      return KIND_BYTE;
+    }
+    if (type == char.class) {
+      return KIND_CHAR;
+    }
+    if (type == short.class) {
+      return KIND_SHORT;
+    }
+    if (type == int.class) {
+      return KIND_INT;
+    }
+    if (type == long.class) {
+      return KIND_LONG;
+    }
+    if (type == float.class) {
+      return KIND_FLOAT;
+    }
+    return KIND_DOUBLE;
+  }
+
+  private static Method findPrivateMethod(Class<?> c, String name, Class<?>... parameterTypes) {
+    try {
+      Method m = c.getDeclaredMethod(name, parameterTypes);
+      if (Modifier.isPrivate(m.getModifiers()) && !Modifier.isStatic(m.getModifiers())) {
+        return m;
+      }
+    }
+    catch (NoSuchMethodException e) { // NOSONAR
+      // not declared
+    }
+    return null;
+  }
+
+  /**
+   * Same lookup rules as java serialization for <code>writeReplace</code> and <code>readResolve</code>.
+   */
+  private static Method findInheritableMethod(Class<?> type, String name) {
+    for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+      try {
+        Method m = c.getDeclaredMethod(name);
+        int mods = m.getModifiers();
+        if (Modifier.isStatic(mods) || Modifier.isAbstract(mods) || m.getReturnType() != Object.class) {
+          return null;
+        }
+        if (c != type && (Modifier.isPrivate(mods) || (!Modifier.isPublic(mods) && !Modifier.isProtected(mods) && c.getPackage() != type.getPackage()))) {
+          return null;
+        }
+        m.setAccessible(true);
+        return m;
+      }
+      catch (NoSuchMethodException e) { // NOSONAR
+        // continue with super class
+      }
+      catch (RuntimeException e) { // NOSONAR
+        // not accessible (e.g. module is not open)
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Unlike java serialization, instances are created by invoking the no-arg constructor of the class itself. Field
+   * initializers and the constructor therefore run before the fields are read (transient fields keep their initial
+   * values). Classes without a no-arg constructor are encoded using java serialization.
+   */
+  private static Constructor<?> createSerializationConstructor(Class<?> type) throws NoSuchMethodException {
+    if (Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+    Constructor<?> constructor = type.getDeclaredConstructor();
+    constructor.setAccessible(true);
+    return constructor;
+  }
+
+  public Class<?> getType() {
+    return m_type;
+  }
+
+  public boolean isSerializable() {
+    return m_serializable;
+  }
+
+  /**
+   * @return true if instances are encoded using java serialization instead of field by field
+   */
+  public boolean isJavaSerialized() {
+    return m_javaSerialized;
+  }
+
+  /**
+   * Hash of the class name and the name and type of all encoded fields. Used to detect incompatible class versions on
+   * both sides of a stream.
+   */
+  public int getFingerprint() {
+    return m_fingerprint;
+  }
+
+  Field[] fields() {
+    return m_fields;
+  }
+
+  byte[] kinds() {
+    return m_kinds;
+  }
+
+  boolean hasWriteReplace() {
+    return m_writeReplaceMethod != null;
+  }
+
+  Object invokeWriteReplace(Object o) throws IOException {
+    return invoke(m_writeReplaceMethod, o);
+  }
+
+  boolean hasReadResolve() {
+    return m_readResolveMethod != null;
+  }
+
+  Object invokeReadResolve(Object o) throws IOException {
+    return invoke(m_readResolveMethod, o);
+  }
+
+  boolean hasReadObjectMethods() {
+    return m_readObjectMethods.length > 0;
+  }
+
+  /**
+   * Invokes the <code>readObject</code> methods of the hierarchy (super classes first) after all fields were set.
+   */
+  void invokeReadObjectMethods(Object o, ObjectInputStream fieldsAlreadyReadStream) throws IOException {
+    for (Method m : m_readObjectMethods) {
+      invoke(m, o, fieldsAlreadyReadStream);
+    }
+  }
+
+  Object newInstance() throws IOException {
+    if (m_constructor == null) {
+      throw new InvalidClassException(m_type.getName(), "no valid constructor");
+    }
+    try {
+      return m_constructor.newInstance();
+    }
+    catch (InvocationTargetException e) {
+      throw new InvalidClassException(m_type.getName(), "constructor failed: " + e.getCause());
+    }
+    catch (ReflectiveOperationException e) {
+      throw new InvalidClassException(m_type.getName(), "constructor not accessible: " + e);
+    }
+  }
+
+  private static Object invoke(Method m, Object target, Object... args) throws IOException {
+    try {
+      if (!m.canAccess(target)) {
+        m.setAccessible(true);
+      }
+      return m.invoke(target, args);
+    }
+    catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof ObjectStreamException) {
+        throw (ObjectStreamException) cause;
+      }
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause);
+    }
+    catch (IllegalAccessException e) {
+      throw new InvalidClassException(target.getClass().getName(), "method " + m.getName() + " not accessible");
+    }
+  }
+}
@@ -0,0 +1,672 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.compact;
+
+import static org.eclipse.scout.rt.shared.servicetunnel.compact.CompactObjectOutput.*;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotActiveException;
+import java.io.ObjectInputStream;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.serialization.IObjectReplacer;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+
+/**
+ * Reads an object graph written by {@link CompactObjectOutput}.
+ * <p>
+ * Like the {@link ObjectInputStream} created by {@link IObjectSerializer#createObjectInputStream(InputStream)}, every
+ * class name read from the stream is checked against the blacklist and the whitelist of the given serializer before the
+ * class is loaded. Only {@link java.io.Serializable} classes are instantiated.
+ * <p>
+ * Instances are not thread safe and read exactly one object graph.
+ *
+ * @since 11
+ */
+public class CompactObjectInput implements Closeable {
+
+  /**
+   * Arrays and strings up to this length are allocated with their final length before their elements are read. Longer
+   * ones grow while their elements are read, so that a corrupt or malicious length cannot allocate more memory than the
+   * input provides.
+   */
+  public static final int MAX_PREALLOCATED_LENGTH = 1 << 16;
+
+  /**
+   * Handle of an array longer than {@link #MAX_PREALLOCATED_LENGTH} while its elements are read.
+   */
+  private static final Object INCOMPLETE_ARRAY = new Object();
+
+  private final InputStream m_in;
+  private final CompactTypeRegistry m_registry;
+  private final IObjectSerializer m_javaSerializer;
+  private final IObjectReplacer m_objectReplacer;
+  private final CompactBufferPool m_bufferPool;
+  private final List<String> m_strings = new ArrayList<>();
+  private final List<Class<?>> m_classes = new ArrayList<>();
+  private final List<Object> m_handles = new ArrayList<>();
+  private byte[] m_buffer;
+  private int m_position;
+  private int m_limit;
+  private boolean m_headerRead;
+  private P_FieldsReadObjectInputStream m_readObjectStream;
+
+  /**
+   * @param in
+   *          the stream to read from. It is not closed by {@link #close()}.
+   * @param registry
+   *          registry of well-known classes, must be equal to the one used by the writer
+   * @param javaSerializer
+   *          serializer providing the blacklist and whitelist and used for objects written with java serialization
+   * @param objectReplacer
+   *          optional replacer applied to every object read (except to objects read with java serialization, which are
+   *          already resolved by the object input stream of the java serializer)
+   * @param bufferPool
+   *          pool providing the read buffer
+   */
+  public CompactObjectInput(InputStream in, CompactTypeRegistry registry, IObjectSerializer javaSerializer, IObjectReplacer objectReplacer, CompactBufferPool bufferPool) {
+    m_in = in;
+    m_registry = registry;
+    m_javaSerializer = javaSerializer;
+    m_objectReplacer = objectReplacer;
+    m_bufferPool = bufferPool;
+    m_buffer = bufferPool.acquire();
+  }
+
+  public Object readObject() throws IOException, ClassNotFoundException {
+    if (m_buffer == null) {
+      throw new IOException("Stream closed");
+    }
+    if (!m_headerRead) {
+      if (readUnsignedByte() != MAGIC || readUnsignedByte() != VERSION) {
+        throw new StreamCorruptedException("Not a compact stream or unsupported version");
+      }
+      if (readFixedInt() != m_registry.getFingerprint()) {
+        throw new InvalidClassException("Type registry of the writer does not match the local type registry");
+      }
+      m_headerRead = true;
+    }
+    return readValue();
+  }
+
+  /**
+   * Returns the buffer to the pool. The underlying stream is not closed.
+   */
+  @Override
+  public void close() {
+    if (m_buffer != null) {
+      m_bufferPool.release(m_buffer);
+      m_buffer = null;
+    }
+  }
+
+  protected Object readValue() throws IOException, ClassNotFoundException {
+    byte tag = readByte();
+    switch (tag) {
+      case TAG_NULL:
+        return null;
+      case TAG_REF:
+        return readReference();
+      case TAG_JAVA:
+        return readJavaSerialized();
+      case TAG_ARRAY:
+      case TAG_COLLECTION:
+      case TAG_MAP:
+      case TAG_OBJECT: {
+        int handle = m_handles.size();
+        Object o = resolveObject(readContainerOrObject(tag));
+        m_handles.set(handle, o);
+        return o;
+      }
+      default:
+        return resolveObject(readSimpleValue(tag));
+    }
+  }
+
+  protected Object readSimpleValue(byte tag) throws IOException, ClassNotFoundException {
+    switch (tag) {
+      case TAG_STRING:
+        return readStringRef();
+      case TAG_TRUE:
+        return Boolean.TRUE;
+      case TAG_FALSE:
+        return Boolean.FALSE;
+      case TAG_INT:
+        return (int) unZigZag(readVarLong());
+      case TAG_LONG:
+        return unZigZag(readVarLong());
+      case TAG_SHORT:
+        return (short) unZigZag(readVarLong());
+      case TAG_BYTE:
+        return readByte();
+      case TAG_CHAR:
+        return (char) readVarLong();
+      case TAG_FLOAT:
+        return Float.intBitsToFloat(readFixedInt());
+      case TAG_DOUBLE:
+        return Double.longBitsToDouble(readFixedLong());
+      case TAG_BIG_DECIMAL: {
+        int scale = (int) unZigZag(readVarLong());
+        return new BigDecimal(new BigInteger(readByteArray()), scale);
+      }
+      case TAG_BIG_INTEGER:
+        return new BigInteger(readByteArray());
+      case TAG_ENUM:
+        return readEnum();
+      case TAG_CLASS:
+        return readClassRef();
+      case TAG_LOCALE:
+        return new Locale(readStringRef(), readStringRef(), readStringRef());
+      default:
+        throw new StreamCorruptedException("Invalid tag " + tag);
+    }
+  }
+
+  protected Object readContainerOrObject(byte tag) throws IOException, ClassNotFoundException {
+    m_handles.add(null);
+    int handle = m_handles.size() - 1;
+    Class<?> c = readClassRef();
+    switch (tag) {
+      case TAG_ARRAY:
+        return readArray(c, handle);
+      case TAG_COLLECTION: {
+        if (!m_registry.isCollectionType(c)) {
+          throw new StreamCorruptedException("Not a collection type: " + c.getName());
+        }
+        Collection<Object> collection = m_registry.newCollection(c);
+        m_handles.set(handle, collection);
+        for (int i = readLength(); i > 0; i--) {
+          collection.add(readValue());
+        }
+        return collection;
+      }
+      case TAG_MAP: {
+        if (!m_registry.isMapType(c)) {
+          throw new StreamCorruptedException("Not a map type: " + c.getName());
+        }
+        Map<Object, Object> map = m_registry.newMap(c);
+        m_handles.set(handle, map);
+        for (int i = readLength(); i > 0; i--) {
+          Object key = readValue();
+          map.put(key, readValue());
+        }
+        return map;
+      }
+      default:
+        return readFields(c, handle);
+    }
+  }
+
+  protected Object readFields(Class<?> c, int handle) throws IOException, ClassNotFoundException {
+    CompactClassSerializer serializer = CompactClassSerializer.get(c);
+    if (!serializer.isSerializable() || serializer.isJavaSerialized()) {
+      throw new InvalidClassException(c.getName(), "class cannot be read field by field");
+    }
+    Object o = serializer.newInstance();
+    m_handles.set(handle, o);
+    Field[] fields = serializer.fields();
+    byte[] kinds = serializer.kinds();
+    try {
+      for (int i = 0; i < fields.length; i++) {
+        Field f = fields[i];
+        switch (kinds[i]) {
+          case CompactClassSerializer.KIND_BOOLEAN:
+            f.setBoolean(o, readByte() != 0);
+            break;
+          case CompactClassSerializer.KIND_BYTE:
+            f.setByte(o, readByte());
+            break;
+          case CompactClassSerializer.KIND_CHAR:
+            f.setChar(o, (char) readVarLong());
+            break;
+          case CompactClassSerializer.KIND_SHORT:
+            f.setShort(o, (short) unZigZag(readVarLong()));
+            break;
+          case CompactClassSerializer.KIND_INT:
+            f.setInt(o, (int) unZigZag(readVarLong()));
+            break;
+          case CompactClassSerializer.KIND_LONG:
+            f.setLong(o, unZigZag(readVarLong()));
+            break;
+          case CompactClassSerializer.KIND_FLOAT:
+            f.setFloat(o, Float.intBitsToFloat(readFixedInt()));
+            break;
+          case CompactClassSerializer.KIND_DOUBLE:
+            f.setDouble(o, Double.longBitsToDouble(readFixedLong()));
+            break;
+          default:
+            Object value = readValue();
+            if (value != null && !f.getType().isInstance(value)) {
+              throw new ClassCastException("cannot assign instance of " + value.getClass().getName() + " to field " + c.getName() + "." + f.getName());
+            }
+            f.set(o, value);
+            break;
+        }
+      }
+    }
+    catch (IllegalAccessException e) {
+      throw new InvalidClassException(c.getName(), e.getMessage());
+    }
+    if (serializer.hasReadObjectMethods()) {
+      if (m_readObjectStream == null) {
+        m_readObjectStream = new P_FieldsReadObjectInputStream();
+      }
+      serializer.invokeReadObjectMethods(o, m_readObjectStream);
+    }
+    if (serializer.hasReadResolve()) {
+      o = serializer.invokeReadResolve(o);
+    }
+    return o;
+  }
+
+  protected Object readArray(Class<?> c, int handle) throws IOException, ClassNotFoundException {
+    if (!c.isArray()) {
+      throw new StreamCorruptedException("Not an array type: " + c.getName());
+    }
+    int length = readLength();
+    Class<?> componentType = c.getComponentType();
+    if (!componentType.isPrimitive()) {
+      return readObjectArray(c, length, handle);
+    }
+    Object array = Array.newInstance(componentType, Math.min(length, MAX_PREALLOCATED_LENGTH));
+    int offset = 0;
+    while (true) {
+      int capacity = Array.getLength(array);
+      readPrimitives(array, componentType, offset, capacity);
+      if (capacity == length) {
+        break;
+      }
+      offset = capacity;
+      Object grown = Array.newInstance(componentType, nextCapacity(capacity, length));
+      System.arraycopy(array, 0, grown, 0, capacity);
+      array = grown;
+    }
+    m_handles.set(handle, array);
+    return array;
+  }
+
+  /**
+   * Elements of arrays up to {@link #MAX_PREALLOCATED_LENGTH} may refer to the array itself. Longer arrays grow while
+   * their elements are read and are only available for references once completely read.
+   */
+  protected Object readObjectArray(Class<?> c, int length, int handle) throws IOException, ClassNotFoundException {
+    Class<?> componentType = c.getComponentType();
+    Object[] objects = (Object[]) Array.newInstance(componentType, Math.min(length, MAX_PREALLOCATED_LENGTH));
+    m_handles.set(handle, objects.length == length ? objects : INCOMPLETE_ARRAY);
+    for (int i = 0; i < length; i++) {
+      if (i == objects.length) {
+        objects = Arrays.copyOf(objects, nextCapacity(i, length));
+      }
+      Object value = readValue();
+      if (value != null && !componentType.isInstance(value)) {
+        throw new ClassCastException("cannot store instance of " + value.getClass().getName() + " in " + c.getName());
+      }
+      objects[i] = value;
+    }
+    m_handles.set(handle, objects);
+    return objects;
+  }
+
+  /**
+   * Reads the elements <code>[from, to)</code> of the given primitive array.
+   */
+  protected void readPrimitives(Object array, Class<?> componentType, int from, int to) throws IOException {
+    if (componentType == byte.class) {
+      readFully((byte[]) array, from, to - from);
+    }
+    else if (componentType == int.class) {
+      int[] values = (int[]) array;
+      for (int i = from; i < to; i++) {
+        values[i] = (int) unZigZag(readVarLong());
+      }
+    }
+    else if (componentType == long.class) {
+      long[] values = (long[]) array;
+      for (int i = from; i < to; i++) {
+        values[i] = unZigZag(readVarLong());
+      }
+    }
+    else if (componentType == boolean.class) {
+      boolean[] values = (boolean[]) array;
+      for (int i = from; i < to; i++) {
+        values[i] = readByte() != 0;
+      }
+    }
+    else if (componentType == char.class) {
+      char[] values = (char[]) array;
+      for (int i = from; i < to; i++) {
+        values[i] = (char) readVarLong();
+      }
+    }
+    else if (componentType == short.class) {
+      short[] values = (short[]) array;
+      for (int i = from; i < to; i++) {
+        values[i] = (short) unZigZag(readVarLong());
+      }
+    }
+    else if (componentType == float.class) {
+      float[] values = (float[]) array;
+      for (int i = from; i < to; i++) {
+        values[i] = Float.intBitsToFloat(readFixedInt());
+      }
+    }
+    else {
+      double[] values = (double[]) array;
+      for (int i = from; i < to; i++) {
+        values[i] = Double.longBitsToDouble(readFixedLong());
+      }
+    }
+  }
+
+  static int nextCapacity(int capacity, int length) {
+    return (int) Math.min(length, 2L * capacity);
+  }
+
+  protected Object readEnum() throws IOException, ClassNotFoundException {
+    Class<?> c = readClassRef();
+    String name = readStringRef();
+    if (!c.isEnum()) {
+      throw new InvalidClassException(c.getName(), "not an enum");
+    }
+    try {
+      @SuppressWarnings({"unchecked", "rawtypes"})
+      Object constant = Enum.valueOf((Class) c, name);
+      return constant;
+    }
+    catch (IllegalArgumentException e) {
+      throw new InvalidClassException(c.getName(), "enum constant " + name + " does not exist");
+    }
+  }
+
+  protected Object readJavaSerialized() throws IOException, ClassNotFoundException {
+    int length = readLength();
+    m_handles.add(null);
+    int handle = m_handles.size() - 1;
+    try (ObjectInputStream ois = m_javaSerializer.createObjectInputStream(new P_BoundedInputStream(length))) {
+      Object o = ois.readObject();
+      m_handles.set(handle, o);
+      return o;
+    }
+  }
+
+  protected Object readReference() throws IOException {
+    int handle = readVarInt();
+    if (handle < 0 || handle >= m_handles.size()) {
+      throw new StreamCorruptedException("Invalid handle " + handle);
+    }
+    Object o = m_handles.get(handle);
+    if (o == INCOMPLETE_ARRAY) {
+      throw new StreamCorruptedException("Reference to an array longer than " + MAX_PREALLOCATED_LENGTH + " elements from within that array");
+    }
+    return o;
+  }
+
+  protected Object resolveObject(Object o) throws IOException {
+    if (m_objectReplacer == null || o == null) {
+      return o;
+    }
+    return m_objectReplacer.resolveObject(o);
+  }
+
+  protected Class<?> readClassRef() throws IOException, ClassNotFoundException {
+    int id = readVarInt();
+    if (id == 0) {
+      String name = readStringRef();
+      int fingerprint = readFixedInt();
+      Class<?> c = resolveClass(name);
+      if (CompactClassSerializer.get(c).getFingerprint() != fingerprint) {
+        throw new InvalidClassException(name, "local class incompatible with the class of the writer");
+      }
+      m_classes.add(c);
+      return c;
+    }
+    Class<?> c = m_registry.getClass(id);
+    if (c != null) {
+      return c;
+    }
+    int dynamicIndex = id - m_registry.size() - 1;
+    if (dynamicIndex < 0 || dynamicIndex >= m_classes.size()) {
+      throw new StreamCorruptedException("Invalid class id " + id);
+    }
+    return m_classes.get(dynamicIndex);
+  }
+
+  /**
+   * OWASP: check for unsecure deserialization classes using the blacklist and the whitelist of the java serializer
+   */
+  protected Class<?> resolveClass(String name) throws ClassNotFoundException {
+    if (m_javaSerializer.getBlacklist().test(name)) {
+      throw new ProcessingException("Security check: deseserialization of class '{}'. This class is blacklisted.", name);
+    }
+    if (!m_javaSerializer.getWhitelist().test(name)) {
+      throw new ProcessingException("Security check: deseserialization of class '{}'. This class is not whitelisted.", name);
+    }
+    return Class.forName(name, false, SerializationUtility.getClassLoader());
+  }
+
+  protected String readStringRef() throws IOException {
+    int id = readVarInt();
+    if (id == 0) {
+      String s = readChars();
+      m_strings.add(s);
+      return s;
+    }
+    if (id < 0 || id > m_strings.size()) {
+      throw new StreamCorruptedException("Invalid string id " + id);
+    }
+    return m_strings.get(id - 1);
+  }
+
+  protected String readChars() throws IOException {
+    int length = readLength();
+    char[] chars = new char[Math.min(length, MAX_PREALLOCATED_LENGTH)];
+    for (int i = 0; i < length; i++) {
+      if (i == chars.length) {
+        chars = Arrays.copyOf(chars, nextCapacity(i, length));
+      }
+      int b = readUnsignedByte();
+      if (b < 0x80) {
+        chars[i] = (char) b;
+      }
+      else if (b < 0xE0) {
+        chars[i] = (char) (((b & 0x1F) << 6) | (readUnsignedByte() & 0x3F));
+      }
+      else {
+        int b2 = readUnsignedByte();
+        chars[i] = (char) (((b & 0x0F) << 12) | ((b2 & 0x3F) << 6) | (readUnsignedByte() & 0x3F));
+      }
+    }
+    return new String(chars);
+  }
+
+  protected byte[] readByteArray() throws IOException {
+    int length = readLength();
+    byte[] bytes = new byte[Math.min(length, MAX_PREALLOCATED_LENGTH)];
+    readFully(bytes, 0, bytes.length);
+    while (bytes.length < length) {
+      int offset = bytes.length;
+      bytes = Arrays.copyOf(bytes, nextCapacity(offset, length));
+      readFully(bytes, offset, bytes.length - offset);
+    }
+    return bytes;
+  }
+
+  protected int readLength() throws IOException {
+    int length = readVarInt();
+    if (length < 0) {
+      throw new StreamCorruptedException("Invalid length " + length);
+    }
+    return length;
+  }
+
+  protected int readVarInt() throws IOException {
+    long v = readVarLong();
+    if (v > 0xFFFFFFFFL) {
+      throw new StreamCorruptedException("Variable length integer too long");
+    }
+    return (int) v;
+  }
+
+  protected long readVarLong() throws IOException {
+    long v = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = readUnsignedByte();
+      v |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return v;
+      }
+    }
+    throw new StreamCorruptedException("Variable length integer too long");
+  }
+
+  protected int readFixedInt() throws IOException {
+    return (readUnsignedByte() << 24) | (readUnsignedByte() << 16) | (readUnsignedByte() << 8) | readUnsignedByte();
+  }
+
+  protected long readFixedLong() throws IOException {
+    return ((long) readFixedInt() << 32) | (readFixedInt() & 0xFFFFFFFFL);
+  }
+
+  protected byte readByte() throws IOException {
+    return (byte) readUnsignedByte();
+  }
+
+  protected int readUnsignedByte() throws IOException {
+    if (m_position == m_limit && !fill()) {
+      throw new EOFException();
+    }
+    return m_buffer[m_position++] & 0xFF;
+  }
+
+  protected void readFully(byte[] bytes, int offset, int length) throws IOException {
+    while (length > 0) {
+      if (m_position == m_limit && !fill()) {
+        throw new EOFException();
+      }
+      int n = Math.min(length, m_limit - m_position);
+      System.arraycopy(m_buffer, m_position, bytes, offset, n);
+      m_position += n;
+      offset += n;
+      length -= n;
+    }
+  }
+
+  /**
+   * @return false if the end of the stream is reached
+   */
+  protected boolean fill() throws IOException {
+    int n = m_in.read(m_buffer, 0, m_buffer.length);
+    if (n <= 0) {
+      return false;
+    }
+    m_position = 0;
+    m_limit = n;
+    return true;
+  }
+
+  static long unZigZag(long v) {
+    return (v >>> 1) ^ -(v & 1);
+  }
+
+  /**
+   * Reads the given number of bytes from the buffered stream (used for java serialized blobs).
+   */
+  private class P_BoundedInputStream extends InputStream {
+    private int m_remaining;
+
+    P_BoundedInputStream(int length) {
+      m_remaining = length;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (m_remaining == 0) {
+        return -1;
+      }
+      m_remaining--;
+      return readUnsignedByte();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (m_remaining == 0) {
+        return -1;
+      }
+      if (m_position == m_limit && !fill()) {
+        throw new EOFException();
+      }
+      int n = Math.min(Math.min(len, m_remaining), m_limit - m_position);
+      System.arraycopy(m_buffer, m_position, b, off, n);
+      m_position += n;
+      m_remaining -= n;
+      return n;
+    }
+
+    @Override
+    public int available() {
+      return Math.min(m_remaining, m_limit - m_position);
+    }
+
+    @Override
+    public void close() throws IOException {
+      // skip unread bytes of the blob, the underlying stream is not closed
+      while (m_remaining > 0) {
+        readUnsignedByte();
+        m_remaining--;
+      }
+    }
+  }
+
+  /**
+   * Passed to <code>readObject</code> methods of classes read field by field. The fields are already set, hence
+   * {@link #defaultReadObject()} does nothing.
+   */
+  private static final class P_FieldsReadObjectInputStream extends ObjectInputStream {
+
+    P_FieldsReadObjectInputStream() throws IOException {
+      super();
+    }
+
+    @Override
+    public void defaultReadObject() {
+      // fields are already set
+    }
+
+    @Override
+    public GetField readFields() throws IOException {
+      throw new NotActiveException("readFields is not supported by compact streams");
+    }
+
+    @Override
+    protected Object readObjectOverride() throws IOException {
+      throw new NotActiveException("readObject is not supported by compact streams");
+    }
+  }
+}
@@ -0,0 +1,557 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.compact;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import org.eclipse.scout.rt.platform.serialization.IObjectReplacer;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+
+/**
+ * Writes an object graph in the compact binary format read by {@link CompactObjectInput}.
+ * <p>
+ * Compared to java serialization the format omits class descriptors and field names: classes are referenced by an id
+ * (see {@link CompactTypeRegistry}) or, on first use, by their name; fields are written in the fixed order defined by
+ * {@link CompactClassSerializer}. Integral numbers are written as variable length integers, repeated strings and
+ * classes are written only once. Shared references and cycles are preserved for arrays, collections, maps and objects.
+ * <p>
+ * Objects of classes which customize java serialization are embedded as java serialized blob written with the given
+ * {@link IObjectSerializer}.
+ * <p>
+ * Instances are not thread safe and write exactly one object graph.
+ *
+ * @since 11
+ */
+public class CompactObjectOutput implements Closeable {
+
+  static final int MAGIC = 0x5C;
+  static final int VERSION = 1;
+
+  static final byte TAG_NULL = 0;
+  static final byte TAG_REF = 1;
+  static final byte TAG_STRING = 2;
+  static final byte TAG_TRUE = 3;
+  static final byte TAG_FALSE = 4;
+  static final byte TAG_INT = 5;
+  static final byte TAG_LONG = 6;
+  static final byte TAG_SHORT = 7;
+  static final byte TAG_BYTE = 8;
+  static final byte TAG_CHAR = 9;
+  static final byte TAG_FLOAT = 10;
+  static final byte TAG_DOUBLE = 11;
+  static final byte TAG_BIG_DECIMAL = 12;
+  static final byte TAG_BIG_INTEGER = 13;
+  static final byte TAG_ENUM = 14;
+  static final byte TAG_CLASS = 15;
+  static final byte TAG_ARRAY = 16;
+  static final byte TAG_COLLECTION = 17;
+  static final byte TAG_MAP = 18;
+  static final byte TAG_OBJECT = 19;
+  static final byte TAG_JAVA = 20;
+  static final byte TAG_LOCALE = 21;
+
+  /**
+   * Longest sequence written by a single primitive write operation (a variable length long).
+   */
+  private static final int MAX_PRIMITIVE_LENGTH = 10;
+
+  private final OutputStream m_out;
+  private final CompactTypeRegistry m_registry;
+  private final IObjectSerializer m_javaSerializer;
+  private final IObjectReplacer m_objectReplacer;
+  private final CompactBufferPool m_bufferPool;
+  private final Map<String, Integer> m_strings = new HashMap<>();
+  private final Map<Class<?>, Integer> m_classes = new IdentityHashMap<>();
+  private final Map<Object, Integer> m_handles = new IdentityHashMap<>();
+  private int m_nextHandle;
+  private byte[] m_buffer;
+  private int m_position;
+  private boolean m_headerWritten;
+
+  /**
+   * @param out
+   *          the stream to write to. It is flushed but not closed by {@link #close()}.
+   * @param registry
+   *          registry of well-known classes, must be equal to the one used by the reader
+   * @param javaSerializer
+   *          serializer used for objects which cannot be encoded field by field
+   * @param objectReplacer
+   *          optional replacer applied to every object before it is written
+   * @param bufferPool
+   *          pool providing the write buffer
+   */
+  public CompactObjectOutput(OutputStream out, CompactTypeRegistry registry, IObjectSerializer javaSerializer, IObjectReplacer objectReplacer, CompactBufferPool bufferPool) {
+    m_out = out;
+    m_registry = registry;
+    m_javaSerializer = javaSerializer;
+    m_objectReplacer = objectReplacer;
+    m_bufferPool = bufferPool;
+    m_buffer = bufferPool.acquire();
+  }
+
+  /**
+   * Writes the given object graph. The data is not guaranteed to be written to the underlying stream before
+   * {@link #flush()} or {@link #close()} is called.
+   */
+  public void writeObject(Object o) throws IOException {
+    if (m_buffer == null) {
+      throw new IOException("Stream closed");
+    }
+    if (!m_headerWritten) {
+      writeByte(MAGIC);
+      writeByte(VERSION);
+      writeFixedInt(m_registry.getFingerprint());
+      m_headerWritten = true;
+    }
+    writeValue(o);
+  }
+
+  public void flush() throws IOException {
+    if (m_buffer != null) {
+      flushBuffer();
+      m_out.flush();
+    }
+  }
+
+  /**
+   * Flushes all data and returns the buffer to the pool. The underlying stream is not closed.
+   */
+  @Override
+  public void close() throws IOException {
+    if (m_buffer == null) {
+      return;
+    }
+    try {
+      flush();
+    }
+    finally {
+      m_bufferPool.release(m_buffer);
+      m_buffer = null;
+    }
+  }
+
+  protected void writeValue(Object o) throws IOException {
+    if (o == null) {
+      writeByte(TAG_NULL);
+      return;
+    }
+    if (writeReference(o)) {
+      return;
+    }
+    Object original = o;
+    o = replaceObject(o);
+    if (o == null) {
+      writeByte(TAG_NULL);
+      return;
+    }
+    if (o != original && writeReference(o)) {
+      return;
+    }
+
+    Class<?> c = o.getClass();
+    if (c == String.class) {
+      writeByte(TAG_STRING);
+      writeStringRef((String) o);
+    }
+    else if (c == Integer.class) {
+      writeByte(TAG_INT);
+      writeVarLong(zigZag((Integer) o));
+    }
+    else if (c == Long.class) {
+      writeByte(TAG_LONG);
+      writeVarLong(zigZag((Long) o));
+    }
+    else if (c == Boolean.class) {
+      writeByte((Boolean) o ? TAG_TRUE : TAG_FALSE);
+    }
+    else if (c == Short.class) {
+      writeByte(TAG_SHORT);
+      writeVarLong(zigZag((Short) o));
+    }
+    else if (c == Byte.class) {
+      writeByte(TAG_BYTE);
+      writeByte((Byte) o);
+    }
+    else if (c == Character.class) {
+      writeByte(TAG_CHAR);
+      writeVarLong((Character) o);
+    }
+    else if (c == Float.class) {
+      writeByte(TAG_FLOAT);
+      writeFixedInt(Float.floatToRawIntBits((Float) o));
+    }
+    else if (c == Double.class) {
+      writeByte(TAG_DOUBLE);
+      writeFixedLong(Double.doubleToRawLongBits((Double) o));
+    }
+    else if (c == BigDecimal.class) {
+      BigDecimal d = (BigDecimal) o;
+      writeByte(TAG_BIG_DECIMAL);
+      writeVarLong(zigZag(d.scale()));
+      writeByteArray(d.unscaledValue().toByteArray());
+    }
+    else if (c == BigInteger.class) {
+      writeByte(TAG_BIG_INTEGER);
+      writeByteArray(((BigInteger) o).toByteArray());
+    }
+    else if (o instanceof Enum) {
+      writeByte(TAG_ENUM);
+      writeClassRef(((Enum<?>) o).getDeclaringClass());
+      writeStringRef(((Enum<?>) o).name());
+    }
+    else if (c == Class.class) {
+      writeByte(TAG_CLASS);
+      writeClassRef((Class<?>) o);
+    }
+    else if (c == Locale.class && isSimpleLocale((Locale) o)) {
+      Locale locale = (Locale) o;
+      writeByte(TAG_LOCALE);
+      writeStringRef(locale.getLanguage());
+      writeStringRef(locale.getCountry());
+      writeStringRef(locale.getVariant());
+    }
+    else if (c.isArray()) {
+      writeArray(o, original);
+    }
+    else if (m_registry.isCollectionType(c) && !(o instanceof SortedSet && ((SortedSet<?>) o).comparator() != null)) {
+      Collection<?> collection = (Collection<?>) o;
+      writeByte(TAG_COLLECTION);
+      assignHandle(o, original);
+      writeClassRef(c);
+      writeVarInt(collection.size());
+      for (Object element : collection) {
+        writeValue(element);
+      }
+    }
+    else if (m_registry.isMapType(c) && !(o instanceof SortedMap && ((SortedMap<?, ?>) o).comparator() != null)) {
+      Map<?, ?> map = (Map<?, ?>) o;
+      writeByte(TAG_MAP);
+      assignHandle(o, original);
+      writeClassRef(c);
+      writeVarInt(map.size());
+      for (Entry<?, ?> entry : map.entrySet()) {
+        writeValue(entry.getKey());
+        writeValue(entry.getValue());
+      }
+    }
+    else {
+      CompactClassSerializer serializer = CompactClassSerializer.get(c);
+      if (!serializer.isSerializable()) {
+        throw new NotSerializableException(c.getName());
+      }
+      if (serializer.isJavaSerialized()) {
+        writeByte(TAG_JAVA);
+        assignHandle(o, original);
+        writeJavaSerialized(o);
+      }
+      else {
+        writeByte(TAG_OBJECT);
+        assignHandle(o, original);
+        writeClassRef(c);
+        writeFields(o, serializer);
+      }
+    }
+  }
+
+  protected Object replaceObject(Object o) throws IOException {
+    CompactClassSerializer serializer = CompactClassSerializer.get(o.getClass());
+    if (serializer.hasWriteReplace()) {
+      o = serializer.invokeWriteReplace(o);
+    }
+    if (m_objectReplacer != null && o != null) {
+      o = m_objectReplacer.replaceObject(o);
+    }
+    return o;
+  }
+
+  protected void writeFields(Object o, CompactClassSerializer serializer) throws IOException {
+    Field[] fields = serializer.fields();
+    byte[] kinds = serializer.kinds();
+    try {
+      for (int i = 0; i < fields.length; i++) {
+        Field f = fields[i];
+        switch (kinds[i]) {
+          case CompactClassSerializer.KIND_BOOLEAN:
+            writeByte(f.getBoolean(o) ? 1 : 0);
+            break;
+          case CompactClassSerializer.KIND_BYTE:
+            writeByte(f.getByte(o));
+            break;
+          case CompactClassSerializer.KIND_CHAR:
+            writeVarLong(f.getChar(o));
+            break;
+          case CompactClassSerializer.KIND_SHORT:
+            writeVarLong(zigZag(f.getShort(o)));
+            break;
+          case CompactClassSerializer.KIND_INT:
+            writeVarLong(zigZag(f.getInt(o)));
+            break;
+          case CompactClassSerializer.KIND_LONG:
+            writeVarLong(zigZag(f.getLong(o)));
+            break;
+          case CompactClassSerializer.KIND_FLOAT:
+            writeFixedInt(Float.floatToRawIntBits(f.getFloat(o)));
+            break;
+          case CompactClassSerializer.KIND_DOUBLE:
+            writeFixedLong(Double.doubleToRawLongBits(f.getDouble(o)));
+            break;
+          default:
+            writeValue(f.get(o));
+            break;
+        }
+      }
+    }
+    catch (IllegalAccessException e) {
+      throw new NotSerializableException(o.getClass().getName() + ": " + e.getMessage());
+    }
+  }
+
+  protected void writeArray(Object array, Object original) throws IOException {
+    Class<?> c = array.getClass();
+    int length = Array.getLength(array);
+    writeByte(TAG_ARRAY);
+    assignHandle(array, original);
+    writeClassRef(c);
+    writeVarInt(length);
+    Class<?> componentType = c.getComponentType();
+    if (!componentType.isPrimitive()) {
+      Object[] objects = (Object[]) array;
+      for (Object element : objects) {
+        writeValue(element);
+      }
+    }
+    else if (componentType == byte.class) {
+      writeBytes((byte[]) array, 0, length);
+    }
+    else if (componentType == int.class) {
+      for (int v : (int[]) array) {
+        writeVarLong(zigZag(v));
+      }
+    }
+    else if (componentType == long.class) {
+      for (long v : (long[]) array) {
+        writeVarLong(zigZag(v));
+      }
+    }
+    else if (componentType == boolean.class) {
+      for (boolean v : (boolean[]) array) {
+        writeByte(v ? 1 : 0);
+      }
+    }
+    else if (componentType == char.class) {
+      for (char v : (char[]) array) {
+        writeVarLong(v);
+      }
+    }
+    else if (componentType == short.class) {
+      for (short v : (short[]) array) {
+        writeVarLong(zigZag(v));
+      }
+    }
+    else if (componentType == float.class) {
+      for (float v : (float[]) array) {
+        writeFixedInt(Float.floatToRawIntBits(v));
+      }
+    }
+    else {
+      for (double v : (double[]) array) {
+        writeFixedLong(Double.doubleToRawLongBits(v));
+      }
+    }
+  }
+
+  /**
+   * Writes the given object using java serialization. Object identity is only preserved within the embedded blob.
+   */
+  protected void writeJavaSerialized(Object o) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = m_javaSerializer.createObjectOutputStream(bytes)) {
+      oos.writeObject(o);
+    }
+    writeVarInt(bytes.size());
+    flushBuffer();
+    bytes.writeTo(m_out);
+  }
+
+  /**
+   * Writes a reference to an already written object.
+   *
+   * @return true if the object was written before
+   */
+  protected boolean writeReference(Object o) throws IOException {
+    Integer handle = m_handles.get(o);
+    if (handle == null) {
+      return false;
+    }
+    writeByte(TAG_REF);
+    writeVarInt(handle);
+    return true;
+  }
+
+  protected void assignHandle(Object o, Object original) {
+    Integer handle = m_nextHandle++;
+    m_handles.put(o, handle);
+    if (original != o) {
+      m_handles.put(original, handle);
+    }
+  }
+
+  /**
+   * A class reference is the id of a registered class, the id of a class written before or 0 followed by the class name
+   * and its fingerprint.
+   */
+  protected void writeClassRef(Class<?> c) throws IOException {
+    int id = m_registry.getId(c);
+    if (id > 0) {
+      writeVarInt(id);
+      return;
+    }
+    Integer dynamicId = m_classes.get(c);
+    if (dynamicId != null) {
+      writeVarInt(dynamicId);
+      return;
+    }
+    m_classes.put(c, m_registry.size() + 1 + m_classes.size());
+    writeVarInt(0);
+    writeStringRef(c.getName());
+    writeFixedInt(CompactClassSerializer.get(c).getFingerprint());
+  }
+
+  /**
+   * A string reference is the id of a string written before or 0 followed by the new string.
+   */
+  protected void writeStringRef(String s) throws IOException {
+    Integer id = m_strings.get(s);
+    if (id != null) {
+      writeVarInt(id);
+      return;
+    }
+    m_strings.put(s, m_strings.size() + 1);
+    writeVarInt(0);
+    writeChars(s);
+  }
+
+  /**
+   * Writes the number of characters followed by each character encoded with 1 to 3 bytes (like modified UTF-8, except
+   * that \u0000 is written as single byte). Unpaired surrogates are preserved.
+   */
+  protected void writeChars(String s) throws IOException {
+    int length = s.length();
+    writeVarInt(length);
+    for (int i = 0; i < length; i++) {
+      if (m_buffer.length - m_position < 3) {
+        flushBuffer();
+      }
+      char c = s.charAt(i);
+      if (c < 0x80) {
+        m_buffer[m_position++] = (byte) c;
+      }
+      else if (c < 0x800) {
+        m_buffer[m_position++] = (byte) (0xC0 | (c >> 6));
+        m_buffer[m_position++] = (byte) (0x80 | (c & 0x3F));
+      }
+      else {
+        m_buffer[m_position++] = (byte) (0xE0 | (c >> 12));
+        m_buffer[m_position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        m_buffer[m_position++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+  }
+
+  protected void writeByteArray(byte[] bytes) throws IOException {
+    writeVarInt(bytes.length);
+    writeBytes(bytes, 0, bytes.length);
+  }
+
+  protected void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+    if (length > m_buffer.length - m_position) {
+      flushBuffer();
+      if (length > m_buffer.length) {
+        m_out.write(bytes, offset, length);
+        return;
+      }
+    }
+    System.arraycopy(bytes, offset, m_buffer, m_position, length);
+    m_position += length;
+  }
+
+  protected void writeByte(int b) throws IOException {
+    if (m_position == m_buffer.length) {
+      flushBuffer();
+    }
+    m_buffer[m_position++] = (byte) b;
+  }
+
+  protected void writeVarInt(int v) throws IOException {
+    writeVarLong(v & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Writes an unsigned variable length integer using 7 bits per byte.
+   */
+  protected void writeVarLong(long v) throws IOException {
+    if (m_buffer.length - m_position < MAX_PRIMITIVE_LENGTH) {
+      flushBuffer();
+    }
+    while ((v & ~0x7FL) != 0) {
+      m_buffer[m_position++] = (byte) ((v & 0x7F) | 0x80);
+      v >>>= 7;
+    }
+    m_buffer[m_position++] = (byte) v;
+  }
+
+  protected void writeFixedInt(int v) throws IOException {
+    if (m_buffer.length - m_position < 4) {
+      flushBuffer();
+    }
+    m_buffer[m_position++] = (byte) (v >>> 24);
+    m_buffer[m_position++] = (byte) (v >>> 16);
+    m_buffer[m_position++] = (byte) (v >>> 8);
+    m_buffer[m_position++] = (byte) v;
+  }
+
+  protected void writeFixedLong(long v) throws IOException {
+    writeFixedInt((int) (v >>> 32));
+    writeFixedInt((int) v);
+  }
+
+  protected void flushBuffer() throws IOException {
+    if (m_position > 0) {
+      m_out.write(m_buffer, 0, m_position);
+      m_position = 0;
+    }
+  }
+
+  static long zigZag(long v) {
+    return (v << 1) ^ (v >> 63);
+  }
+
+  static boolean isSimpleLocale(Locale locale) {
+    return locale.getScript().isEmpty() && !locale.hasExtensions();
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.compact;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Classes known to both sides of a compact stream. Registered classes are referenced by a small id instead of their
+ * name. The registration order is part of the wire format, hence writer and reader must use registries created with the
+ * same list of additional classes.
+ * <p>
+ * The registry also defines the collection and map types which are encoded element-wise. All other collections and
+ * maps are encoded like any other object.
+ *
+ * @since 11
+ */
+public class CompactTypeRegistry {
+
+  private static final List<Class<?>> BUILT_IN_CLASSES = Collections.unmodifiableList(Arrays.asList(
+      // primitive types (e.g. used as parameter types of a service operation)
+      boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, void.class,
+      // value types
+      Object.class, String.class, Boolean.class, Byte.class, Character.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+      BigDecimal.class, BigInteger.class, Locale.class, Class.class, Enum.class,
+      // arrays
+      Object[].class, String[].class, Class[].class, boolean[].class, byte[].class, char[].class, short[].class, int[].class, long[].class, float[].class, double[].class,
+      Object[][].class, Long[].class, Integer[].class, BigDecimal[].class,
+      // collections
+      ArrayList.class, LinkedList.class, ArrayDeque.class, HashSet.class, LinkedHashSet.class, TreeSet.class,
+      HashMap.class, LinkedHashMap.class, TreeMap.class, ConcurrentHashMap.class));
+
+  private static final Map<Class<?>, Supplier<Collection<Object>>> COLLECTION_FACTORIES = new IdentityHashMap<>();
+  private static final Map<Class<?>, Supplier<Map<Object, Object>>> MAP_FACTORIES = new IdentityHashMap<>();
+
+  static {
+    COLLECTION_FACTORIES.put(ArrayList.class, ArrayList::new);
+    COLLECTION_FACTORIES.put(LinkedList.class, LinkedList::new);
+    COLLECTION_FACTORIES.put(ArrayDeque.class, ArrayDeque::new);
+    COLLECTION_FACTORIES.put(HashSet.class, HashSet::new);
+    COLLECTION_FACTORIES.put(LinkedHashSet.class, LinkedHashSet::new);
+    COLLECTION_FACTORIES.put(TreeSet.class, TreeSet::new);
+    MAP_FACTORIES.put(HashMap.class, HashMap::new);
+    MAP_FACTORIES.put(LinkedHashMap.class, LinkedHashMap::new);
+    MAP_FACTORIES.put(TreeMap.class, TreeMap::new);
+    MAP_FACTORIES.put(ConcurrentHashMap.class, ConcurrentHashMap::new);
+  }
+
+  private final Class<?>[] m_classes;
+  private final Map<Class<?>, Integer> m_ids;
+  private final int m_fingerprint;
+
+  /**
+   * @param additionalClasses
+   *          application classes which are frequently transferred (e.g. the service tunnel messages)
+   */
+  public CompactTypeRegistry(List<Class<?>> additionalClasses) {
+    List<Class<?>> classes = new ArrayList<>(BUILT_IN_CLASSES);
+    for (Class<?> c : additionalClasses) {
+      if (!classes.contains(c)) {
+        classes.add(c);
+      }
+    }
+    m_classes = classes.toArray(new Class<?>[0]);
+    m_ids = new IdentityHashMap<>(m_classes.length);
+    int fingerprint = 1;
+    for (int i = 0; i < m_classes.length; i++) {
+      m_ids.put(m_classes[i], i + 1);
+      fingerprint = 31 * fingerprint + m_classes[i].getName().hashCode();
+      if (!m_classes[i].isPrimitive() && !m_classes[i].isArray() && !COLLECTION_FACTORIES.containsKey(m_classes[i]) && !MAP_FACTORIES.containsKey(m_classes[i])) {
+        fingerprint = 31 * fingerprint + CompactClassSerializer.get(m_classes[i]).getFingerprint();
+      }
+    }
+    m_fingerprint = fingerprint;
+  }
+
+  /**
+   * @return the id (&gt; 0) of the given class or 0 if it is not registered
+   */
+  public int getId(Class<?> c) {
+    Integer id = m_ids.get(c);
+    return id == null ? 0 : id.intValue();
+  }
+
+  /**
+   * @return the class with the given id or null if the id is unknown
+   */
+  public Class<?> getClass(int id) {
+    return id > 0 && id <= m_classes.length ? m_classes[id - 1] : null;
+  }
+
+  public int size() {
+    return m_classes.length;
+  }
+
+  /**
+   * Hash of all registered classes including their serialized fields. Streams are only accepted if both sides use
+   * registries with equal fingerprints.
+   */
+  public int getFingerprint() {
+    return m_fingerprint;
+  }
+
+  /**
+   * @return true if instances of the given class are encoded element-wise as collection
+   */
+  public boolean isCollectionType(Class<?> c) {
+    return COLLECTION_FACTORIES.containsKey(c);
+  }
+
+  /**
+   * @return true if instances of the given class are encoded entry-wise as map
+   */
+  public boolean isMapType(Class<?> c) {
+    return MAP_FACTORIES.containsKey(c);
+  }
+
+  public Collection<Object> newCollection(Class<?> c) {
+    return COLLECTION_FACTORIES.get(c).get();
+  }
+
+  public Map<Object, Object> newMap(Class<?> c) {
+    return MAP_FACTORIES.get(c).get();
+  }
+}
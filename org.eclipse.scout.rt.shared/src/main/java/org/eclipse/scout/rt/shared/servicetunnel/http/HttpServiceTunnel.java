@@ -16,6 +16,7 @@ import java.net.URL;
 import java.util.concurrent.Callable;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
@@ -25,10 +26,12 @@ import org.eclipse.scout.rt.platform.util.UriUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CompactServiceTunnelCodecProperty;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
 import org.eclipse.scout.rt.shared.servicetunnel.AbstractServiceTunnel;
 import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.CompactBinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
@@ -186,12 +189,24 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
   @Override
   public Object invokeService(Class serviceInterfaceClass, Method operation, Object[] callerArgs) {
     if (m_contentHandler == null) {
-      m_contentHandler = BEANS.get(IServiceTunnelContentHandler.class);
+      m_contentHandler = createContentHandler();
       m_contentHandler.initialize();
     }
     return super.invokeService(serviceInterfaceClass, operation, callerArgs);
   }
 
+  /**
+   * @return the content handler used if none was {@link #setContentHandler(IServiceTunnelContentHandler) set}. This is
+   *         the {@link CompactBinaryServiceTunnelContentHandler} if {@link CompactServiceTunnelCodecProperty} is
+   *         enabled, the default {@link IServiceTunnelContentHandler} bean otherwise.
+   */
+  protected IServiceTunnelContentHandler createContentHandler() {
+    if (CONFIG.getPropertyValue(CompactServiceTunnelCodecProperty.class)) {
+      return BEANS.get(CompactBinaryServiceTunnelContentHandler.class);
+    }
+    return BEANS.get(IServiceTunnelContentHandler.class);
+  }
+
   /**
    * Creates the {@link Callable} to invoke the remote service operation described by 'serviceRequest'.
    * <p>
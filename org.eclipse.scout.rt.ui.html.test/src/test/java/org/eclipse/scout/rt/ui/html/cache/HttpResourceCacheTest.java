@@ -92,4 +92,51 @@ public class HttpResourceCacheTest {
     Assert.assertNull(obj2);
   }
 
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    HttpResourceCache cache = new HttpResourceCache(250);
+    Assert.assertTrue(cache.put(createCacheObject("/a", 100)));
+    Assert.assertTrue(cache.put(createCacheObject("/b", 100)));
+    Assert.assertEquals(200, cache.getSize());
+
+    // access /a so that /b is the least recently used object
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/a")));
+    Assert.assertTrue(cache.put(createCacheObject("/c", 100)));
+    Assert.assertEquals(200, cache.getSize());
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/a")));
+    Assert.assertNull(cache.get(new HttpCacheKey("/b")));
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/c")));
+
+    // too large to be cached
+    Assert.assertFalse(cache.put(createCacheObject("/d", 300)));
+    Assert.assertEquals(200, cache.getSize());
+
+    cache.remove(new HttpCacheKey("/a"));
+    Assert.assertEquals(100, cache.getSize());
+    cache.clear();
+    Assert.assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void testSizeWithEncodedContent() {
+    HttpResourceCache cache = new HttpResourceCache(1000);
+    HttpCacheObject obj = createCacheObject("/a", 100);
+    obj.putEncodedContent("gzip", new byte[30]);
+    Assert.assertEquals(130, obj.getSize());
+    Assert.assertTrue(cache.put(obj));
+    Assert.assertEquals(130, cache.getSize());
+
+    // replace
+    Assert.assertTrue(cache.put(createCacheObject("/a", 50)));
+    Assert.assertEquals(50, cache.getSize());
+  }
+
+  private static HttpCacheObject createCacheObject(String path, int size) {
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.html")
+        .withContent(new byte[size])
+        .withCachingAllowed(true)
+        .build();
+    return new HttpCacheObject(new HttpCacheKey(path), res);
+  }
 }
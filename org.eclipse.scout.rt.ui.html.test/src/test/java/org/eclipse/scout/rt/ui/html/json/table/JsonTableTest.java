@@ -15,6 +15,7 @@ import static org.junit.Assert.*;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -1622,6 +1623,111 @@ public class JsonTableTest {
         .anyMatch(p -> "columnStructureChanged".equals(p.getType())));
   }
 
+  /**
+   * If row paging is enabled, only the first page of rows is sent initially. Further rows are sent when requested by the
+   * UI.
+   */
+  @Test
+  public void testRowPaging() throws JSONException {
+    Table table = createTableFixture(10);
+    table.setRowPageSize(3);
+
+    JsonTable<ITable> jsonTable = UiSessionTestUtility.newJsonAdapter(m_uiSession, table);
+    JSONObject json = jsonTable.toJson();
+    assertEquals(3, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(10, json.getInt(JsonTable.PROP_TOTAL_ROW_COUNT));
+    assertNotNull(jsonTable.getTableRowId(table.getRow(2)));
+    assertNull(jsonTable.getTableRowId(table.getRow(3)));
+
+    // ----------
+
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_ROWS_REQUESTED, new JSONObject()));
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(
+        m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, responseEvents.size());
+    List<ITableRow> insertedRows = jsonTable.extractTableRows(rowIdsOf(responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS)));
+    assertEquals(Arrays.asList(table.getRow(3), table.getRow(4), table.getRow(5)), insertedRows);
+    assertNull(jsonTable.getTableRowId(table.getRow(6)));
+  }
+
+  /**
+   * Rows already known by the UI (e.g. because they were selected) are skipped when the UI requests further rows.
+   */
+  @Test
+  public void testRowPagingSkipsKnownRows() throws JSONException {
+    Table table = createTableFixture(10);
+    table.setRowPageSize(3);
+
+    JsonTable<ITable> jsonTable = UiSessionTestUtility.newJsonAdapter(m_uiSession, table);
+    jsonTable.toJson();
+    table.selectRows(Arrays.asList(table.getRow(3), table.getRow(4), table.getRow(5)));
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    // ----------
+
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_ROWS_REQUESTED, new JSONObject()));
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(
+        m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    List<ITableRow> insertedRows = jsonTable.extractTableRows(rowIdsOf(responseEvents.get(responseEvents.size() - 1).getData().getJSONArray(JsonTable.PROP_ROWS)));
+    assertEquals(Arrays.asList(table.getRow(6), table.getRow(7), table.getRow(8)), insertedRows);
+    assertNull(jsonTable.getTableRowId(table.getRow(9)));
+  }
+
+  /**
+   * The UI must know the leading rows of the model in the order of the model after the rows were sorted.
+   */
+  @Test
+  public void testRowPagingRowOrderChanged() throws JSONException {
+    Table table = createTableFixture(10);
+    table.setRowPageSize(3);
+
+    JsonTable<ITable> jsonTable = UiSessionTestUtility.newJsonAdapter(m_uiSession, table);
+    jsonTable.toJson();
+
+    // ----------
+
+    List<ITableRow> rows = new ArrayList<>(table.getRows());
+    Collections.reverse(rows);
+    table.sort(rows);
+
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(
+        m_uiSession.currentJsonResponse(), "rowOrderChanged");
+    JSONArray rowIds = responseEvents.get(responseEvents.size() - 1).getData().getJSONArray(JsonTable.PROP_ROW_IDS);
+    assertEquals(Arrays.asList(rows.get(0), rows.get(1), rows.get(2), rows.get(7), rows.get(8), rows.get(9)), jsonTable.extractTableRows(rowIds));
+  }
+
+  /**
+   * Rows selected by the model are sent to the UI even if they are not within the loaded rows.
+   */
+  @Test
+  public void testRowPagingSelection() throws JSONException {
+    Table table = createTableFixture(10);
+    table.setRowPageSize(3);
+
+    JsonTable<ITable> jsonTable = UiSessionTestUtility.newJsonAdapter(m_uiSession, table);
+    jsonTable.toJson();
+
+    // ----------
+
+    ITableRow row8 = table.getRow(8);
+    table.selectRow(row8);
+
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(
+        m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_SELECTED);
+    assertEquals(1, responseEvents.size());
+    assertNotNull(jsonTable.getTableRowId(row8));
+    assertEquals(Collections.singletonList(row8), jsonTable.extractTableRows(responseEvents.get(0).getData()));
+  }
+
+  private static JSONArray rowIdsOf(JSONArray jsonRows) {
+    JSONArray rowIds = new JSONArray();
+    for (int i = 0; i < jsonRows.length(); i++) {
+      rowIds.put(jsonRows.getJSONObject(i).getString("id"));
+    }
+    return rowIds;
+  }
+
   public static Table createTableFixture(int numRows) {
     Table table = new Table();
     table.fill(numRows);
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
@@ -119,6 +120,51 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  /**
+   * @since 11
+   */
+  public static class BackgroundPushEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the results of background jobs are pushed to the browser through a long-lived server-sent events stream (/json-push) instead of repeated polling requests.\n"
+          + "Browsers not supporting server-sent events, or failing to open the stream, fall back to polling.\n"
+          + "By default this property is disabled.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.backgroundPushEnabled";
+    }
+  }
+
+  /**
+   * @since 11
+   */
+  public static class BackgroundPushMaxStreamDurationProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return TimeUnit.MINUTES.toSeconds(15);
+    }
+
+    @Override
+    public String description() {
+      return String.format("Number of seconds after which the server closes a background job push stream. The browser re-opens the stream automatically.\n"
+          + "Only used if property '%s' is enabled. By default this property is set to 15 minutes.", BEANS.get(BackgroundPushEnabledProperty.class).getKey());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.backgroundPushMaxStreamDuration";
+    }
+  }
+
   public static class UiModelJobsAwaitTimeoutProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
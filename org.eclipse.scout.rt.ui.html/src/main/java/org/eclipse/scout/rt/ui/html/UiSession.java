@@ -74,6 +74,7 @@ import org.eclipse.scout.rt.shared.ui.UiSystem;
 import org.eclipse.scout.rt.shared.ui.UserAgent;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPushEnabledProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonAdapterRegistry;
@@ -489,6 +490,7 @@ public class UiSession implements IUiSession {
     startupData.put("clientSessionId", m_clientSession.getId()); // Send back clientSessionId to allow the browser to attach to the same client session on page reload
     startupData.put("clientSession", clientSessionAdapterId);
     startupData.put("pollingInterval", CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class));
+    startupData.put("backgroundPushEnabled", CONFIG.getPropertyValue(BackgroundPushEnabledProperty.class));
     startupData.put("persistent", isPersistent());
     putLocaleData(startupData, BEANS.get(UiJobs.class).awaitAndGet(future));
   }
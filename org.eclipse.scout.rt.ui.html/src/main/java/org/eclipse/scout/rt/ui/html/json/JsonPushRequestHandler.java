@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.PlatformError;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPushEnabledProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPushMaxStreamDurationProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MaxUserIdleTimeProperty;
+import org.eclipse.scout.rt.ui.html.UiServlet;
+import org.eclipse.scout.rt.ui.html.UiSession;
+import org.eclipse.scout.rt.ui.html.logging.IUiRunContextDiagnostics;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This handler contributes to the {@link UiServlet} as the GET handler for /json-push.
+ * <p>
+ * Instead of answering one poll request after the other, the results of background jobs are pushed to the UI through a
+ * single long-lived <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">server-sent events</a>
+ * stream. Every event carries exactly the JSON response a poll request would have returned. The stream is closed after
+ * {@link BackgroundPushMaxStreamDurationProperty} seconds, the browser re-opens it automatically. The stream is
+ * excluded from compression by the {@link GzipServletFilter}, which would otherwise hold back the events.
+ * <p>
+ * The handler is only active if {@link BackgroundPushEnabledProperty} is set. Otherwise, it answers with
+ * {@link HttpServletResponse#SC_NOT_FOUND} and the UI falls back to polling.
+ *
+ * @see Session.js
+ * @since 11
+ */
+@Order(4510)
+public class JsonPushRequestHandler extends AbstractUiServletRequestHandler {
+  private static final Logger LOG = LoggerFactory.getLogger(JsonPushRequestHandler.class);
+
+  public static final String CONTENT_TYPE_EVENT_STREAM = "text/event-stream";
+
+  private final boolean m_enabled = CONFIG.getPropertyValue(BackgroundPushEnabledProperty.class).booleanValue();
+  private final long m_maxStreamDurationNanos = TimeUnit.SECONDS.toNanos(CONFIG.getPropertyValue(BackgroundPushMaxStreamDurationProperty.class).longValue());
+  private final int m_maxUserIdleTime = CONFIG.getPropertyValue(MaxUserIdleTimeProperty.class).intValue();
+
+  private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
+  private final JsonRequestHelper m_jsonRequestHelper = BEANS.get(JsonRequestHelper.class);
+
+  @Override
+  public boolean handleGet(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+    // serve only /json-push
+    String pathInfo = req.getPathInfo();
+    if (ObjectUtility.notEquals(pathInfo, "/json-push")) {
+      return false;
+    }
+    if (!m_enabled) {
+      resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return true;
+    }
+
+    // The stream behaves like a sequence of poll requests without sequence numbers
+    JSONObject jsonObject = new JSONObject();
+    jsonObject.put(JsonRequest.PROP_UI_SESSION_ID, req.getParameter(JsonRequest.PROP_UI_SESSION_ID));
+    jsonObject.put(JsonRequest.PROP_POLL, true);
+    final JsonRequest jsonRequest = new JsonRequest(jsonObject);
+
+    IUiSession uiSession = UiSession.get(req, jsonRequest);
+    if (uiSession == null || uiSession.isDisposed()) {
+      // Stops the browser from reconnecting, the UI falls back to polling which reports the session timeout
+      resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return true;
+    }
+
+    try {
+      uiSession.verifySubject(req);
+
+      RunContexts.copyCurrent()
+          .withThreadLocal(IUiSession.CURRENT, uiSession)
+          .withThreadLocal(JsonRequest.CURRENT, jsonRequest)
+          .withDiagnostics(BEANS.all(IUiRunContextDiagnostics.class))
+          .run(() -> handlePushStream(IUiSession.CURRENT.get(), JsonRequest.CURRENT.get(), req, resp), DefaultExceptionTranslator.class);
+    }
+    catch (Exception | PlatformError e) {
+      LOG.error("Unexpected error while pushing background job results", e);
+    }
+    return true;
+  }
+
+  protected void handlePushStream(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    // disable caching
+    m_httpCacheControl.checkAndSetCacheHeaders(req, resp, null);
+    resp.setContentType(CONTENT_TYPE_EVENT_STREAM);
+    resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    resp.setHeader("X-Accel-Buffering", "no"); // prevent reverse proxies from buffering the stream
+    if (!writeComment(resp, "open")) {
+      return;
+    }
+
+    JsonMessageRequestHandler messageHandler = BEANS.get(JsonMessageRequestHandler.class);
+    final long startNanos = System.nanoTime();
+    while (System.nanoTime() - startNanos < m_maxStreamDurationNanos) {
+      int idleSeconds = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
+      if (idleSeconds > m_maxUserIdleTime) {
+        LOG.info("Detected idle timeout for UI session {} after {} seconds (maxIdleSeconds={})", uiSession.getUiSessionId(), idleSeconds, m_maxUserIdleTime);
+        disposeUiSession(uiSession);
+        writeEvent(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
+        return;
+      }
+
+      // Block until a background job produced a result or the polling interval elapsed
+      if (!messageHandler.handlePollRequest(uiSession, jsonRequest)) {
+        LOG.debug("Push stream interrupted (replaced by another poller), closing stream for UI session {}", uiSession.getUiSessionId());
+        return;
+      }
+
+      if (uiSession.isDisposed()) {
+        writeEvent(resp, m_jsonRequestHelper.createSessionTerminatedResponse(uiSession.getLogoutRedirectUrl()));
+        return;
+      }
+
+      // Same as for poll requests: if a user request currently holds the lock, it will send the pending response itself
+      if (!uiSession.uiSessionLock().tryLock()) {
+        if (!writeComment(resp, "busy")) {
+          return;
+        }
+        continue;
+      }
+      JSONObject jsonResp;
+      try {
+        jsonResp = uiSession.processJsonRequest(req, resp, jsonRequest);
+      }
+      finally {
+        uiSession.uiSessionLock().unlock();
+      }
+
+      // Responses are kept in the response history until the UI acknowledges them with its next request,
+      // a response lost because of a broken stream is therefore recovered by the regular sync mechanism.
+      boolean written = jsonResp == null || jsonResp.length() == 0 ? writeComment(resp, "heartbeat") : writeEvent(resp, jsonResp);
+      if (!written) {
+        return;
+      }
+    }
+    LOG.debug("Max. stream duration reached, closing push stream for UI session {}", uiSession.getUiSessionId());
+  }
+
+  protected void disposeUiSession(IUiSession uiSession) {
+    uiSession.uiSessionLock().lock();
+    try {
+      uiSession.dispose();
+    }
+    finally {
+      uiSession.uiSessionLock().unlock();
+    }
+  }
+
+  /**
+   * Writes the given JSON response as server-sent event.
+   *
+   * @return <code>false</code> if the client disconnected
+   */
+  protected boolean writeEvent(HttpServletResponse resp, JSONObject jsonResponse) throws IOException {
+    // JSONObject.toString() never contains line breaks, hence a single data line is sufficient
+    return write(resp, "data: " + jsonResponse + "\n\n");
+  }
+
+  /**
+   * Writes a server-sent event comment which is ignored by the browser but keeps the connection alive.
+   *
+   * @return <code>false</code> if the client disconnected
+   */
+  protected boolean writeComment(HttpServletResponse resp, String comment) throws IOException {
+    return write(resp, ": " + comment + "\n\n");
+  }
+
+  protected boolean write(HttpServletResponse resp, String text) throws IOException {
+    // Clear the current thread's interruption status before writing the response to the output stream.
+    // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
+    IRestorer interruption = ThreadInterruption.clear();
+    try {
+      ServletOutputStream out = resp.getOutputStream();
+      out.write(text.getBytes(StandardCharsets.UTF_8));
+      out.flush();
+      return true;
+    }
+    catch (EOFException e) { // NOSONAR
+      LOG.debug("EOF - Client disconnected, closing push stream");
+      return false;
+    }
+    finally {
+      interruption.restore();
+    }
+  }
+}
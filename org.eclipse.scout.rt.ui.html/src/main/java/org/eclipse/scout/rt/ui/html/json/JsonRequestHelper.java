@@ -29,6 +29,7 @@ import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestore
 import org.eclipse.scout.rt.ui.html.UiException;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.json.JSONStreamWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +42,12 @@ public class JsonRequestHelper {
 
   private static final Logger LOG = LoggerFactory.getLogger(JsonRequestHelper.class);
 
+  /**
+   * {@link JSONStreamWriter} is not thread safe. Each request thread reuses its own writer (and therefore its encoding
+   * buffer) for all responses it writes.
+   */
+  private final ThreadLocal<JSONStreamWriter> m_jsonStreamWriter = ThreadLocal.withInitial(this::createJsonStreamWriter);
+
   /**
    * @return {@link JSONObject} to indicate that an unrecoverable failure occurred.
    */
@@ -144,11 +151,14 @@ public class JsonRequestHelper {
 
   /**
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * <p>
+   * The JSON is encoded directly into the servlet output stream (see {@link JSONStreamWriter}), no intermediate string
+   * or byte array of the whole response is created. Therefore no content length is set, the servlet container either
+   * computes it (small responses) or uses chunked transfer encoding. Invalid values (e.g. {@link Double#NaN}) are
+   * detected before anything is written, hence the response is not committed if a {@link org.json.JSONException} is
+   * thrown.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
@@ -157,16 +167,14 @@ public class JsonRequestHelper {
     // Clear the current thread's interruption status before writing the response to the output stream.
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
+    long length;
     try {
-      servletResponse.getOutputStream().write(data);
+      length = m_jsonStreamWriter.get().write(jsonResponse, servletResponse.getOutputStream());
     }
     catch (final EOFException e) { // NOSONAR
       final StringBuilder sb = new StringBuilder("EOF - Client disconnected, cannot write response");
       if (LOG.isDebugEnabled()) {
-        sb.append(": ").append(jsonText);
-      }
-      else {
-        sb.append(" (").append(data.length).append(" bytes)");
+        sb.append(": ").append(formatJsonResponseForLogging(jsonResponse));
       }
       LOG.warn(sb.toString());
       return;
@@ -175,13 +183,21 @@ public class JsonRequestHelper {
       interruption.restore();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
-      LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
+      LOG.debug("Returned ({} bytes): {}", length, formatJsonResponseForLogging(jsonResponse));
     }
   }
 
+  /**
+   * @return a new {@link JSONStreamWriter}, called once per thread. The writer is reused for all responses written by
+   *         that thread.
+   */
+  protected JSONStreamWriter createJsonStreamWriter() {
+    return new JSONStreamWriter();
+  }
+
   /**
    * Reads the content of {@link ServletRequest} into a {@link JSONObject}.
    */
@@ -128,6 +128,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String EVENT_FILTER_REMOVED = "filterRemoved";
   public static final String EVENT_FILTERS_CHANGED = "filtersChanged";
   public static final String EVENT_FILTER = "filter";
+  public static final String EVENT_ROWS_REQUESTED = "rowsRequested";
 
   public static final String PROP_ROWS = "rows";
   public static final String PROP_ROW_IDS = "rowIds";
@@ -140,6 +141,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String PROP_SELECTED_ROWS = "selectedRows";
   public static final String PROP_FILTERS = "filters";
   public static final String PROP_HAS_RELOAD_HANDLER = "hasReloadHandler";
+  public static final String PROP_TOTAL_ROW_COUNT = "totalRowCount";
 
   private TableListener m_tableListener;
   private final Map<String, ITableRow> m_tableRows;
@@ -151,6 +153,11 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   private JsonContextMenu<IContextMenu> m_jsonContextMenu;
   private final BinaryResourceMediator m_binaryResourceMediator;
   private final JsonTableListeners m_listeners = new JsonTableListeners();
+  /**
+   * Number of leading accepted rows the UI has to know if row paging is enabled (see {@link ITable#getRowPageSize()})
+   */
+  private int m_loadedRowLimit;
+  private int m_sentTotalRowCount = -1;
 
   public JsonTable(T model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
     super(model, uiSession, id, parent);
@@ -449,7 +456,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void attachRows() {
-    List<ITableRow> rows = getModel().getRows();
+    m_loadedRowLimit = getModel().getRowPageSize();
+    Collection<ITableRow> rows = getPagedRows(getModel().getRows());
     for (ITableRow row : rows) {
       if (isRowAccepted(row)) {
         getOrCreateRowId(row);
@@ -562,16 +570,107 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject json = super.toJson();
     json.put(PROP_COLUMNS, columnsToJson(getColumnsInViewOrder()));
     json.put(PROP_COLUMN_ADDABLE, getModel().getTableOrganizer().isColumnAddable());
-    json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    json.put(PROP_ROWS, tableRowsToJson(getPagedRows(getModel().getRows())));
     json.put(PROP_MENUS, getJsonContextMenu().childActionsToJson());
     json.put(PROP_SELECTED_ROWS, rowIdsToJson(getModel().getSelectedRows()));
     if (getModel().getUserFilterManager() != null) {
       json.put(PROP_FILTERS, filtersToJson(getModel().getUserFilterManager().getFilters()));
     }
     json.put(PROP_HAS_RELOAD_HANDLER, getModel().getReloadHandler() != null);
+    if (isRowPagingEnabled()) {
+      m_sentTotalRowCount = getFilteredRowCount();
+      json.put(PROP_TOTAL_ROW_COUNT, m_sentTotalRowCount);
+    }
     return json;
   }
 
+  /**
+   * @return <code>true</code> if the UI only knows a part of the rows and requests further rows on demand, see
+   *         {@link ITable#getRowPageSize()}. Hierarchical tables always transfer all rows because a child row cannot be
+   *         displayed without its parent.
+   */
+  protected boolean isRowPagingEnabled() {
+    return getModel().getRowPageSize() > 0 && !getModel().isHierarchical();
+  }
+
+  /**
+   * If row paging is enabled, only the first {@link #m_loadedRowLimit} accepted rows of the model and the selected rows
+   * are transferred to the UI. Because the leading rows of the model are always known by the UI, the rows displayed by
+   * the UI are in the same order as the model rows (sorting) and contain every accepted row up to the limit
+   * (filtering). Rows which were sent before remain in the UI until they are deleted.
+   *
+   * @return the rows of the given collection which have to be known by the UI
+   */
+  protected Collection<ITableRow> getPagedRows(Collection<ITableRow> rows) {
+    if (!isRowPagingEnabled()) {
+      return rows;
+    }
+    Set<ITableRow> pagedRows = new HashSet<>(getLeadingRows());
+    pagedRows.addAll(getModel().getSelectedRows());
+    return rows.stream()
+        .filter(pagedRows::contains)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return the first {@link #m_loadedRowLimit} accepted rows of the model
+   */
+  protected List<ITableRow> getLeadingRows() {
+    List<ITableRow> rows = new ArrayList<>();
+    for (ITableRow row : getModel().getRows()) {
+      if (rows.size() >= m_loadedRowLimit) {
+        break;
+      }
+      if (isRowAccepted(row)) {
+        rows.add(row);
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * @return the number of leading accepted rows of the model which are already known by the UI
+   */
+  protected int getKnownLeadingRowCount() {
+    int count = 0;
+    for (ITableRow row : getModel().getRows()) {
+      if (isRowAccepted(row)) {
+        if (getTableRowId(row) == null) {
+          break;
+        }
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Sends the leading and selected rows which are not yet known by the UI (e.g. because rows were deleted, the rows were
+   * sorted or the UI requested more rows) and updates the total row count.
+   */
+  protected void sendMissingPagedRows() {
+    if (!isRowPagingEnabled() && m_sentTotalRowCount < 0) {
+      // row paging was never used, all rows are known by the UI
+      return;
+    }
+    List<ITableRow> missingRows = new ArrayList<>();
+    for (ITableRow row : getPagedRows(getModel().getRows())) {
+      if (isRowAccepted(row) && getTableRowId(row) == null) {
+        missingRows.add(row);
+      }
+    }
+    if (!missingRows.isEmpty()) {
+      sendRowsInserted(missingRows);
+      // inserted rows are appended by the UI, bring them to the right position
+      handleModelRowOrderChanged(getModel().getRows());
+    }
+    int totalRowCount = getFilteredRowCount();
+    if (totalRowCount != m_sentTotalRowCount) {
+      m_sentTotalRowCount = totalRowCount;
+      addPropertyChangeEvent(PROP_TOTAL_ROW_COUNT, totalRowCount);
+    }
+  }
+
   protected JSONArray tableRowsToJson(Collection<ITableRow> rows) {
     return tableRowsToJson(rows, new HashSet<>());
   }
@@ -655,11 +754,25 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     else if (EVENT_COLUMN_ORGANIZE_ACTION.equals(event.getType())) {
       handleUiColumnOrganizeAction(event);
     }
+    else if (EVENT_ROWS_REQUESTED.equals(event.getType())) {
+      handleUiRowsRequested(event);
+    }
     else {
       super.handleUiEvent(event);
     }
   }
 
+  @Override
+  protected void handleModelPropertyChange(String propertyName, Object oldValue, Object newValue) {
+    if (ITable.PROP_ROW_PAGE_SIZE.equals(propertyName)) {
+      m_loadedRowLimit = Math.max(m_loadedRowLimit, getModel().getRowPageSize());
+      registerAsBufferedEventsAdapter();
+    }
+    else {
+      super.handleModelPropertyChange(propertyName, oldValue, newValue);
+    }
+  }
+
   @Override
   protected void handleUiPropertyChange(String propertyName, JSONObject data) {
     if (ITable.PROP_CONTEXT_COLUMN.equals(propertyName)) {
@@ -673,6 +786,22 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  /**
+   * The UI requests the next page of rows because the user scrolled to the end of the loaded rows.
+   */
+  protected void handleUiRowsRequested(JsonEvent event) {
+    if (!isRowPagingEnabled()) {
+      return;
+    }
+    // Skip rows the UI already knows (e.g. selected rows) to make sure at least one row is sent
+    int pageSize = getModel().getRowPageSize();
+    int targetRowCount = Math.min(getKnownLeadingRowCount() + 1, getFilteredRowCount());
+    int pageCount = Math.max(1, (targetRowCount - m_loadedRowLimit + pageSize - 1) / pageSize);
+    m_loadedRowLimit += pageCount * pageSize;
+    // The rows are sent after the buffered model events are processed, see processBufferedEvents
+    registerAsBufferedEventsAdapter();
+  }
+
   protected void handleUiColumnOrganizeAction(JsonEvent event) {
     JSONObject data = event.getData();
     String action = data.getString("action");
@@ -1002,6 +1131,14 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
     else {
       List<ITableRow> tableRows = extractTableRows(event.getData());
+      if (isRowPagingEnabled()) {
+        // The UI cannot filter rows it does not know yet. It applies its filters as soon as it receives them.
+        for (ITableRow row : getModel().getRows()) {
+          if (isRowAccepted(row) && getTableRowId(row) == null) {
+            tableRows.add(row);
+          }
+        }
+      }
       getModel().getUIFacade().setFilteredRowsFromUI(tableRows);
     }
   }
@@ -1346,14 +1483,14 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   @Override
   public void processBufferedEvents() {
-    if (m_eventBuffer.isEmpty()) {
-      return;
-    }
-    preprocessBufferedEvents();
-    List<TableEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
-    for (TableEvent event : coalescedEvents) {
-      processEvent(event);
+    if (!m_eventBuffer.isEmpty()) {
+      preprocessBufferedEvents();
+      List<TableEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
+      for (TableEvent event : coalescedEvents) {
+        processEvent(event);
+      }
     }
+    sendMissingPagedRows();
   }
 
   protected void processEvent(TableEvent event) {
@@ -1425,6 +1562,18 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowsInserted(Collection<ITableRow> modelRows) {
+    if (isRowPagingEnabled()) {
+      modelRows = getPagedRows(modelRows).stream()
+          .filter(row -> getTableRowId(row) == null)
+          .collect(Collectors.toList());
+    }
+    sendRowsInserted(modelRows);
+  }
+
+  /**
+   * Sends the given rows to the UI without applying the row paging (see {@link #getPagedRows(Collection)}).
+   */
+  protected void sendRowsInserted(Collection<ITableRow> modelRows) {
     Set<ITableRow> acceptedRows = new HashSet<>();
     JSONArray jsonRows = tableRowsToJson(modelRows, acceptedRows);
     if (jsonRows.length() == 0) {
@@ -1437,6 +1586,12 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowsUpdated(Collection<ITableRow> modelRows) {
+    if (isRowPagingEnabled()) {
+      // Rows not yet known by the UI are sent with their current state when they are requested
+      modelRows = modelRows.stream()
+          .filter(row -> getTableRowId(row) != null)
+          .collect(Collectors.toList());
+    }
     JSONArray jsonRows = tableRowsToJson(modelRows);
     if (jsonRows.length() == 0) {
       return;
@@ -1500,11 +1655,22 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
     m_tableRows.clear();
     m_tableRowIds.clear();
+    m_loadedRowLimit = getModel().getRowPageSize();
     addActionEvent(EVENT_ALL_ROWS_DELETED);
     m_listeners.fireEvent(new JsonTableEvent(this, JsonTableEvent.TYPE_ROWS_DELETED, disposedRows));
   }
 
   protected void handleModelRowsSelected(Collection<ITableRow> modelRows) {
+    if (isRowPagingEnabled()) {
+      // The UI has to know the selected rows
+      List<ITableRow> missingRows = modelRows.stream()
+          .filter(row -> isRowAccepted(row) && getTableRowId(row) == null)
+          .collect(Collectors.toList());
+      if (!missingRows.isEmpty()) {
+        handleModelRowsInserted(missingRows);
+        handleModelRowOrderChanged(getModel().getRows());
+      }
+    }
     JSONObject jsonEvent = new JSONObject();
     putProperty(jsonEvent, PROP_ROW_IDS, rowIdsToJson(modelRows));
     addActionEvent(EVENT_ROWS_SELECTED, jsonEvent);
@@ -1513,7 +1679,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void handleModelRowsChecked(Collection<ITableRow> modelRows) {
     JSONArray jsonRows = new JSONArray();
     for (ITableRow row : modelRows) {
-      if (!isRowAccepted(row)) {
+      if (!isRowAccepted(row) || getTableRowId(row) == null) {
         continue;
       }
       JSONObject jsonRow = new JSONObject();
@@ -1531,7 +1697,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   protected void handleModelRowsExpanded(List<ITableRow> rows) {
     JSONArray jsonRows = new JSONArray();
-    rows.stream().filter(this::isRowAccepted)
+    rows.stream().filter(row -> isRowAccepted(row) && getTableRowId(row) != null)
         .map(row -> {
           JSONObject jsonRow = new JSONObject();
           putProperty(jsonRow, "id", getTableRowId(row));
@@ -1548,8 +1714,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONArray jsonRowIds = new JSONArray();
     List<String> rowIds = new ArrayList<>();
     for (ITableRow row : modelRows) {
-      if (isRowAccepted(row)) {
-        String rowId = getTableRowId(row);
+      String rowId = getTableRowId(row);
+      if (isRowAccepted(row) && rowId != null) { // rows not yet sent to the UI are ignored (row paging)
         jsonRowIds.put(rowId);
         rowIds.add(rowId);
       }
@@ -10,9 +10,13 @@
  */
 package org.eclipse.scout.rt.ui.html.res;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -22,12 +26,15 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.servlet.UrlHints;
 import org.eclipse.scout.rt.server.commons.servlet.cache.GlobalHttpResourceCache;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.res.loader.IResourceLoader;
@@ -46,10 +53,17 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
 
   public static final String INDEX_HTML = "/index.html";
   public static final String URL_PARAM_CLEAR_CACHE = "clearCache";
+  public static final String VARY = "Vary";
+  /**
+   * Content codings of encoded resource variants in the order of preference
+   */
+  public static final List<String> CONTENT_ENCODINGS = Collections.unmodifiableList(Arrays.asList(GzipServletFilter.BROTLI, GzipServletFilter.GZIP));
+  public static final int MIN_SIZE_TO_COMPRESS = 256;
 
   // Remember bean instances to save lookups on each GET request
   private final List<ResourceLoaders> m_resourceLoaders = Collections.unmodifiableList(BEANS.all(ResourceLoaders.class));
   private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
+  private final Set<String> m_compressibleContentTypes = CollectionUtility.hashSet(StringUtility.split(GzipServletFilter.CONTENT_TYPES, ","));
 
   @Override
   public boolean handleGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
@@ -68,6 +82,11 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
       return false; // not valid
     }
 
+    if (!cachedObject.getContentEncodings().isEmpty()) {
+      // the content sent depends on the Accept-Encoding request header
+      resp.addHeader(VARY, GzipServletFilter.ACCEPT_ENCODING);
+    }
+
     // cached in browser? -> returns 304 if the resource has not been modified
     if (m_httpCacheControl.checkAndSetCacheHeaders(req, resp, cachedObject)) {
       return true;
@@ -82,12 +101,95 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
     BinaryResource binaryResource = cachedObject.getResource();
     setHttpResponseHeaders(resp, binaryResource);
 
+    // Send an encoded variant if available, the content is then not compressed again by the GzipServletFilter
+    byte[] content = binaryResource.getContent();
+    String contentEncoding = negotiateContentEncoding(req, cachedObject);
+    if (contentEncoding != null) {
+      content = cachedObject.getEncodedContent(contentEncoding);
+      resp.setHeader(GzipServletFilter.CONTENT_ENCODING, contentEncoding);
+      resp.setContentLength(content.length);
+    }
+
     // Apply response interceptors
     cachedObject.applyHttpResponseInterceptors(req, resp);
 
     if (!"HEAD".equals(req.getMethod())) {
-      resp.getOutputStream().write(binaryResource.getContent());
+      resp.getOutputStream().write(content);
+    }
+  }
+
+  /**
+   * @return the content coding of the encoded variant to send (see {@link HttpCacheObject#getEncodedContent(String)})
+   *         or <code>null</code> if the content is sent as is
+   */
+  protected String negotiateContentEncoding(HttpServletRequest req, HttpCacheObject cachedObject) {
+    if (cachedObject.getContentEncodings().isEmpty() || !UrlHints.isCompressHint(req)) {
+      return null;
+    }
+    String acceptEncoding = req.getHeader(GzipServletFilter.ACCEPT_ENCODING);
+    for (String contentEncoding : CONTENT_ENCODINGS) {
+      if (cachedObject.getEncodedContent(contentEncoding) != null && acceptsContentEncoding(acceptEncoding, contentEncoding)) {
+        return contentEncoding;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @param acceptEncoding
+   *          value of the Accept-Encoding request header, e.g. <code>gzip, deflate, br;q=0.9</code>
+   * @return true if the given content coding is listed and not excluded with <code>q=0</code>
+   */
+  protected boolean acceptsContentEncoding(String acceptEncoding, String contentEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String part : acceptEncoding.split(",")) {
+      String[] tokens = part.split(";");
+      if (!contentEncoding.equalsIgnoreCase(tokens[0].trim())) {
+        continue;
+      }
+      for (int i = 1; i < tokens.length; i++) {
+        String param = tokens[i].trim();
+        if (param.startsWith("q=")) {
+          try {
+            return Double.parseDouble(param.substring(2)) > 0;
+          }
+          catch (NumberFormatException e) { // NOSONAR
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Compresses the content of a resource which is about to be added to the cache. The compressed variant is sent to all
+   * clients accepting gzip, so the content is compressed once instead of on every request. Variants provided by the
+   * resource loader (e.g. files compressed at build time) are kept.
+   */
+  protected void prepareEncodedContents(HttpCacheObject obj) throws IOException {
+    if (obj.getEncodedContent(GzipServletFilter.GZIP) != null || !isCompressible(obj.getResource())) {
+      return;
+    }
+    byte[] content = obj.getResource().getContent();
+    ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(content);
+    }
+    obj.putEncodedContent(GzipServletFilter.GZIP, out.toByteArray());
+  }
+
+  protected boolean isCompressible(BinaryResource resource) {
+    byte[] content = resource.getContent();
+    String contentType = resource.getContentType();
+    if (content == null || content.length < MIN_SIZE_TO_COMPRESS || contentType == null) {
+      return false;
     }
+    // Content type may contain the charset parameter separated by ; -> remove it
+    return m_compressibleContentTypes.contains(contentType.split(";")[0]);
   }
 
   /**
@@ -138,6 +240,7 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
         cacheResultMsg = "Resource is not cached (cache miss), could not load resource (not added to the cache)";
       }
       else {
+        prepareEncodedContents(resource);
         resourceCache.put(resource);
         cacheResultMsg = "Resource is not cached (cache miss), resource loaded and added to the cache";
       }
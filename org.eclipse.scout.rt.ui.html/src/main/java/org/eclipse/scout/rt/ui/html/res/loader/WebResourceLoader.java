@@ -11,6 +11,7 @@
 package org.eclipse.scout.rt.ui.html.res.loader;
 
 import java.io.IOException;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
@@ -22,10 +23,16 @@ import org.eclipse.scout.rt.platform.resource.BinaryResources;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.ImmutablePair;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResourceDescriptor;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class WebResourceLoader extends AbstractResourceLoader {
+  private static final Logger LOG = LoggerFactory.getLogger(WebResourceLoader.class);
 
   private final boolean m_minify;
   private final boolean m_cacheEnabled;
@@ -46,6 +53,45 @@ public class WebResourceLoader extends AbstractResourceLoader {
         .orElse(null);
   }
 
+  @Override
+  public HttpCacheObject loadResource(HttpCacheKey cacheKey) throws IOException {
+    String pathInfo = cacheKey.getResourcePath();
+    Optional<ImmutablePair<WebResourceDescriptor, Integer>> res = lookupResource(pathInfo);
+    if (!res.isPresent()) {
+      return null;
+    }
+    HttpCacheObject obj = new HttpCacheObject(cacheKey, toBinaryResources(res.get()).withFilename(pathInfo).build());
+    addPrecompressedContents(obj, res.get().getLeft().getUrl());
+    return obj;
+  }
+
+  /**
+   * Adds the variants of the resource compressed at build time, i.e. the files <code>&lt;resource&gt;.br</code> and
+   * <code>&lt;resource&gt;.gz</code> next to the resource, if they exist.
+   */
+  protected void addPrecompressedContents(HttpCacheObject obj, URL url) {
+    addPrecompressedContent(obj, url, ".br", GzipServletFilter.BROTLI);
+    addPrecompressedContent(obj, url, ".gz", GzipServletFilter.GZIP);
+  }
+
+  protected void addPrecompressedContent(HttpCacheObject obj, URL url, String fileSuffix, String contentEncoding) {
+    URL precompressedUrl;
+    try {
+      precompressedUrl = new URL(url.toExternalForm() + fileSuffix);
+    }
+    catch (MalformedURLException e) {
+      LOG.debug("Invalid url of precompressed resource for '{}'", url, e);
+      return;
+    }
+    try {
+      obj.putEncodedContent(contentEncoding, IOUtility.readFromUrl(precompressedUrl));
+      LOG.debug("Using precompressed resource '{}'", precompressedUrl);
+    }
+    catch (IOException e) { // NOSONAR
+      // no such variant
+    }
+  }
+
   public boolean acceptFile(String file) {
     return lookupResource(file).isPresent();
   }